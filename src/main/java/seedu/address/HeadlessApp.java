@@ -0,0 +1,308 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.address.logic.AddressBookLogicManager;
+import seedu.address.address.model.AddressBook;
+import seedu.address.address.model.AddressBookModelManager;
+import seedu.address.address.model.ReadOnlyAddressBook;
+import seedu.address.address.model.util.SampleDataUtil;
+import seedu.address.address.storage.AddressBookStorage;
+import seedu.address.address.storage.JsonAddressBookStorage;
+import seedu.address.calendar.logic.CalendarLogic;
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.diaryfeature.logic.DiaryBookLogic;
+import seedu.address.diaryfeature.logic.parser.exceptions.EmptyArgumentException;
+import seedu.address.financialtracker.logic.FinancialTrackerLogic;
+import seedu.address.financialtracker.logic.commands.SummaryCommand;
+import seedu.address.itinerary.logic.ItineraryLogic;
+import seedu.address.itinerary.logic.commands.HelpCommand;
+import seedu.address.itinerary.logic.commands.WishCommand;
+import seedu.address.logic.MainLogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.GoToCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.GoToParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.UserPrefsModel;
+import seedu.address.model.UserPrefsModelManager;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.ui.PageType;
+
+/**
+ * Runs the application without a graphical user interface.
+ *
+ * Commands are read line by line from standard input (or from a script file) and the feedback of each
+ * command is written to standard output. JavaFX is never started and a module is only loaded from disk
+ * the first time a command is sent to it, so scripted maintenance does not pay for the pages it does not use.
+ */
+public class HeadlessApp {
+
+    public static final String HEADLESS_FLAG = "--headless";
+    public static final String CONFIG_OPTION = "--config=";
+
+    public static final String MESSAGE_NOT_SUPPORTED = "The %1$s page is not available in headless mode.";
+    public static final String MESSAGE_GUI_ONLY = "This command needs the graphical interface: ";
+    public static final String MESSAGE_ERROR = "Error: ";
+    public static final String MESSAGE_UNEXPECTED_ERROR = "The command failed unexpectedly: %1$s";
+    public static final String MESSAGE_INVALID_CONFIG = "Invalid config file path: %1$s";
+    public static final String PROMPT = "travezy:%1$s> ";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final PrintStream out;
+    private final boolean isInteractive;
+    private final Path configFilePath;
+    private final Map<PageType, ModuleExecutor> executors = new EnumMap<>(PageType.class);
+
+    private PageType currentPage = PageType.MAIN;
+    private int failedCommands = 0;
+
+    public HeadlessApp(PrintStream out, boolean isInteractive) {
+        this(out, isInteractive, Config.DEFAULT_CONFIG_FILE);
+    }
+
+    /**
+     * Creates a headless application reading its settings from the config file at {@code configFilePath}.
+     */
+    public HeadlessApp(PrintStream out, boolean isInteractive, Path configFilePath) {
+        this.out = out;
+        this.isInteractive = isInteractive;
+        this.configFilePath = configFilePath;
+    }
+
+    /**
+     * Returns true if {@code args} asks for the application to run without a graphical user interface.
+     */
+    public static boolean isHeadless(String[] args) {
+        for (String arg : args) {
+            if (HEADLESS_FLAG.equals(arg)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Starts the headless application with the given command-line arguments.
+     * The first argument after {@code --headless} that is not an option is treated as a script file, and
+     * {@code --config=PATH} gives the config file, as it does for the graphical interface.
+     */
+    public static void start(String[] args) {
+        Optional<Path> scriptPath = Optional.empty();
+        Path configFilePath = Config.DEFAULT_CONFIG_FILE;
+        for (String arg : args) {
+            if (arg.startsWith(CONFIG_OPTION)) {
+                String configPathParameter = arg.substring(CONFIG_OPTION.length());
+                if (configPathParameter.isBlank() || !FileUtil.isValidPath(configPathParameter)) {
+                    System.err.println(String.format(MESSAGE_INVALID_CONFIG, configPathParameter));
+                    System.exit(1);
+                    return;
+                }
+                configFilePath = Paths.get(configPathParameter);
+            } else if (!arg.startsWith("--") && scriptPath.isEmpty()) {
+                scriptPath = Optional.of(Paths.get(arg));
+            }
+        }
+
+        int failedCommands;
+        try (BufferedReader reader = scriptPath.isPresent()
+                ? Files.newBufferedReader(scriptPath.get(), StandardCharsets.UTF_8)
+                : new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))) {
+            HeadlessApp app = new HeadlessApp(System.out, scriptPath.isEmpty() && System.console() != null,
+                    configFilePath);
+            failedCommands = app.run(reader);
+        } catch (IOException ioe) {
+            System.err.println("Could not read commands: " + ioe.getMessage());
+            failedCommands = 1;
+        }
+        System.exit(failedCommands == 0 ? 0 : 1);
+    }
+
+    /**
+     * Executes every command from {@code reader} until the input ends or an exit command is given.
+     *
+     * @return the number of commands that failed
+     */
+    public int run(BufferedReader reader) throws IOException {
+        logger.info("=============================[ Starting headless TravEzy ]===========================");
+        prompt();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.isBlank() && !execute(line.trim())) {
+                break;
+            }
+            prompt();
+        }
+        out.flush();
+        return failedCommands;
+    }
+
+    /**
+     * Executes a single command on the current page and writes its feedback.
+     *
+     * @return false if the application should stop reading commands
+     */
+    public boolean execute(String commandText) {
+        try {
+            if (commandText.split("\\s+", 2)[0].equals(GoToCommand.COMMAND_WORD)) {
+                String arguments = commandText.substring(GoToCommand.COMMAND_WORD.length());
+                switchTo(new GoToParser<UserPrefsModel>().parse(arguments).getPageType());
+                return true;
+            }
+
+            if (isGuiOnly(currentPage, commandText)) {
+                throw new CommandException(MESSAGE_GUI_ONLY + commandText);
+            }
+
+            CommandResult commandResult = getExecutor(currentPage).execute(commandText);
+            out.println(commandResult.getFeedbackToUser());
+            return !commandResult.isExit();
+        } catch (CommandException | ParseException | IOException e) {
+            fail(e.getMessage());
+        } catch (EmptyArgumentException e) {
+            fail(e.toString());
+        } catch (RuntimeException e) {
+            // a bug in one command should not end the whole batch
+            logger.log(Level.WARNING, "Unexpected error in headless command: " + commandText, e);
+            fail(String.format(MESSAGE_UNEXPECTED_ERROR, e));
+        }
+        return true;
+    }
+
+    public PageType getCurrentPage() {
+        return currentPage;
+    }
+
+    /**
+     * Returns true if the command opens a window, which cannot be done without the JavaFX toolkit.
+     */
+    private static boolean isGuiOnly(PageType pageType, String commandText) {
+        String commandWord = commandText.split("\\s+", 2)[0].toLowerCase();
+        switch (pageType) {
+        case FINANCIAL_TRACKER:
+            return commandWord.equals(SummaryCommand.COMMAND_WORD);
+        case ITINERARY:
+            return commandWord.equals(HelpCommand.COMMAND_WORD) || commandWord.equals(WishCommand.COMMAND_WORD);
+        default:
+            return false;
+        }
+    }
+
+    private void switchTo(PageType pageType) throws CommandException {
+        getExecutor(pageType);
+        currentPage = pageType;
+        out.println("Switched to " + pageType);
+    }
+
+    private void fail(String message) {
+        failedCommands++;
+        out.println(MESSAGE_ERROR + message);
+    }
+
+    /**
+     * Shows which page commands go to, when a person is typing them in.
+     */
+    private void prompt() {
+        if (isInteractive) {
+            out.print(String.format(PROMPT, currentPage));
+            out.flush();
+        }
+    }
+
+    /**
+     * Sends the commands of {@code pageType} to {@code executor} instead of loading its module.
+     */
+    void setExecutor(PageType pageType, ModuleExecutor executor) {
+        executors.put(pageType, executor);
+    }
+
+    /**
+     * Returns the executor of {@code pageType}, loading the module the first time it is needed.
+     */
+    private ModuleExecutor getExecutor(PageType pageType) throws CommandException {
+        ModuleExecutor executor = executors.get(pageType);
+        if (executor == null) {
+            executor = createExecutor(pageType);
+            executors.put(pageType, executor);
+        }
+        return executor;
+    }
+
+    /**
+     * Loads the logic of {@code pageType} from its data file.
+     *
+     * @throws CommandException if the page has no headless equivalent
+     */
+    private ModuleExecutor createExecutor(PageType pageType) throws CommandException {
+        logger.info(() -> "Loading " + pageType + " for headless use");
+        switch (pageType) {
+        case MAIN:
+            return new MainLogicManager(new UserPrefsModelManager(), null)::execute;
+        case ADDRESS_BOOK:
+            return createAddressBookExecutor();
+        case CALENDAR:
+            return new CalendarLogic()::executeCommand;
+        case DIARY:
+            return new DiaryBookLogic()::execute;
+        case FINANCIAL_TRACKER:
+            return new FinancialTrackerLogic()::execute;
+        case ITINERARY:
+            return new ItineraryLogic()::execute;
+        default:
+            throw new CommandException(String.format(MESSAGE_NOT_SUPPORTED, pageType));
+        }
+    }
+
+    /**
+     * Reads only the config, user prefs and address book files, without writing any of them back.
+     */
+    private ModuleExecutor createAddressBookExecutor() {
+        UserPrefs userPrefs;
+        try {
+            Config config = ConfigUtil.readConfig(configFilePath).orElse(new Config());
+            userPrefs = new JsonUserPrefsStorage(config.getUserPrefsFilePath()).readUserPrefs()
+                    .orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("Config or prefs file could not be read. Using default settings");
+            userPrefs = new UserPrefs();
+        }
+
+        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        ReadOnlyAddressBook initialData;
+        try {
+            initialData = addressBookStorage.readAddressBook().orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Address book file could not be read. Will be starting with an empty AddressBook");
+            initialData = new AddressBook();
+        }
+        return new AddressBookLogicManager(new AddressBookModelManager(initialData, userPrefs),
+                addressBookStorage)::execute;
+    }
+
+    /**
+     * Executes a command of a single module.
+     */
+    @FunctionalInterface
+    interface ModuleExecutor {
+        CommandResult execute(String commandText)
+                throws CommandException, ParseException, EmptyArgumentException, IOException;
+    }
+}
@@ -17,9 +17,18 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Passing {@code --headless} skips JavaFX entirely and runs {@link HeadlessApp} instead.
  */
 public class Main {
+    /**
+     * Launches the graphical application, or the headless one if {@code --headless} is given.
+     */
     public static void main(String[] args) {
+        if (HeadlessApp.isHeadless(args)) {
+            HeadlessApp.start(args);
+            return;
+        }
         Application.launch(MainApp.class, args);
     }
 }
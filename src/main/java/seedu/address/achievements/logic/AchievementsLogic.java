@@ -1,7 +1,8 @@
 package seedu.address.achievements.logic;
 
-import javafx.collections.ObservableList;
-import javafx.scene.Node;
+import java.util.List;
+
+import seedu.address.achievements.model.StatisticsReader;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -19,5 +20,8 @@ public interface AchievementsLogic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
-    ObservableList<Node> getStatisticsView();
+    /**
+     * Returns the readers of the statistics of every page, in the order their cards are shown.
+     */
+    List<StatisticsReader> getStatisticsReaders();
 }
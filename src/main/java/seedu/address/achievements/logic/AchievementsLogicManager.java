@@ -1,12 +1,12 @@
 package seedu.address.achievements.logic;
 
+import java.util.List;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
-import javafx.scene.Node;
 import seedu.address.achievements.logic.parser.AchievementsParser;
 import seedu.address.achievements.model.StatisticsModel;
+import seedu.address.achievements.model.StatisticsReader;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
@@ -29,7 +29,7 @@ public class AchievementsLogicManager implements AchievementsLogic {
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
         Command<StatisticsModel> command = achievementsParser.parseCommand(commandText);
@@ -39,8 +39,8 @@ public class AchievementsLogicManager implements AchievementsLogic {
     }
 
     @Override
-    public ObservableList<Node> getStatisticsView() {
-        return statisticsModelSupplier.get().getStatisticsView();
+    public List<StatisticsReader> getStatisticsReaders() {
+        return statisticsModelSupplier.get().getStatisticsReaders();
     }
 
 }
@@ -40,7 +40,7 @@ public class AchievementsParser {
         final String arguments = matcher.group("arguments");
         switch (commandWord) {
         case GoToCommand.COMMAND_WORD:
-            return new GoToParser().parse(arguments);
+            return new GoToParser<StatisticsModel>().parse(arguments);
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand<StatisticsModel>();
         case ExitCommand.COMMAND_WORD:
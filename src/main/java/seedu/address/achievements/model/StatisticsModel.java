@@ -1,12 +1,14 @@
 package seedu.address.achievements.model;
 
-import javafx.collections.ObservableList;
-import javafx.scene.Node;
+import java.util.List;
 
 /**
  * The API of the StatisticsModel component.
  */
 public interface StatisticsModel {
 
-    ObservableList<Node> getStatisticsView();
+    /**
+     * Returns the readers of the statistics of every page, in the order their cards are shown.
+     */
+    List<StatisticsReader> getStatisticsReaders();
 }
@@ -1,8 +1,7 @@
 package seedu.address.achievements.model;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.scene.Node;
+import java.util.List;
+
 import seedu.address.achievements.ui.AddressBookCard;
 import seedu.address.achievements.ui.CalendarCard;
 import seedu.address.achievements.ui.DiaryBookCard;
@@ -13,6 +12,7 @@ import seedu.address.calendar.model.util.CalendarStatistics;
 import seedu.address.diaryfeature.model.util.DiaryBookStatistics;
 import seedu.address.financialtracker.model.util.FinancialTrackerStatistics;
 import seedu.address.itinerary.model.util.ItineraryStatistics;
+import seedu.address.ui.PageType;
 
 
 /**
@@ -39,11 +39,11 @@ public class StatisticsModelManager implements StatisticsModel {
     }
 
     @Override
-    public ObservableList<Node> getStatisticsView() {
-        return FXCollections.concat(AddressBookCard.make(addressBookStatistics),
-                CalendarCard.make(calendarStatistics),
-                DiaryBookCard.make(diaryBookStatistics),
-                FinancialCard.make(financialTrackerStatistics),
-                ItineraryCard.make(itineraryStatistics));
+    public List<StatisticsReader> getStatisticsReaders() {
+        return List.of(new StatisticsReader(PageType.ADDRESS_BOOK, () -> AddressBookCard.read(addressBookStatistics)),
+                new StatisticsReader(PageType.CALENDAR, () -> CalendarCard.read(calendarStatistics)),
+                new StatisticsReader(PageType.DIARY, () -> DiaryBookCard.read(diaryBookStatistics)),
+                new StatisticsReader(PageType.FINANCIAL_TRACKER, () -> FinancialCard.read(financialTrackerStatistics)),
+                new StatisticsReader(PageType.ITINERARY, () -> ItineraryCard.read(itineraryStatistics)));
     }
 }
@@ -0,0 +1,45 @@
+package seedu.address.achievements.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Supplier;
+
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import seedu.address.ui.PageType;
+
+/**
+ * Reads the statistics of a page for its card.
+ * The statistics must be read where the commands of that page run, as those commands change them, while the card
+ * is made from what was read on the JavaFX application thread.
+ */
+public class StatisticsReader {
+
+    private final PageType pageType;
+    private final Supplier<Supplier<ObservableList<Node>>> reader;
+
+    /**
+     * Creates a reader of the statistics of {@code pageType}.
+     * @param reader reads the statistics and returns how to make the card from them
+     */
+    public StatisticsReader(PageType pageType, Supplier<Supplier<ObservableList<Node>>> reader) {
+        requireNonNull(pageType);
+        requireNonNull(reader);
+        this.pageType = pageType;
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the page whose commands change these statistics.
+     */
+    public PageType getPageType() {
+        return pageType;
+    }
+
+    /**
+     * Reads the statistics now, returning how to make the card from them later.
+     */
+    public Supplier<ObservableList<Node>> read() {
+        return reader.get();
+    }
+}
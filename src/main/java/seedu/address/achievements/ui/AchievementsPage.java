@@ -1,9 +1,17 @@
 package seedu.address.achievements.ui;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.control.Label;
 import javafx.scene.control.MenuItem;
@@ -15,12 +23,15 @@ import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import seedu.address.achievements.logic.AchievementsLogic;
+import seedu.address.achievements.model.StatisticsReader;
+import seedu.address.commons.core.Lazy;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.ui.CodeWindow;
 import seedu.address.ui.CommandBox;
+import seedu.address.ui.CommandExecutionService;
 import seedu.address.ui.HelpWindow;
 import seedu.address.ui.Page;
 import seedu.address.ui.PageManager;
@@ -46,9 +57,9 @@ public class AchievementsPage extends UiPart<Region> implements Page {
 
     private ResultDisplay resultDisplay;
 
-    private HelpWindow helpWindow;
+    private final Lazy<HelpWindow> helpWindow = new Lazy<>(HelpWindow::new);
 
-    private CodeWindow codeWindow;
+    private final Lazy<CodeWindow> codeWindow = new Lazy<>(CodeWindow::new);
 
     @FXML
     private VBox achievementsPlaceholder;
@@ -65,10 +76,12 @@ public class AchievementsPage extends UiPart<Region> implements Page {
     @FXML
     private Label test;
 
+    // only changed on the JavaFX application thread, so that cards read for an older refresh are not shown
+    private int refreshCount = 0;
+
     public AchievementsPage(AchievementsLogic achievementsLogic) {
         super(FXML, new BorderPane());
         this.achievementsLogic = achievementsLogic;
-        this.helpWindow = new HelpWindow();
         fillInnerParts();
         setAccelerators();
     }
@@ -113,9 +126,6 @@ public class AchievementsPage extends UiPart<Region> implements Page {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        this.helpWindow = new HelpWindow();
-        this.codeWindow = new CodeWindow();
-
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
@@ -125,11 +135,42 @@ public class AchievementsPage extends UiPart<Region> implements Page {
 
     /**
      * Refresh UI with new data from Statistics.
+     * The statistics of every page are read on the thread running that page's commands, so they are never read
+     * while a command is changing them, and the cards are shown once all of them have been read.
      */
     void refreshUi() {
-        achievementsPlaceholder.getChildren().clear();
-        achievementsPlaceholder.getChildren().add(
-                new AchievementsCard(achievementsLogic.getStatisticsView()).getRoot());
+        int refresh = ++refreshCount;
+        List<StatisticsReader> readers = achievementsLogic.getStatisticsReaders();
+        List<Supplier<ObservableList<Node>>> cards = new ArrayList<>(Collections.nCopies(readers.size(), null));
+        for (int i = 0; i < readers.size(); i++) {
+            int index = i;
+            StatisticsReader reader = readers.get(i);
+            Consumer<Supplier<ObservableList<Node>>> showWhenAllRead = card -> {
+                cards.set(index, card);
+                if (refresh == refreshCount && !cards.contains(null)) {
+                    showCards(cards);
+                }
+            };
+            CommandExecutionService.getInstance().read(reader.getPageType(), () -> read(reader), showWhenAllRead);
+        }
+    }
+
+    /**
+     * Reads the statistics of {@code reader}, leaving out its card if they cannot be read.
+     */
+    private Supplier<ObservableList<Node>> read(StatisticsReader reader) {
+        try {
+            return reader.read();
+        } catch (RuntimeException e) {
+            logger.warning("Could not read the statistics of " + reader.getPageType() + ": " + e);
+            return FXCollections::observableArrayList;
+        }
+    }
+
+    private void showCards(List<Supplier<ObservableList<Node>>> cards) {
+        ObservableList<Node> statisticsView = FXCollections.observableArrayList();
+        cards.forEach(card -> statisticsView.addAll(card.get()));
+        achievementsPlaceholder.getChildren().setAll(new AchievementsCard(statisticsView).getRoot());
     }
 
     /**
@@ -142,7 +183,7 @@ public class AchievementsPage extends UiPart<Region> implements Page {
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
             CommandResult commandResult = achievementsLogic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
+            logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -154,7 +195,7 @@ public class AchievementsPage extends UiPart<Region> implements Page {
 
             return commandResult;
         } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
+            logger.info(() -> "Invalid command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
             throw e;
         }
@@ -164,10 +205,10 @@ public class AchievementsPage extends UiPart<Region> implements Page {
      */
     @FXML
     public void handleCode() {
-        if (!codeWindow.isShowing()) {
-            codeWindow.show();
+        if (!codeWindow.get().isShowing()) {
+            codeWindow.get().show();
         } else {
-            codeWindow.focus();
+            codeWindow.get().focus();
         }
     }
 
@@ -176,17 +217,17 @@ public class AchievementsPage extends UiPart<Region> implements Page {
      */
     @FXML
     public void handleHelp() {
-        if (!helpWindow.isShowing()) {
-            helpWindow.show();
+        if (!helpWindow.get().isShowing()) {
+            helpWindow.get().show();
         } else {
-            helpWindow.focus();
+            helpWindow.get().focus();
         }
     }
 
     @Override
     public void closeResources() {
-        helpWindow.hide();
-        codeWindow.hide();
+        helpWindow.ifCreated(HelpWindow::hide);
+        codeWindow.ifCreated(CodeWindow::hide);
     }
 
     /**
@@ -1,8 +1,11 @@
 package seedu.address.achievements.ui;
 
+import java.util.function.Supplier;
+
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
+import javafx.scene.chart.XYChart;
 import seedu.address.address.model.util.AddressBookStatistics;
 
 /**
@@ -12,16 +15,19 @@ public class AddressBookCard {
 
     /**
      * Card for {@link AddressBookStatistics}.
+     * The statistics are read at once, on the thread running address book commands, and the card is made later.
      * @param addressBookStatistics
-     * @return observable list of nodes that makes up the {@code AddressBookCard}
+     * @return how to make the observable list of nodes that makes up the {@code AddressBookCard}
      */
-    public static ObservableList<Node> make(AddressBookStatistics addressBookStatistics) {
-        return FXCollections.observableArrayList(
+    public static Supplier<ObservableList<Node>> read(AddressBookStatistics addressBookStatistics) {
+        int totalPersons = addressBookStatistics.getTotalPersons();
+        XYChart.Series<Number, String> addressChartData = addressBookStatistics.getAddressChartData();
+        return () -> FXCollections.observableArrayList(
                 new AchievementsTitleLabel("Address Book").getRoot(),
                 new AchievementsDataLabel("Total Contacts: ",
-                        addressBookStatistics.getTotalPersons() + " / 200").getRoot(),
-                new AchievementsProgressBar(addressBookStatistics.getTotalPersons() / 200.0).getRoot(),
+                        totalPersons + " / 200").getRoot(),
+                new AchievementsProgressBar(totalPersons / 200.0).getRoot(),
                 new AchievementsHorizontalBarChart("Contacts", "Number", "Countries",
-                        addressBookStatistics.getAddressChartData()).getRoot());
+                        addressChartData).getRoot());
     }
 }
@@ -1,5 +1,7 @@
 package seedu.address.achievements.ui;
 
+import java.util.OptionalDouble;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
@@ -17,27 +19,43 @@ public class CalendarCard {
     private static final Logger logger = LogsCenter.getLogger(CalendarCard.class);
     /**
      * Card for {@link CalendarStatistics}.
+     * The statistics are read at once, on the thread running calendar commands, and the card is made later.
      * @param calendarStatistics
-     * @return observable list of nodes that makes up the {@code CalendarCard}
+     * @return how to make the observable list of nodes that makes up the {@code CalendarCard}
      */
-    public static ObservableList<Node> make(CalendarStatistics calendarStatistics) {
+    public static Supplier<ObservableList<Node>> read(CalendarStatistics calendarStatistics) {
+        long numDaysTrip = calendarStatistics.getNumDaysTrip();
+        long numDaysVacation = calendarStatistics.getNumDaysVacation();
+        long numTrip = calendarStatistics.getNumTrip();
+        OptionalDouble percentageTrip;
+        try {
+            percentageTrip = OptionalDouble.of(calendarStatistics.getPercentageTrip());
+        } catch (NoVacationException nve) {
+            logger.info("No vactation days. Progress bar for calendar not loaded.");
+            percentageTrip = OptionalDouble.empty();
+        }
+        OptionalDouble readPercentageTrip = percentageTrip;
+        return () -> make(numDaysTrip, numDaysVacation, numTrip, readPercentageTrip);
+    }
+
+    /**
+     * Makes the card from the statistics read, showing the progress bar only if there are vacation days.
+     */
+    private static ObservableList<Node> make(long numDaysTrip, long numDaysVacation, long numTrip,
+                                             OptionalDouble percentageTrip) {
         ObservableList<Node> observableList = FXCollections.observableArrayList(
                 new AchievementsTitleLabel("Calendar").getRoot(),
                 new AchievementsDataLabel("Total Number of Trip Days: ", ""
-                        + calendarStatistics.getNumDaysTrip()).getRoot(),
+                        + numDaysTrip).getRoot(),
                 new AchievementsDataLabel("Total Number of Days Of Vacation: ", ""
-                        + calendarStatistics.getNumDaysVacation()).getRoot(),
+                        + numDaysVacation).getRoot(),
                 new AchievementsDataLabel("Total Number of Trips: ", ""
-                        + calendarStatistics.getNumTrip()).getRoot());
-        try {
-            double getPercentageTrip = calendarStatistics.getPercentageTrip();
+                        + numTrip).getRoot());
+        if (percentageTrip.isPresent()) {
             observableList.add(
                     new AchievementsDataLabel("Percentage of Vacation Days spent on Trips",
-                            calendarStatistics.getNumDaysTrip() + " / "
-                                    + calendarStatistics.getNumDaysVacation()).getRoot());
-            observableList.add(new AchievementsProgressBar(calendarStatistics.getPercentageTrip()).getRoot());
-        } catch (NoVacationException nve) {
-            logger.info("No vactation days. Progress bar for calendar not loaded.");
+                            numDaysTrip + " / " + numDaysVacation).getRoot());
+            observableList.add(new AchievementsProgressBar(percentageTrip.getAsDouble()).getRoot());
         }
         return observableList;
     }
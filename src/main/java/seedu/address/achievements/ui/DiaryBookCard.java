@@ -1,10 +1,12 @@
 package seedu.address.achievements.ui;
 
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
+import javafx.scene.chart.XYChart;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.diaryfeature.model.util.DiaryBookStatistics;
 
@@ -17,16 +19,19 @@ public class DiaryBookCard {
 
     /**
      * Card for {@link DiaryBookStatistics}.
+     * The statistics are read at once, on the thread running diary commands, and the card is made later.
      * @param diaryBookStatistics
-     * @return observable list of nodes that makes up the {@code DiaryBookCard}
+     * @return how to make the observable list of nodes that makes up the {@code DiaryBookCard}
      */
-    public static ObservableList<Node> make(DiaryBookStatistics diaryBookStatistics) {
-        return FXCollections.observableArrayList(
+    public static Supplier<ObservableList<Node>> read(DiaryBookStatistics diaryBookStatistics) {
+        int totalDiaryEntries = diaryBookStatistics.getTotalDiaryEntries();
+        XYChart.Series<String, Number> diaryBarChart = diaryBookStatistics.getDiaryBarChart();
+        return () -> FXCollections.observableArrayList(
                 new AchievementsTitleLabel("Diary Book").getRoot(),
                 new AchievementsDataLabel("Total Diary Entries: ",
-                        "" + diaryBookStatistics.getTotalDiaryEntries() + " / 200").getRoot(),
-                new AchievementsProgressBar(diaryBookStatistics.getTotalDiaryEntries() / 200.0).getRoot(),
+                        "" + totalDiaryEntries + " / 200").getRoot(),
+                new AchievementsProgressBar(totalDiaryEntries / 200.0).getRoot(),
                 new AchievementsVerticalBarChart("Diary Entries", "Date", "Number",
-                        diaryBookStatistics.getDiaryBarChart()).getRoot());
+                        diaryBarChart).getRoot());
     }
 }
@@ -1,10 +1,13 @@
 package seedu.address.achievements.ui;
 
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
+import javafx.scene.chart.PieChart;
+import javafx.scene.chart.XYChart;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.financialtracker.model.util.FinancialTrackerStatistics;
 
@@ -17,15 +20,18 @@ public class FinancialCard {
 
     /**
      * Card for {@link FinancialTrackerStatistics}.
+     * The statistics are read at once, on the thread running financial tracker commands, and the card is made later.
      * @param financialTrackerStatistics
-     * @return observable list of nodes that makes up the {@code FinancialCard}
+     * @return how to make the observable list of nodes that makes up the {@code FinancialCard}
      */
-    public static ObservableList<Node> make(FinancialTrackerStatistics financialTrackerStatistics) {
-        return FXCollections.observableArrayList(
+    public static Supplier<ObservableList<Node>> read(FinancialTrackerStatistics financialTrackerStatistics) {
+        XYChart.Series<String, Number> financialBarChartData = financialTrackerStatistics.getFinancialBarChartData();
+        ObservableList<PieChart.Data> financialPieChartData = financialTrackerStatistics.getFinancialPieChartData();
+        return () -> FXCollections.observableArrayList(
                 new AchievementsTitleLabel("Financial Tracker").getRoot(),
                 new AchievementsVerticalBarChart("Total Spending", "Countries",
-                        "Amount", financialTrackerStatistics.getFinancialBarChartData()).getRoot(),
+                        "Amount", financialBarChartData).getRoot(),
                 new AchievementsPieChart("Total Spending",
-                        financialTrackerStatistics.getFinancialPieChartData()).getRoot());
+                        financialPieChartData).getRoot());
     }
 }
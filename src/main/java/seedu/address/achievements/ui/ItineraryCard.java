@@ -1,10 +1,12 @@
 package seedu.address.achievements.ui;
 
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
+import javafx.scene.chart.XYChart;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.itinerary.model.util.ItineraryStatistics;
 
@@ -17,18 +19,21 @@ public class ItineraryCard {
 
     /**
      * Card for {@link ItineraryStatistics}.
+     * The statistics are read at once, on the thread running itinerary commands, and the card is made later.
      * @param itineraryStatistics
-     * @return observable list of nodes that makes up the {@code ItineraryCard}
+     * @return how to make the observable list of nodes that makes up the {@code ItineraryCard}
      */
-    public static ObservableList<Node> make(ItineraryStatistics itineraryStatistics) {
-        return FXCollections.observableArrayList(
+    public static Supplier<ObservableList<Node>> read(ItineraryStatistics itineraryStatistics) {
+        int totalItineraryEntries = itineraryStatistics.getTotalItineraryEntries();
+        XYChart.Series<String, Number> itineraryBarChartData = itineraryStatistics.getItineraryBarChartData();
+        return () -> FXCollections.observableArrayList(
                 new AchievementsTitleLabel("Itinerary").getRoot(),
                 new AchievementsDataLabel("Total Itinerary Entries: ", ""
-                        + itineraryStatistics.getTotalItineraryEntries() + " / 200").getRoot(),
-                new AchievementsProgressBar(itineraryStatistics.getTotalItineraryEntries() / 200.0).getRoot(),
+                        + totalItineraryEntries + " / 200").getRoot(),
+                new AchievementsProgressBar(totalItineraryEntries / 200.0).getRoot(),
                 new AchievementsVerticalBarChart("Itinerary Entries",
                         "Date",
                         "Number",
-                        itineraryStatistics.getItineraryBarChartData()).getRoot());
+                        itineraryBarChartData).getRoot());
     }
 }
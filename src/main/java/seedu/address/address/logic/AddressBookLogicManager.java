@@ -7,12 +7,14 @@ import java.util.logging.Logger;
 import javafx.collections.ObservableList;
 import javafx.scene.chart.XYChart;
 import seedu.address.address.logic.parser.AddressBookParser;
+import seedu.address.address.model.AddressBook;
 import seedu.address.address.model.AddressBookModel;
 import seedu.address.address.model.ReadOnlyAddressBook;
 import seedu.address.address.model.person.Person;
 import seedu.address.address.model.util.AddressBookStatistics;
 import seedu.address.address.storage.AddressBookStorage;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.ScriptRunner;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -38,11 +40,16 @@ public class AddressBookLogicManager implements AddressBookLogic {
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(addressBookModel);
+        if (ScriptRunner.isRunCommand(commandText)) {
+            commandResult = ScriptRunner.run(commandText, addressBookModel, addressBookParser::parseCommand,
+                    this::beginTransaction);
+        } else {
+            Command<AddressBookModel> command = addressBookParser.parseCommand(commandText);
+            commandResult = command.execute(addressBookModel);
+        }
 
         try {
             addressBookStorage.saveAddressBook(addressBookModel.getAddressBook());
@@ -53,6 +60,14 @@ public class AddressBookLogicManager implements AddressBookLogic {
         return commandResult;
     }
 
+    /**
+     * Takes a copy of the address book, to be restored if a script fails.
+     */
+    private ScriptRunner.Rollback beginTransaction() {
+        AddressBook snapshot = new AddressBook(addressBookModel.getAddressBook());
+        return () -> addressBookModel.setAddressBook(snapshot);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return addressBookModel.getAddressBook();
@@ -13,12 +13,13 @@ import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import seedu.address.address.logic.AddressBookLogic;
+import seedu.address.address.model.person.Person;
+import seedu.address.commons.core.Lazy;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.ui.CodeWindow;
 import seedu.address.ui.CommandBox;
+import seedu.address.ui.FxThreadList;
 import seedu.address.ui.HelpWindow;
 import seedu.address.ui.Page;
 import seedu.address.ui.PageManager;
@@ -42,13 +43,14 @@ public class AddressBookPage extends UiPart<Region> implements Page {
     private AddressBookLogic addressBookLogic;
 
     // Independent Ui parts residing in this Ui container
+    private FxThreadList<Person> personList;
     private PersonListPanel personListPanel;
 
     private ResultDisplay resultDisplay;
 
-    private HelpWindow helpWindow;
+    private final Lazy<HelpWindow> helpWindow = new Lazy<>(HelpWindow::new);
 
-    private CodeWindow codeWindow;
+    private final Lazy<CodeWindow> codeWindow = new Lazy<>(CodeWindow::new);
     @FXML
     private StackPane commandBoxPlaceholder;
 
@@ -111,16 +113,16 @@ public class AddressBookPage extends UiPart<Region> implements Page {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        this.helpWindow = new HelpWindow();
-        this.codeWindow = new CodeWindow();
 
-        personListPanel = new PersonListPanel(addressBookLogic.getFilteredPersonList());
+        personList = new FxThreadList<>(addressBookLogic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(personList.getList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(PageType.ADDRESS_BOOK, addressBookLogic::execute,
+                this::handleResult, this::handleFailure);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -129,10 +131,10 @@ public class AddressBookPage extends UiPart<Region> implements Page {
      */
     @FXML
     public void handleCode() {
-        if (!codeWindow.isShowing()) {
-            codeWindow.show();
+        if (!codeWindow.get().isShowing()) {
+            codeWindow.get().show();
         } else {
-            codeWindow.focus();
+            codeWindow.get().focus();
         }
     }
 
@@ -141,17 +143,17 @@ public class AddressBookPage extends UiPart<Region> implements Page {
      */
     @FXML
     public void handleHelp() {
-        if (!helpWindow.isShowing()) {
-            helpWindow.show();
+        if (!helpWindow.get().isShowing()) {
+            helpWindow.get().show();
         } else {
-            helpWindow.focus();
+            helpWindow.get().focus();
         }
     }
 
     @Override
     public void closeResources() {
-        helpWindow.hide();
-        codeWindow.hide();
+        helpWindow.ifCreated(HelpWindow::hide);
+        codeWindow.ifCreated(CodeWindow::hide);
     }
 
     /**
@@ -168,32 +170,31 @@ public class AddressBookPage extends UiPart<Region> implements Page {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Shows the result of a command.
      *
      * @see AddressBookLogic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = addressBookLogic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
+    private void handleResult(CommandResult commandResult) {
+        logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.isExit()) {
+            handleExit();
         }
     }
 
+    /**
+     * Shows why a command could not be executed.
+     */
+    private void handleFailure(Exception e) {
+        logger.info(() -> "Invalid command: " + e.getMessage());
+        resultDisplay.setFeedbackToUser(e.getMessage());
+    }
+
     @Override
     public PageType getPageType() {
         return PageType.ADDRESS_BOOK;
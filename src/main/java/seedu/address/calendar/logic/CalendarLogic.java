@@ -16,11 +16,13 @@ import seedu.address.calendar.model.ReadOnlyCalendar;
 import seedu.address.calendar.model.date.ViewOnlyMonth;
 import seedu.address.calendar.model.event.exceptions.ClashException;
 import seedu.address.calendar.model.util.CalendarStatistics;
+import seedu.address.calendar.model.util.TripFinder;
 import seedu.address.calendar.storage.CalendarStorage;
 import seedu.address.calendar.storage.JsonCalendarStorage;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.ScriptRunner;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -71,6 +73,13 @@ public class CalendarLogic {
 
         suggestionManager.forgetSuggestion();
 
+        if (ScriptRunner.isRunCommand(commandText)) {
+            CommandResult commandResult = ScriptRunner.run(commandText, calendar,
+                    new CalendarParser()::parseCommand, () -> beginTransaction(calendar));
+            calendarStorage.saveCalendar(calendar.getCalendar());
+            return commandResult;
+        }
+
         try {
             Command<Calendar> command = new CalendarParser().parseCommand(commandText);
             CommandResult commandResult = command.execute(calendar);
@@ -99,6 +108,20 @@ public class CalendarLogic {
         return commandResult;
     }
 
+    /**
+     * Takes a copy of the events of {@code calendar}, to be restored if a script fails.
+     */
+    static ScriptRunner.Rollback beginTransaction(Calendar calendar) {
+        ReadOnlyCalendar snapshot = calendar.getCalendar();
+        return () -> {
+            try {
+                calendar.updateCalendar(Optional.of(snapshot));
+            } catch (NoSuchFileException e) {
+                throw new DataConversionException(e);
+            }
+        };
+    }
+
     public boolean hasVisibleUpdates() {
         return calendar.hasVisibleUpdates();
     }
@@ -120,4 +143,13 @@ public class CalendarLogic {
     public CalendarStatistics getStatistics() {
         return calendar.getStatistics();
     }
+
+    /**
+     * Gets a finder of the trips in the calendar, for other features to look up trips by name.
+     *
+     * @return A finder of the trips in the calendar
+     */
+    public TripFinder getTripFinder() {
+        return calendar.getTripFinder();
+    }
 }
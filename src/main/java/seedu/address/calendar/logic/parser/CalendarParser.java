@@ -44,10 +44,10 @@ public class CalendarParser extends Parser {
             return new ListCommandParser().parse(arguments);
 
         case GoToCommand.COMMAND_WORD:
-            return new GoToParser().parse(arguments);
+            return new GoToParser<Calendar>().parse(arguments);
 
         case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
+            return new ExitCommand<>();
 
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand<>();
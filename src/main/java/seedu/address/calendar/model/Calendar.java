@@ -1,9 +1,11 @@
 package seedu.address.calendar.model;
 
 import java.nio.file.NoSuchFileException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.calendar.model.date.Date;
@@ -17,6 +19,7 @@ import seedu.address.calendar.model.event.exceptions.ClashException;
 import seedu.address.calendar.model.event.exceptions.DuplicateEventException;
 import seedu.address.calendar.model.util.CalendarStatistics;
 import seedu.address.calendar.model.util.DateUtil;
+import seedu.address.calendar.model.util.TripFinder;
 import seedu.address.calendar.model.util.exceptions.NoVacationException;
 
 /**
@@ -301,6 +304,26 @@ public class Calendar {
         return new CalendarStatisticsManager();
     }
 
+    /**
+     * Gets a finder of the trips in {@code this} calendar, which always looks at the current events.
+     * Dates outside the years a calendar can hold are clamped to those years, as there are no trips outside them.
+     *
+     * @return A finder of the trips in {@code this} calendar
+     */
+    public TripFinder getTripFinder() {
+        return (name, startDate, endDate) -> {
+            LocalDate firstDate = LocalDate.of(Year.BOUND_LOWER, 1, 1);
+            LocalDate lastDate = LocalDate.of(Year.BOUND_UPPER, 12, 31);
+            LocalDate queryStart = startDate.isBefore(firstDate) ? firstDate : startDate;
+            LocalDate queryEnd = endDate.isAfter(lastDate) ? lastDate : endDate;
+            if (queryStart.isAfter(queryEnd)) {
+                return List.of();
+            }
+            EventQuery eventQuery = new EventQuery(Date.fromLocalDate(queryStart), Date.fromLocalDate(queryEnd));
+            return events.getTrips(name, eventQuery).collect(Collectors.toList());
+        };
+    }
+
     /**
      * Creates a statistics object that contains statistics of {@code this} calendar.
      */
@@ -3,6 +3,7 @@ package seedu.address.calendar.model.date;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
@@ -186,6 +187,29 @@ public class Date implements IntervalPart<Date> {
         return new Date(givenDay, monthVal, yearVal);
     }
 
+    /**
+     * Gets a {@code Date} instance that represents {@code localDate}.
+     * Guarantees: the year of {@code localDate} is between 1980 and 2200 (inclusive)
+     *
+     * @param localDate The date to be represented
+     * @return A {@code Date} instance that represents {@code localDate}
+     */
+    public static Date fromLocalDate(LocalDate localDate) {
+        requireNonNull(localDate);
+        MonthOfYear monthVal = DateUtil.convertNumToMonth(localDate.getMonthValue() - 1);
+        Year yearVal = new Year(localDate.getYear());
+        return new Date(Day.getDay(localDate.getDayOfMonth(), monthVal, yearVal), monthVal, yearVal);
+    }
+
+    /**
+     * Gets the {@code LocalDate} that {@code this} represents.
+     *
+     * @return The {@code LocalDate} that {@code this} represents
+     */
+    public LocalDate toLocalDate() {
+        return LocalDate.of(year.getNumericalValue(), month.getNumericalVal(), day.getDayOfMonth());
+    }
+
     /**
      * Represents {@code this} as a string.
      *
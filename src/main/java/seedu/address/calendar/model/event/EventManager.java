@@ -597,6 +597,23 @@ public class EventManager implements EventViewer {
         return Stream.concat(requiredVacations, requiredEngagements);
     }
 
+    /**
+     * Gets the trips named {@code name}, ignoring case, that happen sometime when {@code eventQuery} happens.
+     * Only the engagements that collide with {@code eventQuery} are looked at.
+     *
+     * @param name The name of the trips
+     * @param eventQuery The {@code EventQuery} instance which has the desired start and end dates
+     * @return All trips named {@code name} that happen while {@code eventQuery} does, if any
+     */
+    public Stream<Event> getTrips(String name, EventQuery eventQuery) {
+        Event placeHolderEvent = Event.getEventPlaceHolder(eventQuery);
+        return engagedSchedule.getCollisions(placeHolderEvent)
+                .stream()
+                .flatMap(eventIdentifier -> engagements.get(eventIdentifier).stream())
+                .filter(event -> event.getEventType().equals(EventType.TRIP))
+                .filter(event -> event.getNameStr().equalsIgnoreCase(name));
+    }
+
     /**
      * Lists all events of {@code this} as a formatted {@code String}.
      *
@@ -0,0 +1,22 @@
+package seedu.address.calendar.model.util;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.address.calendar.model.event.Event;
+
+/**
+ * Represents a finder of the trips in {@code Calendar}, which other features use to look up a trip by its name.
+ */
+public interface TripFinder {
+    /**
+     * Gets the trips named {@code name}, ignoring case, that happen sometime from {@code startDate} to
+     * {@code endDate} (inclusive).
+     *
+     * @param name The name of the trips
+     * @param startDate The first date of interest
+     * @param endDate The last date of interest
+     * @return The trips named {@code name} that happen sometime during the dates of interest
+     */
+    List<Event> findTrips(String name, LocalDate startDate, LocalDate endDate);
+}
@@ -44,7 +44,7 @@ public class JsonCalendarStorage implements CalendarStorage {
         try {
             return Optional.of(jsonAddressBook.get().toModelType());
         } catch (IllegalValueException ive) {
-            logger.info("Calendar toModel: " + ive.getMessage());
+            logger.info(() -> "Calendar toModel: " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
@@ -14,12 +14,14 @@ import seedu.address.calendar.logic.CalendarLogic;
 import seedu.address.calendar.model.date.MonthOfYear;
 import seedu.address.calendar.model.date.ViewOnlyMonth;
 import seedu.address.calendar.model.date.Year;
+import seedu.address.commons.core.Lazy;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.ui.CodeWindow;
 import seedu.address.ui.CommandBox;
+import seedu.address.ui.CommandExecutionService;
 import seedu.address.ui.HelpWindow;
 import seedu.address.ui.Page;
 import seedu.address.ui.PageManager;
@@ -38,12 +40,12 @@ public class CalendarPage extends UiPart<Region> implements Page {
     private ResultDisplay resultDisplay;
     private CalendarLogic calendarLogic;
     private ReadOnlyDoubleProperty monthViewWidth;
-    private ListWindow listWindow;
+    private final Lazy<ListWindow> listWindow = new Lazy<>(ListWindow::new);
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
-    private CodeWindow codeWindow;
-    private HelpWindow helpWindow;
+    private final Lazy<CodeWindow> codeWindow = new Lazy<>(CodeWindow::new);
+    private final Lazy<HelpWindow> helpWindow = new Lazy<>(HelpWindow::new);
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -69,9 +71,6 @@ public class CalendarPage extends UiPart<Region> implements Page {
         monthViewWidth = weekHeader.widthProperty();
 
         fillInnerParts();
-        listWindow = new ListWindow();
-        codeWindow = new CodeWindow();
-        helpWindow = new HelpWindow();
     }
 
     /**
@@ -100,7 +99,8 @@ public class CalendarPage extends UiPart<Region> implements Page {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(pageType, this::executeCommand, this::handleResult,
+                this::handleFailure);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -140,10 +140,10 @@ public class CalendarPage extends UiPart<Region> implements Page {
      */
     @FXML
     public void handleCode() {
-        if (!codeWindow.isShowing()) {
-            codeWindow.show();
+        if (!codeWindow.get().isShowing()) {
+            codeWindow.get().show();
         } else {
-            codeWindow.focus();
+            codeWindow.get().focus();
         }
     }
 
@@ -152,17 +152,17 @@ public class CalendarPage extends UiPart<Region> implements Page {
      */
     @FXML
     public void handleHelp() {
-        if (!helpWindow.isShowing()) {
-            helpWindow.show();
+        if (!helpWindow.get().isShowing()) {
+            helpWindow.get().show();
         } else {
-            helpWindow.focus();
+            helpWindow.get().focus();
         }
     }
 
     @Override
     public void closeResources() {
-        helpWindow.hide();
-        codeWindow.hide();
+        helpWindow.ifCreated(HelpWindow::hide);
+        codeWindow.ifCreated(CodeWindow::hide);
     }
 
     @FXML
@@ -176,52 +176,61 @@ public class CalendarPage extends UiPart<Region> implements Page {
      * @param feedback The relevant content to show user
      */
     private void handleShowList(String feedback) {
-        if (!listWindow.isShowing()) {
-            listWindow.show(feedback);
+        if (!listWindow.get().isShowing()) {
+            listWindow.get().show(feedback);
         } else {
-            listWindow.requestFocus();
+            listWindow.get().requestFocus();
         }
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command and returns the result. Runs off the JavaFX application thread.
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
             CommandResult commandResult = calendarLogic.executeCommand(commandText);
-            logger.info("Command result in calendar: " + commandResult.getFeedbackToUser());
+            logger.info(() -> "Command result in calendar: " + commandResult.getFeedbackToUser());
 
             if (calendarLogic.hasVisibleUpdates()) {
                 ViewOnlyMonth updatedViewOnlyMonth = calendarLogic.getVisibleMonth();
-                updateCalendarPage(updatedViewOnlyMonth);
                 calendarLogic.completeVisibleUpdates();
+                CommandExecutionService.runOnFxThread(() -> updateCalendarPage(updatedViewOnlyMonth));
             }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+            return commandResult;
+        } catch (IOException ioe) {
+            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        }
+    }
 
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+    /**
+     * Shows the result of a command.
+     */
+    private void handleResult(CommandResult commandResult) {
+        if (commandResult.isExit()) {
+            handleExit();
+        }
 
-            if (commandResult.isShowList()) {
-                handleShowList(commandResult.getFeedbackToUser());
-                resultDisplay.setFeedbackToUser("");
-            }
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
+        if (commandResult.isShowList()) {
+            handleShowList(commandResult.getFeedbackToUser());
+            resultDisplay.setFeedbackToUser("");
+        }
 
-            return commandResult;
-        } catch (ParseException | CommandException e) {
-            logger.info("Exception in calendar: " + e);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        if (commandResult.isShowHelp()) {
+            handleHelp();
         }
     }
 
+    /**
+     * Shows why a command could not be executed.
+     */
+    private void handleFailure(Exception e) {
+        logger.info(() -> "Exception in calendar: " + e);
+        resultDisplay.setFeedbackToUser(e.getMessage());
+    }
+
     @Override
     public Parent getParent() {
         return super.getRoot();
@@ -0,0 +1,136 @@
+package seedu.address.commons.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that passes log records on to other handlers from a single background thread.<br>
+ * Records wait in a bounded buffer until the writer thread gets to them. If the buffer is full, the record is
+ * dropped and counted instead of making the logging thread wait, so a slow disk never holds up a command.
+ */
+class AsyncLogHandler extends Handler {
+    static final String MESSAGE_DROPPED = "%1$d log record(s) were dropped as the log buffer was full";
+
+    private static final long POLL_INTERVAL_MILLIS = 200;
+    private static final long CLOSE_TIMEOUT_MILLIS = 2000;
+
+    private final BlockingQueue<LogRecord> buffer;
+    private final List<Handler> targets;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean isClosed = false;
+
+    /**
+     * Creates a handler holding up to {@code capacity} records, which are written to {@code targets}.
+     */
+    AsyncLogHandler(int capacity, List<Handler> targets) {
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.targets = new ArrayList<>(targets);
+        this.writer = new Thread(this::writeRecords, "LogsCenter-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // The caller is not on the writer thread's stack, so it cannot be inferred later.
+        // Naming the logger as the source keeps the formatted output meaningful without walking the stack.
+        record.setSourceClassName(record.getLoggerName());
+        record.setSourceMethodName(null);
+        if (!buffer.offer(record)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Flushes the handlers written to. Records still waiting in the buffer are not waited for.
+     */
+    @Override
+    public void flush() {
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Stops the writer thread, writes out every record still in the buffer and closes the handlers written to.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeBufferedRecords();
+        targets.forEach(Handler::close);
+    }
+
+    /**
+     * Returns the number of records dropped since the last time a drop was reported.
+     */
+    long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Runs on the writer thread, waiting for records until this handler is closed.
+     */
+    private void writeRecords() {
+        while (!isClosed) {
+            try {
+                LogRecord record = buffer.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (record != null) {
+                    write(record);
+                    writeBufferedRecords();
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Writes out every record currently in the buffer, then reports any dropped records.
+     */
+    private synchronized void writeBufferedRecords() {
+        List<LogRecord> batch = new ArrayList<>(buffer.size());
+        buffer.drainTo(batch);
+        batch.forEach(this::write);
+
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            LogRecord dropRecord = new LogRecord(Level.WARNING, String.format(MESSAGE_DROPPED, dropped));
+            dropRecord.setLoggerName(LogsCenter.class.getSimpleName());
+            dropRecord.setSourceClassName(dropRecord.getLoggerName());
+            write(dropRecord);
+        }
+        flush();
+    }
+
+    /**
+     * Passes {@code record} to every target, so that one failing target does not stop the others.
+     */
+    private void write(LogRecord record) {
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (RuntimeException e) {
+                reportError(null, e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+}
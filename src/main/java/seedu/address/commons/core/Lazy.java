@@ -0,0 +1,49 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Holds a value that is only created the first time it is needed.
+ * Used for parts of the UI, such as help windows, that many users never open.
+ */
+public class Lazy<T> {
+    private final Supplier<? extends T> factory;
+    private T value;
+
+    public Lazy(Supplier<? extends T> factory) {
+        this.factory = requireNonNull(factory);
+    }
+
+    /**
+     * Returns the value, creating it if this is the first call.
+     */
+    public synchronized T get() {
+        if (value == null) {
+            value = requireNonNull(factory.get());
+        }
+        return value;
+    }
+
+    /**
+     * Returns true if the value has been created.
+     */
+    public synchronized boolean isCreated() {
+        return value != null;
+    }
+
+    /**
+     * Passes the value to {@code action} if it has been created, without creating it otherwise.
+     */
+    public void ifCreated(Consumer<? super T> action) {
+        T createdValue;
+        synchronized (this) {
+            createdValue = value;
+        }
+        if (createdValue != null) {
+            action.accept(createdValue);
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package seedu.address.commons.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
@@ -14,39 +19,36 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Records are written by a single background thread (see {@link AsyncLogHandler}), so logging never waits
+ *   for the console or the disk. Prefer the {@code Supplier<String>} overloads of {@link Logger} so that
+ *   messages are only built when their level is enabled.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
+    private static final int BUFFER_CAPACITY = 1024;
     private static final String LOG_FILE = "addressbook.log";
+    private static final Map<String, Logger> loggers = new ConcurrentHashMap<>();
     private static Level currentLogLevel = Level.INFO;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
+    private static AsyncLogHandler asyncHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * Loggers obtained before and after this initialization will have their logging level changed.
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
-        logger.info("currentLogLevel: " + currentLogLevel);
+        loggers.values().forEach(existingLogger -> existingLogger.setLevel(currentLogLevel));
+        getAsyncHandler().setLevel(currentLogLevel);
+        logger.info(() -> "currentLogLevel: " + currentLogLevel);
     }
 
     /**
-     * Creates a logger with the given name.
+     * Returns the logger with the given name, configuring it the first time it is requested.
      */
     public static Logger getLogger(String name) {
-        Logger logger = Logger.getLogger(name);
-        logger.setUseParentHandlers(false);
-
-        removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
-
-        return Logger.getLogger(name);
+        return loggers.computeIfAbsent(name, LogsCenter::createLogger);
     }
 
     /**
@@ -60,14 +62,17 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Creates a logger that only writes to the shared {@code asyncHandler}.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
-        }
-        logger.addHandler(consoleHandler);
+    private static Logger createLogger(String name) {
+        Logger logger = Logger.getLogger(name);
+        logger.setUseParentHandlers(false);
+        logger.setLevel(currentLogLevel);
+
+        removeHandlers(logger);
+        logger.addHandler(getAsyncHandler());
+
+        return logger;
     }
 
     /**
@@ -79,18 +84,23 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Returns the {@code asyncHandler} shared by all loggers. <br>
+     * Creates it, together with the console and file handlers it writes to, if it is null.
      */
-    private static void addFileHandler(Logger logger) {
-        try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
+    private static synchronized AsyncLogHandler getAsyncHandler() {
+        if (asyncHandler == null) {
+            List<Handler> targets = new ArrayList<>();
+            targets.add(createConsoleHandler());
+            try {
+                targets.add(createFileHandler());
+            } catch (IOException e) {
+                System.err.println("Error adding file handler for logger: " + e.getMessage());
             }
-            logger.addHandler(fileHandler);
-        } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            asyncHandler = new AsyncLogHandler(BUFFER_CAPACITY, targets);
+            asyncHandler.setLevel(currentLogLevel);
+            Runtime.getRuntime().addShutdownHook(new Thread(asyncHandler::close));
         }
+        return asyncHandler;
     }
 
     /**
@@ -100,13 +110,13 @@ public class LogsCenter {
     private static FileHandler createFileHandler() throws IOException {
         FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
         fileHandler.setFormatter(new SimpleFormatter());
-        fileHandler.setLevel(currentLogLevel);
+        fileHandler.setLevel(Level.ALL);
         return fileHandler;
     }
 
     private static ConsoleHandler createConsoleHandler() {
         ConsoleHandler consoleHandler = new ConsoleHandler();
-        consoleHandler.setLevel(currentLogLevel);
+        consoleHandler.setLevel(Level.ALL);
         return consoleHandler;
     }
 }
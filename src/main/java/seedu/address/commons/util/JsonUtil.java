@@ -60,7 +60,7 @@ public class JsonUtil {
         requireNonNull(filePath);
 
         if (!Files.exists(filePath)) {
-            logger.info("Json file " + filePath + " not found");
+            logger.info(() -> "Json file " + filePath + " not found");
             return Optional.empty();
         }
 
@@ -69,7 +69,7 @@ public class JsonUtil {
         try {
             jsonFile = deserializeObjectFromJsonFile(filePath, classOfObjectToDeserialize);
         } catch (IOException e) {
-            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            logger.warning(() -> "Error reading from jsonFile file " + filePath + ": " + e);
             throw new DataConversionException(e);
         }
 
@@ -0,0 +1,96 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.ToIntFunction;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.scene.chart.XYChart;
+
+/**
+ * Number of items of an observable list in every month, kept up to date with every change to the list so that
+ * statistics do not go through the whole list again.
+ * <br>
+ * A month is packed into a single int, {@code year * 12 + month - 1}, so that months sort in time order.
+ * Only months with at least one item have a count.
+ *
+ * @param <T> type of the items counted
+ */
+public class MonthHistogram<T> {
+
+    private final ToIntFunction<? super T> toMonth;
+    private final TreeMap<Integer, Integer> counts = new TreeMap<>();
+
+    /**
+     * Creates a histogram of the items of {@code items}, each counted in the month {@code toMonth} packs it into,
+     * which is updated whenever {@code items} changes.
+     * The month of an item must not change while it is in {@code items}.
+     */
+    public MonthHistogram(ObservableList<T> items, ToIntFunction<? super T> toMonth) {
+        requireNonNull(items);
+        requireNonNull(toMonth);
+        this.toMonth = toMonth;
+        items.forEach(this::add);
+        items.addListener((ListChangeListener.Change<? extends T> change) -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(this::add);
+            }
+        });
+    }
+
+    /**
+     * Returns {@code month} of {@code year} packed into a single int. Months are numbered from 1.
+     */
+    public static int pack(int year, int month) {
+        return year * 12 + month - 1;
+    }
+
+    public static int getYear(int packedMonth) {
+        return Math.floorDiv(packedMonth, 12);
+    }
+
+    public static int getMonth(int packedMonth) {
+        return Math.floorMod(packedMonth, 12) + 1;
+    }
+
+    private void add(T item) {
+        counts.merge(toMonth.applyAsInt(item), 1, Integer::sum);
+    }
+
+    private void remove(T item) {
+        counts.computeIfPresent(toMonth.applyAsInt(item), (unused, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Returns the number of items in the packed {@code month}.
+     */
+    public int getCount(int packedMonth) {
+        return counts.getOrDefault(packedMonth, 0);
+    }
+
+    /**
+     * Returns the number of items in every packed month with items, in time order.
+     */
+    public SortedMap<Integer, Integer> getCounts() {
+        return Collections.unmodifiableSortedMap(counts);
+    }
+
+    /**
+     * Returns a new chart series of the number of items in every month with items, in time order, labelled
+     * "MM-yyyy".
+     */
+    public XYChart.Series<String, Number> toSeries() {
+        XYChart.Series<String, Number> series = new XYChart.Series<>();
+        counts.forEach((packedMonth, count) -> series.getData().add(new XYChart.Data<>(
+                String.format("%02d-%04d", getMonth(packedMonth), getYear(packedMonth)), count)));
+        return series;
+    }
+}
@@ -15,20 +15,6 @@ import javafx.scene.chart.XYChart;
  * Utility for generating Statistics.
  */
 public class StatisticsUtil {
-    public static <T> XYChart.Series<String, Number> getMonthDataSeries(
-            ObservableList<T> observableList, Function<T, MonthData> toMonthDataFunction) {
-
-        XYChart.Series<String, Number> series = new XYChart.Series<>();
-
-        // add chart data
-        StatisticsUtil.streamOfMonthDataFromEvent(observableList, toMonthDataFunction)
-                .map(monthData ->
-                        new XYChart.Data<String, Number>(
-                                monthData.getValue(), monthData.getKey()))
-                .forEach(data -> series.getData().add(data));
-        return series;
-    }
-
     public static <T> XYChart.Series<Number, String> getCountryDataSeries(
             ObservableList<T> observableList, Function<T, CountryData> toCountryDataFunction) {
         XYChart.Series<Number, String> series = new XYChart.Series<>();
@@ -65,27 +51,6 @@ public class StatisticsUtil {
         return barChartData;
     }
 
-    /**
-     * Generate a stream from an observable list applying {@code toMonthDataFunction} to obtain a {@link MonthData} for
-     * each entry in the observable list
-     *
-     * @param observableList      observable list containing data
-     * @param toMonthDataFunction function to map data to {@link MonthData}
-     * @param <T>
-     * @return stream of month data
-     */
-    private static <T> Stream<MonthData> streamOfMonthDataFromEvent(ObservableList<T> observableList,
-                                                                    Function<T, MonthData> toMonthDataFunction) {
-        TreeUtil<MonthData> treeUtil = new TreeUtil<>();
-        FXCollections.unmodifiableObservableList(observableList).stream().forEach(t -> {
-            MonthData defaultIfMissing = toMonthDataFunction.apply(t);
-            Function<MonthData, MonthData> incrementFunction =
-                monthData -> new MonthData(monthData.getKey() + 1, monthData.getValue());
-            treeUtil.add(defaultIfMissing.getValue(), defaultIfMissing, incrementFunction);
-        });
-        return treeUtil.ascendingStream();
-    }
-
     /**
      * Generate a stream from an observable list applying {@code toCountryDataFunction} to obtain a {@link CountryData}
      * for each entry in the observable list
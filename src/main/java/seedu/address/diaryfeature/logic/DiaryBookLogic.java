@@ -3,14 +3,17 @@ package seedu.address.diaryfeature.logic;
 import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.scene.chart.XYChart;
+import seedu.address.calendar.model.util.TripFinder;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.diaryfeature.logic.parser.DiaryBookParser;
 import seedu.address.diaryfeature.logic.parser.exceptions.EmptyArgumentException;
+import seedu.address.diaryfeature.model.AttachmentStore;
 import seedu.address.diaryfeature.model.DiaryBook;
 import seedu.address.diaryfeature.model.DiaryModel;
 import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
@@ -18,6 +21,7 @@ import seedu.address.diaryfeature.model.util.DiaryBookStatistics;
 import seedu.address.diaryfeature.model.util.SampleDataUtil;
 import seedu.address.diaryfeature.storage.DiaryBookStorage;
 import seedu.address.diaryfeature.storage.JsonDiaryBookStorage;
+import seedu.address.logic.ScriptRunner;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -36,9 +40,16 @@ public class DiaryBookLogic {
     private final DiaryBookParser diaryBookParser;
 
     /**
-     *
+     * Creates the diary logic without a calendar, so no trips are ever found.
      */
     public DiaryBookLogic() {
+        this(() -> DiaryModel.NO_TRIPS);
+    }
+
+    /**
+     * Creates the diary logic, which looks up trips with {@code tripFinder} once one is asked for.
+     */
+    public DiaryBookLogic(Supplier<TripFinder> tripFinder) {
         JsonDiaryBookStorage storage = new JsonDiaryBookStorage(Paths.get("data", "diaryBook.json"));
         Optional<DiaryBook> diaryBookOptional;
         DiaryBook initialData;
@@ -54,7 +65,7 @@ public class DiaryBookLogic {
             logger.warning("Data file not in the correct format. Will be starting with an empty DiaryBook");
             initialData = new DiaryBook();
         }
-        this.diaryModel = new DiaryModel(initialData);
+        this.diaryModel = new DiaryModel(initialData, tripFinder, storage.getAttachmentDirectory());
         this.storage = storage;
         this.diaryBookParser = new DiaryBookParser();
     }
@@ -68,11 +79,16 @@ public class DiaryBookLogic {
      * @throws EmptyArgumentException
      */
     public CommandResult execute(String commandText) throws CommandException, ParseException, EmptyArgumentException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
-        Command command = diaryBookParser.parseCommand(commandText);
-        commandResult = command.execute(diaryModel);
+        if (ScriptRunner.isRunCommand(commandText)) {
+            ScriptRunner.ScriptParser<DiaryModel> scriptParser = line -> parseScriptLine(diaryBookParser, line);
+            commandResult = ScriptRunner.run(commandText, diaryModel, scriptParser, () -> beginTransaction(diaryModel));
+        } else {
+            Command<DiaryModel> command = diaryBookParser.parseCommand(commandText);
+            commandResult = command.execute(diaryModel);
+        }
 
         try {
             storage.saveDiaryBook(diaryModel.getDiaryBook());
@@ -83,6 +99,25 @@ public class DiaryBookLogic {
         return commandResult;
     }
 
+    /**
+     * Parses a line of a script with {@code parser}, reporting empty arguments as a {@code ParseException}.
+     */
+    static Command<DiaryModel> parseScriptLine(DiaryBookParser parser, String commandText) throws ParseException {
+        try {
+            return parser.parseCommand(commandText);
+        } catch (EmptyArgumentException e) {
+            throw new ParseException(e.toString(), e);
+        }
+    }
+
+    /**
+     * Takes a copy of the diary book of {@code diaryModel}, to be restored if a script fails.
+     */
+    static ScriptRunner.Rollback beginTransaction(DiaryModel diaryModel) {
+        DiaryBook snapshot = new DiaryBook(diaryModel.getDiaryBook());
+        return () -> diaryModel.resetData(snapshot);
+    }
+
     /**
      *
      * @return
@@ -91,6 +126,13 @@ public class DiaryBookLogic {
         return diaryModel.getFilteredDiaryEntryList();
     }
 
+    /**
+     * Returns where the files attached to the entries are kept, to show them.
+     */
+    public AttachmentStore getAttachmentStore() {
+        return diaryModel.getAttachmentStore();
+    }
+
     /**
      *
      * @return
@@ -16,6 +16,8 @@ public class AddCommand extends Command<DiaryModel> {
     public static final String COMMAND_WORD = "add";
     public static final String MESSAGE_SUCCESS = "New entry added:";
     public static final String MESSAGE_DUPLICATE_ERROR = "This entry already exists!";
+    public static final String MESSAGE_LOCKED = "Your diary is locked, so new memories cannot be encrypted yet.\n"
+            + "Unlock any entry with your details first.";
     private final DiaryEntry toAdd;
 
 
@@ -39,6 +41,9 @@ public class AddCommand extends Command<DiaryModel> {
     @Override
     public CommandResult execute(DiaryModel model) throws CommandException {
         requireNonNull(model);
+        if (model.isLocked()) {
+            throw new CommandException(MESSAGE_LOCKED);
+        }
         if (model.contains(toAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_ERROR);
         }
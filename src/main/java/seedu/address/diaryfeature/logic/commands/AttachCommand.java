@@ -0,0 +1,75 @@
+package seedu.address.diaryfeature.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.diaryfeature.model.DiaryModel;
+import seedu.address.diaryfeature.model.diaryEntry.Attachment;
+import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Attaches a file, such as a photo, to a diary entry
+ */
+public class AttachCommand extends Command<DiaryModel> {
+    public static final String COMMAND_WORD = "attach";
+    public static final String MESSAGE_ATTACH_SUCCESS = "%1$s is attached to your entry";
+    public static final String MESSAGE_ALREADY_ATTACHED = "%1$s is already attached to your entry";
+    public static final String MESSAGE_CANNOT_ATTACH = "Could not attach the file: %1$s";
+    private static final String OVERFLOW = "For the attach command, your index has to be less than the size"
+            + " of the list! Make your number smaller.";
+    private final Index targetIndex;
+    private final Path file;
+
+    /**
+     * Generates an attach command which attaches {@code file} to the specified entry
+     *
+     * @param targetIndex Entry to attach to
+     * @param file        file to attach
+     */
+    public AttachCommand(Index targetIndex, Path file) {
+        requireNonNull(targetIndex);
+        requireNonNull(file);
+        this.targetIndex = targetIndex;
+        this.file = file;
+    }
+
+    /**
+     * Executes the command by storing the file with the attachments and attaching it to the entry
+     *
+     * @param model on which the command is executes
+     * @return {@code CommandResult} a readable message to show the result
+     * @throws CommandException if the index is too large or the file cannot be read
+     */
+    @Override
+    public CommandResult execute(DiaryModel model) throws CommandException {
+        requireNonNull(model);
+        List<DiaryEntry> lastShownList = model.getFilteredDiaryEntryList();
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(OVERFLOW);
+        }
+        Optional<Attachment> attachment;
+        try {
+            attachment = model.attach(lastShownList.get(targetIndex.getZeroBased()), file);
+        } catch (IOException error) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_ATTACH, error), error);
+        }
+        return new CommandResult(String.format(attachment.isPresent() ? MESSAGE_ATTACH_SUCCESS
+                : MESSAGE_ALREADY_ATTACHED, file.getFileName()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AttachCommand // instanceof handles nulls
+                && targetIndex.equals(((AttachCommand) other).targetIndex) // state check
+                && file.equals(((AttachCommand) other).file));
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.diaryfeature.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.diaryfeature.model.DiaryModel;
+import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Copies the files attached to a diary entry into a directory
+ */
+public class ExportCommand extends Command<DiaryModel> {
+    public static final String COMMAND_WORD = "export";
+    public static final String MESSAGE_EXPORT_SUCCESS = "%1$d attached files copied to %2$s";
+    public static final String MESSAGE_NO_ATTACHMENTS = "Your entry has no attached files";
+    public static final String MESSAGE_CANNOT_EXPORT = "Could not copy the attached files: %1$s";
+    private static final String OVERFLOW = "For the export command, your index has to be less than the size"
+            + " of the list! Make your number smaller.";
+    private final Index targetIndex;
+    private final Path targetDirectory;
+
+    /**
+     * Generates an export command which copies the files attached to the specified entry into
+     * {@code targetDirectory}
+     *
+     * @param targetIndex     Entry whose files to copy
+     * @param targetDirectory directory to copy them into
+     */
+    public ExportCommand(Index targetIndex, Path targetDirectory) {
+        requireNonNull(targetIndex);
+        requireNonNull(targetDirectory);
+        this.targetIndex = targetIndex;
+        this.targetDirectory = targetDirectory;
+    }
+
+    /**
+     * Executes the command by copying every file attached to the entry
+     *
+     * @param model on which the command is executes
+     * @return {@code CommandResult} a readable message to show the result
+     * @throws CommandException if the index is too large or a file cannot be copied
+     */
+    @Override
+    public CommandResult execute(DiaryModel model) throws CommandException {
+        requireNonNull(model);
+        List<DiaryEntry> lastShownList = model.getFilteredDiaryEntryList();
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(OVERFLOW);
+        }
+        DiaryEntry entry = lastShownList.get(targetIndex.getZeroBased());
+        if (entry.getAttachments().isEmpty()) {
+            throw new CommandException(MESSAGE_NO_ATTACHMENTS);
+        }
+        try {
+            List<Path> exported = model.exportAttachments(entry, targetDirectory);
+            return new CommandResult(String.format(MESSAGE_EXPORT_SUCCESS, exported.size(), targetDirectory));
+        } catch (IOException error) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_EXPORT, error), error);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && targetIndex.equals(((ExportCommand) other).targetIndex) // state check
+                && targetDirectory.equals(((ExportCommand) other).targetDirectory));
+    }
+}
@@ -41,7 +41,7 @@ public class FindCommand extends Command<DiaryModel> {
     @Override
     public CommandResult execute(DiaryModel diaryModel) {
         requireNonNull(diaryModel);
-        diaryModel.updateFilteredDiaryList(predicate);
+        diaryModel.updateFilteredDiaryList(predicate.findMatches(diaryModel));
         int size = diaryModel.getTotalDiaryEntries();
         if (size == 1) {
             return new CommandResult(MESSAGE_ENTRY_LISTED_OVERVIEW);
@@ -42,7 +42,7 @@ public class FindSpecificCommand extends Command<DiaryModel> {
     @Override
     public CommandResult execute(DiaryModel diaryModel) {
         requireNonNull(diaryModel);
-        diaryModel.updateFilteredDiaryList(predicate);
+        diaryModel.updateFilteredDiaryList(predicate.findMatches(diaryModel));
         int size = diaryModel.getTotalDiaryEntries();
         if (size == 1) {
             return new CommandResult(MESSAGE_ENTRy_LISTED_OVERVIEW);
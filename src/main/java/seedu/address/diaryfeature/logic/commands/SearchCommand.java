@@ -0,0 +1,60 @@
+package seedu.address.diaryfeature.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.diaryfeature.model.DiaryModel;
+import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+
+/**
+ * Lists the entries that best match the input words, the best match first.
+ * Words are matched in the title, place and memory, ignoring case and small typos.
+ */
+public class SearchCommand extends Command<DiaryModel> {
+
+    public static final String COMMAND_WORD = "search";
+    public static final int MAX_RESULTS = 10;
+    public static final String MESSAGE_ENTRIES_LISTED_OVERVIEW = "%1$d best matching entries listed. "
+            + "Type list to get the original list back";
+    private final String query;
+
+    /**
+     * Creates a search command to list the entries that best match {@code query}
+     *
+     * @param query words to look for
+     */
+    public SearchCommand(String query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    /**
+     * Execute the search command and change the list view to show only the best matches, in order
+     *
+     * @param diaryModel model upon which to execute the command
+     * @return {@code CommandResult} with the number of entries listed
+     */
+    @Override
+    public CommandResult execute(DiaryModel diaryModel) {
+        requireNonNull(diaryModel);
+        List<DiaryEntry> results = diaryModel.searchDiaryEntries(query, MAX_RESULTS);
+        diaryModel.updateFilteredDiaryList(results);
+        return new CommandResult(String.format(MESSAGE_ENTRIES_LISTED_OVERVIEW, results.size()));
+    }
+
+    /**
+     * Checks if the 2 Search commands are equal
+     *
+     * @param other another object to check
+     * @return true if the object is the same as this command
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchCommand // instanceof handles nulls
+                && query.equals(((SearchCommand) other).query)); // state check
+    }
+}
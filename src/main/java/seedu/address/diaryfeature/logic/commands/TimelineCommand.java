@@ -0,0 +1,95 @@
+package seedu.address.diaryfeature.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.calendar.model.event.Event;
+import seedu.address.diaryfeature.model.DiaryModel;
+import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Lists the entries dated between two dates, or during the trips in the calendar with a given name,
+ * from the earliest to the latest.
+ */
+public class TimelineCommand extends Command<DiaryModel> {
+
+    public static final String COMMAND_WORD = "timeline";
+    public static final String MESSAGE_ENTRIES_LISTED_OVERVIEW = "%1$d entries listed from the earliest to the "
+            + "latest. Type list to get the original list back";
+    public static final String MESSAGE_NO_TRIP = "There is no trip named %1$s in your calendar while you wrote "
+            + "your entries";
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final String tripName;
+
+    /**
+     * Creates a timeline command to list the entries dated from {@code from} to {@code to}, both inclusive
+     *
+     * @param from date of the earliest entry to list
+     * @param to   date of the latest entry to list
+     */
+    public TimelineCommand(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        this.from = from;
+        this.to = to;
+        this.tripName = null;
+    }
+
+    /**
+     * Creates a timeline command to list the entries dated during the trips named {@code tripName}
+     *
+     * @param tripName name of the trips in the calendar, ignoring case
+     */
+    public TimelineCommand(String tripName) {
+        requireNonNull(tripName);
+        this.from = null;
+        this.to = null;
+        this.tripName = tripName;
+    }
+
+    /**
+     * Execute the timeline command and change the list view to show only the entries found, earliest first
+     *
+     * @param diaryModel model upon which to execute the command
+     * @return {@code CommandResult} with the number of entries listed
+     * @throws CommandException if there is no trip with the name asked for
+     */
+    @Override
+    public CommandResult execute(DiaryModel diaryModel) throws CommandException {
+        requireNonNull(diaryModel);
+        List<DiaryEntry> results;
+        if (tripName == null) {
+            results = diaryModel.getDiaryEntriesBetween(from, to);
+        } else {
+            List<Event> trips = diaryModel.findTrips(tripName);
+            if (trips.isEmpty()) {
+                throw new CommandException(String.format(MESSAGE_NO_TRIP, tripName));
+            }
+            results = diaryModel.getDiaryEntriesDuring(trips);
+        }
+        diaryModel.updateFilteredDiaryList(results);
+        return new CommandResult(String.format(MESSAGE_ENTRIES_LISTED_OVERVIEW, results.size()));
+    }
+
+    /**
+     * Checks if the 2 Timeline commands are equal
+     *
+     * @param other another object to check
+     * @return true if the object is the same as this command
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TimelineCommand // instanceof handles nulls
+                && Objects.equals(from, ((TimelineCommand) other).from) // state check
+                && Objects.equals(to, ((TimelineCommand) other).to)
+                && Objects.equals(tripName, ((TimelineCommand) other).tripName));
+    }
+}
@@ -13,7 +13,8 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 
 /**
- * Unlocks a memory, if the accompaying details match the current details
+ * Unlocks a memory, if the accompaying details match the current details.
+ * The first unlock also unlocks the encrypted memories of the diary, which cannot be read before.
  */
 public class UnLockCommand extends Command<DiaryModel> {
     public static final String COMMAND_WORD = "unlock";
@@ -58,7 +59,7 @@ public class UnLockCommand extends Command<DiaryModel> {
         if (!model.hasDetails()) {
             return new CommandResult(MESSAGE_NO_DETAILS);
             //Next, if the details match the stored ones, then you can show the memory
-        } else if (model.checkDetails(detail)) {
+        } else if (model.unlock(detail)) {
             DiaryEntry unlock = lastShownList.get(targetIndex.getZeroBased());
             model.setDiaryEntryUnPrivate(unlock);
             return new CommandResult(String.format(MESSAGE_UNLOCK_ENTRY_SUCCESS));
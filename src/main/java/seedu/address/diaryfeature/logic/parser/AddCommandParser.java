@@ -5,12 +5,13 @@ import static seedu.address.diaryfeature.logic.parser.CliSyntax.PREFIX_MEMORY;
 import static seedu.address.diaryfeature.logic.parser.CliSyntax.PREFIX_PLACE;
 import static seedu.address.diaryfeature.logic.parser.CliSyntax.PREFIX_TITLE;
 
-import java.util.Date;
+import java.time.LocalDateTime;
 import java.util.NoSuchElementException;
 import java.util.stream.Stream;
 
 import seedu.address.diaryfeature.logic.commands.AddCommand;
 import seedu.address.diaryfeature.logic.parser.exceptions.DiaryEntryExceptions.DiaryEntryParseException;
+import seedu.address.diaryfeature.model.DiaryModel;
 import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
 import seedu.address.diaryfeature.model.diaryEntry.Memory;
 import seedu.address.diaryfeature.model.diaryEntry.Place;
@@ -30,7 +31,7 @@ public class AddCommandParser {
      *
      * @throws DiaryEntryParseException if the user input does not conform the expected format
      */
-    public Command parse(String args) throws DiaryEntryParseException {
+    public Command<DiaryModel> parse(String args) throws DiaryEntryParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_TITLE, PREFIX_DATE, PREFIX_PLACE, PREFIX_MEMORY);
         if (!arePrefixesPresent(argMultimap, PREFIX_TITLE, PREFIX_DATE)
@@ -38,7 +39,7 @@ public class AddCommandParser {
             throw new DiaryEntryParseException();
         }
         Title title;
-        Date date;
+        LocalDateTime date;
         Place place;
         Memory memory;
         try {
@@ -0,0 +1,44 @@
+package seedu.address.diaryfeature.logic.parser;
+
+import static seedu.address.diaryfeature.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.diaryfeature.logic.commands.AttachCommand;
+import seedu.address.diaryfeature.logic.parser.exceptions.EmptyArgumentException;
+import seedu.address.diaryfeature.model.DiaryModel;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new AttachCommand object
+ */
+public class AttachCommandParser {
+    private static final String ATTACH_USAGE = "In particular, input your attach command like this: \n"
+            + "attach TARGET file/FILE_PATH | Eg: attach 1 file/C:\\Photos\\fuji.jpg \n"
+            + "Note that the target has to be a number and more than or equal to 1";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AttachCommand
+     * and returns an AttachCommand object for execution.
+     *
+     * @throws EmptyArgumentException if the user input does not conform the expected format
+     */
+    public Command<DiaryModel> parse(String args) throws EmptyArgumentException {
+        ArgumentMultimap multimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE);
+        Optional<String> file = multimap.getValue(PREFIX_FILE);
+        if (file.isEmpty()) {
+            throw new EmptyArgumentException(AttachCommand.COMMAND_WORD, ATTACH_USAGE);
+        }
+        try {
+            return new AttachCommand(ParserUtil.parseIndex(multimap.getPreamble()),
+                    Paths.get(ParserUtil.parseStringArgs(file.get(), AttachCommand.COMMAND_WORD)));
+        } catch (ParseException | InvalidPathException | EmptyArgumentException error) {
+            throw new EmptyArgumentException(AttachCommand.COMMAND_WORD, ATTACH_USAGE);
+        }
+    }
+}
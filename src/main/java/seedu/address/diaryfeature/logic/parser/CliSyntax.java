@@ -14,6 +14,10 @@ public class CliSyntax {
     public static final Prefix PREFIX_MEMORY = new Prefix("m/");
     public static final Prefix PREFIX_USERNAME = new Prefix("user/");
     public static final Prefix PREFIX_PASSWORD = new Prefix("password/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_TRIP = new Prefix("trip/");
+    public static final Prefix PREFIX_FILE = new Prefix("file/");
 
 
 }
@@ -7,19 +7,24 @@ import java.util.regex.Pattern;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.diaryfeature.logic.commands.AddCommand;
+import seedu.address.diaryfeature.logic.commands.AttachCommand;
 import seedu.address.diaryfeature.logic.commands.DeleteCommand;
 import seedu.address.diaryfeature.logic.commands.ErrorCommand;
 import seedu.address.diaryfeature.logic.commands.ExitCommand;
+import seedu.address.diaryfeature.logic.commands.ExportCommand;
 import seedu.address.diaryfeature.logic.commands.FindCommand;
 import seedu.address.diaryfeature.logic.commands.FindSpecificCommand;
 import seedu.address.diaryfeature.logic.commands.HelpCommand;
 import seedu.address.diaryfeature.logic.commands.ListCommand;
 import seedu.address.diaryfeature.logic.commands.PrivateCommand;
+import seedu.address.diaryfeature.logic.commands.SearchCommand;
 import seedu.address.diaryfeature.logic.commands.SetDetailsCommand;
+import seedu.address.diaryfeature.logic.commands.TimelineCommand;
 import seedu.address.diaryfeature.logic.commands.UnLockCommand;
 import seedu.address.diaryfeature.logic.commands.UnPrivateCommand;
 import seedu.address.diaryfeature.logic.parser.exceptions.DiaryUnknownException;
 import seedu.address.diaryfeature.logic.parser.exceptions.EmptyArgumentException;
+import seedu.address.diaryfeature.model.DiaryModel;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.GoToCommand;
 import seedu.address.logic.parser.GoToParser;
@@ -39,7 +44,7 @@ public class DiaryBookParser {
      * @param userInput full user input string
      * @return the command based on the user input
      */
-    public Command parseCommand(String userInput) throws ParseException, EmptyArgumentException {
+    public Command<DiaryModel> parseCommand(String userInput) throws ParseException, EmptyArgumentException {
         final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
         if (!matcher.matches()) {
             logger.info("Couldn't match the command word");
@@ -57,7 +62,7 @@ public class DiaryBookParser {
             return new DeleteCommandParser().parse(arguments);
 
         case GoToCommand.COMMAND_WORD:
-            return new GoToParser().parse(arguments);
+            return new GoToParser<DiaryModel>().parse(arguments);
 
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
@@ -71,6 +76,18 @@ public class DiaryBookParser {
         case FindSpecificCommand.COMMAND_WORD:
             return new FindSpecificCommandParser().parse(arguments);
 
+        case SearchCommand.COMMAND_WORD:
+            return new SearchCommandParser().parse(arguments);
+
+        case TimelineCommand.COMMAND_WORD:
+            return new TimelineCommandParser().parse(arguments);
+
+        case AttachCommand.COMMAND_WORD:
+            return new AttachCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
 
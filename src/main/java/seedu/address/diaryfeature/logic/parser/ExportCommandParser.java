@@ -0,0 +1,44 @@
+package seedu.address.diaryfeature.logic.parser;
+
+import static seedu.address.diaryfeature.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.diaryfeature.logic.commands.ExportCommand;
+import seedu.address.diaryfeature.logic.parser.exceptions.EmptyArgumentException;
+import seedu.address.diaryfeature.model.DiaryModel;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser {
+    private static final String EXPORT_USAGE = "In particular, input your export command like this: \n"
+            + "export TARGET to/DIRECTORY | Eg: export 1 to/C:\\Photos\\Japan \n"
+            + "Note that the target has to be a number and more than or equal to 1";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     *
+     * @throws EmptyArgumentException if the user input does not conform the expected format
+     */
+    public Command<DiaryModel> parse(String args) throws EmptyArgumentException {
+        ArgumentMultimap multimap = ArgumentTokenizer.tokenize(args, PREFIX_TO);
+        Optional<String> directory = multimap.getValue(PREFIX_TO);
+        if (directory.isEmpty()) {
+            throw new EmptyArgumentException(ExportCommand.COMMAND_WORD, EXPORT_USAGE);
+        }
+        try {
+            return new ExportCommand(ParserUtil.parseIndex(multimap.getPreamble()),
+                    Paths.get(ParserUtil.parseStringArgs(directory.get(), ExportCommand.COMMAND_WORD)));
+        } catch (ParseException | InvalidPathException | EmptyArgumentException error) {
+            throw new EmptyArgumentException(ExportCommand.COMMAND_WORD, EXPORT_USAGE);
+        }
+    }
+}
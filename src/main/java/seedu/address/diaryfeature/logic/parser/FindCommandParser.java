@@ -3,6 +3,7 @@ package seedu.address.diaryfeature.logic.parser;
 import seedu.address.diaryfeature.logic.commands.FindCommand;
 import seedu.address.diaryfeature.logic.parser.exceptions.EmptyArgumentException;
 import seedu.address.diaryfeature.logic.predicates.FindPredicate;
+import seedu.address.diaryfeature.model.DiaryModel;
 import seedu.address.logic.commands.Command;
 
 /**
@@ -20,7 +21,7 @@ public class FindCommandParser {
      *
      * @throws EmptyArgumentException if the user input does not conform the expected format
      */
-    public Command parse(String args) throws EmptyArgumentException {
+    public Command<DiaryModel> parse(String args) throws EmptyArgumentException {
         try {
             String trimmed = ParserUtil.parseStringArgs(args, FindCommand.COMMAND_WORD);
             return new FindCommand(new FindPredicate(trimmed));
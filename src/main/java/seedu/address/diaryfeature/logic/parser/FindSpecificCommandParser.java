@@ -10,6 +10,7 @@ import java.util.Optional;
 import seedu.address.diaryfeature.logic.commands.FindSpecificCommand;
 import seedu.address.diaryfeature.logic.parser.exceptions.EmptyArgumentException;
 import seedu.address.diaryfeature.logic.predicates.FindSpecificPredicate;
+import seedu.address.diaryfeature.model.DiaryModel;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
@@ -33,7 +34,7 @@ public class FindSpecificCommandParser {
      *
      * @throws EmptyArgumentException if the user input does not conform the expected format
      */
-    public Command parse(String args) throws EmptyArgumentException {
+    public Command<DiaryModel> parse(String args) throws EmptyArgumentException {
         try {
             ArgumentMultimap multimap = ArgumentTokenizer.tokenize(
                     args, PREFIX_TITLE, PREFIX_DATE, PREFIX_PLACE, PREFIX_MEMORY);
@@ -1,6 +1,6 @@
 package seedu.address.diaryfeature.logic.parser;
 
-import java.util.Date;
+import java.time.LocalDateTime;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
@@ -63,7 +63,7 @@ public class ParserUtil {
      * @return A validated Date
      * @throws DateParseException if the date is invalid
      */
-    public static Date parseDate(String date) throws DateParseException {
+    public static LocalDateTime parseDate(String date) throws DateParseException {
         if (Validators.isNotNull(date)) {
             String trimmedDate = date.trim();
             if (Validators.isNotEmpty(date)) {
@@ -0,0 +1,31 @@
+package seedu.address.diaryfeature.logic.parser;
+
+import seedu.address.diaryfeature.logic.commands.SearchCommand;
+import seedu.address.diaryfeature.logic.parser.exceptions.EmptyArgumentException;
+import seedu.address.diaryfeature.model.DiaryModel;
+import seedu.address.logic.commands.Command;
+
+/**
+ * Parses input arguments and creates a new SearchCommand object
+ */
+public class SearchCommandParser {
+    private static final String SEARCH_USAGE = "In particular, input your search command like this: \n"
+            + "search WORDS | EG: search kyoto temple. \n Note that the input cant be empty,"
+            + " and has to be at least 1 character\n"
+            + "Remember to type the command list to go back to your original list";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SearchCommand
+     * and returns a SearchCommand object for execution.
+     *
+     * @throws EmptyArgumentException if the user input does not conform the expected format
+     */
+    public Command<DiaryModel> parse(String args) throws EmptyArgumentException {
+        try {
+            String trimmed = ParserUtil.parseStringArgs(args, SearchCommand.COMMAND_WORD);
+            return new SearchCommand(trimmed);
+        } catch (EmptyArgumentException error) {
+            throw new EmptyArgumentException(SearchCommand.COMMAND_WORD, SEARCH_USAGE);
+        }
+    }
+}
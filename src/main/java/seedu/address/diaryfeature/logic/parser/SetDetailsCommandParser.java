@@ -8,6 +8,7 @@ import java.util.stream.Stream;
 import seedu.address.diaryfeature.logic.commands.SetDetailsCommand;
 import seedu.address.diaryfeature.logic.parser.exceptions.DetailParseException;
 import seedu.address.diaryfeature.logic.parser.exceptions.EmptyArgumentException;
+import seedu.address.diaryfeature.model.DiaryModel;
 import seedu.address.diaryfeature.model.details.Details;
 import seedu.address.diaryfeature.model.details.Password;
 import seedu.address.diaryfeature.model.details.Username;
@@ -28,7 +29,7 @@ public class SetDetailsCommandParser {
      * Parses the given {@code String} of arguments in the context of the SetDetails
      * and returns an SetDetails object for execution.
      */
-    public Command parse(String args) throws EmptyArgumentException, DetailParseException {
+    public Command<DiaryModel> parse(String args) throws EmptyArgumentException, DetailParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_USERNAME, PREFIX_PASSWORD);
 
@@ -0,0 +1,61 @@
+package seedu.address.diaryfeature.logic.parser;
+
+import static seedu.address.diaryfeature.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.diaryfeature.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.diaryfeature.logic.parser.CliSyntax.PREFIX_TRIP;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import seedu.address.diaryfeature.logic.commands.TimelineCommand;
+import seedu.address.diaryfeature.logic.parser.exceptions.DiaryEntryExceptions.DateParseException;
+import seedu.address.diaryfeature.logic.parser.exceptions.EmptyArgumentException;
+import seedu.address.diaryfeature.model.DiaryModel;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+
+/**
+ * Parses input arguments and creates a new TimelineCommand object
+ */
+public class TimelineCommandParser {
+    private static final String TIMELINE_USAGE = "In particular, input your timeline command like this: \n"
+            + "timeline from/DD/MM/YYYY HHMM to/DD/MM/YYYY HHMM | EG: timeline from/01/12/2019 0000 "
+            + "to/31/12/2019 2359 \n"
+            + "or timeline trip/TRIP_NAME | EG: timeline trip/Japan, for the trips with that name in your calendar. \n"
+            + "Note that the from date cant be after the to date\n"
+            + "Remember to type the command list to go back to your original list";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the TimelineCommand
+     * and returns a TimelineCommand object for execution.
+     *
+     * @throws EmptyArgumentException if the user input does not conform the expected format
+     * @throws DateParseException     if a date is invalid
+     */
+    public Command<DiaryModel> parse(String args) throws EmptyArgumentException, DateParseException {
+        ArgumentMultimap multimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO, PREFIX_TRIP);
+        Optional<String> trip = multimap.getValue(PREFIX_TRIP);
+        Optional<String> from = multimap.getValue(PREFIX_FROM);
+        Optional<String> to = multimap.getValue(PREFIX_TO);
+        if (!multimap.getPreamble().isEmpty()) {
+            throw new EmptyArgumentException(TimelineCommand.COMMAND_WORD, TIMELINE_USAGE);
+        }
+        if (trip.isPresent() && from.isEmpty() && to.isEmpty()) {
+            try {
+                return new TimelineCommand(ParserUtil.parseStringArgs(trip.get(), TimelineCommand.COMMAND_WORD));
+            } catch (EmptyArgumentException error) {
+                throw new EmptyArgumentException(TimelineCommand.COMMAND_WORD, TIMELINE_USAGE);
+            }
+        }
+        if (trip.isPresent() || from.isEmpty() || to.isEmpty()) {
+            throw new EmptyArgumentException(TimelineCommand.COMMAND_WORD, TIMELINE_USAGE);
+        }
+        LocalDateTime fromDate = ParserUtil.parseDate(from.get());
+        LocalDateTime toDate = ParserUtil.parseDate(to.get());
+        if (fromDate.isAfter(toDate)) {
+            throw new EmptyArgumentException(TimelineCommand.COMMAND_WORD, TIMELINE_USAGE);
+        }
+        return new TimelineCommand(fromDate, toDate);
+    }
+}
@@ -10,6 +10,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.diaryfeature.logic.commands.UnLockCommand;
 import seedu.address.diaryfeature.logic.parser.exceptions.DetailParseException;
 import seedu.address.diaryfeature.logic.parser.exceptions.EmptyArgumentException;
+import seedu.address.diaryfeature.model.DiaryModel;
 import seedu.address.diaryfeature.model.details.Details;
 import seedu.address.diaryfeature.model.details.Password;
 import seedu.address.diaryfeature.model.details.Username;
@@ -36,7 +37,7 @@ public class UnLockCommandParser {
      * @throws EmptyArgumentException if the user input does not conform the expected format
      * @throws DetailParseException   if the Detail is invalid
      */
-    public Command parse(String args) throws EmptyArgumentException, DetailParseException {
+    public Command<DiaryModel> parse(String args) throws EmptyArgumentException, DetailParseException {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_USERNAME, PREFIX_PASSWORD);
@@ -3,6 +3,7 @@ package seedu.address.diaryfeature.logic.parser;
 import seedu.address.commons.core.index.Index;
 import seedu.address.diaryfeature.logic.commands.UnPrivateCommand;
 import seedu.address.diaryfeature.logic.parser.exceptions.EmptyArgumentException;
+import seedu.address.diaryfeature.model.DiaryModel;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -22,7 +23,7 @@ public class UnPrivateCommandParser {
      * @throws EmptyArgumentException if the user input does not conform the expected format
      */
 
-    public Command parse(String args) throws EmptyArgumentException {
+    public Command<DiaryModel> parse(String args) throws EmptyArgumentException {
         try {
             Index index;
             index = ParserUtil.parseIndex(args);
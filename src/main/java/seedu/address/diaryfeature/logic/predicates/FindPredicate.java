@@ -1,7 +1,9 @@
 package seedu.address.diaryfeature.logic.predicates;
 
+import java.util.Set;
 import java.util.function.Predicate;
 
+import seedu.address.diaryfeature.model.DiaryModel;
 import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
 
 /**
@@ -15,6 +17,14 @@ public class FindPredicate implements Predicate<DiaryEntry> {
         this.userIsLookingFor = input;
     }
 
+    /**
+     * Returns the entries of {@code diaryModel} that this predicate holds for, found with its search index
+     * instead of testing every entry.
+     */
+    public Set<DiaryEntry> findMatches(DiaryModel diaryModel) {
+        return diaryModel.findDiaryEntries(userIsLookingFor);
+    }
+
     private boolean checkStrings(String diary, String userInput) {
         return diary.toLowerCase().contains(userInput.toLowerCase());
     }
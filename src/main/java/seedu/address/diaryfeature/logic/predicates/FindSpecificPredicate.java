@@ -1,7 +1,9 @@
 package seedu.address.diaryfeature.logic.predicates;
 
+import java.util.Set;
 import java.util.function.Predicate;
 
+import seedu.address.diaryfeature.model.DiaryModel;
 import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
 
 /**
@@ -18,6 +20,14 @@ public class FindSpecificPredicate implements Predicate<DiaryEntry> {
         this.userIsLookingFor = input[1];
     }
 
+    /**
+     * Returns the entries of {@code diaryModel} that this predicate holds for, found with the postings of its
+     * field in the search index instead of testing every entry.
+     */
+    public Set<DiaryEntry> findMatches(DiaryModel diaryModel) {
+        return diaryModel.findDiaryEntries(category, userIsLookingFor);
+    }
+
     private boolean checkStrings(String diary, String userInput) {
         return diary.toLowerCase().contains(userInput.toLowerCase());
     }
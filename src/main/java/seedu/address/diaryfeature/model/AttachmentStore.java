@@ -0,0 +1,30 @@
+package seedu.address.diaryfeature.model;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.diaryfeature.model.diaryEntry.Attachment;
+
+/**
+ * Where the files attached to diary entries are kept, apart from the diary book so that saving the diary book
+ * never writes them again.
+ */
+public interface AttachmentStore {
+
+    /**
+     * Copies the file at {@code source} into the store, unless a file with the same content is already there,
+     * and returns it as an attachment.
+     */
+    Attachment store(Path source) throws IOException;
+
+    /**
+     * Returns the file in the store that {@code attachment} is, to be read but not written.
+     */
+    Path getPath(Attachment attachment);
+
+    /**
+     * Copies {@code attachment} into {@code targetDirectory} under the name of the file it was attached from, and
+     * returns where it was copied to. A file already there is not overwritten.
+     */
+    Path export(Attachment attachment, Path targetDirectory) throws IOException;
+}
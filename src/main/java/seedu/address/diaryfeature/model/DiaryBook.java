@@ -1,9 +1,19 @@
 package seedu.address.diaryfeature.model;
 
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
+import seedu.address.diaryfeature.logic.predicates.DiaryParametersEnum;
 import seedu.address.diaryfeature.model.details.Details;
+import seedu.address.diaryfeature.model.details.MemoryCipher;
+import seedu.address.diaryfeature.model.details.StoredDetails;
+import seedu.address.diaryfeature.model.diaryEntry.Attachment;
 import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
 
 /**
@@ -13,7 +23,9 @@ import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
 public class DiaryBook {
 
     private final DiaryEntryList entries;
-    private Optional<Details> details;
+    private final List<Runnable> unlockActions = new ArrayList<>();
+    private Optional<StoredDetails> details;
+    private MemoryCipher memoryCipher;
 
     /**
      * Construct a new DiaryBook
@@ -23,6 +35,25 @@ public class DiaryBook {
         details = Optional.empty();
     }
 
+    /**
+     * Creates a DiaryBook using the entries and details in {@code toBeCopied}.
+     * Later changes to the entries of {@code toBeCopied} do not affect the new DiaryBook.
+     */
+    public DiaryBook(DiaryBook toBeCopied) {
+        this();
+        resetData(toBeCopied);
+    }
+
+    /**
+     * Replaces the entries and details of this DiaryBook with copies of those in {@code newData}.
+     */
+    public void resetData(DiaryBook newData) {
+        requireNonNull(newData);
+        entries.setDiaryEntries(newData.entries.copyDiaryEntries());
+        details = newData.details;
+        memoryCipher = newData.memoryCipher;
+    }
+
     /**
      * Load sample entries
      * @param myEntries
@@ -34,12 +65,13 @@ public class DiaryBook {
     }
 
     /**
-     *Sets a new set of details
+     *Sets a new set of details, keeping only a verifier of the password, and encrypts memories with it from now on
      * @param attempt
      */
     public void setDetails(Details attempt) {
         if (details.isEmpty()) {
-            details = Optional.of(attempt);
+            details = Optional.of(StoredDetails.of(attempt));
+            memoryCipher = MemoryCipher.withNewSalt(attempt.getPassword());
         }
 
     }
@@ -56,7 +88,7 @@ public class DiaryBook {
      *
      * @param input
      */
-    public void setinnerDetails(Optional<Details> input) {
+    public void setinnerDetails(Optional<StoredDetails> input) {
         if (input.isEmpty()) {
             details = Optional.empty();
         } else {
@@ -87,10 +119,64 @@ public class DiaryBook {
         return entries.addDiaryEntry(p);
     }
 
-    public Optional<Details> getDetails() {
+    public Optional<StoredDetails> getDetails() {
         return details;
     }
 
+    /**
+     * Returns the cipher for the memories, which is locked until the diary is unlocked if it was read from storage.
+     *
+     * @return the cipher, or nothing if there are no details
+     */
+    public Optional<MemoryCipher> getMemoryCipher() {
+        return details.isEmpty() ? Optional.empty() : Optional.ofNullable(memoryCipher);
+    }
+
+    /**
+     * Sets the cipher the stored memories were encrypted with, so that saving them again does not encrypt them again
+     * @param cipher
+     */
+    public void setMemoryCipher(MemoryCipher cipher) {
+        memoryCipher = cipher;
+    }
+
+    /**
+     * Returns true if the memories are encrypted and cannot be read or added to until the diary is unlocked
+     * @return boolean
+     */
+    public boolean isLocked() {
+        return getMemoryCipher().map(MemoryCipher::isLocked).orElse(false);
+    }
+
+    /**
+     * Unlocks the memories if {@code input} matches the details, deriving their key from its password
+     * @param input
+     * @return true if the details match
+     */
+    public boolean unlock(Details input) {
+        if (!checkDetails(input)) {
+            return false;
+        }
+        if (isLocked()) {
+            memoryCipher.unlock(input.getPassword());
+            unlockActions.forEach(Runnable::run);
+            unlockActions.clear();
+        }
+        return true;
+    }
+
+    /**
+     * Runs {@code action} once the memories have been unlocked, or at once if they are not locked
+     * @param action
+     */
+    public void whenUnlocked(Runnable action) {
+        if (isLocked()) {
+            unlockActions.add(action);
+        } else {
+            action.run();
+        }
+    }
+
 
     /**
      * Removes {@code key} from this {@code AddressBook}.
@@ -109,6 +195,10 @@ public class DiaryBook {
         entries.setDiaryEntryUnPrivate(input);
     }
 
+    public boolean addAttachment(DiaryEntry input, Attachment attachment) {
+        return entries.addAttachment(input, attachment);
+    }
+
 
     public String getEntriesAsString() {
         return entries.getEntriesAsString();
@@ -129,6 +219,34 @@ public class DiaryBook {
         return entries.contains(otherEntry);
     }
 
+    public Set<DiaryEntry> findDiaryEntries(String query) {
+        return entries.findDiaryEntries(query);
+    }
+
+    public Set<DiaryEntry> findDiaryEntries(DiaryParametersEnum field, String query) {
+        return entries.findDiaryEntries(field, query);
+    }
+
+    public List<DiaryEntry> searchDiaryEntries(String query, int limit) {
+        return entries.searchDiaryEntries(query, limit);
+    }
+
+    public void setMemoryPostings(MemoryPostings postings) {
+        entries.setMemoryPostings(postings);
+    }
+
+    public List<DiaryEntry> getDiaryEntriesBetween(LocalDateTime from, LocalDateTime to) {
+        return entries.getDiaryEntriesBetween(from, to);
+    }
+
+    public Optional<LocalDateTime> getEarliestDate() {
+        return entries.getEarliestDate();
+    }
+
+    public Optional<LocalDateTime> getLatestDate() {
+        return entries.getLatestDate();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
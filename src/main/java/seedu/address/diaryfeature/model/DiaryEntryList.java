@@ -1,20 +1,49 @@
 package seedu.address.diaryfeature.model;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.diaryfeature.logic.predicates.DiaryParametersEnum;
+import seedu.address.diaryfeature.model.diaryEntry.Attachment;
 import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
 
 /**
- *
+ * The list of diary entries, with an index of their words kept up to date with every change.
+ * <br>
+ * The position of every entry is also kept by its id, and the entries are counted by their title and date,
+ * so finding an entry or checking for one does not go through the list comparing entries.
+ * A delete does not renumber the entries after it. They are renumbered once, when the position of one of them is
+ * next needed, so that deleting several entries only renumbers the rest of the list once.
+ * The entries are also sorted by the minute they are dated, so the entries between two dates are found in order.
  */
 
 public class DiaryEntryList {
 
+    private static final Logger logger = LogsCenter.getLogger(DiaryEntryList.class);
+    private static final int NONE_STALE = Integer.MAX_VALUE;
+
     private final ObservableList<DiaryEntry> entries = FXCollections.observableArrayList();
     private final ObservableList<DiaryEntry> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(entries);
+    private final DiaryIndex index = new DiaryIndex();
+    private final Map<Long, Integer> positionsById = new HashMap<>();
+    private final Map<DiaryEntry, Integer> equalEntryCounts = new HashMap<>();
+    private final TreeMap<LocalDateTime, List<DiaryEntry>> entriesByMinute = new TreeMap<>();
+    /** The positions kept in {@code positionsById} from this one on may be out of date. */
+    private int firstStalePosition = NONE_STALE;
 
     /**
      * Add a new diary entry
@@ -23,6 +52,7 @@ public class DiaryEntryList {
      */
     public DiaryEntry addDiaryEntry(DiaryEntry entry) {
         entries.add(entry);
+        track(entry, entries.size() - 1);
         return entry;
     }
 
@@ -32,11 +62,22 @@ public class DiaryEntryList {
      * @return DiaryEntry
      */
     public DiaryEntry deleteDiaryEntry(DiaryEntry input) {
-        if (entries.remove(input)) {
+        int position = positionOf(input);
+        if (position != -1) {
+            DiaryEntry deleted = entries.remove(position);
+            positionsById.remove(deleted.getId());
+            equalEntryCounts.computeIfPresent(deleted, (unused, count) -> count == 1 ? null : count - 1);
+            entriesByMinute.computeIfPresent(toMinute(deleted.getDate()), (unused, atMinute) -> {
+                atMinute.removeIf(entry -> entry == deleted);
+                return atMinute.isEmpty() ? null : atMinute;
+            });
+            index.remove(deleted);
+            // the entries after the deleted one moved, and are renumbered when one of them is looked for
+            firstStalePosition = Math.min(firstStalePosition, position);
             return input.copy();
         }
         assert input != null;
-        System.out.println("Entry should not be null and should exist in the list");
+        logger.warning("Tried to delete a diary entry that is not in the list: " + input.getTitle());
         return null;
     }
     /**
@@ -44,9 +85,10 @@ public class DiaryEntryList {
      * @param output
      */
     public void setDiaryEntryPrivate(DiaryEntry output) {
-        int change = entries.indexOf(output);
+        int change = positionOf(output);
         DiaryEntry input = entries.get(change);
         input.setPrivate();
+        index.update(input);
         entries.set(change, input);
     }
 
@@ -55,12 +97,65 @@ public class DiaryEntryList {
      * @param output
      */
     public void setDiaryEntryUnPrivate(DiaryEntry output) {
-        int change = entries.indexOf(output);
+        int change = positionOf(output);
         DiaryEntry input = entries.get(change);
         input.unPrivate();
+        index.update(input);
         entries.set(change, input);
     }
 
+    /**
+     * Attach {@code attachment} to the indicated diary, unless a file with the same content is already attached
+     * @param output
+     * @param attachment
+     * @return true if it was attached
+     */
+    public boolean addAttachment(DiaryEntry output, Attachment attachment) {
+        int change = positionOf(output);
+        DiaryEntry input = entries.get(change);
+        if (!input.addAttachment(attachment)) {
+            return false;
+        }
+        entries.set(change, input);
+        return true;
+    }
+
+    /**
+     * Keeps the position, count and words of {@code entry}, which is now at {@code position}.
+     */
+    private void track(DiaryEntry entry, int position) {
+        positionsById.put(entry.getId(), position);
+        equalEntryCounts.merge(entry, 1, Integer::sum);
+        entriesByMinute.computeIfAbsent(toMinute(entry.getDate()), unused -> new ArrayList<>()).add(entry);
+        index.add(entry);
+    }
+
+    /**
+     * Returns the position of {@code entry}, or of an entry with the same id, or -1 if there is none.
+     * An entry that is not a copy of one in the list is looked for by its title and date.
+     */
+    private int positionOf(DiaryEntry entry) {
+        Integer position = positionsById.get(entry.getId());
+        if (position != null && position >= firstStalePosition) {
+            renumberStalePositions();
+            position = positionsById.get(entry.getId());
+        }
+        if (position != null) {
+            return position;
+        }
+        return equalEntryCounts.containsKey(entry) ? entries.indexOf(entry) : -1;
+    }
+
+    /**
+     * Updates the positions of the entries that moved since the last time positions were renumbered.
+     */
+    private void renumberStalePositions() {
+        for (int i = firstStalePosition; i < entries.size(); i++) {
+            positionsById.put(entries.get(i).getId(), i);
+        }
+        firstStalePosition = NONE_STALE;
+    }
+
     /**
      * Get the size of the diary list
      * @return int
@@ -107,6 +202,89 @@ public class DiaryEntryList {
         Arrays.stream(myEntries).forEach(x -> addDiaryEntry(x));
     }
 
+    /**
+     * Replaces the contents of this list with {@code newEntries}.
+     */
+    public void setDiaryEntries(List<DiaryEntry> newEntries) {
+        entries.setAll(newEntries);
+        positionsById.clear();
+        equalEntryCounts.clear();
+        entriesByMinute.clear();
+        index.clear();
+        firstStalePosition = NONE_STALE;
+        for (int i = 0; i < entries.size(); i++) {
+            track(entries.get(i), i);
+        }
+    }
+
+    /**
+     * Returns the entries with a field containing {@code query}, ignoring case.
+     */
+    public Set<DiaryEntry> findDiaryEntries(String query) {
+        return index.find(query);
+    }
+
+    /**
+     * Returns the entries whose {@code field} contains {@code query}, ignoring case.
+     */
+    public Set<DiaryEntry> findDiaryEntries(DiaryParametersEnum field, String query) {
+        return index.find(field, query);
+    }
+
+    /**
+     * Returns at most {@code limit} entries ranked by how well their title, place and memory match
+     * {@code query}, the best match first.
+     */
+    public List<DiaryEntry> searchDiaryEntries(String query, int limit) {
+        return index.search(query, limit);
+    }
+
+    /**
+     * Searches the stored memories that have not been read yet with {@code postings}, instead of reading them.
+     */
+    public void setMemoryPostings(MemoryPostings postings) {
+        index.setMemoryPostings(postings);
+    }
+
+    /**
+     * Returns the entries dated from {@code from} to {@code to}, both to the minute and inclusive, earliest first.
+     * Entries dated the same minute are in the order they were added.
+     */
+    public List<DiaryEntry> getDiaryEntriesBetween(LocalDateTime from, LocalDateTime to) {
+        List<DiaryEntry> between = new ArrayList<>();
+        LocalDateTime fromMinute = toMinute(from);
+        LocalDateTime toMinute = toMinute(to);
+        if (!fromMinute.isAfter(toMinute)) {
+            entriesByMinute.subMap(fromMinute, true, toMinute, true).values().forEach(between::addAll);
+        }
+        return between;
+    }
+
+    /**
+     * Returns the date of the earliest entry, if there are entries.
+     */
+    public Optional<LocalDateTime> getEarliestDate() {
+        return Optional.ofNullable(entriesByMinute.firstEntry()).map(atMinute -> atMinute.getValue().get(0).getDate());
+    }
+
+    /**
+     * Returns the date of the latest entry, if there are entries.
+     */
+    public Optional<LocalDateTime> getLatestDate() {
+        return Optional.ofNullable(entriesByMinute.lastEntry()).map(atMinute -> atMinute.getValue().get(0).getDate());
+    }
+
+    private static LocalDateTime toMinute(LocalDateTime date) {
+        return date.truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    /**
+     * Returns a copy of every entry, so that later changes to the entries do not affect the copies.
+     */
+    public List<DiaryEntry> copyDiaryEntries() {
+        return entries.stream().map(DiaryEntry::copy).collect(Collectors.toList());
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -115,6 +293,6 @@ public class DiaryEntryList {
     }
 
     public boolean contains(DiaryEntry someEntry) {
-        return entries.contains(someEntry);
+        return equalEntryCounts.containsKey(someEntry);
     }
 }
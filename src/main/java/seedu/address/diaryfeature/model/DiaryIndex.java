@@ -0,0 +1,515 @@
+package seedu.address.diaryfeature.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.diaryfeature.logic.predicates.DiaryParametersEnum;
+import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
+import seedu.address.diaryfeature.model.diaryEntry.MemoryBody;
+
+/**
+ * Inverted index of the words in every field of the diary entries, for finding entries without going through
+ * the text of every entry.
+ * <br>
+ * Every field has its own postings, from each word in it to the entries with that word in that field and how
+ * many times it is there, so that a search can be limited to one field. A word is a run of letters and digits,
+ * in lower case.
+ * <br>
+ * A search finds entries whose field contains the query, ignoring case, just as going through every entry would.
+ * Any such field holds a word containing the longest word of the query, so the entries posted under those words
+ * are the only candidates, and only their text is checked for the whole query.
+ * <br>
+ * A ranked search scores entries with BM25 over their title, place and memory, and tolerates typos: the words of
+ * the query are matched to words in the index within a few edits, found through the trigrams they share.
+ * The index is updated by the entry list with every entry added, removed or changed.
+ * <br>
+ * Stored memories are only read, decrypted and indexed when memories are first searched, so that loading a diary
+ * does not read every memory in it. Stored memories that have {@link MemoryPostings} are not read at all: their
+ * words are looked up in the postings, and only the memories a find has to check are read. The words of the
+ * postings stay known to typo tolerance until the index is cleared, even once no entry has them.
+ */
+public class DiaryIndex {
+
+    /** Weight of the BM25 score of every field that ranked searches look in. */
+    public static final Map<DiaryParametersEnum, Double> RANKED_FIELD_WEIGHTS = Collections.unmodifiableMap(
+            new EnumMap<>(Map.of(DiaryParametersEnum.TITLE, 2.0, DiaryParametersEnum.PLACE, 1.5,
+                    DiaryParametersEnum.MEMORY, 1.0)));
+
+    private static final DiaryParametersEnum[] FIELDS = DiaryParametersEnum.values();
+
+    // usual BM25 constants, for how fast repeated words stop counting and how much long fields are penalised
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final char TRIGRAM_PADDING = '$';
+
+    private final Map<DiaryParametersEnum, TreeMap<String, Map<DiaryEntry, Integer>>> postings =
+            new EnumMap<>(DiaryParametersEnum.class);
+    private final Map<DiaryEntry, IndexedEntry> indexedEntries = new IdentityHashMap<>();
+    private final Set<DiaryEntry> unindexedMemories = newEntrySet();
+    private final Map<MemoryBody, DiaryEntry> postedEntries = new IdentityHashMap<>();
+    private MemoryPostings memoryPostings;
+    private final long[] totalWordCounts = new long[FIELDS.length];
+
+    // the words of the ranked fields, with the number of ranked fields they are in, and the words of every trigram
+    private final Map<String, Integer> rankedWords = new HashMap<>();
+    private final Map<String, Set<String>> trigramWords = new HashMap<>();
+
+    /**
+     * Creates an empty index.
+     */
+    public DiaryIndex() {
+        for (DiaryParametersEnum field : FIELDS) {
+            postings.put(field, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Indexes the words in every field of {@code entry}.
+     */
+    public void add(DiaryEntry entry) {
+        requireNonNull(entry);
+        assert !indexedEntries.containsKey(entry) : "An entry can only be indexed once";
+        IndexedEntry indexedEntry = new IndexedEntry();
+        indexedEntries.put(entry, indexedEntry);
+        for (DiaryParametersEnum field : FIELDS) {
+            if (field == DiaryParametersEnum.MEMORY && entry.getMemory().isStored()) {
+                unindexedMemories.add(entry);
+            } else {
+                addField(entry, indexedEntry, field);
+            }
+        }
+    }
+
+    /**
+     * Indexes the words in {@code field} of {@code entry}.
+     */
+    private void addField(DiaryEntry entry, IndexedEntry indexedEntry, DiaryParametersEnum field) {
+        String text = getText(entry, field).toLowerCase();
+        List<String> words = tokenize(text);
+        indexedEntry.texts[field.ordinal()] = text;
+        indexedEntry.wordCounts[field.ordinal()] = words.size();
+        totalWordCounts[field.ordinal()] += words.size();
+        for (String word : words) {
+            postings.get(field).computeIfAbsent(word, unused -> {
+                addWord(field, word);
+                return new IdentityHashMap<>();
+            }).merge(entry, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Indexes the stored memories that were left out when their entries were added, reading them.
+     * Memories that are locked are left out until the diary is unlocked.
+     */
+    private void addUnindexedMemories() {
+        Iterator<DiaryEntry> unindexed = unindexedMemories.iterator();
+        while (unindexed.hasNext()) {
+            DiaryEntry entry = unindexed.next();
+            if (!entry.getMemory().isLocked()) {
+                addField(entry, indexedEntries.get(entry), DiaryParametersEnum.MEMORY);
+                unindexed.remove();
+            }
+        }
+    }
+
+    /**
+     * Searches the stored memories that have not been read yet with {@code postings} instead of reading them.
+     * Memories without postings, and those of private entries, are still read when memories are first searched.
+     */
+    public void setMemoryPostings(MemoryPostings postings) {
+        requireNonNull(postings);
+        assert memoryPostings == null : "Memory postings can only be set once until the index is cleared";
+        memoryPostings = postings;
+        for (String word : postings.getWords()) {
+            addWord(DiaryParametersEnum.MEMORY, word);
+        }
+        Iterator<DiaryEntry> unindexed = unindexedMemories.iterator();
+        while (unindexed.hasNext()) {
+            DiaryEntry entry = unindexed.next();
+            Optional<MemoryBody> body = entry.getMemory().getBody();
+            int wordCount = body.map(postings::getWordCount).orElse(-1);
+            if (wordCount < 0 || entry.getMemory().getPrivacy() || postedEntries.containsKey(body.get())) {
+                continue;
+            }
+            IndexedEntry indexedEntry = indexedEntries.get(entry);
+            indexedEntry.postedMemory = body.get();
+            indexedEntry.wordCounts[DiaryParametersEnum.MEMORY.ordinal()] = wordCount;
+            totalWordCounts[DiaryParametersEnum.MEMORY.ordinal()] += wordCount;
+            postedEntries.put(body.get(), entry);
+            unindexed.remove();
+        }
+    }
+
+    /**
+     * Removes {@code entry} from the index, using the words it had when it was indexed.
+     */
+    public void remove(DiaryEntry entry) {
+        IndexedEntry indexedEntry = indexedEntries.remove(entry);
+        assert indexedEntry != null : "An entry has to be indexed before it is removed";
+        unindexedMemories.remove(entry);
+        if (indexedEntry.postedMemory != null) {
+            postedEntries.remove(indexedEntry.postedMemory);
+            totalWordCounts[DiaryParametersEnum.MEMORY.ordinal()] -=
+                    indexedEntry.wordCounts[DiaryParametersEnum.MEMORY.ordinal()];
+        }
+        for (DiaryParametersEnum field : FIELDS) {
+            if (indexedEntry.texts[field.ordinal()] == null) {
+                continue;
+            }
+            totalWordCounts[field.ordinal()] -= indexedEntry.wordCounts[field.ordinal()];
+            for (String word : tokenize(indexedEntry.texts[field.ordinal()])) {
+                postings.get(field).computeIfPresent(word, (unused, counts) -> {
+                    counts.remove(entry);
+                    if (!counts.isEmpty()) {
+                        return counts;
+                    }
+                    removeWord(field, word);
+                    return null;
+                });
+            }
+        }
+    }
+
+    /**
+     * Indexes {@code entry} again after one of its fields changed, such as its memory being hidden.
+     */
+    public void update(DiaryEntry entry) {
+        remove(entry);
+        add(entry);
+    }
+
+    /**
+     * Removes every entry from the index.
+     */
+    public void clear() {
+        indexedEntries.clear();
+        unindexedMemories.clear();
+        postedEntries.clear();
+        memoryPostings = null;
+        postings.values().forEach(Map::clear);
+        Arrays.fill(totalWordCounts, 0);
+        rankedWords.clear();
+        trigramWords.clear();
+    }
+
+    /**
+     * Returns the entries with a field containing {@code query}, ignoring case.
+     */
+    public Set<DiaryEntry> find(String query) {
+        requireNonNull(query);
+        Set<DiaryEntry> matches = newEntrySet();
+        for (DiaryParametersEnum field : FIELDS) {
+            matches.addAll(find(field, query));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the entries whose {@code field} contains {@code query}, ignoring case.
+     */
+    public Set<DiaryEntry> find(DiaryParametersEnum field, String query) {
+        requireNonNull(field);
+        requireNonNull(query);
+        if (field == DiaryParametersEnum.MEMORY) {
+            addUnindexedMemories();
+        }
+        String lowerCaseQuery = query.toLowerCase();
+        Set<DiaryEntry> matches = newEntrySet();
+        for (DiaryEntry candidate : getCandidates(field, lowerCaseQuery)) {
+            if (getIndexedText(candidate, field).contains(lowerCaseQuery)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns at most {@code limit} entries with words like those of {@code query} in their title, place or
+     * memory, the best match first.
+     * <br>
+     * Every word of the query adds the BM25 score of the word in the index most like it that an entry has,
+     * lowered by the number of edits between the two words. Ties are broken by title.
+     */
+    public List<DiaryEntry> search(String query, int limit) {
+        requireNonNull(query);
+        addUnindexedMemories();
+        Map<DiaryEntry, Double> scores = new IdentityHashMap<>();
+        for (String queryWord : new LinkedHashSet<>(tokenize(query.toLowerCase()))) {
+            Map<DiaryEntry, Double> queryWordScores = new IdentityHashMap<>();
+            findSimilarWords(queryWord).forEach((word, edits) -> {
+                for (Map.Entry<DiaryEntry, Double> score : scoreWord(word).entrySet()) {
+                    queryWordScores.merge(score.getKey(), score.getValue() / (1 + edits), Math::max);
+                }
+            });
+            queryWordScores.forEach((entry, score) -> scores.merge(entry, score, Double::sum));
+        }
+
+        Comparator<Map.Entry<DiaryEntry, Double>> byScore = Map.Entry.<DiaryEntry, Double>comparingByValue()
+                .thenComparing(score -> score.getKey().getTitle().toString(), Comparator.reverseOrder());
+        PriorityQueue<Map.Entry<DiaryEntry, Double>> best = new PriorityQueue<>(byScore);
+        for (Map.Entry<DiaryEntry, Double> score : scores.entrySet()) {
+            best.add(score);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<DiaryEntry> results = new ArrayList<>();
+        while (!best.isEmpty()) {
+            results.add(best.poll().getKey());
+        }
+        Collections.reverse(results);
+        return results;
+    }
+
+    /**
+     * Returns the BM25 score of {@code word} in the ranked fields of every entry that has it, with the score of
+     * each field weighted.
+     */
+    private Map<DiaryEntry, Double> scoreWord(String word) {
+        Map<DiaryEntry, Double> scores = new IdentityHashMap<>();
+        int entryCount = indexedEntries.size();
+        RANKED_FIELD_WEIGHTS.forEach((field, weight) -> {
+            Map<DiaryEntry, Integer> counts = getCounts(field, word);
+            if (counts.isEmpty()) {
+                return;
+            }
+            double idf = Math.log(1 + (entryCount - counts.size() + 0.5) / (counts.size() + 0.5));
+            double averageWordCount = (double) totalWordCounts[field.ordinal()] / entryCount;
+            counts.forEach((entry, count) -> {
+                double lengthRatio = indexedEntries.get(entry).wordCounts[field.ordinal()] / averageWordCount;
+                double score = idf * count * (K1 + 1) / (count + K1 * (1 - B + B * lengthRatio));
+                scores.merge(entry, weight * score, Double::sum);
+            });
+        });
+        return scores;
+    }
+
+    /**
+     * Returns every entry with {@code word} in {@code field} and how many times it is there, from the memory
+     * postings as well for memories.
+     */
+    private Map<DiaryEntry, Integer> getCounts(DiaryParametersEnum field, String word) {
+        Map<DiaryEntry, Integer> counts = postings.get(field).getOrDefault(word, Map.of());
+        if (field != DiaryParametersEnum.MEMORY || memoryPostings == null) {
+            return counts;
+        }
+        Map<DiaryEntry, Integer> allCounts = new IdentityHashMap<>(counts);
+        memoryPostings.getPostings(word).forEach((body, count) -> {
+            DiaryEntry entry = postedEntries.get(body);
+            if (entry != null) {
+                allCounts.put(entry, count);
+            }
+        });
+        return allCounts;
+    }
+
+    /**
+     * Returns the words of the ranked fields within a few edits of {@code queryWord}, and the number of edits.
+     * Short words have to match exactly, and longer words may be further off.
+     */
+    private Map<String, Integer> findSimilarWords(String queryWord) {
+        Map<String, Integer> similarWords = new HashMap<>();
+        if (rankedWords.containsKey(queryWord)) {
+            similarWords.put(queryWord, 0);
+        }
+        int maximumEdits = queryWord.length() <= 3 ? 0 : queryWord.length() <= 7 ? 1 : 2;
+        if (maximumEdits == 0) {
+            return similarWords;
+        }
+
+        // every edit changes at most three trigrams, so similar words share all but a few
+        Set<String> queryTrigrams = trigramsOf(queryWord);
+        Map<String, Integer> sharedTrigramCounts = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            for (String word : trigramWords.getOrDefault(trigram, Set.of())) {
+                sharedTrigramCounts.merge(word, 1, Integer::sum);
+            }
+        }
+        sharedTrigramCounts.forEach((word, sharedCount) -> {
+            if (sharedCount < queryTrigrams.size() - 3 * maximumEdits
+                    || Math.abs(word.length() - queryWord.length()) > maximumEdits || word.equals(queryWord)) {
+                return;
+            }
+            int edits = countEdits(queryWord, word, maximumEdits);
+            if (edits <= maximumEdits) {
+                similarWords.put(word, edits);
+            }
+        });
+        return similarWords;
+    }
+
+    /**
+     * Returns the number of single character insertions, deletions and substitutions that turn {@code first}
+     * into {@code second}, or any number above {@code maximumEdits} once it is clear that more are needed.
+     */
+    static int countEdits(String first, String second, int maximumEdits) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > maximumEdits) {
+                return maximumEdits + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    /**
+     * Counts {@code word} as a word of {@code field}, which it was not before.
+     */
+    private void addWord(DiaryParametersEnum field, String word) {
+        if (RANKED_FIELD_WEIGHTS.containsKey(field) && rankedWords.merge(word, 1, Integer::sum) == 1) {
+            for (String trigram : trigramsOf(word)) {
+                trigramWords.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+            }
+        }
+    }
+
+    /**
+     * Stops counting {@code word} as a word of {@code field}, as no entry has it there anymore.
+     */
+    private void removeWord(DiaryParametersEnum field, String word) {
+        if (!RANKED_FIELD_WEIGHTS.containsKey(field)
+                || rankedWords.computeIfPresent(word, (unused, count) -> count == 1 ? null : count - 1) != null) {
+            return;
+        }
+        for (String trigram : trigramsOf(word)) {
+            trigramWords.computeIfPresent(trigram, (unused, words) -> {
+                words.remove(word);
+                return words.isEmpty() ? null : words;
+            });
+        }
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code word}, padded so that its first and last letters are in two of them.
+     */
+    private static Set<String> trigramsOf(String word) {
+        String padded = TRIGRAM_PADDING + word + TRIGRAM_PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns the entries posted under the words of {@code field} containing the longest word of {@code query},
+     * or every entry if the query has no words.
+     */
+    private Collection<DiaryEntry> getCandidates(DiaryParametersEnum field, String query) {
+        String longestWord = "";
+        for (String word : tokenize(query)) {
+            if (word.length() > longestWord.length()) {
+                longestWord = word;
+            }
+        }
+        if (longestWord.isEmpty()) {
+            return indexedEntries.keySet();
+        }
+
+        Set<DiaryEntry> candidates = newEntrySet();
+        for (Map.Entry<String, Map<DiaryEntry, Integer>> posting : postings.get(field).entrySet()) {
+            if (posting.getKey().contains(longestWord)) {
+                candidates.addAll(posting.getValue().keySet());
+            }
+        }
+        if (field == DiaryParametersEnum.MEMORY && memoryPostings != null) {
+            for (String word : memoryPostings.getWords()) {
+                if (word.contains(longestWord)) {
+                    candidates.addAll(getCounts(field, word).keySet());
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the lower-cased text of {@code field} in {@code entry}, reading it if the field was indexed from
+     * the memory postings.
+     */
+    private String getIndexedText(DiaryEntry entry, DiaryParametersEnum field) {
+        String text = indexedEntries.get(entry).texts[field.ordinal()];
+        return text != null ? text : getText(entry, field).toLowerCase();
+    }
+
+    private static Set<DiaryEntry> newEntrySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Returns the text of {@code field} in {@code entry} as it is shown, so hidden memories are not searched.
+     */
+    private static String getText(DiaryEntry entry, DiaryParametersEnum field) {
+        switch (field) {
+        case TITLE:
+            return entry.getTitle().toString();
+        case DATE:
+            return entry.getDateAsStringtoStore();
+        case PLACE:
+            return entry.getPlace().toString();
+        case MEMORY:
+            return entry.getMemory().toString();
+        default:
+            throw new AssertionError("Unknown field " + field);
+        }
+    }
+
+    /**
+     * Returns the words of {@code text}, which are its runs of letters and digits.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordCharacter && start == -1) {
+                start = i;
+            } else if (!isWordCharacter && start != -1) {
+                words.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * The lower-cased text of every field of an indexed entry and the number of words in it, and where its memory is
+ * stored if its words are in the memory postings instead.
+     */
+    private static class IndexedEntry {
+        private final String[] texts = new String[FIELDS.length];
+        private final int[] wordCounts = new int[FIELDS.length];
+        private MemoryBody postedMemory;
+    }
+}
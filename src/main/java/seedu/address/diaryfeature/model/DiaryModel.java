@@ -2,19 +2,34 @@ package seedu.address.diaryfeature.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.text.SimpleDateFormat;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import javafx.scene.chart.XYChart;
+import seedu.address.calendar.model.event.Event;
+import seedu.address.calendar.model.util.TripFinder;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.util.MonthData;
-import seedu.address.commons.util.StatisticsUtil;
+import seedu.address.commons.util.MonthHistogram;
+import seedu.address.diaryfeature.logic.predicates.DiaryParametersEnum;
 import seedu.address.diaryfeature.model.details.Details;
+import seedu.address.diaryfeature.model.details.StoredDetails;
+import seedu.address.diaryfeature.model.diaryEntry.Attachment;
 import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
 
 /**
@@ -22,11 +37,33 @@ import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
  */
 public class DiaryModel {
     public static final Predicate<DiaryEntry> PREDICATE_SHOW_ALL_EVENTS = unused -> true;
+    public static final TripFinder NO_TRIPS = (name, startDate, endDate) -> List.of();
+    public static final String MESSAGE_NO_ATTACHMENT_STORE = "Files cannot be attached to this diary";
+    public static final AttachmentStore NO_ATTACHMENTS = new AttachmentStore() {
+        @Override
+        public Attachment store(Path source) throws IOException {
+            throw new IOException(MESSAGE_NO_ATTACHMENT_STORE);
+        }
+
+        @Override
+        public Path getPath(Attachment attachment) {
+            throw new IllegalStateException(MESSAGE_NO_ATTACHMENT_STORE);
+        }
+
+        @Override
+        public Path export(Attachment attachment, Path targetDirectory) throws IOException {
+            throw new IOException(MESSAGE_NO_ATTACHMENT_STORE);
+        }
+    };
     private static final Logger logger = LogsCenter.getLogger(DiaryModel.class);
 
 
     private final DiaryBook diaryBook;
     private final FilteredList<DiaryEntry> filteredDiaryBook;
+    private final SortedList<DiaryEntry> sortedDiaryBook;
+    private final MonthHistogram<DiaryEntry> monthHistogram;
+    private final Supplier<TripFinder> tripFinder;
+    private final AttachmentStore attachmentStore;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -35,12 +72,38 @@ public class DiaryModel {
         logger.fine("Initializing empty diarybook");
         this.diaryBook = new DiaryBook();
         filteredDiaryBook = new FilteredList<>(this.diaryBook.getDiaryEntryList());
+        sortedDiaryBook = new SortedList<>(filteredDiaryBook);
+        monthHistogram = new MonthHistogram<>(filteredDiaryBook, DiaryModel::toPackedMonth);
+        tripFinder = () -> NO_TRIPS;
+        attachmentStore = NO_ATTACHMENTS;
     }
 
     public DiaryModel(DiaryBook input) {
+        this(input, () -> NO_TRIPS);
+    }
+
+    /**
+     * Initializes a DiaryModel with the given diary book, which looks up trips with {@code tripFinder}.
+     * The trip finder is only asked for when trips are looked up.
+     */
+    public DiaryModel(DiaryBook input, Supplier<TripFinder> tripFinder) {
+        this(input, tripFinder, NO_ATTACHMENTS);
+    }
+
+    /**
+     * Initializes a DiaryModel with the given diary book, which looks up trips with {@code tripFinder} and keeps
+     * the files attached to its entries in {@code attachmentStore}.
+     */
+    public DiaryModel(DiaryBook input, Supplier<TripFinder> tripFinder, AttachmentStore attachmentStore) {
+        requireNonNull(tripFinder);
+        requireNonNull(attachmentStore);
         logger.fine("Initializing diarybook from stored var");
         this.diaryBook = input;
+        this.tripFinder = tripFinder;
+        this.attachmentStore = attachmentStore;
         filteredDiaryBook = new FilteredList<>(input.getDiaryEntryList());
+        sortedDiaryBook = new SortedList<>(filteredDiaryBook);
+        monthHistogram = new MonthHistogram<>(filteredDiaryBook, DiaryModel::toPackedMonth);
     }
 
     /**
@@ -65,6 +128,31 @@ public class DiaryModel {
         diaryBook.setDetails(attempt);
     }
 
+    /**
+     * Stores the file at {@code source} and attaches it to {@code entry}.
+     *
+     * @return the attachment, or nothing if a file with the same content was already attached to {@code entry}
+     */
+    public Optional<Attachment> attach(DiaryEntry entry, Path source) throws IOException {
+        Attachment attachment = attachmentStore.store(source);
+        return diaryBook.addAttachment(entry, attachment) ? Optional.of(attachment) : Optional.empty();
+    }
+
+    /**
+     * Copies every file attached to {@code entry} into {@code targetDirectory}, and returns where they were copied.
+     */
+    public List<Path> exportAttachments(DiaryEntry entry, Path targetDirectory) throws IOException {
+        List<Path> exported = new ArrayList<>();
+        for (Attachment attachment : entry.getAttachments()) {
+            exported.add(attachmentStore.export(attachment, targetDirectory));
+        }
+        return exported;
+    }
+
+    public AttachmentStore getAttachmentStore() {
+        return attachmentStore;
+    }
+
     /**
      * @param diaryEntry
      * @return
@@ -79,7 +167,86 @@ public class DiaryModel {
         return diaryBook.contains(otherEntry);
     }
 
-    public Optional<Details> getDetails() {
+    /**
+     * Returns the entries with a field containing {@code query}, ignoring case, found with the search index.
+     */
+    public Set<DiaryEntry> findDiaryEntries(String query) {
+        return diaryBook.findDiaryEntries(query);
+    }
+
+    /**
+     * Returns the entries whose {@code field} contains {@code query}, ignoring case, found with the search index.
+     */
+    public Set<DiaryEntry> findDiaryEntries(DiaryParametersEnum field, String query) {
+        return diaryBook.findDiaryEntries(field, query);
+    }
+
+    /**
+     * Returns at most {@code limit} entries ranked by how well they match {@code query}, the best match first,
+     * found with the search index.
+     */
+    public List<DiaryEntry> searchDiaryEntries(String query, int limit) {
+        return diaryBook.searchDiaryEntries(query, limit);
+    }
+
+    /**
+     * Returns the entries dated from {@code from} to {@code to}, both inclusive, earliest first, found with the
+     * date index.
+     */
+    public List<DiaryEntry> getDiaryEntriesBetween(LocalDateTime from, LocalDateTime to) {
+        return diaryBook.getDiaryEntriesBetween(from, to);
+    }
+
+    /**
+     * Returns the trips in the calendar named {@code tripName}, ignoring case, that overlap the dates of the entries.
+     */
+    public List<Event> findTrips(String tripName) {
+        Optional<LocalDateTime> earliest = diaryBook.getEarliestDate();
+        Optional<LocalDateTime> latest = diaryBook.getLatestDate();
+        if (earliest.isEmpty() || latest.isEmpty()) {
+            return List.of();
+        }
+        return tripFinder.get().findTrips(tripName, earliest.get().toLocalDate(), latest.get().toLocalDate());
+    }
+
+    /**
+     * Returns the entries dated during any of {@code trips}, earliest first. Trips that overlap or follow one
+     * another are joined, so every entry is returned once and the date index is only looked up once for each
+     * period of travel.
+     */
+    public List<DiaryEntry> getDiaryEntriesDuring(List<Event> trips) {
+        List<Event> tripsByStart = new ArrayList<>(trips);
+        tripsByStart.sort(Comparator.comparing(Event::getStart));
+        List<DiaryEntry> during = new ArrayList<>();
+        LocalDate periodStart = null;
+        LocalDate periodEnd = null;
+        for (Event trip : tripsByStart) {
+            LocalDate tripStart = trip.getStart().toLocalDate();
+            LocalDate tripEnd = trip.getEnd().toLocalDate();
+            if (periodEnd != null && !tripStart.isAfter(periodEnd.plusDays(1))) {
+                periodEnd = tripEnd.isAfter(periodEnd) ? tripEnd : periodEnd;
+                continue;
+            }
+            if (periodStart != null) {
+                during.addAll(getDiaryEntriesOn(periodStart, periodEnd));
+            }
+            periodStart = tripStart;
+            periodEnd = tripEnd;
+        }
+        if (periodStart != null) {
+            during.addAll(getDiaryEntriesOn(periodStart, periodEnd));
+        }
+        return during;
+    }
+
+    /**
+     * Returns the entries dated on any day from {@code first} to {@code last}.
+     */
+    private List<DiaryEntry> getDiaryEntriesOn(LocalDate first, LocalDate last) {
+        return diaryBook.getDiaryEntriesBetween(first.atStartOfDay(), last.atTime(LocalTime.MAX));
+    }
+
+    public Optional<StoredDetails> getDetails() {
         return diaryBook.getDetails();
     }
 
@@ -87,6 +254,14 @@ public class DiaryModel {
         return diaryBook.checkDetails(input);
     }
 
+    public boolean unlock(Details input) {
+        return diaryBook.unlock(input);
+    }
+
+    public boolean isLocked() {
+        return diaryBook.isLocked();
+    }
+
     public boolean hasDetails() {
         return diaryBook.hasDetails();
     }
@@ -96,7 +271,7 @@ public class DiaryModel {
      * {@code versionedAddressBook}
      */
     public ObservableList<DiaryEntry> getFilteredDiaryEntryList() {
-        return filteredDiaryBook;
+        return sortedDiaryBook;
     }
 
     /**
@@ -106,13 +281,38 @@ public class DiaryModel {
     public void updateFilteredDiaryList(Predicate<DiaryEntry> predicate) {
         requireNonNull(predicate);
         filteredDiaryBook.setPredicate(predicate);
+        sortedDiaryBook.setComparator(null);
+    }
+
+    /**
+     * Shows only the entries in {@code matches}, which were found beforehand, as by the search index.
+     * Entries are looked up by identity, so showing them does not test any of their fields.
+     */
+    public void updateFilteredDiaryList(Set<DiaryEntry> matches) {
+        requireNonNull(matches);
+        filteredDiaryBook.setPredicate(matches::contains);
+        sortedDiaryBook.setComparator(null);
+    }
+
+    /**
+     * Shows only the entries in {@code ranked}, in the order they are in, as the results of a ranked search.
+     * The order is kept until the list is filtered again.
+     */
+    public void updateFilteredDiaryList(List<DiaryEntry> ranked) {
+        requireNonNull(ranked);
+        Map<DiaryEntry, Integer> ranks = new IdentityHashMap<>();
+        for (DiaryEntry entry : ranked) {
+            ranks.put(entry, ranks.size());
+        }
+        filteredDiaryBook.setPredicate(ranks::containsKey);
+        sortedDiaryBook.setComparator(Comparator.comparing(ranks::get));
     }
 
     /**
      *
      * @param input
      */
-    public void setinnerDetails(Optional<Details> input) {
+    public void setinnerDetails(Optional<StoredDetails> input) {
         diaryBook.setinnerDetails(input);
     }
 
@@ -120,6 +320,13 @@ public class DiaryModel {
         return this.diaryBook;
     }
 
+    /**
+     * Replaces the entries and details of the diary book with those in {@code newData}.
+     */
+    public void resetData(DiaryBook newData) {
+        diaryBook.resetData(newData);
+    }
+
     //=========== Statistics =================================================================================
 
     public int getTotalDiaryEntries() {
@@ -128,10 +335,15 @@ public class DiaryModel {
 
 
     public XYChart.Series<String, Number> getDiaryBarChart() {
-        SimpleDateFormat dateFormatter = new SimpleDateFormat("MM-yyyy");
-        Function<DiaryEntry, MonthData> toMonthDataFunction =
-            diaryEntry -> new MonthData(0, dateFormatter.format(diaryEntry.getDate()));
-        return StatisticsUtil.getMonthDataSeries(filteredDiaryBook, toMonthDataFunction);
+        return monthHistogram.toSeries();
+    }
+
+    /**
+     * Returns the month of {@code diaryEntry} packed for the {@link MonthHistogram}.
+     */
+    private static int toPackedMonth(DiaryEntry diaryEntry) {
+        LocalDateTime date = diaryEntry.getDate();
+        return MonthHistogram.pack(date.getYear(), date.getMonthValue());
     }
 
     @Override
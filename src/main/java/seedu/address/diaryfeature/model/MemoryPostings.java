@@ -0,0 +1,31 @@
+package seedu.address.diaryfeature.model;
+
+import java.util.Collection;
+import java.util.Map;
+
+import seedu.address.diaryfeature.model.diaryEntry.MemoryBody;
+
+/**
+ * The words of stored memories, kept where the memories are stored so that searching them does not read every
+ * memory first.
+ * <br>
+ * Words are as the {@link DiaryIndex} splits them, in lower case, and come from the memories as they were saved,
+ * whether or not their entries are private.
+ */
+public interface MemoryPostings {
+
+    /**
+     * Returns the number of words in the memory stored in {@code body}, or -1 if that memory has no postings.
+     */
+    int getWordCount(MemoryBody body);
+
+    /**
+     * Returns every word in any of the memories.
+     */
+    Collection<String> getWords();
+
+    /**
+     * Returns the body of every memory with {@code word} in it, and how many times it is there.
+     */
+    Map<MemoryBody, Integer> getPostings(String word);
+}
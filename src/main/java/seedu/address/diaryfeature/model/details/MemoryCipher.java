@@ -0,0 +1,203 @@
+package seedu.address.diaryfeature.model.details;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Encrypts and decrypts memories with AES-GCM, using a key derived from the password of the diary with PBKDF2.
+ * <br>
+ * The password is not stored, so a cipher read from storage is locked: it only has the salt, and cannot encrypt or
+ * decrypt until it is unlocked with the password. Deriving the key is slow on purpose, so it is derived once, when
+ * the cipher is unlocked, and then kept. Every memory is encrypted with its own random IV, stored in front of the
+ * encrypted memory, and a memory that was changed or encrypted with another key cannot be decrypted.
+ * <br>
+ * The last few memories decrypted are cached, so that showing the same entries again does not decrypt them again,
+ * while memories that are not shown are not kept in plain text.
+ */
+public class MemoryCipher {
+
+    public static final int SALT_LENGTH = 16;
+    public static final String MESSAGE_CANNOT_DECRYPT = "Memory could not be decrypted";
+    public static final String MESSAGE_LOCKED = "Memories are locked until the diary is unlocked";
+
+    private static final String KEY_DERIVATION_ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int KEY_DERIVATION_ITERATIONS = 65536;
+    private static final int KEY_LENGTH = 256;
+    private static final String CIPHER_ALGORITHM = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH = 128;
+    private static final int CACHE_SIZE = 64;
+
+    private static final SecureRandom random = new SecureRandom();
+
+    private final byte[] salt;
+    private volatile SecretKey key;
+    private final Map<String, String> decryptedMemories = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    /**
+     * Creates a locked cipher for the key that will be derived from {@code salt} and the password.
+     */
+    public MemoryCipher(byte[] salt) {
+        requireNonNull(salt);
+        this.salt = salt.clone();
+    }
+
+    /**
+     * Creates a cipher with the key derived from {@code password} and {@code salt}.
+     */
+    public MemoryCipher(Password password, byte[] salt) {
+        this(salt);
+        unlock(password);
+    }
+
+    /**
+     * Creates a cipher with the key derived from {@code password} and a new random salt.
+     */
+    public static MemoryCipher withNewSalt(Password password) {
+        byte[] salt = new byte[SALT_LENGTH];
+        random.nextBytes(salt);
+        return new MemoryCipher(password, salt);
+    }
+
+    public byte[] getSalt() {
+        return salt.clone();
+    }
+
+    /**
+     * Derives the key of this cipher from {@code password}, which must be the password of the diary, as a wrong
+     * password gives a key that cannot decrypt any memory.
+     */
+    public void unlock(Password password) {
+        requireNonNull(password);
+        key = new SecretKeySpec(deriveKey(password, salt), "AES");
+    }
+
+    /**
+     * Returns true if this cipher has not been unlocked yet, so it cannot encrypt or decrypt.
+     */
+    public boolean isLocked() {
+        return key == null;
+    }
+
+    /**
+     * Returns the key derived from {@code password} and {@code salt} with PBKDF2.
+     */
+    static byte[] deriveKey(Password password, byte[] salt) {
+        PBEKeySpec keySpec = new PBEKeySpec(password.toString().toCharArray(), salt, KEY_DERIVATION_ITERATIONS,
+                KEY_LENGTH);
+        try {
+            return SecretKeyFactory.getInstance(KEY_DERIVATION_ALGORITHM).generateSecret(keySpec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Java does not support " + KEY_DERIVATION_ALGORITHM, e);
+        } finally {
+            keySpec.clearPassword();
+        }
+    }
+
+    /**
+     * Returns the key of this cipher.
+     *
+     * @throws IllegalStateException if this cipher is locked.
+     */
+    private SecretKey getKey() {
+        SecretKey unlockedKey = key;
+        if (unlockedKey == null) {
+            throw new IllegalStateException(MESSAGE_LOCKED);
+        }
+        return unlockedKey;
+    }
+
+    /**
+     * Returns {@code memory} encrypted, with the IV in front, in Base64.
+     */
+    public String encrypt(String memory) {
+        requireNonNull(memory);
+        return Base64.getEncoder().encodeToString(encryptBytes(memory.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Returns {@code bytes} encrypted, with the IV in front.
+     *
+     * @throws IllegalStateException if this cipher is locked.
+     */
+    public byte[] encryptBytes(byte[] bytes) {
+        requireNonNull(bytes);
+        SecretKey unlockedKey = getKey();
+        byte[] iv = new byte[IV_LENGTH];
+        random.nextBytes(iv);
+        try {
+            Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+            cipher.init(Cipher.ENCRYPT_MODE, unlockedKey, new GCMParameterSpec(TAG_LENGTH, iv));
+            byte[] encrypted = cipher.doFinal(bytes);
+            return ByteBuffer.allocate(IV_LENGTH + encrypted.length).put(iv).put(encrypted).array();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Java does not support " + CIPHER_ALGORITHM, e);
+        }
+    }
+
+    /**
+     * Returns the memory that {@code encryptedMemory} was encrypted from, from the cache if it was decrypted lately.
+     *
+     * @throws IllegalArgumentException if {@code encryptedMemory} was changed or encrypted with another key.
+     * @throws IllegalStateException if this cipher is locked.
+     */
+    public synchronized String decrypt(String encryptedMemory) {
+        requireNonNull(encryptedMemory);
+        String memory = decryptedMemories.get(encryptedMemory);
+        if (memory == null) {
+            memory = decryptUncached(encryptedMemory);
+            decryptedMemories.put(encryptedMemory, memory);
+        }
+        return memory;
+    }
+
+    /**
+     * Decrypts {@code encryptedMemory} without looking in the cache.
+     */
+    private String decryptUncached(String encryptedMemory) {
+        try {
+            return new String(decryptBytes(Base64.getDecoder().decode(encryptedMemory)), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(MESSAGE_CANNOT_DECRYPT, e);
+        }
+    }
+
+    /**
+     * Returns the bytes that {@code encryptedBytes}, with the IV in front, were encrypted from.
+     * The bytes are not cached.
+     *
+     * @throws IllegalArgumentException if {@code encryptedBytes} were changed or encrypted with another key.
+     * @throws IllegalStateException if this cipher is locked.
+     */
+    public byte[] decryptBytes(byte[] encryptedBytes) {
+        requireNonNull(encryptedBytes);
+        SecretKey unlockedKey = getKey();
+        try {
+            Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+            cipher.init(Cipher.DECRYPT_MODE, unlockedKey,
+                    new GCMParameterSpec(TAG_LENGTH, encryptedBytes, 0, IV_LENGTH));
+            return cipher.doFinal(encryptedBytes, IV_LENGTH, encryptedBytes.length - IV_LENGTH);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalArgumentException(MESSAGE_CANNOT_DECRYPT, e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.diaryfeature.model.details;
+
+import static java.util.Objects.requireNonNull;
+
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+
+/**
+ * The details of a diary as they are kept: the username, and a verifier of the password instead of the password.
+ * <br>
+ * The verifier is derived from the password with PBKDF2 and its own salt, so it is not the key of the memories and
+ * the password cannot be read from it.
+ */
+public class StoredDetails {
+
+    private static final SecureRandom random = new SecureRandom();
+
+    private final Username userName;
+    private final byte[] passwordSalt;
+    private final byte[] passwordVerifier;
+
+    /**
+     * Constructs the stored details of {@code userName}, whose password gives {@code passwordVerifier} when
+     * derived with {@code passwordSalt}.
+     */
+    public StoredDetails(Username userName, byte[] passwordSalt, byte[] passwordVerifier) {
+        requireNonNull(userName);
+        requireNonNull(passwordSalt);
+        requireNonNull(passwordVerifier);
+        this.userName = userName;
+        this.passwordSalt = passwordSalt.clone();
+        this.passwordVerifier = passwordVerifier.clone();
+    }
+
+    /**
+     * Returns the details to keep for {@code details}, with a verifier of its password under a new random salt.
+     */
+    public static StoredDetails of(Details details) {
+        byte[] salt = new byte[MemoryCipher.SALT_LENGTH];
+        random.nextBytes(salt);
+        return new StoredDetails(details.getUserName(), salt, MemoryCipher.deriveKey(details.getPassword(), salt));
+    }
+
+    /**
+     * Check if {@code input} has the username and password of these details
+     * @param input
+     * @return boolean
+     */
+    public boolean checkDetails(Details input) {
+        return userName.equalsSpecial(input.getUserName())
+                && MessageDigest.isEqual(passwordVerifier, MemoryCipher.deriveKey(input.getPassword(), passwordSalt));
+    }
+
+    public Username getUserName() {
+        return userName;
+    }
+
+    public byte[] getPasswordSalt() {
+        return passwordSalt.clone();
+    }
+
+    public byte[] getPasswordVerifier() {
+        return passwordVerifier.clone();
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.diaryfeature.model.diaryEntry;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * A file attached to a diary entry, known by the SHA-256 hash of its content, with the name of the file it was
+ * attached from.
+ * Guarantees: immutable; the hash is 64 lower case hexadecimal digits and the name is not a path.
+ */
+public class Attachment {
+
+    public static final String MESSAGE_CONSTRAINTS = "An attachment is the SHA-256 hash of its content, in 64 "
+            + "hexadecimal digits, and the name of the file it was attached from";
+
+    private static final String HASH_REGEX = "[0-9a-f]{64}";
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of("bmp", "gif", "jpeg", "jpg", "png");
+
+    private final String hash;
+    private final String fileName;
+
+    /**
+     * Constructs an {@code Attachment}.
+     *
+     * @param hash     SHA-256 hash of the content of the file, in lower case hexadecimal digits
+     * @param fileName name of the file it was attached from
+     */
+    public Attachment(String hash, String fileName) {
+        requireNonNull(hash);
+        requireNonNull(fileName);
+        checkArgument(isValidAttachment(hash, fileName), MESSAGE_CONSTRAINTS);
+        this.hash = hash;
+        this.fileName = fileName;
+    }
+
+    /**
+     * Returns true if {@code hash} and {@code fileName} make a valid attachment.
+     */
+    public static boolean isValidAttachment(String hash, String fileName) {
+        return hash.matches(HASH_REGEX) && !fileName.isBlank() && !fileName.contains("/")
+                && !fileName.contains("\\") && !fileName.equals(".") && !fileName.equals("..");
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Returns true if the file is an image that a thumbnail can be made of, going by its name.
+     */
+    public boolean isImage() {
+        int dot = fileName.lastIndexOf('.');
+        return dot >= 0 && IMAGE_EXTENSIONS.contains(fileName.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public String toString() {
+        return fileName;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Attachment // instanceof handles nulls
+                && hash.equals(((Attachment) other).hash)
+                && fileName.equals(((Attachment) other).fileName)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return hash.hashCode();
+    }
+}
@@ -1,17 +1,26 @@
 package seedu.address.diaryfeature.model.diaryEntry;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
 
 import seedu.address.diaryfeature.logic.parser.exceptions.DiaryEntryExceptions.DateParseException;
 
 /**
  * TimeFormatter class takes in an input string of a date and outputs it in the proper.
- * Date/Time format, specified by the Java Date class
+ * Date/Time format, specified by the java.time classes
+ * <br>
+ * The formatters are immutable and thread-safe, so they are made once and shared by every call.
  */
 
 public class DateFormatter {
+    private static final DateTimeFormatter PARSE_FORMATTER = DateTimeFormatter.ofPattern("d/M/uuuu HHmm")
+            .withResolverStyle(ResolverStyle.STRICT);
+    private static final DateTimeFormatter STORE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/uuuu HHmm");
+    private static final DateTimeFormatter PRINT_FORMATTER = DateTimeFormatter.ofPattern("E, dd MMM yyyy HH:mm:ss z");
+
     /**
      * Returns the Date in proper date format, after parsing the user input version of a date.
      *
@@ -19,11 +28,10 @@ public class DateFormatter {
      * @return Date specified by user.
      */
 
-    public static java.util.Date convertToDate(String str) throws DateParseException {
+    public static LocalDateTime convertToDate(String str) throws DateParseException {
         try {
-            SimpleDateFormat myFormatter = new SimpleDateFormat("dd/MM/yyyy HHmm");
-            return myFormatter.parse(str);
-        } catch (ParseException error) {
+            return LocalDateTime.parse(str, PARSE_FORMATTER);
+        } catch (DateTimeParseException error) {
             throw new DateParseException();
         }
     }
@@ -35,21 +43,19 @@ public class DateFormatter {
      * @return String format of date for easier input/ouput
      */
 
-    public static String convertToStringStore(Date idea) {
-        SimpleDateFormat myFormatter = new SimpleDateFormat("dd/MM/yyyy HHmm");
-        return myFormatter.format(idea);
+    public static String convertToStringStore(LocalDateTime idea) {
+        return STORE_FORMATTER.format(idea);
     }
 
     /**
-     * Returns the String format of a date.
+     * Returns the String format of a date, in the default time zone.
      *
      * @param idea input Date
      * @return String format of date for easier reading
      */
 
 
-    public static String convertToStringPrint(Date idea) {
-        SimpleDateFormat myFormatter = new SimpleDateFormat("E, dd MMM yyyy HH:mm:ss z");
-        return myFormatter.format(idea);
+    public static String convertToStringPrint(LocalDateTime idea) {
+        return PRINT_FORMATTER.format(idea.atZone(ZoneId.systemDefault()));
     }
 }
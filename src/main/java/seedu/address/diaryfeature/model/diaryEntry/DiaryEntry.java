@@ -2,21 +2,37 @@ package seedu.address.diaryfeature.model.diaryEntry;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Date;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
  * Represents a DiaryEntry
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * Every entry gets an id when it is created or loaded, which its copies keep.
+ * Files attached to an entry are only referred to by their hash, and are kept in an {@code AttachmentStore}.
+ * The date is formatted for storing and for showing once, when the entry is made, as entries are compared,
+ * searched, saved and shown by those strings far more often than they are made.
  */
 public class DiaryEntry {
 
+    private static final AtomicLong nextId = new AtomicLong();
+
+    private final long id;
+
     // Identity fields
     private final Title title;
-    private final Date date;
+    private final LocalDateTime date;
+    private final String dateToStore;
+    private final String dateToPrint;
     private final Place place;
     private final Memory memory;
+    private final List<Attachment> attachments;
     private boolean isPrivate;
 
 
@@ -24,15 +40,49 @@ public class DiaryEntry {
      * Every field must be present and not null.
      */
 
-    public DiaryEntry(Title title, Date date, Place place, Memory memory) {
-        requireAllNonNull(title, date, place, memory);
+    public DiaryEntry(Title title, LocalDateTime date, Place place, Memory memory) {
+        this(title, date, place, memory, List.of());
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public DiaryEntry(Title title, LocalDateTime date, Place place, Memory memory, List<Attachment> attachments) {
+        requireAllNonNull(title, date, place, memory, attachments);
+        this.id = nextId.getAndIncrement();
         this.title = title;
         this.date = date;
+        this.dateToStore = DateFormatter.convertToStringStore(date);
+        this.dateToPrint = DateFormatter.convertToStringPrint(date);
         this.place = place;
         this.memory = memory;
+        this.attachments = new ArrayList<>(attachments);
         isPrivate = memory.getPrivacy();
     }
 
+    /**
+     * Copies {@code source}, with its id and formatted dates.
+     */
+    private DiaryEntry(DiaryEntry source) {
+        this.id = source.id;
+        this.title = source.getTitle();
+        this.date = source.date;
+        this.dateToStore = source.dateToStore;
+        this.dateToPrint = source.dateToPrint;
+        this.place = source.getPlace();
+        this.memory = source.getMemory();
+        this.attachments = new ArrayList<>(source.attachments);
+        isPrivate = memory.getPrivacy();
+    }
+
+    /**
+     * Return the id of this entry, which stays the same for as long as the app runs
+     * @return long
+     */
+    public long getId() {
+        return id;
+    }
+
     /**
      * Return a copy of this title
      * @return Title
@@ -43,9 +93,9 @@ public class DiaryEntry {
 
     /**
      * Return this date
-     * @return Date
+     * @return LocalDateTime
      */
-    public Date getDate() {
+    public LocalDateTime getDate() {
         return date;
     }
 
@@ -65,13 +115,35 @@ public class DiaryEntry {
         return memory.copy();
     }
 
+    /**
+     * Return the files attached to this entry, in the order they were attached
+     * @return List of Attachment
+     */
+    public List<Attachment> getAttachments() {
+        return Collections.unmodifiableList(attachments);
+    }
+
+    /**
+     * Attach {@code attachment} to this entry, unless a file with the same content is already attached
+     * @param attachment file to attach
+     * @return true if it was attached
+     */
+    public boolean addAttachment(Attachment attachment) {
+        for (Attachment attached : attachments) {
+            if (attached.getHash().equals(attachment.getHash())) {
+                return false;
+            }
+        }
+        return attachments.add(attachment);
+    }
+
     /**|
      * Return Date in a presentable format
      * @return String
      */
 
     public String getDateAsString() {
-        return DateFormatter.convertToStringPrint(date);
+        return dateToPrint;
     }
 
     /**
@@ -79,11 +151,15 @@ public class DiaryEntry {
      * @return String
      */
     public String getDateAsStringtoStore() {
-        return DateFormatter.convertToStringStore(date);
+        return dateToStore;
     }
 
+    /**
+     * Return a copy of this entry, with the same id
+     * @return DiaryEntry
+     */
     public DiaryEntry copy() {
-        return new DiaryEntry(getTitle(), getDate(), getPlace(), getMemory());
+        return new DiaryEntry(this);
     }
 
     /**
@@ -126,14 +202,14 @@ public class DiaryEntry {
 
         DiaryEntry otherEntry = (DiaryEntry) other;
         return otherEntry.getTitle().equals(getTitle())
-                && otherEntry.getDateAsStringtoStore().equalsIgnoreCase(getDateAsStringtoStore());
+                && otherEntry.dateToStore.equals(dateToStore);
     }
 
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(title, date);
+        // hash the fields as equals compares them, so that equal entries have equal hashes
+        return Objects.hash(title.toString().toLowerCase(Locale.ROOT), dateToStore);
     }
 
     @Override
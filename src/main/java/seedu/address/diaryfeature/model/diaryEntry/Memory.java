@@ -1,7 +1,17 @@
 package seedu.address.diaryfeature.model.diaryEntry;
 
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.diaryfeature.model.details.MemoryCipher;
+
 /**
  * Memory
+ * <br>
+ * A memory read from storage is only read from where it is stored, and decrypted, when it is shown or searched.
+ * Until the diary is unlocked, an encrypted memory stays as it was stored and is shown as locked.
  */
 public class Memory {
 
@@ -11,9 +21,13 @@ public class Memory {
 
     public static final int MEMORY_MAX_LENGTH = 100;
     private static final String HIDDEN_MESSAGE = "*****";
+    private static final String UNREADABLE_MESSAGE = "[This memory could not be read]";
+    private static final String LOCKED_MESSAGE = "[Locked: unlock an entry with your details to read this memory]";
+    private static final Logger logger = LogsCenter.getLogger(Memory.class);
     private final String memory;
+    private final MemoryBody body;
+    private final MemoryCipher cipher;
     private boolean isPrivate = false;
-    private String showMemory;
 
     /**
      * Constructs an {@code Memory}.
@@ -21,8 +35,36 @@ public class Memory {
      * @param input is a valid memory.
      */
     public Memory(String input) {
-        memory = input;
-        showMemory = input;
+        this(input, null, null);
+    }
+
+    private Memory(String memory, MemoryBody body, MemoryCipher cipher) {
+        this.memory = memory;
+        this.body = body;
+        this.cipher = cipher;
+    }
+
+    /**
+     * Constructs a {@code Memory} that was encrypted by {@code cipher}, which decrypts it when it is needed.
+     *
+     * @param encryptedMemory is the memory as it was stored
+     * @param cipher is the cipher that encrypted it
+     * @return the memory
+     */
+    public static Memory encrypted(String encryptedMemory, MemoryCipher cipher) {
+        return new Memory(null, () -> encryptedMemory, cipher);
+    }
+
+    /**
+     * Constructs a {@code Memory} that is read from {@code body} when it is needed, and decrypted by
+     * {@code cipher} if it was stored encrypted.
+     *
+     * @param body is where the memory is stored
+     * @param cipher is the cipher that encrypted it, or null if it is not encrypted
+     * @return the memory
+     */
+    public static Memory stored(MemoryBody body, MemoryCipher cipher) {
+        return new Memory(null, body, cipher);
     }
 
     /**
@@ -38,7 +80,6 @@ public class Memory {
      */
     public void setPrivate() {
         isPrivate = true;
-        showMemory = HIDDEN_MESSAGE;
     }
 
     /**
@@ -46,7 +87,6 @@ public class Memory {
      */
     public void unPrivate() {
         isPrivate = false;
-        showMemory = memory;
     }
 
     /**
@@ -55,15 +95,74 @@ public class Memory {
      */
     @Override
     public String toString() {
-        return showMemory;
+        if (isPrivate) {
+            return HIDDEN_MESSAGE;
+        }
+        if (isLocked()) {
+            return LOCKED_MESSAGE;
+        }
+        try {
+            return toSave();
+        } catch (IllegalArgumentException | UncheckedIOException error) {
+            logger.warning(error.getMessage());
+            return UNREADABLE_MESSAGE;
+        }
     }
 
     /**
-     * Return the actual memory to save
+     * Return the actual memory to save, reading and decrypting it if it is stored
      * @return memory to save
+     * @throws IllegalArgumentException if the memory is encrypted and cannot be decrypted
+     * @throws UncheckedIOException if the memory cannot be read from where it is stored
+     * @throws IllegalStateException if the memory is encrypted and the diary has not been unlocked
      */
     public String toSave() {
-        return memory;
+        if (body == null) {
+            return memory;
+        }
+        return cipher == null ? body.read() : cipher.decrypt(body.read());
+    }
+
+    /**
+     * Return the memory encrypted by {@code otherCipher}, without decrypting it if it was already
+     * @param otherCipher cipher to encrypt with
+     * @return encrypted memory to save
+     */
+    public String toEncrypted(MemoryCipher otherCipher) {
+        return body != null && otherCipher == cipher ? body.read() : otherCipher.encrypt(toSave());
+    }
+
+    /**
+     * Return where this memory is stored, if it is stored as {@code expectedCipher} would store it
+     * @param expectedCipher cipher the memory should be encrypted with, or null if it should not be encrypted
+     * @return the stored memory
+     */
+    public Optional<MemoryBody> getBody(MemoryCipher expectedCipher) {
+        return expectedCipher == cipher ? Optional.ofNullable(body) : Optional.empty();
+    }
+
+    /**
+     * Return where this memory is stored, however it is encrypted
+     * @return the stored memory
+     */
+    public Optional<MemoryBody> getBody() {
+        return Optional.ofNullable(body);
+    }
+
+    /**
+     * Returns true if this memory has to be read from where it is stored before it can be shown
+     * @return boolean
+     */
+    public boolean isStored() {
+        return body != null;
+    }
+
+    /**
+     * Returns true if this memory is encrypted and cannot be read until the diary is unlocked
+     * @return boolean
+     */
+    public boolean isLocked() {
+        return body != null && cipher != null && cipher.isLocked();
     }
 
     /**
@@ -71,7 +170,7 @@ public class Memory {
      * @return a copy of this memory
      */
     public Memory copy () {
-        Memory copyMemory = new Memory(memory);
+        Memory copyMemory = new Memory(memory, body, cipher);
         if (this.isPrivate) {
             copyMemory.setPrivate();
         }
@@ -80,14 +179,23 @@ public class Memory {
 
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof Memory // instanceof handles nulls
-                && memory.equalsIgnoreCase(((Memory) other).memory)); // state check
+        if (other == this) { // short circuit if same object
+            return true;
+        }
+        if (!(other instanceof Memory)) { // instanceof handles nulls
+            return false;
+        }
+        Memory otherMemory = (Memory) other;
+        if (isLocked() || otherMemory.isLocked()) {
+            // locked memories cannot be read, so only those read from the same place are known to be equal
+            return body == otherMemory.body;
+        }
+        return toSave().equalsIgnoreCase(otherMemory.toSave()); // state check
     }
 
     @Override
     public int hashCode() {
-        return memory.hashCode();
+        return isLocked() ? body.hashCode() : toSave().hashCode();
     }
 
 }
@@ -0,0 +1,15 @@
+package seedu.address.diaryfeature.model.diaryEntry;
+
+/**
+ * A memory as it is stored, read only when the memory is needed.
+ */
+@FunctionalInterface
+public interface MemoryBody {
+
+    /**
+     * Returns the memory as it is stored, encrypted if it was stored encrypted.
+     *
+     * @throws java.io.UncheckedIOException if the memory cannot be read from where it is stored.
+     */
+    String read();
+}
@@ -0,0 +1,107 @@
+package seedu.address.diaryfeature.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import seedu.address.diaryfeature.model.AttachmentStore;
+import seedu.address.diaryfeature.model.diaryEntry.Attachment;
+
+/**
+ * The directory the files attached to diary entries are stored in, each named by the SHA-256 hash of its content,
+ * so that a file attached to several entries, or attached again, is only stored once.
+ * <br>
+ * A stored file is never written again. Files are streamed in and out, so an attachment is never held in memory
+ * as a whole, and are kept in a directory named by the first two digits of their hash so that no directory gets
+ * too large.
+ */
+public class AttachmentDirectory implements AttachmentStore {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int SUBDIRECTORY_NAME_LENGTH = 2;
+
+    private final Path directory;
+
+    public AttachmentDirectory(Path directory) {
+        requireNonNull(directory);
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Copies the file at {@code source} to a temporary file while hashing it, and then moves it to where a file
+     * with that hash is stored, unless one is already there.
+     */
+    @Override
+    public Attachment store(Path source) throws IOException {
+        requireNonNull(source);
+        if (!Files.isRegularFile(source)) {
+            throw new NoSuchFileException(source.toString(), null, "not a file");
+        }
+        Files.createDirectories(directory);
+        MessageDigest digest = newDigest();
+        Path tempFile = Files.createTempFile(directory, "attaching", ".tmp");
+        try {
+            try (InputStream in = new DigestInputStream(Files.newInputStream(source), digest)) {
+                Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Attachment attachment = new Attachment(toHex(digest.digest()), source.getFileName().toString());
+            Path storedFile = getPath(attachment);
+            if (!Files.exists(storedFile)) {
+                Files.createDirectories(storedFile.getParent());
+                Files.move(tempFile, storedFile, StandardCopyOption.ATOMIC_MOVE);
+            }
+            return attachment;
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    @Override
+    public Path getPath(Attachment attachment) {
+        String hash = attachment.getHash();
+        return directory.resolve(hash.substring(0, SUBDIRECTORY_NAME_LENGTH)).resolve(hash);
+    }
+
+    @Override
+    public Path export(Attachment attachment, Path targetDirectory) throws IOException {
+        requireNonNull(targetDirectory);
+        Files.createDirectories(targetDirectory);
+        Path target = targetDirectory.resolve(attachment.getFileName());
+        Files.copy(getPath(attachment), target);
+        return target;
+    }
+
+    /**
+     * Returns a new SHA-256 digest.
+     */
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Java does not support " + HASH_ALGORITHM, e);
+        }
+    }
+
+    /**
+     * Returns {@code bytes} as lower case hexadecimal digits.
+     */
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
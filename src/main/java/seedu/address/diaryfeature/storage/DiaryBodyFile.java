@@ -0,0 +1,165 @@
+package seedu.address.diaryfeature.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+import seedu.address.diaryfeature.logic.parser.Encryptor;
+import seedu.address.diaryfeature.model.details.MemoryCipher;
+import seedu.address.diaryfeature.model.diaryEntry.Memory;
+import seedu.address.diaryfeature.model.diaryEntry.MemoryBody;
+
+/**
+ * The file the memories of a diary are stored in, one after another, so that the index of the diary only holds
+ * where each memory is and a memory is only read when it is needed.
+ * <br>
+ * Memories are only ever appended. Saving a memory that is already in the file does not write it again, so adding
+ * an entry appends one memory. A memory that is deleted stays in the file until the memories still used are moved
+ * to a new file, which updates where their bodies point to.
+ */
+public class DiaryBodyFile {
+
+    private final Path filePath;
+    private long size;
+
+    /**
+     * Opens the body file at {@code filePath}, which does not have to exist yet.
+     */
+    public DiaryBodyFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        size = Files.exists(filePath) ? Files.size(filePath) : 0;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the number of bytes in the file, including those of memories that are no longer used.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the body at {@code offset} of {@code length} bytes, which is only read when it is needed.
+     *
+     * @param isEncrypted false if the body was obfuscated by the {@link Encryptor} instead of encrypted
+     */
+    public Body getBody(long offset, int length, boolean isEncrypted) {
+        if (offset < 0 || length < 0 || offset + length > size) {
+            throw new IllegalArgumentException(String.format("No memory of %1$d bytes at %2$d in %3$s", length,
+                    offset, filePath));
+        }
+        return new Body(this, offset, length, isEncrypted);
+    }
+
+    /**
+     * Returns where {@code memory} is stored in this file, appending it first if it is not, encrypted by
+     * {@code cipher} if there is one.
+     */
+    public Body store(Memory memory, Optional<MemoryCipher> cipher) throws IOException {
+        Optional<MemoryBody> body = memory.getBody(cipher.orElse(null));
+        if (body.isPresent() && body.get() instanceof Body && ((Body) body.get()).file == this) {
+            return (Body) body.get();
+        }
+        String stored = cipher.isPresent()
+                ? memory.toEncrypted(cipher.get())
+                : Encryptor.encrypt(memory.toSave());
+        return append(stored, cipher.isPresent());
+    }
+
+    /**
+     * Appends {@code stored}, a memory as it is stored, to the end of the file.
+     */
+    private Body append(String stored, boolean isEncrypted) throws IOException {
+        byte[] bytes = stored.getBytes(StandardCharsets.UTF_8);
+        Body body = new Body(this, size, bytes.length, isEncrypted);
+        appendBytes(bytes);
+        return body;
+    }
+
+    /**
+     * Moves {@code body} from the file it is in to the end of this file, so that it reads from this file from now
+     * on and every memory stored there keeps reading it.
+     */
+    public void moveIn(Body body) throws IOException {
+        long offset = size;
+        appendBytes(body.file.read(body.offset, body.length));
+        body.file = this;
+        body.offset = offset;
+    }
+
+    /**
+     * Writes {@code bytes} at the end of the file.
+     */
+    private void appendBytes(byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            long position = size;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+        }
+        size += bytes.length;
+    }
+
+    /**
+     * Reads the {@code length} bytes at {@code offset}.
+     */
+    private byte[] read(long offset, int length) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(length);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            while (bytes.hasRemaining()) {
+                if (channel.read(bytes, offset + bytes.position()) < 0) {
+                    throw new IOException(filePath + " ends before the memory at " + offset);
+                }
+            }
+        }
+        return bytes.array();
+    }
+
+    /**
+     * Where a memory is in a body file.
+     */
+    public static class Body implements MemoryBody {
+        private final int length;
+        private final boolean isEncrypted;
+        private DiaryBodyFile file;
+        private long offset;
+
+        private Body(DiaryBodyFile file, long offset, int length, boolean isEncrypted) {
+            this.file = file;
+            this.offset = offset;
+            this.length = length;
+            this.isEncrypted = isEncrypted;
+        }
+
+        public long getOffset() {
+            return offset;
+        }
+
+        public int getLength() {
+            return length;
+        }
+
+        @Override
+        public String read() {
+            try {
+                String stored = new String(file.read(offset, length), StandardCharsets.UTF_8);
+                return isEncrypted ? stored : Encryptor.decrypt(stored);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,462 @@
+package seedu.address.diaryfeature.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.diaryfeature.model.DiaryIndex;
+import seedu.address.diaryfeature.model.MemoryPostings;
+import seedu.address.diaryfeature.model.details.MemoryCipher;
+import seedu.address.diaryfeature.model.diaryEntry.MemoryBody;
+
+/**
+ * The file the words of the memories in a body file are indexed in, next to it, so that a diary can be searched
+ * as soon as it is loaded without reading and decrypting every memory.
+ * <br>
+ * The file is segments one after another. A segment has the words of the memories appended to the body file by
+ * one save, or of every memory in it, and the SHA-256 hash of the json file saved with them. The segments are only
+ * used if the last one was saved with the json file as it is, and the file is mapped into memory, so only the
+ * postings of the words searched for are read. Once there are more than {@link #MAX_SEGMENTS}, the segments are
+ * merged into one, leaving out the memories no longer used.
+ * <br>
+ * A segment is a header with a magic number, the format version, whether its dictionary is encrypted, the hash of
+ * the json file and the lengths of its dictionary and postings, followed by the dictionary and the postings.
+ * The dictionary has the offset of every memory in the body file with the number of words in it, then every word
+ * in order, with the number of bytes it shares with the word before it, the rest of its bytes, the number of
+ * memories it is in and where its postings start. The postings of a word are the offsets of its memories, each
+ * with the number of times the word is in it. Numbers are varints, and offsets and starts are stored as the
+ * difference from the one before. The dictionary is encrypted by the cipher of the diary when it has one, as the
+ * words of the memories are as private as the memories.
+ */
+public class DiarySearchFile {
+
+    /** Number of segments above which the segments are merged into one. */
+    public static final int MAX_SEGMENTS = 8;
+
+    private static final int MAGIC = 0x54445358;
+    private static final byte VERSION = 1;
+    private static final byte FLAG_ENCRYPTED = 1;
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int HASH_LENGTH = 32;
+    private static final int HEADER_LENGTH = Integer.BYTES + 2 + HASH_LENGTH + 2 * Integer.BYTES;
+    private static final Logger logger = LogsCenter.getLogger(DiarySearchFile.class);
+
+    private final Path filePath;
+
+    public DiarySearchFile(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the SHA-256 hash of {@code content}, which a segment is saved with.
+     */
+    public static byte[] hash(byte[] content) {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM).digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Java does not support " + HASH_ALGORITHM, e);
+        }
+    }
+
+    /**
+     * Returns the words of the memories stored in {@code liveBodies}, which are keyed by their offset in the body
+     * file, if the last segment was saved with the json file hashed to {@code jsonHash}.
+     * Returns nothing if there is no such file, it is not complete, or it was saved with another json file or
+     * encrypted by another cipher than {@code cipher}.
+     */
+    public Optional<MemoryPostings> read(byte[] jsonHash, Optional<MemoryCipher> cipher,
+            Map<Long, ? extends MemoryBody> liveBodies) {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        try {
+            List<Segment> segments = readSegments(cipher);
+            if (segments.isEmpty() || !Arrays.equals(segments.get(segments.size() - 1).jsonHash, jsonHash)) {
+                logger.info(() -> filePath + " was not saved with the diary book, so its memories are read instead");
+                return Optional.empty();
+            }
+            return Optional.of(new Postings(segments, liveBodies));
+        } catch (IOException e) {
+            logger.warning(() -> "Could not read " + filePath + ", so its memories are read instead: " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Appends a segment with the words of {@code memories}, keyed by their offset in the body file, saved with
+     * the json file hashed to {@code jsonHash}.
+     */
+    public void append(byte[] jsonHash, SortedMap<Long, String> memories, Optional<MemoryCipher> cipher)
+            throws IOException {
+        ByteBuffer segment = ByteBuffer.wrap(toSegment(jsonHash, index(memories), cipher));
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (segment.hasRemaining()) {
+                channel.write(segment);
+            }
+        }
+    }
+
+    /**
+     * Replaces the file with a single segment with the words of {@code memories}, keyed by their offset in the
+     * body file, saved with the json file hashed to {@code jsonHash}.
+     */
+    public void write(byte[] jsonHash, SortedMap<Long, String> memories, Optional<MemoryCipher> cipher)
+            throws IOException {
+        replaceWith(toSegment(jsonHash, index(memories), cipher));
+    }
+
+    /**
+     * Merges the segments into one with only the memories at {@code liveOffsets}, if there are more than
+     * {@link #MAX_SEGMENTS} of them.
+     */
+    public void mergeIfFragmented(Set<Long> liveOffsets, Optional<MemoryCipher> cipher) throws IOException {
+        List<Segment> segments = readSegments(cipher);
+        if (segments.size() <= MAX_SEGMENTS) {
+            return;
+        }
+        Index merged = new Index();
+        for (Segment segment : segments) {
+            segment.wordCounts.forEach((offset, wordCount) -> {
+                if (liveOffsets.contains(offset)) {
+                    merged.wordCounts.put(offset, wordCount);
+                }
+            });
+            for (String word : segment.terms.keySet()) {
+                segment.getPostings(word).forEach((offset, count) -> {
+                    if (liveOffsets.contains(offset)) {
+                        merged.postings.computeIfAbsent(word, unused -> new TreeMap<>()).put(offset, count);
+                    }
+                });
+            }
+        }
+        replaceWith(toSegment(segments.get(segments.size() - 1).jsonHash, merged, cipher));
+        logger.info(() -> "Merged " + segments.size() + " segments of " + filePath);
+    }
+
+    /**
+     * Deletes the file, if it exists.
+     */
+    public void delete() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+
+    /**
+     * Writes {@code content} to a new file that then takes the place of this one, so that the file is never only
+     * partly written.
+     */
+    private void replaceWith(byte[] content) throws IOException {
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        Files.write(tempFilePath, content);
+        Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Maps the file into memory and reads the header and dictionary of every segment in it.
+     */
+    private List<Segment> readSegments(Optional<MemoryCipher> cipher) throws IOException {
+        ByteBuffer file;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        List<Segment> segments = new ArrayList<>();
+        try {
+            while (file.hasRemaining()) {
+                segments.add(new Segment(file, cipher));
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException(filePath + " is not a complete search file", e);
+        }
+        return segments;
+    }
+
+    /**
+     * Returns the words of every memory in {@code memories}, as the {@link DiaryIndex} splits them.
+     */
+    private static Index index(SortedMap<Long, String> memories) {
+        Index index = new Index();
+        memories.forEach((offset, memory) -> {
+            List<String> words = DiaryIndex.tokenize(memory.toLowerCase());
+            index.wordCounts.put(offset, words.size());
+            for (String word : words) {
+                index.postings.computeIfAbsent(word, unused -> new TreeMap<>()).merge(offset, 1, Integer::sum);
+            }
+        });
+        return index;
+    }
+
+    /**
+     * Returns {@code index} as a segment saved with the json file hashed to {@code jsonHash}.
+     */
+    private static byte[] toSegment(byte[] jsonHash, Index index, Optional<MemoryCipher> cipher) {
+        assert jsonHash.length == HASH_LENGTH;
+        ByteArrayOutputStream dictionary = new ByteArrayOutputStream();
+        ByteArrayOutputStream postings = new ByteArrayOutputStream();
+        writeVarLong(dictionary, index.wordCounts.size());
+        long previousOffset = 0;
+        for (Map.Entry<Long, Integer> wordCount : index.wordCounts.entrySet()) {
+            writeVarLong(dictionary, wordCount.getKey() - previousOffset);
+            writeVarLong(dictionary, wordCount.getValue());
+            previousOffset = wordCount.getKey();
+        }
+
+        writeVarLong(dictionary, index.postings.size());
+        byte[] previousWord = new byte[0];
+        int previousStart = 0;
+        for (Map.Entry<String, TreeMap<Long, Integer>> posting : index.postings.entrySet()) {
+            byte[] word = posting.getKey().getBytes(StandardCharsets.UTF_8);
+            int sharedLength = 0;
+            while (sharedLength < Math.min(word.length, previousWord.length)
+                    && word[sharedLength] == previousWord[sharedLength]) {
+                sharedLength++;
+            }
+            writeVarLong(dictionary, sharedLength);
+            writeVarLong(dictionary, word.length - sharedLength);
+            dictionary.write(word, sharedLength, word.length - sharedLength);
+            writeVarLong(dictionary, posting.getValue().size());
+            writeVarLong(dictionary, postings.size() - previousStart);
+            previousStart = postings.size();
+            previousWord = word;
+
+            previousOffset = 0;
+            for (Map.Entry<Long, Integer> count : posting.getValue().entrySet()) {
+                writeVarLong(postings, count.getKey() - previousOffset);
+                writeVarLong(postings, count.getValue());
+                previousOffset = count.getKey();
+            }
+        }
+
+        byte[] dictionaryBytes = cipher.isPresent()
+                ? cipher.get().encryptBytes(dictionary.toByteArray())
+                : dictionary.toByteArray();
+        return ByteBuffer.allocate(HEADER_LENGTH + dictionaryBytes.length + postings.size())
+                .putInt(MAGIC)
+                .put(VERSION)
+                .put(cipher.isPresent() ? FLAG_ENCRYPTED : 0)
+                .put(jsonHash)
+                .putInt(dictionaryBytes.length)
+                .putInt(postings.size())
+                .put(dictionaryBytes)
+                .put(postings.toByteArray())
+                .array();
+    }
+
+    /**
+     * Writes {@code value}, which is not negative, as a varint of 7 bits a byte, the lowest bits first.
+     */
+    static void writeVarLong(ByteArrayOutputStream out, long value) {
+        assert value >= 0;
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * Reads a varint written by {@link #writeVarLong}.
+     */
+    static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte next = in.get();
+            value |= (long) (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint is too long");
+    }
+
+    /**
+     * Reads a varint written by {@link #writeVarLong} that has to fit in an int.
+     */
+    private static int readVarInt(ByteBuffer in) {
+        long value = readVarLong(in);
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Varint is too large");
+        }
+        return (int) value;
+    }
+
+    /**
+     * The number of words of every memory, and the memories with every word and how many times it is in them.
+     */
+    private static class Index {
+        private final TreeMap<Long, Integer> wordCounts = new TreeMap<>();
+        private final TreeMap<String, TreeMap<Long, Integer>> postings = new TreeMap<>();
+    }
+
+    /**
+     * A segment read from the file, with its dictionary in memory and its postings only read when they are needed.
+     */
+    private static class Segment {
+        private final byte[] jsonHash = new byte[HASH_LENGTH];
+        private final Map<Long, Integer> wordCounts = new LinkedHashMap<>();
+        private final Map<String, Term> terms = new LinkedHashMap<>();
+        private final ByteBuffer postings;
+
+        /**
+         * Reads the segment at the position of {@code file}, and moves the position to the end of the segment.
+         *
+         * @throws IllegalArgumentException if the segment is not valid or cannot be decrypted by {@code cipher}.
+         * @throws BufferUnderflowException if the segment is not complete.
+         */
+        private Segment(ByteBuffer file, Optional<MemoryCipher> cipher) {
+            if (file.getInt() != MAGIC || file.get() != VERSION) {
+                throw new IllegalArgumentException("Not a search file segment of version " + VERSION);
+            }
+            boolean isEncrypted = file.get() == FLAG_ENCRYPTED;
+            file.get(jsonHash);
+            byte[] dictionaryBytes = new byte[file.getInt()];
+            int postingsLength = file.getInt();
+            file.get(dictionaryBytes);
+            postings = file.slice();
+            postings.limit(postingsLength);
+            file.position(file.position() + postingsLength);
+
+            if (isEncrypted) {
+                dictionaryBytes = cipher.orElseThrow(() -> new IllegalArgumentException("No cipher to decrypt with"))
+                        .decryptBytes(dictionaryBytes);
+            }
+            ByteBuffer dictionary = ByteBuffer.wrap(dictionaryBytes);
+            int memoryCount = readVarInt(dictionary);
+            long offset = 0;
+            for (int i = 0; i < memoryCount; i++) {
+                offset += readVarLong(dictionary);
+                wordCounts.put(offset, readVarInt(dictionary));
+            }
+            int termCount = readVarInt(dictionary);
+            byte[] previousWord = new byte[0];
+            int postingsStart = 0;
+            for (int i = 0; i < termCount; i++) {
+                int sharedLength = readVarInt(dictionary);
+                if (sharedLength > previousWord.length) {
+                    throw new IllegalArgumentException("Word shares more than the word before it");
+                }
+                byte[] word = Arrays.copyOf(previousWord, sharedLength + readVarInt(dictionary));
+                dictionary.get(word, sharedLength, word.length - sharedLength);
+                int memoriesWithWord = readVarInt(dictionary);
+                postingsStart += readVarInt(dictionary);
+                terms.put(new String(word, StandardCharsets.UTF_8), new Term(postingsStart, memoriesWithWord));
+                previousWord = word;
+            }
+        }
+
+        /**
+         * Returns the offset of every memory with {@code word} in it, and how many times it is there.
+         */
+        private Map<Long, Integer> getPostings(String word) {
+            Term term = terms.get(word);
+            if (term == null) {
+                return Map.of();
+            }
+            ByteBuffer buffer = postings.duplicate();
+            buffer.position(term.postingsStart);
+            Map<Long, Integer> counts = new LinkedHashMap<>();
+            long offset = 0;
+            for (int i = 0; i < term.memoriesWithWord; i++) {
+                offset += readVarLong(buffer);
+                counts.put(offset, readVarInt(buffer));
+            }
+            return counts;
+        }
+    }
+
+    /**
+     * Where the postings of a word start in its segment, and the number of memories in them.
+     */
+    private static class Term {
+        private final int postingsStart;
+        private final int memoriesWithWord;
+
+        private Term(int postingsStart, int memoriesWithWord) {
+            this.postingsStart = postingsStart;
+            this.memoriesWithWord = memoriesWithWord;
+        }
+    }
+
+    /**
+     * The words of the memories still used, from every segment of the file.
+     */
+    private class Postings implements MemoryPostings {
+        private final List<Segment> segments;
+        private final Map<Long, ? extends MemoryBody> liveBodies;
+        private final Map<MemoryBody, Integer> wordCounts = new IdentityHashMap<>();
+        private final Set<String> words = new TreeSet<>();
+
+        private Postings(List<Segment> segments, Map<Long, ? extends MemoryBody> liveBodies) {
+            this.segments = segments;
+            this.liveBodies = liveBodies;
+            for (Segment segment : segments) {
+                segment.wordCounts.forEach((offset, wordCount) -> {
+                    MemoryBody body = liveBodies.get(offset);
+                    if (body != null) {
+                        wordCounts.put(body, wordCount);
+                    }
+                });
+                words.addAll(segment.terms.keySet());
+            }
+        }
+
+        @Override
+        public int getWordCount(MemoryBody body) {
+            return wordCounts.getOrDefault(body, -1);
+        }
+
+        @Override
+        public Collection<String> getWords() {
+            return Collections.unmodifiableSet(words);
+        }
+
+        @Override
+        public Map<MemoryBody, Integer> getPostings(String word) {
+            Map<MemoryBody, Integer> postings = new IdentityHashMap<>();
+            try {
+                for (Segment segment : segments) {
+                    segment.getPostings(word).forEach((offset, count) -> {
+                        MemoryBody body = liveBodies.get(offset);
+                        if (body != null) {
+                            postings.put(body, count);
+                        }
+                    });
+                }
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                throw new UncheckedIOException(new IOException(filePath + " is not a complete search file", e));
+            }
+            return postings;
+        }
+    }
+}
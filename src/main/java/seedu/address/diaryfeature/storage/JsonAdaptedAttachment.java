@@ -0,0 +1,46 @@
+package seedu.address.diaryfeature.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.diaryfeature.model.diaryEntry.Attachment;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Jackson-friendly version of {@link Attachment}.
+ * Only the hash of the file is kept here, as the file itself is in the {@link AttachmentDirectory}.
+ */
+public class JsonAdaptedAttachment {
+
+    private final String hash;
+    private final String fileName;
+
+    /**
+     * Constructs a {@code JsonAdaptedAttachment} with the given hash and file name.
+     */
+    @JsonCreator
+    public JsonAdaptedAttachment(@JsonProperty("hash") String hash, @JsonProperty("fileName") String fileName) {
+        this.hash = hash;
+        this.fileName = fileName;
+    }
+
+    /**
+     * Converts a given {@code Attachment} into this class for Jackson use.
+     */
+    public JsonAdaptedAttachment(Attachment source) {
+        hash = source.getHash();
+        fileName = source.getFileName();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted attachment into the model's {@code Attachment}.
+     *
+     * @throws ParseException if the hash or file name is not valid.
+     */
+    public Attachment toModelType() throws ParseException {
+        if (hash == null || fileName == null || !Attachment.isValidAttachment(hash, fileName)) {
+            throw new ParseException(Attachment.MESSAGE_CONSTRAINTS);
+        }
+        return new Attachment(hash, fileName);
+    }
+}
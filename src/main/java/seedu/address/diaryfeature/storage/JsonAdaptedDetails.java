@@ -1,59 +1,97 @@
 package seedu.address.diaryfeature.storage;
 
+import java.util.Base64;
 import java.util.Optional;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.diaryfeature.logic.parser.ParserUtil;
 import seedu.address.diaryfeature.model.details.Details;
 import seedu.address.diaryfeature.model.details.Password;
+import seedu.address.diaryfeature.model.details.StoredDetails;
 import seedu.address.diaryfeature.model.details.Username;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
- * Jackson-friendly version of {@link seedu.address.diaryfeature.model.diaryEntry.DiaryEntry}.
+ * Jackson-friendly version of {@link StoredDetails}.
+ * The password is kept as a verifier and its salt. Older diaries kept the password itself, which can still be read
+ * and is left out when the diary is saved again.
  */
-
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class JsonAdaptedDetails {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Details are incomplete";
+    public static final String MESSAGE_CORRUPTED = "Details have been corrupted";
 
     private final String username;
     private final String password;
+    private final String passwordSalt;
+    private final String passwordVerifier;
 
 
     /**
-     * Constructs a {@code JsonAdaptedDiaryEntry} with the given person details.
+     * Constructs a {@code JsonAdaptedDetails} with the given details.
      */
     @JsonCreator
-    public JsonAdaptedDetails(@JsonProperty("username") String username, @JsonProperty("password") String password) {
+    public JsonAdaptedDetails(@JsonProperty("username") String username, @JsonProperty("password") String password,
+                              @JsonProperty("passwordSalt") String passwordSalt,
+                              @JsonProperty("passwordVerifier") String passwordVerifier) {
         this.username = username;
         this.password = password;
+        this.passwordSalt = passwordSalt;
+        this.passwordVerifier = passwordVerifier;
 
     }
 
-    public JsonAdaptedDetails(Optional<Details> source) {
+    /**
+     * Converts the given details into this class for Jackson use, without the password.
+     */
+    public JsonAdaptedDetails(Optional<StoredDetails> source) {
+        password = null;
         if (source.isEmpty()) {
             username = "null";
-            password = "null";
+            passwordSalt = null;
+            passwordVerifier = null;
         } else {
             username = source.get().getUserName().toString();
-            password = source.get().getPassword().toString();
+            passwordSalt = Base64.getEncoder().encodeToString(source.get().getPasswordSalt());
+            passwordVerifier = Base64.getEncoder().encodeToString(source.get().getPasswordVerifier());
+        }
+    }
+
+    /**
+     * Returns the password kept by an older diary, which is used once to unlock its memories.
+     */
+    public Optional<Password> getLegacyPassword() {
+        if (password == null || password.equalsIgnoreCase("null") || passwordVerifier != null) {
+            return Optional.empty();
         }
+        return Optional.of(new Password(password));
     }
 
     /**
-     * Converts this Jackson-friendly adapted person object into the addressBookModel's {@code Person} object.
+     * Converts this Jackson-friendly adapted details object into the model's {@code StoredDetails} object.
      */
-    public Optional<Details> toModelType() throws ParseException {
-        if (username.equalsIgnoreCase("null") || password.equalsIgnoreCase("null")) {
+    public Optional<StoredDetails> toModelType() throws ParseException {
+        if (username == null || username.equalsIgnoreCase("null")) {
+            return Optional.empty();
+        } else if (!ParserUtil.isValidEncryptedDetail(username)) {
+            throw new ParseException(MESSAGE_CORRUPTED);
+        } else if (passwordSalt != null && passwordVerifier != null) {
+            try {
+                return Optional.of(new StoredDetails(new Username(username), Base64.getDecoder().decode(passwordSalt),
+                        Base64.getDecoder().decode(passwordVerifier)));
+            } catch (IllegalArgumentException error) {
+                throw new ParseException(MESSAGE_CORRUPTED);
+            }
+        } else if (password != null && password.equalsIgnoreCase("null")) {
             return Optional.empty();
-        } else if (ParserUtil.isValidEncryptedDetail(username) && ParserUtil.isValidEncryptedDetail(password)) {
-            Details curr = new Details(new Username(username), new Password(password));
-            return Optional.of(curr);
+        } else if (ParserUtil.isValidEncryptedDetail(password)) {
+            return Optional.of(StoredDetails.of(new Details(new Username(username), new Password(password))));
         } else {
-            throw new ParseException("Details have been corrupted");
+            throw new ParseException(MESSAGE_CORRUPTED);
         }
     }
 
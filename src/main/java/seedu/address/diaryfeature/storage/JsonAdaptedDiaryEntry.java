@@ -1,22 +1,33 @@
 package seedu.address.diaryfeature.storage;
 
-import java.util.Date;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.diaryfeature.logic.parser.Encryptor;
 import seedu.address.diaryfeature.logic.parser.ParserUtil;
 import seedu.address.diaryfeature.logic.parser.exceptions.DiaryEntryExceptions.DiaryEntryParseException;
+import seedu.address.diaryfeature.logic.parser.exceptions.DiaryEntryExceptions.MemoryParseException;
+import seedu.address.diaryfeature.model.details.MemoryCipher;
+import seedu.address.diaryfeature.model.diaryEntry.Attachment;
 import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
 import seedu.address.diaryfeature.model.diaryEntry.Memory;
 import seedu.address.diaryfeature.model.diaryEntry.Place;
 import seedu.address.diaryfeature.model.diaryEntry.Title;
+import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Jackson-friendly version of {@link seedu.address.diaryfeature.model.diaryEntry.DiaryEntry}.
+ * The memory is kept in the body file of the diary, and only where it is in that file is kept here.
+ * Older diaries kept the memory itself here, which can still be read.
+ * Attachments are kept as their hashes, and are left out when an entry has none.
  */
-
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class JsonAdaptedDiaryEntry {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Diary's %s field is missing!";
@@ -25,7 +36,11 @@ public class JsonAdaptedDiaryEntry {
     private final String date;
     private final String place;
     private final String memory;
+    private final String encryptedMemory;
+    private final Long bodyOffset;
+    private final Integer bodyLength;
     private final String isPrivate;
+    private final List<JsonAdaptedAttachment> attachments;
 
     /**
      * Constructs a {@code JsonAdaptedDiaryEntry} with the given person details.
@@ -33,41 +48,80 @@ public class JsonAdaptedDiaryEntry {
     @JsonCreator
     public JsonAdaptedDiaryEntry(@JsonProperty("title") String title, @JsonProperty("date") String date,
                                  @JsonProperty("place") String place, @JsonProperty("memory") String memory,
-                                 @JsonProperty("isPrivate") String isPrivate) {
+                                 @JsonProperty("encryptedMemory") String encryptedMemory,
+                                 @JsonProperty("bodyOffset") Long bodyOffset,
+                                 @JsonProperty("bodyLength") Integer bodyLength,
+                                 @JsonProperty("isPrivate") String isPrivate,
+                                 @JsonProperty("attachments") List<JsonAdaptedAttachment> attachments) {
         this.title = title;
         this.date = date;
         this.place = place;
         this.memory = memory;
+        this.encryptedMemory = encryptedMemory;
+        this.bodyOffset = bodyOffset;
+        this.bodyLength = bodyLength;
         this.isPrivate = isPrivate;
+        this.attachments = attachments == null || attachments.isEmpty() ? null : new ArrayList<>(attachments);
     }
 
     /**
-     * Converts a given {@code Person} into this class for Jackson use.
+     * Converts a given {@code Person} into this class for Jackson use, with its memory stored at {@code body}.
      */
-    public JsonAdaptedDiaryEntry(DiaryEntry source) {
+    public JsonAdaptedDiaryEntry(DiaryEntry source, DiaryBodyFile.Body body) {
         title = source.getTitle().toString();
         date = source.getDateAsStringtoStore();
         place = source.getPlace().toString();
-        memory = Encryptor.encrypt(source.getMemory().toSave());
+        memory = null;
+        encryptedMemory = null;
+        bodyOffset = body.getOffset();
+        bodyLength = body.getLength();
         isPrivate = String.valueOf(source.getPrivacy());
-
+        List<JsonAdaptedAttachment> sourceAttachments = new ArrayList<>();
+        for (Attachment attachment : source.getAttachments()) {
+            sourceAttachments.add(new JsonAdaptedAttachment(attachment));
+        }
+        attachments = sourceAttachments.isEmpty() ? null : sourceAttachments;
     }
 
     /**
      * Converts this Jackson-friendly adapted person object into the addressBookModel's {@code Person} object.
+     * The memory is left in {@code bodyFile}, to be read and decrypted by {@code cipher} when it is needed.
      */
-    public DiaryEntry toModelType() throws DiaryEntryParseException {
+    public DiaryEntry toModelType(Optional<MemoryCipher> cipher, Optional<DiaryBodyFile> bodyFile)
+            throws DiaryEntryParseException, ParseException {
         final Title modelTitle = ParserUtil.parseTitle(title);
-        final Date modelDate = ParserUtil.parseDate(date);
+        final LocalDateTime modelDate = ParserUtil.parseDate(date);
         final Place modelPlace = ParserUtil.parsePlace(place);
-        Memory modelMemory = ParserUtil.parseMemory(Encryptor.decrypt(memory));
+        Memory modelMemory;
+        if (bodyOffset != null && bodyLength != null && bodyFile.isPresent()) {
+            try {
+                modelMemory = Memory.stored(bodyFile.get().getBody(bodyOffset, bodyLength, cipher.isPresent()),
+                        cipher.orElse(null));
+            } catch (IllegalArgumentException error) {
+                throw new MemoryParseException();
+            }
+        } else if (bodyOffset != null || bodyLength != null) {
+            throw new MemoryParseException();
+        } else if (encryptedMemory != null && cipher.isPresent()) {
+            modelMemory = Memory.encrypted(encryptedMemory, cipher.get());
+        } else if (encryptedMemory != null) {
+            throw new MemoryParseException();
+        } else {
+            modelMemory = ParserUtil.parseMemory(Encryptor.decrypt(memory));
+        }
         boolean privacy = Boolean.valueOf(isPrivate);
         if (privacy) {
             modelMemory.setPrivate();
         } else {
             modelMemory.unPrivate();
         }
-        DiaryEntry curr = new DiaryEntry(modelTitle, modelDate, modelPlace, modelMemory);
+        List<Attachment> modelAttachments = new ArrayList<>();
+        if (attachments != null) {
+            for (JsonAdaptedAttachment attachment : attachments) {
+                modelAttachments.add(attachment.toModelType());
+            }
+        }
+        DiaryEntry curr = new DiaryEntry(modelTitle, modelDate, modelPlace, modelMemory, modelAttachments);
         return curr;
     }
 
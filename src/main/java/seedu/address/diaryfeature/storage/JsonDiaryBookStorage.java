@@ -3,8 +3,23 @@ package seedu.address.diaryfeature.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -12,15 +27,43 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.diaryfeature.model.DiaryBook;
+import seedu.address.diaryfeature.model.MemoryPostings;
+import seedu.address.diaryfeature.model.details.MemoryCipher;
+import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
+import seedu.address.diaryfeature.model.diaryEntry.Memory;
+import seedu.address.diaryfeature.model.diaryEntry.MemoryBody;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Json diary book
+ * <br>
+ * The json file is an index of the entries, with where the memory of each entry is in a body file next to it.
+ * Saving only appends the memories that are not in the body file yet. Once most of the body file is memories that
+ * were deleted, the memories still used are moved to a new body file and the old one is deleted.
+ * <br>
+ * The words of the memories in the body file are indexed in a {@link DiarySearchFile} next to it, written in the
+ * background after every save, so that loading the diary book does not read every memory to search them. Only the
+ * diary book at the path this storage was made with keeps a search file. The search file of an encrypted diary is
+ * only read once the diary is unlocked, and is not written while it is locked.
  */
 public class JsonDiaryBookStorage implements DiaryBookStorage {
+    /** Size below which a body file is never compacted, however much of it is unused. */
+    public static final long COMPACTION_MINIMUM_SIZE = 64 * 1024;
+    private static final String BODY_FILE_EXTENSION = ".bodies";
+    private static final String SEARCH_FILE_EXTENSION = ".search";
+    private static final String ATTACHMENT_DIRECTORY_EXTENSION = ".attachments";
     private static final Logger logger = LogsCenter.getLogger(
             seedu.address.diaryfeature.storage.JsonDiaryBookStorage.class);
+    private static final ExecutorService searchFileWriter = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "diary-search-index");
+        thread.setDaemon(true);
+        return thread;
+    });
     private Path filePath;
+    private DiaryBodyFile bodyFile;
+    /** Search file of the body file, if it has every memory saved so far, written with searchFileCipher. */
+    private volatile DiarySearchFile searchFile;
+    private MemoryCipher searchFileCipher;
 
     public JsonDiaryBookStorage(Path filePath) {
         this.filePath = filePath;
@@ -30,6 +73,14 @@ public class JsonDiaryBookStorage implements DiaryBookStorage {
         return filePath;
     }
 
+    /**
+     * Returns the directory the files attached to the entries of the diary book are stored in, next to it.
+     */
+    public AttachmentDirectory getAttachmentDirectory() {
+        String name = filePath.getFileName().toString().replaceFirst("\\.json$", "");
+        return new AttachmentDirectory(filePath.resolveSibling(name + ATTACHMENT_DIRECTORY_EXTENSION));
+    }
+
     @Override
     public void saveDiaryBook(DiaryBook diaryBook) throws IOException {
         saveDiaryBook(diaryBook, filePath);
@@ -43,7 +94,140 @@ public class JsonDiaryBookStorage implements DiaryBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableDiaryBook(diaryBook), filePath);
+        DiaryBodyFile bodies = filePath.equals(this.filePath) && bodyFile != null ? bodyFile : newBodyFile(filePath);
+        long sizeBeforeSave = bodies.getSize();
+        Optional<MemoryCipher> cipher = diaryBook.getMemoryCipher();
+        List<DiaryBodyFile.Body> storedBodies = new ArrayList<>();
+        for (DiaryEntry entry : diaryBook.getDiaryEntryList()) {
+            storedBodies.add(bodies.store(entry.getMemory(), cipher));
+        }
+
+        DiaryBodyFile compactedBodies = isWasteful(bodies, storedBodies) ? compact(filePath, storedBodies) : bodies;
+        JsonUtil.saveJsonFile(new JsonSerializableDiaryBook(diaryBook, storedBodies,
+                compactedBodies.getFilePath().getFileName().toString()), filePath);
+        if (compactedBodies != bodies) {
+            Files.deleteIfExists(bodies.getFilePath());
+        }
+        if (filePath.equals(this.filePath)) {
+            boolean isSearchFileCurrent = searchFile != null && bodyFile == compactedBodies
+                    && searchFileCipher == cipher.orElse(null);
+            bodyFile = compactedBodies;
+            updateSearchFile(diaryBook, storedBodies, isSearchFileCurrent ? sizeBeforeSave : -1);
+        }
+    }
+
+    /**
+     * Writes the words of the memories of {@code diaryBook}, just saved to {@code storedBodies}, to the search file
+     * in the background. Only the memories appended from {@code sizeBeforeSave} are added to the search file,
+     * unless it is -1, in which case the search file is written again with every memory.
+     * While the diary is locked, the search file is left as it is, to be written again once it is unlocked.
+     */
+    private void updateSearchFile(DiaryBook diaryBook, List<DiaryBodyFile.Body> storedBodies, long sizeBeforeSave)
+            throws IOException {
+        Optional<MemoryCipher> cipher = diaryBook.getMemoryCipher();
+        if (diaryBook.isLocked()) {
+            searchFile = null;
+            return;
+        }
+        byte[] jsonHash = DiarySearchFile.hash(Files.readAllBytes(filePath));
+        SortedMap<Long, Memory> memories = new TreeMap<>();
+        Set<Long> liveOffsets = new HashSet<>();
+        List<DiaryEntry> entries = diaryBook.getDiaryEntryList();
+        for (int i = 0; i < entries.size(); i++) {
+            long offset = storedBodies.get(i).getOffset();
+            liveOffsets.add(offset);
+            if (offset >= sizeBeforeSave) {
+                memories.put(offset, entries.get(i).getMemory());
+            }
+        }
+
+        DiarySearchFile previousSearchFile = searchFile;
+        DiarySearchFile nextSearchFile = new DiarySearchFile(toSearchFilePath(bodyFile));
+        searchFile = nextSearchFile;
+        searchFileCipher = cipher.orElse(null);
+        searchFileWriter.execute(() -> {
+            try {
+                if (sizeBeforeSave < 0) {
+                    if (previousSearchFile != null && previousSearchFile != nextSearchFile) {
+                        previousSearchFile.delete();
+                    }
+                    nextSearchFile.write(jsonHash, readMemories(memories), cipher);
+                } else {
+                    nextSearchFile.append(jsonHash, readMemories(memories), cipher);
+                    nextSearchFile.mergeIfFragmented(liveOffsets, cipher);
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.warning(() -> "Could not write " + nextSearchFile.getFilePath() + ": " + e);
+                searchFile = null;
+            }
+        });
+    }
+
+    /**
+     * Returns the text of each of {@code memories}, leaving out those that cannot be read.
+     */
+    private static SortedMap<Long, String> readMemories(SortedMap<Long, Memory> memories) {
+        SortedMap<Long, String> texts = new TreeMap<>();
+        memories.forEach((offset, memory) -> {
+            try {
+                texts.put(offset, memory.toSave());
+            } catch (IllegalArgumentException | UncheckedIOException e) {
+                logger.warning(() -> "Memory at " + offset + " is not indexed: " + e.getMessage());
+            }
+        });
+        return texts;
+    }
+
+    /**
+     * Waits until the search files have been written for every save so far.
+     */
+    static void awaitSearchFiles() throws InterruptedException, ExecutionException {
+        searchFileWriter.submit(() -> { }).get();
+    }
+
+    private static Path toSearchFilePath(DiaryBodyFile bodies) {
+        String name = bodies.getFilePath().getFileName().toString().replaceFirst("\\.bodies$", "");
+        return bodies.getFilePath().resolveSibling(name + SEARCH_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns true if most of {@code bodies} is taken up by memories other than {@code storedBodies}.
+     */
+    private static boolean isWasteful(DiaryBodyFile bodies, List<DiaryBodyFile.Body> storedBodies) {
+        long usedSize = 0;
+        for (DiaryBodyFile.Body body : storedBodies) {
+            usedSize += body.getLength();
+        }
+        return bodies.getSize() >= COMPACTION_MINIMUM_SIZE && usedSize * 2 < bodies.getSize();
+    }
+
+    /**
+     * Moves {@code storedBodies} to a new body file for the diary book at {@code filePath}, and returns it.
+     */
+    private static DiaryBodyFile compact(Path filePath, List<DiaryBodyFile.Body> storedBodies) throws IOException {
+        DiaryBodyFile compactedBodies = newBodyFile(filePath);
+        Set<DiaryBodyFile.Body> movedBodies = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (DiaryBodyFile.Body body : storedBodies) {
+            if (movedBodies.add(body)) {
+                compactedBodies.moveIn(body);
+            }
+        }
+        logger.info(() -> "Compacted the memories of " + filePath + " into " + compactedBodies.getFilePath());
+        return compactedBodies;
+    }
+
+    /**
+     * Returns a body file for the diary book at {@code filePath} that does not exist yet.
+     */
+    private static DiaryBodyFile newBodyFile(Path filePath) throws IOException {
+        String name = filePath.getFileName().toString().replaceFirst("\\.json$", "");
+        Path bodyFilePath;
+        int generation = 0;
+        do {
+            generation++;
+            bodyFilePath = filePath.resolveSibling(name + "." + generation + BODY_FILE_EXTENSION);
+        } while (Files.exists(bodyFilePath));
+        return new DiaryBodyFile(bodyFilePath);
     }
 
 
@@ -67,15 +251,54 @@ public class JsonDiaryBookStorage implements DiaryBookStorage {
 
         try {
             logger.info("using written book");
-            return Optional.of(jsonDiaryBook.get().toModelType());
+            Optional<DiaryBodyFile> bodies = Optional.empty();
+            if (jsonDiaryBook.get().getBodyFile().isPresent()) {
+                bodies = Optional.of(new DiaryBodyFile(
+                        filePath.resolveSibling(jsonDiaryBook.get().getBodyFile().get())));
+            }
+            DiaryBook diaryBook = jsonDiaryBook.get().toModelType(bodies);
+            if (filePath.equals(this.filePath)) {
+                bodyFile = bodies.orElse(null);
+                readSearchFile(diaryBook);
+            }
+            return Optional.of(diaryBook);
 
-        } catch (ParseException error) {
-            logger.info("Illegal values found in " + filePath + ": " + error);
+        } catch (ParseException | IOException error) {
+            logger.info(() -> "Illegal values found in " + filePath + ": " + error);
             throw new DataConversionException(error);
         }
     }
 
-
+    /**
+     * Gives {@code diaryBook} the words of its memories from the search file of the body file, if the search file
+     * was written for the json file as it is. The words of a locked diary are only read once it is unlocked, as they
+     * are encrypted, and the search file is then written again by the next save.
+     */
+    private void readSearchFile(DiaryBook diaryBook) throws IOException {
+        searchFile = null;
+        searchFileCipher = diaryBook.getMemoryCipher().orElse(null);
+        if (bodyFile == null) {
+            return;
+        }
+        Map<Long, MemoryBody> liveBodies = new HashMap<>();
+        for (DiaryEntry entry : diaryBook.getDiaryEntryList()) {
+            entry.getMemory().getBody()
+                    .filter(body -> body instanceof DiaryBodyFile.Body)
+                    .ifPresent(body -> liveBodies.put(((DiaryBodyFile.Body) body).getOffset(), body));
+        }
+        DiarySearchFile storedSearchFile = new DiarySearchFile(toSearchFilePath(bodyFile));
+        byte[] jsonHash = DiarySearchFile.hash(Files.readAllBytes(filePath));
+        if (diaryBook.isLocked()) {
+            diaryBook.whenUnlocked(() -> storedSearchFile.read(jsonHash, diaryBook.getMemoryCipher(), liveBodies)
+                    .ifPresent(diaryBook::setMemoryPostings));
+            return;
+        }
+        Optional<MemoryPostings> postings = storedSearchFile.read(jsonHash, diaryBook.getMemoryCipher(), liveBodies);
+        if (postings.isPresent()) {
+            diaryBook.setMemoryPostings(postings.get());
+            searchFile = storedSearchFile;
+        }
+    }
 }
 
 
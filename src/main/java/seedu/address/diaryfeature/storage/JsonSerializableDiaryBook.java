@@ -1,8 +1,9 @@
 package seedu.address.diaryfeature.storage;
 
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -11,6 +12,9 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.diaryfeature.logic.parser.exceptions.DiaryEntryExceptions.DiaryEntryParseException;
 import seedu.address.diaryfeature.model.DiaryBook;
+import seedu.address.diaryfeature.model.details.MemoryCipher;
+import seedu.address.diaryfeature.model.details.Password;
+import seedu.address.diaryfeature.model.details.StoredDetails;
 import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -20,18 +24,25 @@ import seedu.address.logic.parser.exceptions.ParseException;
 @JsonRootName(value = "diaryBook")
 public class JsonSerializableDiaryBook {
 
+    public static final String MESSAGE_CORRUPTED_SALT = "The salt of the memories has been corrupted";
 
     private final List<JsonAdaptedDiaryEntry> entries = new ArrayList<>();
     private final JsonAdaptedDetails detail;
+    private final String memorySalt;
+    private final String bodyFile;
 
     /**
      * Constructs a {@code JsonSerializableDiaryBook} with the given entries.
      */
     @JsonCreator
     public JsonSerializableDiaryBook(@JsonProperty("entries") List<JsonAdaptedDiaryEntry> entries,
-                                     @JsonProperty("details") JsonAdaptedDetails detail) {
+                                     @JsonProperty("details") JsonAdaptedDetails detail,
+                                     @JsonProperty("memorySalt") String memorySalt,
+                                     @JsonProperty("bodyFile") String bodyFile) {
         this.entries.addAll(entries);
         this.detail = detail;
+        this.memorySalt = memorySalt;
+        this.bodyFile = bodyFile;
 
     }
 
@@ -39,27 +50,60 @@ public class JsonSerializableDiaryBook {
      * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use.
      *
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
+     * @param bodies where the memory of each entry of {@code source} is stored, in the same order as the entries
+     * @param bodyFile name of the file the memories are stored in
      */
-    public JsonSerializableDiaryBook(DiaryBook source) {
-        entries.addAll(
-                source.getDiaryEntryList().stream().
-                        map(JsonAdaptedDiaryEntry::new).
-                        collect(Collectors.toList()));
+    public JsonSerializableDiaryBook(DiaryBook source, List<DiaryBodyFile.Body> bodies, String bodyFile) {
+        List<DiaryEntry> sourceEntries = source.getDiaryEntryList();
+        for (int i = 0; i < sourceEntries.size(); i++) {
+            entries.add(new JsonAdaptedDiaryEntry(sourceEntries.get(i), bodies.get(i)));
+        }
         detail = new JsonAdaptedDetails(source.getDetails());
+        memorySalt = source.getMemoryCipher()
+                .map(memoryCipher -> Base64.getEncoder().encodeToString(memoryCipher.getSalt()))
+                .orElse(null);
+        this.bodyFile = bodyFile;
+    }
+
+    /**
+     * Returns the name of the file the memories are stored in, which is in the same folder as this diary book,
+     * or nothing if the memories are stored in this diary book.
+     */
+    public Optional<String> getBodyFile() {
+        return Optional.ofNullable(bodyFile);
     }
 
     /**
      * Converts this address book into the addressBookModel's {@code AddressBook} object.
      *
+     * @param bodyFile the file the memories are stored in, opened from {@link #getBodyFile()}
      * @throws IllegalValueException if there were any data constraints violated.
      */
-    public DiaryBook toModelType() throws DiaryEntryParseException, ParseException {
+    public DiaryBook toModelType(Optional<DiaryBodyFile> bodyFile) throws DiaryEntryParseException, ParseException {
         DiaryBook diaryBook = new DiaryBook();
+        Optional<StoredDetails> details = detail.toModelType();
+        Optional<Password> legacyPassword = detail.getLegacyPassword();
+        Optional<MemoryCipher> cipher = Optional.empty();
+        if (memorySalt != null && details.isPresent()) {
+            byte[] salt;
+            try {
+                salt = Base64.getDecoder().decode(memorySalt);
+            } catch (IllegalArgumentException error) {
+                throw new ParseException(MESSAGE_CORRUPTED_SALT);
+            }
+            // the key is only derived when the diary is unlocked, unless an older diary kept the password
+            cipher = Optional.of(legacyPassword.isPresent()
+                    ? new MemoryCipher(legacyPassword.get(), salt)
+                    : new MemoryCipher(salt));
+        } else if (details.isPresent() && legacyPassword.isPresent()) {
+            cipher = Optional.of(MemoryCipher.withNewSalt(legacyPassword.get()));
+        }
         for (JsonAdaptedDiaryEntry jsonAdaptedDiaryEntry : entries) {
-            DiaryEntry diaryEntry = jsonAdaptedDiaryEntry.toModelType();
+            DiaryEntry diaryEntry = jsonAdaptedDiaryEntry.toModelType(cipher, bodyFile);
             diaryBook.addDiaryEntry(diaryEntry);
         }
-        diaryBook.setinnerDetails(detail.toModelType());
+        diaryBook.setinnerDetails(details);
+        cipher.ifPresent(diaryBook::setMemoryCipher);
         return diaryBook;
     }
 
@@ -1,9 +1,13 @@
 package seedu.address.diaryfeature.ui;
 
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
+import javafx.scene.control.Tooltip;
+import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.diaryfeature.model.diaryEntry.Attachment;
 import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
 import seedu.address.ui.UiPart;
 
@@ -36,17 +40,30 @@ public class DiaryEntryCard extends UiPart<Region> {
     private Label place;
     @FXML
     private Label memory;
+    @FXML
+    private HBox attachments;
 
     //Image credited to: Icon made by Icongeek26 from Flaticon
 
-    public DiaryEntryCard(DiaryEntry entryInput, int displayedIndex) {
+    public DiaryEntryCard(DiaryEntry entryInput, int displayedIndex, ThumbnailCache thumbnails) {
         super(FXML);
         this.entry = entryInput;
         id.setText(displayedIndex + ". ");
         title.setText("TITLE: " + entry.getTitle().toString());
-        date.setText("DATE: " + entry.getDate().toString());
+        date.setText("DATE: " + entry.getDateAsString());
         place.setText("PLACE: " + entry.getPlace());
         memory.setText("MEMORY: " + entry.getMemory());
+        for (Attachment attachment : entry.getAttachments()) {
+            attachments.getChildren().add(thumbnails.getThumbnail(attachment).<Node>map(thumbnail -> {
+                ImageView view = new ImageView(thumbnail);
+                Tooltip.install(view, new Tooltip(attachment.getFileName()));
+                return view;
+            }).orElseGet(() -> {
+                Label fileName = new Label(attachment.getFileName());
+                fileName.getStyleClass().add("cell_small_label");
+                return fileName;
+            }));
+        }
     }
 
     @Override
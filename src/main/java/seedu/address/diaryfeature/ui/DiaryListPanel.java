@@ -21,8 +21,11 @@ public class DiaryListPanel extends UiPart<Region> {
     @FXML
     private ListView<DiaryEntry> diaryListView;
 
-    public DiaryListPanel(ObservableList<DiaryEntry> entries) {
+    private final ThumbnailCache thumbnails;
+
+    public DiaryListPanel(ObservableList<DiaryEntry> entries, ThumbnailCache thumbnails) {
         super(FXML);
+        this.thumbnails = thumbnails;
         diaryListView.setItems(entries);
         diaryListView.setCellFactory(listView -> new DiaryListViewCell());
     }
@@ -39,7 +42,7 @@ public class DiaryListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new DiaryEntryCard(entry, getIndex() + 1).getRoot());
+                setGraphic(new DiaryEntryCard(entry, getIndex() + 1, thumbnails).getRoot());
             }
         }
     }
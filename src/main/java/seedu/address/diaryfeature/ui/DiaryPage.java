@@ -8,15 +8,17 @@ import javafx.scene.Parent;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
+import seedu.address.commons.core.Lazy;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.diaryfeature.logic.DiaryBookLogic;
 import seedu.address.diaryfeature.logic.parser.DiaryBookParser;
 import seedu.address.diaryfeature.logic.parser.exceptions.EmptyArgumentException;
+import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.ui.CodeWindow;
 import seedu.address.ui.CommandBox;
+import seedu.address.ui.FxThreadList;
 import seedu.address.ui.Page;
 import seedu.address.ui.PageManager;
 import seedu.address.ui.PageType;
@@ -37,12 +39,13 @@ public class DiaryPage extends UiPart<Region> implements Page {
 
 
     // Independent Ui parts residing in this Ui container
+    private FxThreadList<DiaryEntry> diaryEntries;
     private DiaryListPanel diaryListPanel;
     private ResultDisplay resultDisplay;
     private DiaryBookParser parser;
     private DiaryBookLogic logicHandler;
-    private DiaryHelpWindow helpWindow;
-    private CodeWindow codeWindow;
+    private final Lazy<DiaryHelpWindow> helpWindow = new Lazy<>(DiaryHelpWindow::new);
+    private final Lazy<CodeWindow> codeWindow = new Lazy<>(CodeWindow::new);
 
     @FXML
     private VBox diaryPane;
@@ -60,9 +63,7 @@ public class DiaryPage extends UiPart<Region> implements Page {
     public DiaryPage(DiaryBookLogic logic) {
         super(FXML);
         this.parser = new DiaryBookParser();
-        this.helpWindow = new DiaryHelpWindow();
         this.logicHandler = logic;
-        this.codeWindow = new CodeWindow();
         fillInnerParts();
     }
 
@@ -71,49 +72,50 @@ public class DiaryPage extends UiPart<Region> implements Page {
      */
     private void fillInnerParts() {
 
-        diaryListPanel = new DiaryListPanel(logicHandler.getFilteredDiaryEntryList());
+        diaryEntries = new FxThreadList<>(logicHandler.getFilteredDiaryEntryList());
+        diaryListPanel = new DiaryListPanel(diaryEntries.getList(),
+                new ThumbnailCache(logicHandler.getAttachmentStore()));
         diaryListPanelPlaceholder.getChildren().add(diaryListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(pageType, logicHandler::execute, this::handleResult,
+                this::handleFailure);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
     /**
-     * Executes the command and returns the result.
+     * Shows the result of a command.
      *
      */
-    private CommandResult executeCommand(String commandText) throws
-            ParseException, CommandException, EmptyArgumentException {
-        try {
-            CommandResult commandResult = logicHandler.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
-            if (commandResult.isExit()) {
-                handleExit();
-            }
-
-            return commandResult;
-        } catch (ParseException | EmptyArgumentException e) {
-            logger.info("Invalid command: " + commandText + e);
+    private void handleResult(CommandResult commandResult) {
+        logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+    }
+
+    /**
+     * Shows why a command could not be executed.
+     */
+    private void handleFailure(Exception e) {
+        logger.info(() -> "Invalid command: " + e);
+        if (e instanceof ParseException || e instanceof EmptyArgumentException) {
             resultDisplay.setFeedbackToUser(e.toString());
-            throw e;
-        } catch (CommandException e) {
-            logger.info("Invalid command: " + commandText + e);
+        } else {
             resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
         }
     }
 
     @Override
     public void closeResources() {
-        helpWindow.hide();
-        codeWindow.hide();
+        helpWindow.ifCreated(DiaryHelpWindow::hide);
+        codeWindow.ifCreated(CodeWindow::hide);
     }
 
     /**
@@ -130,10 +132,10 @@ public class DiaryPage extends UiPart<Region> implements Page {
      */
     @FXML
     public void handleHelp() {
-        if (!helpWindow.isShowing()) {
-            helpWindow.show();
+        if (!helpWindow.get().isShowing()) {
+            helpWindow.get().show();
         } else {
-            helpWindow.focus();
+            helpWindow.get().focus();
         }
     }
 
@@ -142,10 +144,10 @@ public class DiaryPage extends UiPart<Region> implements Page {
      */
     @FXML
     public void handleCode() {
-        if (!codeWindow.isShowing()) {
-            codeWindow.show();
+        if (!codeWindow.get().isShowing()) {
+            codeWindow.get().show();
         } else {
-            codeWindow.focus();
+            codeWindow.get().focus();
         }
     }
 
@@ -0,0 +1,51 @@
+package seedu.address.diaryfeature.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javafx.scene.image.Image;
+import seedu.address.diaryfeature.model.AttachmentStore;
+import seedu.address.diaryfeature.model.diaryEntry.Attachment;
+
+/**
+ * Thumbnails of the image attachments of the entries shown.
+ * <br>
+ * A thumbnail is only made the first time its attachment is shown, and is scaled down while the image is loaded
+ * on a background thread, so showing an entry never waits for its images. Only the thumbnails shown last are kept,
+ * as the images attached to a diary can take more memory than the diary itself. Thumbnails are kept by the hash of
+ * their attachment, so a file attached to several entries has one thumbnail.
+ */
+public class ThumbnailCache {
+
+    public static final double THUMBNAIL_SIZE = 48;
+    private static final int CACHE_SIZE = 64;
+
+    private final AttachmentStore attachmentStore;
+    private final Map<String, Image> thumbnails = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Image> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    public ThumbnailCache(AttachmentStore attachmentStore) {
+        requireNonNull(attachmentStore);
+        this.attachmentStore = attachmentStore;
+    }
+
+    /**
+     * Returns the thumbnail of {@code attachment}, which may still be loading, or nothing if it is not an image.
+     * Only to be called on the JavaFX application thread.
+     */
+    public Optional<Image> getThumbnail(Attachment attachment) {
+        if (!attachment.isImage()) {
+            return Optional.empty();
+        }
+        return Optional.of(thumbnails.computeIfAbsent(attachment.getHash(), unused -> new Image(
+                attachmentStore.getPath(attachment).toUri().toString(), THUMBNAIL_SIZE, THUMBNAIL_SIZE, true, true,
+                true)));
+    }
+}
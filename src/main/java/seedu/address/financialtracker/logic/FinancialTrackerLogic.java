@@ -2,6 +2,7 @@ package seedu.address.financialtracker.logic;
 
 import java.io.IOException;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -16,9 +17,11 @@ import seedu.address.financialtracker.model.Model;
 import seedu.address.financialtracker.model.expense.Expense;
 import seedu.address.financialtracker.model.util.FinancialTrackerStatistics;
 import seedu.address.financialtracker.model.util.SampleDataUtil;
+import seedu.address.financialtracker.storage.ExchangeRatesStorage;
 import seedu.address.financialtracker.storage.FinancialTrackerStorage;
 import seedu.address.financialtracker.storage.JsonFinancialTrackerStorage;
 import seedu.address.financialtracker.ui.CountriesDropdown;
+import seedu.address.logic.ScriptRunner;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -55,6 +58,14 @@ public class FinancialTrackerLogic {
             logger.info("Problem while reading from the file. Will be starting with an empty Financial Tracker");
         }
         this.financialTrackerModel = financialTrackerModel;
+
+        financialTrackerModel.addDependencies(new ExchangeRatesStorage(Paths.get("data", "exchangerates.csv")));
+        try {
+            financialTrackerModel.reloadExchangeRates();
+        } catch (CommandException e) {
+            financialTrackerModel.setExchangeRates(ExchangeRatesStorage.readBundledExchangeRates());
+            logger.info("Exchange rates file not in the correct format. Will be using the bundled exchange rates");
+        }
     }
 
     /**
@@ -72,11 +83,17 @@ public class FinancialTrackerLogic {
      * @throws ParseException   if user inputted wrong format of command
      */
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
-        Command command = financialTrackerParser.parseCommand(commandText);
-        commandResult = command.execute(financialTrackerModel);
+        if (ScriptRunner.isRunCommand(commandText)) {
+            commandResult = ScriptRunner.run(commandText, financialTrackerModel,
+                    financialTrackerParser::parseCommand, () -> beginTransaction(financialTrackerModel));
+        } else {
+            Command<Model> command = financialTrackerParser.parseCommand(commandText);
+            commandResult = command.execute(financialTrackerModel);
+        }
+        commandResult = withBudgetAlerts(commandResult);
 
         try {
             storage.saveFinancialTracker(financialTrackerModel.getFinancialTracker());
@@ -87,6 +104,28 @@ public class FinancialTrackerLogic {
         return commandResult;
     }
 
+    /**
+     * Appends to {@code commandResult} the alerts of budgets that the command used up most or all of.
+     */
+    private CommandResult withBudgetAlerts(CommandResult commandResult) {
+        List<String> alerts = financialTrackerModel.takeBudgetAlerts();
+        if (alerts.isEmpty()) {
+            return commandResult;
+        }
+        String feedback = commandResult.getFeedbackToUser() + "\n" + String.join("\n", alerts);
+        return new CommandResult(feedback, commandResult.isShowHelp(), commandResult.isExit(),
+                commandResult.isShowPage(), commandResult.isShowList(), commandResult.isShowClear());
+    }
+
+    /**
+     * Takes a snapshot of the expenses, undo history, budgets and current country of {@code financialTrackerModel},
+     * to be restored if a script fails.
+     */
+    static ScriptRunner.Rollback beginTransaction(Model financialTrackerModel) {
+        FinancialTracker.Snapshot snapshot = financialTrackerModel.getFinancialTracker().snapshot();
+        return () -> financialTrackerModel.getFinancialTracker().restore(snapshot);
+    }
+
     /**
      * Returns an observe only expense list with current country specified in
      * financial tracker.
@@ -103,6 +142,17 @@ public class FinancialTrackerLogic {
         this.financialTrackerModel.setCountry(field);
     }
 
+    public String getCountry() {
+        return this.financialTrackerModel.getCountry();
+    }
+
+    /**
+     * Returns how much is left of every budget of the current country, one budget per line.
+     */
+    public String getBudgetStatus() {
+        return this.financialTrackerModel.getBudgetStatus();
+    }
+
     public FinancialTrackerStatistics getStatistics() {
         return new FinancialStatisticsManager();
     }
@@ -18,6 +18,7 @@ public class AddFinCommand extends Command<Model> {
             + "Parameters: add a/AMOUNT d/DESCRIPTION t/TYPE_OF_EXPENDITURE "
             + "(Remember to select where you at currently!)\n"
             + "You can also specify date and time with [date/DATE] and [time/TIME]\n"
+            + "Expenses are in the currency of the country unless you give one with [cur/CURRENCY]\n"
             + "Example: add a/4.5 d/breakfast t/food";
     public static final String MESSAGE_SUCCESS = "Expense added";
 
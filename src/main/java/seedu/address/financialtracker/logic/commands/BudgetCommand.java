@@ -0,0 +1,118 @@
+package seedu.address.financialtracker.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_AMOUNT;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_COUNTRY;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_CURRENCY;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.financialtracker.model.Budget;
+import seedu.address.financialtracker.model.Model;
+import seedu.address.financialtracker.model.expense.Amount;
+import seedu.address.financialtracker.model.expense.Currency;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Sets, removes or lists the budgets of countries.
+ */
+public class BudgetCommand extends Command<Model> {
+
+    public static final String COMMAND_WORD = "budget";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sets a budget for the current country, or another "
+            + "one, and warns you when you have used 80% and all of it. An amount of 0 removes the budget, and no "
+            + "parameters lists your budgets.\n"
+            + "Parameters: "
+            + PREFIX_AMOUNT + "AMOUNT "
+            + "[" + PREFIX_TYPE + "TYPE] "
+            + "[" + PREFIX_COUNTRY + "COUNTRY] "
+            + "[" + PREFIX_CURRENCY + "CURRENCY]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_AMOUNT + "500 "
+            + PREFIX_TYPE + "food "
+            + PREFIX_COUNTRY + "Japan";
+
+    public static final String MESSAGE_SET = "Budget set: %1$s";
+    public static final String MESSAGE_REMOVED = "Budget removed for %1$s";
+    public static final String MESSAGE_NO_BUDGET = "There is no budget for %1$s";
+    public static final String MESSAGE_LIST = "Your budgets:\n%1$s";
+    public static final String MESSAGE_NO_BUDGETS = "You have no budgets. Set one with " + COMMAND_WORD + " "
+            + PREFIX_AMOUNT + "AMOUNT";
+
+    private final Amount amount;
+    private final Optional<String> type;
+    private final Optional<String> country;
+    private final Optional<Currency> currency;
+
+    /**
+     * Creates a BudgetCommand to list every budget.
+     */
+    public BudgetCommand() {
+        this.amount = null;
+        this.type = Optional.empty();
+        this.country = Optional.empty();
+        this.currency = Optional.empty();
+    }
+
+    /**
+     * Creates a BudgetCommand to set a budget of {@code amount} for {@code type} of expense, or every type,
+     * in {@code country}, or the current country, in {@code currency}, or the home currency.
+     * A budget of nothing removes the budget.
+     */
+    public BudgetCommand(Amount amount, Optional<String> type, Optional<String> country,
+                         Optional<Currency> currency) {
+        requireNonNull(amount);
+        requireNonNull(type);
+        requireNonNull(country);
+        requireNonNull(currency);
+        this.amount = amount;
+        this.type = type;
+        this.country = country;
+        this.currency = currency;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (amount == null) {
+            List<Budget> budgets = model.getBudgets();
+            if (budgets.isEmpty()) {
+                return new CommandResult(MESSAGE_NO_BUDGETS, false, false);
+            }
+            String budgetList = budgets.stream().map(Budget::toString).collect(Collectors.joining("\n"));
+            return new CommandResult(String.format(MESSAGE_LIST, budgetList), false, false);
+        }
+
+        Budget budget = new Budget(country.orElse(model.getCountry()), type.orElse(null), amount,
+                currency.orElse(model.getHomeCurrency()));
+        if (amount.cents == 0) {
+            String message = model.removeBudget(budget.getCountry(), type.orElse(null))
+                    ? MESSAGE_REMOVED : MESSAGE_NO_BUDGET;
+            return new CommandResult(String.format(message, budget.getTarget()), false, false);
+        }
+        model.setBudget(budget);
+        return new CommandResult(CurrencyCommand.withMissingRates(String.format(MESSAGE_SET, budget), model),
+                false, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof BudgetCommand)) {
+            return false;
+        }
+        BudgetCommand otherCommand = (BudgetCommand) other;
+        return (amount == null ? otherCommand.amount == null
+                        : otherCommand.amount != null && amount.cents == otherCommand.amount.cents)
+                && type.equals(otherCommand.type)
+                && country.equals(otherCommand.country)
+                && currency.equals(otherCommand.currency);
+    }
+}
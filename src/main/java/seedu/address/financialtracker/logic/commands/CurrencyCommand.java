@@ -0,0 +1,63 @@
+package seedu.address.financialtracker.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.SortedSet;
+
+import seedu.address.financialtracker.model.Model;
+import seedu.address.financialtracker.model.expense.Currency;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Sets the home currency that summaries are given in, reading the exchange rates again.
+ */
+public class CurrencyCommand extends Command<Model> {
+
+    public static final String COMMAND_WORD = "currency";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the summary of your expenses in another "
+            + "currency, using the exchange rates in data/exchangerates.csv if there is such a file.\n"
+            + "Parameters: CURRENCY\n"
+            + "Example: " + COMMAND_WORD + " SGD";
+    public static final String MESSAGE_SUCCESS = "Summaries are now given in %1$s";
+    public static final String MESSAGE_MISSING_RATES = "No exchange rate for %1$s, so expenses in them are left out "
+            + "of summaries";
+
+    private final Currency homeCurrency;
+
+    /**
+     * Creates a CurrencyCommand to give summaries in {@code homeCurrency}.
+     */
+    public CurrencyCommand(Currency homeCurrency) {
+        requireNonNull(homeCurrency);
+        this.homeCurrency = homeCurrency;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        model.reloadExchangeRates();
+        model.setHomeCurrency(homeCurrency);
+        String message = String.format(MESSAGE_SUCCESS, homeCurrency);
+        return new CommandResult(withMissingRates(message, model), false, false);
+    }
+
+    /**
+     * Appends to {@code message} the currencies that expenses are in but cannot be converted.
+     */
+    public static String withMissingRates(String message, Model model) {
+        SortedSet<String> currenciesWithoutRate = model.getCurrenciesWithoutRate();
+        if (currenciesWithoutRate.isEmpty()) {
+            return message;
+        }
+        return message + "\n" + String.format(MESSAGE_MISSING_RATES, String.join(", ", currenciesWithoutRate));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CurrencyCommand // instanceof handles nulls
+                && homeCurrency.equals(((CurrencyCommand) other).homeCurrency));
+    }
+}
@@ -10,6 +10,7 @@ import seedu.address.commons.util.CollectionUtil;
 import seedu.address.financialtracker.logic.parser.CliSyntax;
 import seedu.address.financialtracker.model.Model;
 import seedu.address.financialtracker.model.expense.Amount;
+import seedu.address.financialtracker.model.expense.Currency;
 import seedu.address.financialtracker.model.expense.Date;
 import seedu.address.financialtracker.model.expense.Description;
 import seedu.address.financialtracker.model.expense.Expense;
@@ -34,6 +35,7 @@ public class EditFinCommand extends Command<Model> {
             + "[" + CliSyntax.PREFIX_TYPE + "TYPE] "
             + "[" + CliSyntax.PREFIX_DATE + "DATE] "
             + "[" + CliSyntax.PREFIX_TIME + "TIME] "
+            + "[" + CliSyntax.PREFIX_CURRENCY + "CURRENCY] "
             + "Example: " + COMMAND_WORD + " 1 "
             + CliSyntax.PREFIX_AMOUNT + "4"
             + CliSyntax.PREFIX_TYPE + "dinner";
@@ -89,9 +91,10 @@ public class EditFinCommand extends Command<Model> {
         Amount updatedAmount = editExpenseDescriptor.getAmount().orElse(expenseToEdit.getAmount());
         Description updatedDescription = editExpenseDescriptor.getDescription().orElse(expenseToEdit.getDescription());
         Type updatedType = editExpenseDescriptor.getType().orElse(expenseToEdit.getType());
+        Currency updatedCurrency = editExpenseDescriptor.getCurrency().orElse(expenseToEdit.getCurrency());
 
         Expense expense = new Expense(updatedDate, updatedTime, updatedAmount, updatedDescription,
-                updatedType, expenseToEdit.getCountry());
+                updatedType, expenseToEdit.getCountry(), updatedCurrency);
 
         return expense;
     }
@@ -124,6 +127,7 @@ public class EditFinCommand extends Command<Model> {
         private Amount amount;
         private Description description;
         private Type type;
+        private Currency currency;
 
         public EditExpenseDescriptor() {}
 
@@ -137,13 +141,14 @@ public class EditFinCommand extends Command<Model> {
             setAmount(toCopy.amount);
             setDescription(toCopy.description);
             setType(toCopy.type);
+            setCurrency(toCopy.currency);
         }
 
         /**
          * Returns true if at least one field is edited.
          */
         public boolean isAnyFieldEdited() {
-            return CollectionUtil.isAnyNonNull(date, time, amount, description, type);
+            return CollectionUtil.isAnyNonNull(date, time, amount, description, type, currency);
         }
 
         public void setDate(Date date) {
@@ -186,6 +191,14 @@ public class EditFinCommand extends Command<Model> {
             return Optional.ofNullable(type);
         }
 
+        public void setCurrency(Currency currency) {
+            this.currency = currency;
+        }
+
+        public Optional<Currency> getCurrency() {
+            return Optional.ofNullable(currency);
+        }
+
         @Override
         public boolean equals(Object other) {
             // short circuit if same object
@@ -205,7 +218,8 @@ public class EditFinCommand extends Command<Model> {
                     && getDate().equals(e.getDate())
                     && getTime().equals(e.getTime())
                     && getDescription().equals(e.getDescription())
-                    && getType().equals(e.getType());
+                    && getType().equals(e.getType())
+                    && getCurrency().equals(e.getCurrency());
         }
     }
 }
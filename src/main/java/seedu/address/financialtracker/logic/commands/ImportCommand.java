@@ -0,0 +1,109 @@
+package seedu.address.financialtracker.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_AMOUNT;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_CURRENCY;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_SPENT;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_TIME;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.financialtracker.model.Model;
+import seedu.address.financialtracker.storage.CsvExpenseReader;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Imports the expenses in a CSV file, such as a bank statement, into the current country.
+ */
+public class ImportCommand extends Command<Model> {
+
+    public static final String COMMAND_WORD = "import";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds every expense in a CSV file to the country "
+            + "you are at. The first line of the file names its columns, and each field is read from the column named "
+            + "after it unless you give another column's name or number. Money spent is positive unless you give "
+            + PREFIX_SPENT + "-, and rows of the other sign, such as refunds, are skipped.\n"
+            + "Parameters: FILE_PATH "
+            + "[" + PREFIX_DATE + "COLUMN] "
+            + "[" + PREFIX_TIME + "COLUMN] "
+            + "[" + PREFIX_AMOUNT + "COLUMN] "
+            + "[" + PREFIX_DESCRIPTION + "COLUMN] "
+            + "[" + PREFIX_TYPE + "COLUMN] "
+            + "[" + PREFIX_CURRENCY + "COLUMN] "
+            + "[" + PREFIX_SPENT + "+ or -]\n"
+            + "Example: " + COMMAND_WORD + " data/statement.csv "
+            + PREFIX_DATE + "Transaction Date "
+            + PREFIX_AMOUNT + "Debit "
+            + PREFIX_DESCRIPTION + "3 "
+            + PREFIX_SPENT + "-";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d expense(s) from %2$s";
+    public static final String MESSAGE_DUPLICATES = "Skipped %1$d expense(s) you already have";
+    public static final String MESSAGE_CREDITS = "Skipped %1$d credit(s), such as refunds, that are not money spent";
+    public static final String MESSAGE_REJECTED = "Rejected %1$d row(s):";
+    public static final String MESSAGE_MORE_REJECTED = "and %1$d more";
+    public static final String MESSAGE_CANNOT_READ = "Could not import %1$s: %2$s";
+
+    private final Path filePath;
+    private final Map<CsvExpenseReader.Field, String> columns;
+    private final CsvExpenseReader.SpendingSign spendingSign;
+
+    /**
+     * Creates an ImportCommand to import the expenses in {@code filePath}, reading the fields in {@code columns}
+     * from the columns they are mapped to, with money spent written with {@code spendingSign}.
+     */
+    public ImportCommand(Path filePath, Map<CsvExpenseReader.Field, String> columns,
+            CsvExpenseReader.SpendingSign spendingSign) {
+        requireNonNull(filePath);
+        requireNonNull(columns);
+        requireNonNull(spendingSign);
+        this.filePath = filePath;
+        this.columns = Map.copyOf(columns);
+        this.spendingSign = spendingSign;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        CsvExpenseReader.Result result;
+        try {
+            result = new CsvExpenseReader(filePath, columns, spendingSign).read(model.getExpenseList());
+        } catch (IOException | IllegalValueException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ, filePath, e.getMessage()), e);
+        }
+        model.addExpenses(result.getExpenses());
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, result.getExpenses().size(),
+                filePath));
+        if (result.getDuplicateCount() > 0) {
+            feedback.append('\n').append(String.format(MESSAGE_DUPLICATES, result.getDuplicateCount()));
+        }
+        if (result.getCreditCount() > 0) {
+            feedback.append('\n').append(String.format(MESSAGE_CREDITS, result.getCreditCount()));
+        }
+        if (result.getRejectedCount() > 0) {
+            feedback.append('\n').append(String.format(MESSAGE_REJECTED, result.getRejectedCount()));
+            result.getRejectedRows().forEach(row -> feedback.append('\n').append(row));
+            int notShown = result.getRejectedCount() - result.getRejectedRows().size();
+            if (notShown > 0) {
+                feedback.append('\n').append(String.format(MESSAGE_MORE_REJECTED, notShown));
+            }
+        }
+        return new CommandResult(feedback.toString(), false, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && filePath.equals(((ImportCommand) other).filePath)
+                && columns.equals(((ImportCommand) other).columns)
+                && spendingSign == ((ImportCommand) other).spendingSign);
+    }
+}
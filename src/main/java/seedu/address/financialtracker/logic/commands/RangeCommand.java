@@ -0,0 +1,81 @@
+package seedu.address.financialtracker.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_COUNTRY;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.financialtracker.model.Model;
+import seedu.address.financialtracker.model.expense.Amount;
+import seedu.address.financialtracker.model.expense.Date;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+
+/**
+ * Sums up the expenses between two dates, in one country or in every country.
+ */
+public class RangeCommand extends Command<Model> {
+
+    public static final String COMMAND_WORD = "range";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how much you spent between two dates, "
+            + "in your home currency.\n"
+            + "Parameters: "
+            + PREFIX_FROM + "DATE "
+            + PREFIX_TO + "DATE "
+            + "[" + PREFIX_COUNTRY + "COUNTRY]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_FROM + "03032020 "
+            + PREFIX_TO + "17032020 "
+            + PREFIX_COUNTRY + "Japan";
+
+    public static final String MESSAGE_SUCCESS = "You spent %1$s %2$s in %3$s from %4$s to %5$s";
+    public static final String MESSAGE_TYPE_TOTAL = "\n%1$s: %2$s %3$s";
+    public static final String MESSAGE_ALL_COUNTRIES = "all countries";
+
+    private final Date from;
+    private final Date to;
+    private final Optional<String> country;
+
+    /**
+     * Creates a RangeCommand to sum up the expenses from {@code from} to {@code to}, both included,
+     * in {@code country} or in every country if no country is given.
+     */
+    public RangeCommand(Date from, Date to, Optional<String> country) {
+        requireNonNull(from);
+        requireNonNull(to);
+        requireNonNull(country);
+        assert from.key <= to.key : "A range cannot end before it starts";
+        this.from = from;
+        this.to = to;
+        this.country = country;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        String homeCurrency = model.getHomeCurrency().value;
+        HashMap<String, Long> typeTotals = model.getTypeSummaryMap(country, from.key, to.key);
+        long total = typeTotals.values().stream().mapToLong(Long::longValue).reduce(0, Math::addExact);
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, homeCurrency,
+                Amount.toUnits(total), country.orElse(MESSAGE_ALL_COUNTRIES), from, to));
+        typeTotals.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEach(entry -> message.append(String.format(MESSAGE_TYPE_TOTAL, entry.getKey(), homeCurrency,
+                        Amount.toUnits(entry.getValue()))));
+        return new CommandResult(CurrencyCommand.withMissingRates(message.toString(), model), false, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RangeCommand // instanceof handles nulls
+                && from.equals(((RangeCommand) other).from)
+                && to.equals(((RangeCommand) other).to)
+                && country.equals(((RangeCommand) other).country));
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.address.financialtracker.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.financialtracker.model.Model;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Redo the latest undone action.
+ */
+public class RedoCommand extends Command<Model> {
+
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Redo your latest undone action on this expense list";
+    public static final String MESSAGE_SUCCESS = "Done!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        model.redo();
+        return new CommandResult(MESSAGE_SUCCESS, false, false);
+    }
+}
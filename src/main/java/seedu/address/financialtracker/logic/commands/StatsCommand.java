@@ -0,0 +1,82 @@
+package seedu.address.financialtracker.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.financialtracker.model.ExpenseColumns;
+import seedu.address.financialtracker.model.Model;
+import seedu.address.financialtracker.model.expense.Amount;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+
+/**
+ * Gives the types and countries most spent on and how large expenses usually are, across all countries.
+ */
+public class StatsCommand extends Command<Model> {
+
+    public static final String COMMAND_WORD = "stats";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows what you spent the most on, where, and how "
+            + "large your expenses usually are, in your home currency.\n"
+            + "Parameters: "
+            + "[" + PREFIX_FROM + "DATE] "
+            + "[" + PREFIX_TO + "DATE]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_FROM + "01012020 "
+            + PREFIX_TO + "31122020";
+
+    public static final String MESSAGE_SUCCESS = "Your expenses in %1$s:\n"
+            + "Top types: %2$s\n"
+            + "Top countries: %3$s\n"
+            + "Median expense: %4$s, 90th percentile: %5$s";
+    public static final String MESSAGE_NO_EXPENSES = "You have no expenses to give statistics of";
+
+    /** Number of types and countries shown. */
+    public static final int TOP_COUNT = 3;
+
+    private final int fromDay;
+    private final int toDay;
+
+    /**
+     * Creates a StatsCommand to give statistics of the expenses from {@code fromDay} to {@code toDay}, both packed
+     * as yyyymmdd and included.
+     */
+    public StatsCommand(int fromDay, int toDay) {
+        assert fromDay <= toDay : "A range cannot end before it starts";
+        this.fromDay = fromDay;
+        this.toDay = toDay;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Long> percentiles = model.getAmountPercentiles(fromDay, toDay, 50, 90);
+        if (percentiles.isEmpty()) {
+            return new CommandResult(CurrencyCommand.withMissingRates(MESSAGE_NO_EXPENSES, model), false, false);
+        }
+
+        String message = String.format(MESSAGE_SUCCESS, model.getHomeCurrency(),
+                format(model.getTopTotals(ExpenseColumns.Dimension.TYPE, fromDay, toDay, TOP_COUNT)),
+                format(model.getTopTotals(ExpenseColumns.Dimension.COUNTRY, fromDay, toDay, TOP_COUNT)),
+                Amount.toUnits(percentiles.get(0)), Amount.toUnits(percentiles.get(1)));
+        return new CommandResult(CurrencyCommand.withMissingRates(message, model), false, false);
+    }
+
+    private static String format(List<Map.Entry<String, Long>> totals) {
+        return totals.stream()
+                .map(entry -> entry.getKey() + " " + Amount.toUnits(entry.getValue()))
+                .collect(Collectors.joining(", "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && fromDay == ((StatsCommand) other).fromDay
+                && toDay == ((StatsCommand) other).toDay);
+    }
+}
@@ -10,9 +10,11 @@ import javafx.collections.ObservableList;
 import javafx.scene.chart.PieChart;
 import javafx.scene.chart.XYChart;
 import seedu.address.financialtracker.model.Model;
+import seedu.address.financialtracker.model.expense.Amount;
 import seedu.address.financialtracker.ui.FinancialTrackerSummaryWindow;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.ui.CommandExecutionService;
 
 /**
  * Lists out a summary of your current expenses.
@@ -21,7 +23,7 @@ public class SummaryCommand extends Command<Model> {
 
     public static final String COMMAND_WORD = "summary";
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Opens up a window which shows the summary of your"
-            + "total expenses.";
+            + "total expenses, in your home currency.";
 
     public static final String MESSAGE_SUCCESS = "Currently viewing the Summary Window";
 
@@ -36,9 +38,9 @@ public class SummaryCommand extends Command<Model> {
         // initialise bar chart data
         ArrayList<XYChart.Series> seriesArray = new ArrayList<>();
 
-        // get statistics from model
-        HashMap<String, Double> modelData = model.getSummaryMap();
-        double total = modelData.get("Total");
+        // get statistics from model, which keeps them up to date as expenses change
+        HashMap<String, Long> modelData = model.getSummaryMap();
+        long total = modelData.get("Total");
 
         for (String key : modelData.keySet()) {
             if (key.equals("Total")) {
@@ -46,12 +48,18 @@ public class SummaryCommand extends Command<Model> {
             }
             XYChart.Series dataSeries = new XYChart.Series();
             dataSeries.setName(key);
-            dataSeries.getData().add(new XYChart.Data("", modelData.get(key)));
+            dataSeries.getData().add(new XYChart.Data("", Amount.toUnits(modelData.get(key))));
             seriesArray.add(dataSeries);
-            pieChartData.add(new PieChart.Data(key, modelData.get(key) / total));
+            pieChartData.add(new PieChart.Data(key, (double) modelData.get(key) / total));
         }
 
-        new FinancialTrackerSummaryWindow(pieChartData, seriesArray).show();
-        return new CommandResult(MESSAGE_SUCCESS, false, false);
+        // the spending over time is read from the model's day and month buckets
+        XYChart.Series<String, Number> timeSeries = model.getSpendingOverTimeChartData();
+
+        // the window can only be created on the JavaFX application thread
+        String homeCurrency = model.getHomeCurrency().value;
+        CommandExecutionService.runOnFxThread(() ->
+                new FinancialTrackerSummaryWindow(pieChartData, seriesArray, timeSeries, homeCurrency).show());
+        return new CommandResult(CurrencyCommand.withMissingRates(MESSAGE_SUCCESS, model), false, false);
     }
 }
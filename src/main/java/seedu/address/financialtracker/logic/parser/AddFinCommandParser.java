@@ -2,6 +2,7 @@ package seedu.address.financialtracker.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_AMOUNT;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_CURRENCY;
 import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_TIME;
@@ -11,6 +12,7 @@ import java.util.stream.Stream;
 
 import seedu.address.financialtracker.logic.commands.AddFinCommand;
 import seedu.address.financialtracker.model.expense.Amount;
+import seedu.address.financialtracker.model.expense.Currency;
 import seedu.address.financialtracker.model.expense.Date;
 import seedu.address.financialtracker.model.expense.Description;
 import seedu.address.financialtracker.model.expense.Expense;
@@ -34,7 +36,7 @@ public class AddFinCommandParser implements Parser<AddFinCommand> {
      */
     public AddFinCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_AMOUNT, PREFIX_DESCRIPTION, PREFIX_TYPE,
-                PREFIX_DATE, PREFIX_TIME);
+                PREFIX_DATE, PREFIX_TIME, PREFIX_CURRENCY);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_AMOUNT, PREFIX_DESCRIPTION, PREFIX_TYPE)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -59,7 +61,13 @@ public class AddFinCommandParser implements Parser<AddFinCommand> {
             time = Time.getCurrentTime();
         }
 
-        Expense expense = new Expense(date, time, amount, description, type);
+        // without a currency, the expense is in the currency of the country it is added to
+        Currency currency = null;
+        if (argMultimap.getValue(PREFIX_CURRENCY).isPresent()) {
+            currency = ParserUtil.parseCurrency(argMultimap.getValue(PREFIX_CURRENCY).get());
+        }
+
+        Expense expense = new Expense(date, time, amount, description, type, null, currency);
 
         return new AddFinCommand(expense);
     }
@@ -0,0 +1,55 @@
+package seedu.address.financialtracker.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_AMOUNT;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_COUNTRY;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_CURRENCY;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.Optional;
+
+import seedu.address.financialtracker.logic.commands.BudgetCommand;
+import seedu.address.financialtracker.model.expense.Amount;
+import seedu.address.financialtracker.model.expense.Currency;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BudgetCommand object
+ */
+public class BudgetCommandParser implements Parser<BudgetCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BudgetCommand
+     * and returns a BudgetCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public BudgetCommand parse(String args) throws ParseException {
+        if (args.trim().isEmpty()) {
+            return new BudgetCommand();
+        }
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_AMOUNT, PREFIX_TYPE, PREFIX_COUNTRY,
+                PREFIX_CURRENCY);
+        if (argMultimap.getValue(PREFIX_AMOUNT).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BudgetCommand.MESSAGE_USAGE));
+        }
+
+        Amount amount = ParserUtil.parseAmount(argMultimap.getValue(PREFIX_AMOUNT).get());
+        Optional<String> type = Optional.empty();
+        if (argMultimap.getValue(PREFIX_TYPE).isPresent()) {
+            type = Optional.of(ParserUtil.parseType(argMultimap.getValue(PREFIX_TYPE).get()).value);
+        }
+        Optional<String> country = Optional.empty();
+        if (argMultimap.getValue(PREFIX_COUNTRY).isPresent()) {
+            country = Optional.of(ParserUtil.parseCountry(argMultimap.getValue(PREFIX_COUNTRY).get()).value);
+        }
+        Optional<Currency> currency = Optional.empty();
+        if (argMultimap.getValue(PREFIX_CURRENCY).isPresent()) {
+            currency = Optional.of(ParserUtil.parseCurrency(argMultimap.getValue(PREFIX_CURRENCY).get()));
+        }
+        return new BudgetCommand(amount, type, country, currency);
+    }
+}
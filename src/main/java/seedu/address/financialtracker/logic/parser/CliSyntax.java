@@ -14,5 +14,10 @@ public class CliSyntax {
     public static final Prefix PREFIX_TIME = new Prefix("time/");
     public static final Prefix PREFIX_TYPE = new Prefix(("t/"));
     public static final Prefix PREFIX_AMOUNT = new Prefix("a/");
+    public static final Prefix PREFIX_CURRENCY = new Prefix("cur/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_COUNTRY = new Prefix("country/");
+    public static final Prefix PREFIX_SPENT = new Prefix("spent/");
 
 }
@@ -0,0 +1,27 @@
+package seedu.address.financialtracker.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.financialtracker.logic.commands.CurrencyCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new CurrencyCommand object
+ */
+public class CurrencyCommandParser implements Parser<CurrencyCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the CurrencyCommand
+     * and returns a CurrencyCommand object for execution.
+     * @throws ParseException if the user input is not a currency code
+     */
+    public CurrencyCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        if (args.trim().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CurrencyCommand.MESSAGE_USAGE));
+        }
+        return new CurrencyCommand(ParserUtil.parseCurrency(args));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.financialtracker.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_AMOUNT;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_CURRENCY;
 import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_TIME;
@@ -29,7 +30,7 @@ public class EditFinCommandParser implements Parser<EditFinCommand> {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_AMOUNT, PREFIX_DESCRIPTION, PREFIX_TYPE,
-                        PREFIX_DATE, PREFIX_TIME);
+                        PREFIX_DATE, PREFIX_TIME, PREFIX_CURRENCY);
 
         Index index;
 
@@ -60,6 +61,10 @@ public class EditFinCommandParser implements Parser<EditFinCommand> {
             editExpenseDescriptor.setTime(ParserUtil.parseTime(argMultimap.getValue(PREFIX_TIME).get()));
         }
 
+        if (argMultimap.getValue(PREFIX_CURRENCY).isPresent()) {
+            editExpenseDescriptor.setCurrency(ParserUtil.parseCurrency(argMultimap.getValue(PREFIX_CURRENCY).get()));
+        }
+
         if (!editExpenseDescriptor.isAnyFieldEdited()) {
             throw new ParseException(EditFinCommand.MESSAGE_NOT_EDITED);
         }
@@ -5,14 +5,21 @@ import java.util.regex.Pattern;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.financialtracker.logic.commands.AddFinCommand;
+import seedu.address.financialtracker.logic.commands.BudgetCommand;
 import seedu.address.financialtracker.logic.commands.ClearCommand;
+import seedu.address.financialtracker.logic.commands.CurrencyCommand;
 import seedu.address.financialtracker.logic.commands.DeleteFinCommand;
 import seedu.address.financialtracker.logic.commands.EditFinCommand;
 import seedu.address.financialtracker.logic.commands.HelpCommand;
+import seedu.address.financialtracker.logic.commands.ImportCommand;
+import seedu.address.financialtracker.logic.commands.RangeCommand;
+import seedu.address.financialtracker.logic.commands.RedoCommand;
 import seedu.address.financialtracker.logic.commands.SortFinCommand;
+import seedu.address.financialtracker.logic.commands.StatsCommand;
 import seedu.address.financialtracker.logic.commands.SummaryCommand;
 import seedu.address.financialtracker.logic.commands.SwitchCommand;
 import seedu.address.financialtracker.logic.commands.UndoCommand;
+import seedu.address.financialtracker.model.Model;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.GoToCommand;
@@ -36,7 +43,7 @@ public class FinancialTrackerParser {
      * @return the command based on the user input
      * @throws ParseException if the user input does not conform the expected format
      */
-    public Command parseCommand(String userInput) throws ParseException {
+    public Command<Model> parseCommand(String userInput) throws ParseException {
         final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
         if (!matcher.matches()) {
             throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
@@ -69,14 +76,32 @@ public class FinancialTrackerParser {
         case UndoCommand.COMMAND_WORD:
             return new UndoCommand();
 
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         case ClearCommand.COMMAND_WORD:
             return new ClearCommand();
 
+        case RangeCommand.COMMAND_WORD:
+            return new RangeCommandParser().parse(arguments);
+
+        case BudgetCommand.COMMAND_WORD:
+            return new BudgetCommandParser().parse(arguments);
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommandParser().parse(arguments);
+
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case CurrencyCommand.COMMAND_WORD:
+            return new CurrencyCommandParser().parse(arguments);
+
         case GoToCommand.COMMAND_WORD:
-            return new GoToParser().parse(arguments);
+            return new GoToParser<Model>().parse(arguments);
 
         case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
+            return new ExitCommand<>();
 
         default:
             throw new ParseException("Unknown command, wanna try typing 'help'?");
@@ -0,0 +1,73 @@
+package seedu.address.financialtracker.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_AMOUNT;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_CURRENCY;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_SPENT;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_TIME;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Map;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.financialtracker.logic.commands.ImportCommand;
+import seedu.address.financialtracker.storage.CsvExpenseReader;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    public static final String MESSAGE_BLANK_COLUMN = "The column of a field cannot be blank";
+    public static final String MESSAGE_INVALID_SPENDING_SIGN = "The sign of money spent is either + or -";
+
+    /** The prefix giving the column of every field, which is the prefix the field is given with in other commands. */
+    private static final Map<CsvExpenseReader.Field, Prefix> COLUMN_PREFIXES = Map.of(
+            CsvExpenseReader.Field.DATE, PREFIX_DATE,
+            CsvExpenseReader.Field.TIME, PREFIX_TIME,
+            CsvExpenseReader.Field.AMOUNT, PREFIX_AMOUNT,
+            CsvExpenseReader.Field.DESCRIPTION, PREFIX_DESCRIPTION,
+            CsvExpenseReader.Field.TYPE, PREFIX_TYPE,
+            CsvExpenseReader.Field.CURRENCY, PREFIX_CURRENCY);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_TIME, PREFIX_AMOUNT,
+                PREFIX_DESCRIPTION, PREFIX_TYPE, PREFIX_CURRENCY, PREFIX_SPENT);
+
+        String filePath = argMultimap.getPreamble().trim();
+        if (filePath.isEmpty() || !FileUtil.isValidPath(filePath)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+
+        Map<CsvExpenseReader.Field, String> columns = new EnumMap<>(CsvExpenseReader.Field.class);
+        for (Map.Entry<CsvExpenseReader.Field, Prefix> entry : COLUMN_PREFIXES.entrySet()) {
+            if (argMultimap.getValue(entry.getValue()).isPresent()) {
+                String column = argMultimap.getValue(entry.getValue()).get().trim();
+                if (column.isEmpty()) {
+                    throw new ParseException(MESSAGE_BLANK_COLUMN);
+                }
+                columns.put(entry.getKey(), column);
+            }
+        }
+        CsvExpenseReader.SpendingSign spendingSign = CsvExpenseReader.SpendingSign.POSITIVE;
+        if (argMultimap.getValue(PREFIX_SPENT).isPresent()) {
+            spendingSign = CsvExpenseReader.SpendingSign.fromSymbol(argMultimap.getValue(PREFIX_SPENT).get().trim())
+                    .orElseThrow(() -> new ParseException(MESSAGE_INVALID_SPENDING_SIGN));
+        }
+        return new ImportCommand(Paths.get(filePath), columns, spendingSign);
+    }
+}
@@ -5,6 +5,8 @@ import static java.util.Objects.requireNonNull;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.financialtracker.model.expense.Amount;
+import seedu.address.financialtracker.model.expense.Country;
+import seedu.address.financialtracker.model.expense.Currency;
 import seedu.address.financialtracker.model.expense.Date;
 import seedu.address.financialtracker.model.expense.Description;
 import seedu.address.financialtracker.model.expense.Time;
@@ -17,6 +19,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_UNKNOWN_COUNTRY = "Country should be one of the countries in the drop down menu";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading
@@ -45,6 +48,35 @@ public class ParserUtil {
         return new Amount(trimmedAmount);
     }
 
+    /**
+     * Parses a {@code String currency} into a {@code Currency}. Leading and trailing
+     * whitespaces will be trimmed.
+     * @throws ParseException if the given {@code currency} is invalid.
+     */
+    public static Currency parseCurrency(String currency) throws ParseException {
+        requireNonNull(currency);
+        String trimmedCurrency = currency.trim();
+        if (!Currency.isValidCurrency(trimmedCurrency)) {
+            throw new ParseException(Currency.MESSAGE_CONSTRAINTS);
+        }
+        return new Currency(trimmedCurrency);
+    }
+
+    /**
+     * Parses a {@code String country} into a {@code Country}, ignoring case. Leading and trailing
+     * whitespaces will be trimmed.
+     * @throws ParseException if the given {@code country} is not a known country.
+     */
+    public static Country parseCountry(String country) throws ParseException {
+        requireNonNull(country);
+        String trimmedCountry = country.trim();
+        return Country.COUNTRY_NAMES.stream()
+                .filter(countryName -> countryName.equalsIgnoreCase(trimmedCountry))
+                .findFirst()
+                .map(Country::new)
+                .orElseThrow(() -> new ParseException(MESSAGE_UNKNOWN_COUNTRY));
+    }
+
     /**
      * Parses a {@code String description} into a {@code Description}. Leading and
      * trailing whitespaces will be trimmed.
@@ -0,0 +1,49 @@
+package seedu.address.financialtracker.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_COUNTRY;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.Optional;
+
+import seedu.address.financialtracker.logic.commands.RangeCommand;
+import seedu.address.financialtracker.model.expense.Date;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RangeCommand object
+ */
+public class RangeCommandParser implements Parser<RangeCommand> {
+
+    public static final String MESSAGE_END_BEFORE_START = "The range should not end before it starts";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RangeCommand
+     * and returns a RangeCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RangeCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO, PREFIX_COUNTRY);
+
+        if (argMultimap.getValue(PREFIX_FROM).isEmpty() || argMultimap.getValue(PREFIX_TO).isEmpty()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RangeCommand.MESSAGE_USAGE));
+        }
+
+        Date from = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get());
+        Date to = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get());
+        if (from.key > to.key) {
+            throw new ParseException(MESSAGE_END_BEFORE_START);
+        }
+
+        Optional<String> country = Optional.empty();
+        if (argMultimap.getValue(PREFIX_COUNTRY).isPresent()) {
+            country = Optional.of(ParserUtil.parseCountry(argMultimap.getValue(PREFIX_COUNTRY).get()).value);
+        }
+        return new RangeCommand(from, to, country);
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.financialtracker.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.financialtracker.logic.parser.CliSyntax.PREFIX_TO;
+
+import seedu.address.financialtracker.logic.commands.StatsCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new StatsCommand object
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the StatsCommand
+     * and returns a StatsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public StatsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        }
+
+        // without a date, the range is open on that end
+        int fromDay = 0;
+        if (argMultimap.getValue(PREFIX_FROM).isPresent()) {
+            fromDay = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get()).key;
+        }
+        int toDay = Integer.MAX_VALUE;
+        if (argMultimap.getValue(PREFIX_TO).isPresent()) {
+            toDay = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get()).key;
+        }
+        if (fromDay > toDay) {
+            throw new ParseException(RangeCommandParser.MESSAGE_END_BEFORE_START);
+        }
+        return new StatsCommand(fromDay, toDay);
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.financialtracker.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.financialtracker.model.expense.Amount;
+import seedu.address.financialtracker.model.expense.Currency;
+
+/**
+ * A budget for the expenses in a country, or for one type of expense in a country.
+ * Guarantees: immutable; details are present and not null, except the type of a budget for every type.
+ */
+public class Budget {
+
+    private final String country;
+    private final String type;
+    private final Amount amount;
+    private final Currency currency;
+
+    /**
+     * Creates a budget of {@code amount} of {@code currency} for {@code type} of expense in {@code country},
+     * or for every type if {@code type} is null.
+     */
+    public Budget(String country, String type, Amount amount, Currency currency) {
+        requireNonNull(country);
+        requireNonNull(amount);
+        requireNonNull(currency);
+        this.country = country;
+        this.type = type;
+        this.amount = amount;
+        this.currency = currency;
+    }
+
+    public String getCountry() {
+        return country;
+    }
+
+    /**
+     * Returns the type of expense this budget is for, or an empty {@code Optional} if it is for every type.
+     */
+    public Optional<String> getType() {
+        return Optional.ofNullable(type);
+    }
+
+    public Amount getAmount() {
+        return amount;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    /**
+     * Returns what this budget is for, such as "Japan" or "FOOD in Japan".
+     */
+    public String getTarget() {
+        return type == null ? country : type + " in " + country;
+    }
+
+    @Override
+    public String toString() {
+        return currency + " " + amount + " for " + getTarget();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof Budget)) {
+            return false;
+        }
+        Budget otherBudget = (Budget) other;
+        return country.equals(otherBudget.country)
+                && Objects.equals(type, otherBudget.type)
+                && amount.cents == otherBudget.amount.cents
+                && currency.equals(otherBudget.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(country, type, amount.cents, currency);
+    }
+}
@@ -0,0 +1,276 @@
+package seedu.address.financialtracker.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.financialtracker.model.expense.Amount;
+import seedu.address.financialtracker.model.expense.Expense;
+
+/**
+ * The budgets of every country, checked against the running totals whenever the expenses of a country change.
+ * <br>
+ * Every budget remembers how much of it had been used when it was last checked: less than
+ * {@link #WARNING_PERCENT} percent, at least that much, or all of it. An alert is given only when a check finds
+ * more of the budget used than before, so a budget that stays exceeded does not alert on every expense.
+ * <br>
+ * A change to the expenses of a country only marks its budgets to be checked. They are checked when the alerts
+ * are taken after a command, so an edit or undo made of a removal and an addition is checked once, against
+ * the totals after both.
+ */
+public class BudgetTracker {
+
+    public static final int WARNING_PERCENT = 80;
+    public static final String MESSAGE_WARNING = "Careful! You have used %1$d%% of your budget for %2$s: "
+            + "%3$s %4$s of %3$s %5$s left";
+    public static final String MESSAGE_EXCEEDED = "You have used up your budget for %1$s: %2$s %3$s spent of "
+            + "%2$s %4$s";
+    public static final String MESSAGE_REMAINING = "%1$s: %2$s %3$s of %2$s %4$s left";
+    public static final String MESSAGE_OVER = "%1$s: %2$s %3$s over";
+
+    /** Key of the budget for every type of expense in a country, which no type can have as it is never blank. */
+    private static final String ALL_TYPES = "";
+
+    private static final int UNDER = 0;
+    private static final int WARNED = 1;
+    private static final int EXCEEDED = 2;
+
+    private final ExpenseTotals totals;
+    private final Map<String, Map<String, TrackedBudget>> budgets = new TreeMap<>();
+    private final List<String> alerts = new ArrayList<>();
+    private final Set<String> countriesToCheck = new HashSet<>();
+
+    public BudgetTracker(ExpenseTotals totals) {
+        this.totals = requireNonNull(totals);
+    }
+
+    /**
+     * Returns a listener marking the budgets of {@code country} to be checked after its expense list changes.
+     */
+    public ListChangeListener<Expense> listenerFor(String country) {
+        requireNonNull(country);
+        return change -> markToCheck(country);
+    }
+
+    private synchronized void markToCheck(String country) {
+        countriesToCheck.add(country);
+    }
+
+    /**
+     * Sets {@code budget}, replacing the budget for the same type of expense in the same country.
+     * An alert is given at once if the budget is already mostly used.
+     */
+    public synchronized void setBudget(Budget budget) {
+        requireNonNull(budget);
+        TrackedBudget trackedBudget = new TrackedBudget(budget);
+        budgets.computeIfAbsent(budget.getCountry(), unused -> new TreeMap<>())
+                .put(budget.getType().orElse(ALL_TYPES), trackedBudget);
+        check(trackedBudget);
+    }
+
+    /**
+     * Removes the budget for {@code type} of expense in {@code country}, or for every type if {@code type} is
+     * null. Returns true if there was such a budget.
+     */
+    public synchronized boolean removeBudget(String country, String type) {
+        Map<String, TrackedBudget> budgetsOfCountry = budgets.get(country);
+        if (budgetsOfCountry == null || budgetsOfCountry.remove(type == null ? ALL_TYPES : type) == null) {
+            return false;
+        }
+        if (budgetsOfCountry.isEmpty()) {
+            budgets.remove(country);
+        }
+        return true;
+    }
+
+    /**
+     * Returns every budget, ordered by country and type.
+     */
+    public synchronized List<Budget> getBudgets() {
+        return budgets.values().stream()
+                .flatMap(budgetsOfCountry -> budgetsOfCountry.values().stream())
+                .map(trackedBudget -> trackedBudget.budget)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Replaces every budget with {@code newBudgets} without giving alerts, as when budgets are read from storage.
+     */
+    public synchronized void resetData(List<Budget> newBudgets) {
+        budgets.clear();
+        for (Budget budget : newBudgets) {
+            setBudget(budget);
+        }
+        countriesToCheck.clear();
+        alerts.clear();
+    }
+
+    /**
+     * Returns every budget with how much of it was used when it was last checked, and the alerts not yet taken,
+     * to be restored later.
+     */
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(copyOf(budgets), alerts, countriesToCheck);
+    }
+
+    /**
+     * Puts back the budgets and alerts in {@code snapshot}, so budgets that already gave an alert do not give it
+     * again.
+     */
+    public synchronized void restore(Snapshot snapshot) {
+        requireNonNull(snapshot);
+        budgets.clear();
+        budgets.putAll(copyOf(snapshot.budgets));
+        alerts.clear();
+        alerts.addAll(snapshot.alerts);
+        countriesToCheck.clear();
+        countriesToCheck.addAll(snapshot.countriesToCheck);
+    }
+
+    /**
+     * Returns a copy of {@code budgets} whose tracked budgets are copied too, as their levels change.
+     */
+    private static Map<String, Map<String, TrackedBudget>> copyOf(Map<String, Map<String, TrackedBudget>> budgets) {
+        Map<String, Map<String, TrackedBudget>> copy = new TreeMap<>();
+        budgets.forEach((country, budgetsOfCountry) -> {
+            Map<String, TrackedBudget> copyOfCountry = new TreeMap<>();
+            budgetsOfCountry.forEach((type, trackedBudget) -> copyOfCountry.put(type, trackedBudget.copy()));
+            copy.put(country, copyOfCountry);
+        });
+        return copy;
+    }
+
+    /**
+     * Checks every budget again, as after the home currency or exchange rates change.
+     */
+    public synchronized void checkAll() {
+        budgets.keySet().forEach(this::check);
+    }
+
+    /**
+     * Returns how much is left of every budget of {@code country}, one budget per line.
+     */
+    public synchronized String getStatus(String country) {
+        String homeCurrency = totals.getHomeCurrency();
+        List<String> lines = new ArrayList<>();
+        for (TrackedBudget trackedBudget : budgets.getOrDefault(country, Map.of()).values()) {
+            OptionalLong limit = getLimit(trackedBudget.budget);
+            if (limit.isEmpty()) {
+                continue;
+            }
+            long left = limit.getAsLong() - getSpent(trackedBudget.budget);
+            lines.add(left >= 0
+                    ? String.format(MESSAGE_REMAINING, trackedBudget.budget.getTarget(), homeCurrency,
+                            Amount.toUnits(left), Amount.toUnits(limit.getAsLong()))
+                    : String.format(MESSAGE_OVER, trackedBudget.budget.getTarget(), homeCurrency,
+                            Amount.toUnits(-left)));
+        }
+        return String.join("\n", lines);
+    }
+
+    /**
+     * Checks the budgets of the countries whose expenses changed, and returns the alerts given since they were
+     * last taken, forgetting them.
+     */
+    public synchronized List<String> takeAlerts() {
+        countriesToCheck.forEach(this::check);
+        countriesToCheck.clear();
+        List<String> takenAlerts = new ArrayList<>(alerts);
+        alerts.clear();
+        return takenAlerts;
+    }
+
+    private synchronized void check(String country) {
+        budgets.getOrDefault(country, Map.of()).values().forEach(this::check);
+    }
+
+    /**
+     * Finds how much of {@code trackedBudget} is used, giving an alert if it is more than at the last check.
+     * Budgets in a currency that cannot be converted to the home currency are not checked.
+     */
+    private void check(TrackedBudget trackedBudget) {
+        Budget budget = trackedBudget.budget;
+        OptionalLong limit = getLimit(budget);
+        if (limit.isEmpty()) {
+            return;
+        }
+
+        long spent = getSpent(budget);
+        long limitCents = limit.getAsLong();
+        int level = spent >= limitCents ? EXCEEDED
+                : spent * 100 >= limitCents * WARNING_PERCENT ? WARNED
+                : UNDER;
+        if (level > trackedBudget.level) {
+            String homeCurrency = totals.getHomeCurrency();
+            alerts.add(level == EXCEEDED
+                    ? String.format(MESSAGE_EXCEEDED, budget.getTarget(), homeCurrency, Amount.toUnits(spent),
+                            Amount.toUnits(limitCents))
+                    : String.format(MESSAGE_WARNING, spent * 100 / limitCents, budget.getTarget(), homeCurrency,
+                            Amount.toUnits(limitCents - spent), Amount.toUnits(limitCents)));
+        }
+        trackedBudget.level = level;
+    }
+
+    /**
+     * Returns the amount of {@code budget} in cents of the home currency, if it can be converted.
+     */
+    private OptionalLong getLimit(Budget budget) {
+        Optional<LongUnaryOperator> converter = totals.converterFor(budget.getCurrency().value);
+        return converter.isPresent()
+                ? OptionalLong.of(converter.get().applyAsLong(budget.getAmount().cents))
+                : OptionalLong.empty();
+    }
+
+    /**
+     * Returns the cents of the home currency spent against {@code budget}, read from the running totals.
+     */
+    private long getSpent(Budget budget) {
+        return budget.getType()
+                .map(type -> totals.getTypeTotal(budget.getCountry(), type))
+                .orElseGet(() -> totals.getCountryTotal(budget.getCountry()));
+    }
+
+    /**
+     * A budget and how much of it was used when it was last checked.
+     */
+    private static class TrackedBudget {
+        private final Budget budget;
+        private int level = UNDER;
+
+        TrackedBudget(Budget budget) {
+            this.budget = budget;
+        }
+
+        TrackedBudget copy() {
+            TrackedBudget copy = new TrackedBudget(budget);
+            copy.level = level;
+            return copy;
+        }
+    }
+
+    /**
+     * The budgets, how much of each was used, and the alerts not yet taken at one time.
+     */
+    public static class Snapshot {
+        private final Map<String, Map<String, TrackedBudget>> budgets;
+        private final List<String> alerts;
+        private final Set<String> countriesToCheck;
+
+        private Snapshot(Map<String, Map<String, TrackedBudget>> budgets, List<String> alerts,
+                         Set<String> countriesToCheck) {
+            this.budgets = budgets;
+            this.alerts = new ArrayList<>(alerts);
+            this.countriesToCheck = new HashSet<>(countriesToCheck);
+        }
+    }
+}
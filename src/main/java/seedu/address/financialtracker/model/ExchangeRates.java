@@ -0,0 +1,59 @@
+package seedu.address.financialtracker.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A table of exchange rates, giving the value of one unit of every currency it knows in a common base currency.
+ * The table cannot be changed. Every table has a version of its own, so that totals converted with it can be
+ * cached until another table is loaded.
+ */
+public class ExchangeRates {
+
+    private static final AtomicInteger lastVersion = new AtomicInteger();
+
+    private final Map<String, BigDecimal> rates;
+    private final int version;
+
+    /**
+     * Creates a table from the value of one unit of every currency, keyed by currency code.
+     */
+    public ExchangeRates(Map<String, BigDecimal> rates) {
+        requireNonNull(rates);
+        assert rates.values().stream().allMatch(rate -> rate.signum() > 0) : "Exchange rates have to be positive";
+        this.rates = Map.copyOf(rates);
+        this.version = lastVersion.incrementAndGet();
+    }
+
+    /**
+     * Returns a number that no other table has.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns true if this table has the rate of {@code currency}.
+     */
+    public boolean hasRate(String currency) {
+        return rates.containsKey(currency);
+    }
+
+    /**
+     * Returns {@code cents} of {@code from} in cents of {@code to}, rounded to the nearest cent.
+     * Both currencies must be in this table unless they are the same.
+     */
+    public long convert(long cents, String from, String to) {
+        if (from.equals(to)) {
+            return cents;
+        }
+        assert hasRate(from) && hasRate(to) : "Only currencies with a rate can be converted";
+        return BigDecimal.valueOf(cents).multiply(rates.get(from))
+                .divide(rates.get(to), 0, RoundingMode.HALF_EVEN)
+                .longValueExact();
+    }
+}
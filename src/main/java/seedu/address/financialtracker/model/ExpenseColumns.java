@@ -0,0 +1,218 @@
+package seedu.address.financialtracker.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.IntStream;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.financialtracker.model.expense.Expense;
+
+/**
+ * The expenses of every country held column by column, for analytics over all of them.
+ * <br>
+ * Every expense is a row of parallel primitive arrays: its date packed as yyyymmdd, its amount in cents, and the
+ * ids of its type, country and currency. Ids are given out by a dictionary per column, so a row takes a few words
+ * and grouping compares ints instead of strings. Reductions run over the arrays as parallel streams once there
+ * are enough rows for the fork/join pool to be worth it.
+ * <br>
+ * The expense lists stay the way the UI sees expenses; like the totals, the columns are updated with every change
+ * to them. A removed row is filled with the last row, so the rows are in no particular order.
+ */
+public class ExpenseColumns {
+
+    /** Fewest rows that reductions are split between threads for. */
+    public static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * A column that expenses can be grouped by.
+     */
+    public enum Dimension {
+        TYPE, COUNTRY
+    }
+
+    private final Dictionary types = new Dictionary();
+    private final Dictionary countries = new Dictionary();
+    private final Dictionary currencies = new Dictionary();
+    private final Map<Expense, Integer> rows = new IdentityHashMap<>();
+    private Expense[] expenses = new Expense[INITIAL_CAPACITY];
+    private int[] dateKeys = new int[INITIAL_CAPACITY];
+    private long[] cents = new long[INITIAL_CAPACITY];
+    private int[] typeIds = new int[INITIAL_CAPACITY];
+    private int[] countryIds = new int[INITIAL_CAPACITY];
+    private int[] currencyIds = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Returns a listener keeping these columns up to date with the expense list of {@code country}.
+     */
+    public ListChangeListener<Expense> listenerFor(String country) {
+        requireNonNull(country);
+        return change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(expense -> add(country, expense));
+            }
+        };
+    }
+
+    /**
+     * Appends {@code expense}, made in {@code country}, as a row.
+     */
+    public synchronized void add(String country, Expense expense) {
+        assert !rows.containsKey(expense) : "An expense can only be counted once";
+        if (size == dateKeys.length) {
+            grow();
+        }
+        expenses[size] = expense;
+        dateKeys[size] = expense.getDate().key;
+        cents[size] = expense.getAmount().cents;
+        typeIds[size] = types.idOf(expense.getType().value);
+        countryIds[size] = countries.idOf(country);
+        currencyIds[size] = currencies.idOf(expense.getCurrency().value);
+        rows.put(expense, size);
+        size++;
+    }
+
+    /**
+     * Removes the row of {@code expense}, filling it with the last row.
+     */
+    public synchronized void remove(Expense expense) {
+        Integer row = rows.remove(expense);
+        assert row != null : "An expense has to be counted before it is removed";
+        int last = size - 1;
+        if (row != last) {
+            expenses[row] = expenses[last];
+            dateKeys[row] = dateKeys[last];
+            cents[row] = cents[last];
+            typeIds[row] = typeIds[last];
+            countryIds[row] = countryIds[last];
+            currencyIds[row] = currencyIds[last];
+            rows.put(expenses[row], row);
+        }
+        expenses[last] = null;
+        size = last;
+    }
+
+    /**
+     * Doubles the capacity of every column.
+     */
+    private void grow() {
+        int capacity = dateKeys.length * 2;
+        expenses = Arrays.copyOf(expenses, capacity);
+        dateKeys = Arrays.copyOf(dateKeys, capacity);
+        cents = Arrays.copyOf(cents, capacity);
+        typeIds = Arrays.copyOf(typeIds, capacity);
+        countryIds = Arrays.copyOf(countryIds, capacity);
+        currencyIds = Arrays.copyOf(currencyIds, capacity);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns the cents of every currency paid in for every group of {@code dimension}, counting the expenses
+     * from {@code fromDay} to {@code toDay}, both packed as yyyymmdd and included.
+     */
+    public synchronized Map<String, Map<String, Long>> sumBy(Dimension dimension, int fromDay, int toDay) {
+        requireNonNull(dimension);
+        Dictionary groups = dimension == Dimension.TYPE ? types : countries;
+        int[] groupIds = dimension == Dimension.TYPE ? typeIds : countryIds;
+        int currencyCount = currencies.size();
+        int cellCount = groups.size() * currencyCount;
+        long[] sums = rowsBetween(fromDay, toDay).collect(() -> new long[cellCount], (sum, row) -> {
+            int cell = groupIds[row] * currencyCount + currencyIds[row];
+            sum[cell] = Math.addExact(sum[cell], cents[row]);
+        }, ExpenseColumns::addAll);
+
+        Map<String, Map<String, Long>> sumsByGroup = new HashMap<>();
+        for (int cell = 0; cell < sums.length; cell++) {
+            if (sums[cell] != 0) {
+                sumsByGroup.computeIfAbsent(groups.valueOf(cell / currencyCount), unused -> new HashMap<>())
+                        .put(currencies.valueOf(cell % currencyCount), sums[cell]);
+            }
+        }
+        return sumsByGroup;
+    }
+
+    /**
+     * Returns the amounts of the expenses from {@code fromDay} to {@code toDay}, both packed as yyyymmdd and
+     * included, converted with {@code converterFor} and sorted in ascending order.
+     * Expenses in currencies that {@code converterFor} cannot convert are left out.
+     */
+    public synchronized long[] getSortedAmounts(int fromDay, int toDay,
+                                                Function<String, Optional<LongUnaryOperator>> converterFor) {
+        LongUnaryOperator[] converters = new LongUnaryOperator[currencies.size()];
+        for (int id = 0; id < converters.length; id++) {
+            converters[id] = converterFor.apply(currencies.valueOf(id)).orElse(null);
+        }
+        long[] amounts = rowsBetween(fromDay, toDay)
+                .filter(row -> converters[currencyIds[row]] != null)
+                .mapToLong(row -> converters[currencyIds[row]].applyAsLong(cents[row]))
+                .toArray();
+        Arrays.parallelSort(amounts);
+        return amounts;
+    }
+
+    /**
+     * Returns the rows of the expenses from {@code fromDay} to {@code toDay}, as a parallel stream if there are
+     * enough rows.
+     */
+    private IntStream rowsBetween(int fromDay, int toDay) {
+        IntStream rowStream = IntStream.range(0, size);
+        if (size >= PARALLEL_THRESHOLD) {
+            rowStream = rowStream.parallel();
+        }
+        return rowStream.filter(row -> dateKeys[row] >= fromDay && dateKeys[row] <= toDay);
+    }
+
+    private static void addAll(long[] sums, long[] more) {
+        for (int i = 0; i < sums.length; i++) {
+            sums[i] = Math.addExact(sums[i], more[i]);
+        }
+    }
+
+    /**
+     * Gives every distinct value of a column an id, counting up from zero in the order the values are first seen.
+     * Ids are never taken back, as the few types, countries and currencies of a user are used again and again.
+     */
+    private static class Dictionary {
+        private final List<String> values = new ArrayList<>();
+        private final Map<String, Integer> ids = new HashMap<>();
+
+        /**
+         * Returns the id of {@code value}, giving it the next id if it has none.
+         */
+        int idOf(String value) {
+            return ids.computeIfAbsent(value, unused -> {
+                values.add(value);
+                return values.size() - 1;
+            });
+        }
+
+        /**
+         * Returns the value with {@code id}.
+         */
+        String valueOf(int id) {
+            return values.get(id);
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+}
@@ -2,59 +2,118 @@ package seedu.address.financialtracker.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Stack;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.CollectionUtil;
+import seedu.address.financialtracker.model.expense.Amount;
 import seedu.address.financialtracker.model.expense.Expense;
 import seedu.address.logic.commands.exceptions.CommandException;
 
 /**
  * An expense list for financial expenses.
+ * The list is always kept in the order of the current comparator: expenses are inserted at the position found by
+ * binary search and only a change of comparator re-sorts the whole list. Observers are therefore told exactly which
+ * expenses were added or removed, or how the list was permutated.
+ * Changes made by the user can be undone and redone. Each change is remembered as the expenses it removed and
+ * added, rather than as a copy of the whole list, and only the latest {@code undoLimit} changes are remembered.
  */
 public class ExpenseList {
 
+    public static final int DEFAULT_UNDO_LIMIT = 50;
+    public static final String MESSAGE_NOTHING_TO_UNDO = "Nothing to undo!";
+    public static final String MESSAGE_NOTHING_TO_REDO = "Nothing to redo!";
+
     private static final String MAXIMUM_REACHED = "Maximum cap 1 trillion reached! You wouldn't want to spend that :(";
+    private static final long MAXIMUM_CENTS = 1_000_000_000_000L * Amount.CENTS_PER_UNIT;
 
     //-----------define sorting types------------//
     private final Comparator<? super Expense> byTime = (ep1, ep2) -> ep2.getTime().valueToCompare
             - ep1.getTime().valueToCompare;
-    private final Comparator<? super Expense> byDate = (ep1, ep2) -> ep2.getDate()
+    private final Comparator<Expense> byDate = (ep1, ep2) -> ep2.getDate()
             .getDateToCompare().compareTo(ep1.getDate().getDateToCompare());
     private final Comparator<? super Expense> byAmount = (ep1, ep2) ->
-            Double.compare(ep2.getAmount().numericalValue, ep1.getAmount().numericalValue);
+            Long.compare(ep2.getAmount().cents, ep1.getAmount().cents);
     private final Comparator<? super Expense> byType = Comparator.comparing(ep -> ep.getType().value);
+    private final Comparator<Expense> byDateThenTime = byDate.thenComparing(byTime);
     private final ObservableList<Expense> expenses = FXCollections.observableArrayList();
     private final ObservableList<Expense> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(expenses);
     private final String country;
-    private final Stack<ExpenseListCopy> undoStack = new Stack<>();
-    private Comparator<? super Expense> currentComparator;
-    private double maximumCap = 0;
+    private final Deque<Change> undoStack = new ArrayDeque<>();
+    private final Deque<Change> redoStack = new ArrayDeque<>();
+    private final int undoLimit;
+    private Comparator<? super Expense> currentComparator = byDateThenTime;
+    private long totalCents = 0;
 
     public ExpenseList(String country) {
+        this(country, DEFAULT_UNDO_LIMIT);
+    }
+
+    /**
+     * Creates an expense list remembering at most {@code undoLimit} changes to undo.
+     */
+    public ExpenseList(String country, int undoLimit) {
+        assert undoLimit >= 0 : "The undo limit cannot be negative";
         this.country = country;
-        this.currentComparator = null;
+        this.undoLimit = undoLimit;
     }
 
     /**
-     * Sorts this expense list according to current comparator.
+     * Inserts {@code expense} at its place under the current comparator, after the expenses equal to it.
      */
-    private void sort() {
-        if (currentComparator == null) {
-            expenses.sort(byTime);
-            expenses.sort(byDate);
-        } else {
-            expenses.sort(currentComparator);
+    private void insertSorted(Expense expense) {
+        expenses.add(upperBound(expense), expense);
+    }
+
+    /**
+     * Returns the first position whose expense is ordered after {@code expense} under the current comparator.
+     */
+    private int upperBound(Expense expense) {
+        int low = 0;
+        int high = expenses.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (currentComparator.compare(expenses.get(mid), expense) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
         }
+        return low;
+    }
+
+    /**
+     * Returns the first position whose expense is not ordered before {@code expense} under the current comparator.
+     */
+    private int lowerBound(Expense expense) {
+        int low = 0;
+        int high = expenses.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (currentComparator.compare(expenses.get(mid), expense) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
 
-        // strange enough, this is to update the observer
-        expenses.add(null);
-        expenses.remove(null);
+    /**
+     * Returns true if {@code expense} can be put at {@code index} without breaking the order of this list.
+     */
+    private boolean fitsAt(int index, Expense expense) {
+        return (index == 0 || currentComparator.compare(expenses.get(index - 1), expense) <= 0)
+                && (index == expenses.size() - 1 || currentComparator.compare(expense, expenses.get(index + 1)) <= 0);
     }
 
     /**
@@ -76,25 +135,44 @@ public class ExpenseList {
             this.currentComparator = byType;
             break;
         default:
-            this.currentComparator = null;
+            this.currentComparator = byDateThenTime;
         }
-        sort();
+        expenses.sort(currentComparator);
     }
 
     /**
      * Adds an expense into this representative expense list.
      */
     public void addExpense(Expense expense, boolean isUserInput) throws CommandException {
-        if ((maximumCap + expense.getAmount().numericalValue) > 1000000000000d) {
-            throw new CommandException(MAXIMUM_REACHED);
-        } else {
-            if (isUserInput) {
-                undoStack.add(this.copy());
+        long newTotalCents = checkedTotal(0, expense.getAmount().cents);
+        if (isUserInput) {
+            remember(new Change(List.of(), List.of(expense)));
+        }
+        totalCents = newTotalCents;
+        insertSorted(expense);
+    }
+
+    /**
+     * Adds every expense in {@code toAdd} as a single change, which is undone and redone as a whole.
+     * The expenses are appended and the list is sorted once, rather than each being inserted on its own.
+     */
+    public void addExpenses(List<Expense> toAdd) throws CommandException {
+        long addedCents = 0;
+        try {
+            for (Expense expense : toAdd) {
+                addedCents = Math.addExact(addedCents, expense.getAmount().cents);
             }
-            maximumCap += expense.getAmount().numericalValue;
-            expenses.add(expense);
-            sort();
+        } catch (ArithmeticException e) {
+            throw new CommandException(MAXIMUM_REACHED);
+        }
+        long newTotalCents = checkedTotal(0, addedCents);
+        if (toAdd.isEmpty()) {
+            return;
         }
+        remember(new Change(List.of(), List.copyOf(toAdd)));
+        totalCents = newTotalCents;
+        expenses.addAll(toAdd);
+        expenses.sort(currentComparator);
     }
 
     /**
@@ -103,10 +181,9 @@ public class ExpenseList {
      */
     public void deleteExpense(int index) {
         Expense toDelete = expenses.get(index - 1);
-        undoStack.add(this.copy());
+        remember(new Change(List.of(toDelete), List.of()));
         expenses.remove(index - 1);
-        maximumCap -= toDelete.getAmount().numericalValue;
-        sort();
+        totalCents -= toDelete.getAmount().cents;
     }
 
     /**
@@ -139,15 +216,15 @@ public class ExpenseList {
         if (!toTest.equals(expenseToEdit)) {
             throw new CommandException("The index that you gave is not valid.");
         }
-        if ((maximumCap - expenseToEdit.getAmount().numericalValue
-                + editedExpense.getAmount().numericalValue) > 1000000000000d) {
-            throw new CommandException(MAXIMUM_REACHED);
+        long newTotalCents = checkedTotal(expenseToEdit.getAmount().cents, editedExpense.getAmount().cents);
+        remember(new Change(List.of(toTest), List.of(editedExpense)));
+        totalCents = newTotalCents;
+        if (fitsAt(index, editedExpense)) {
+            expenses.set(index, editedExpense);
+        } else {
+            expenses.remove(index);
+            insertSorted(editedExpense);
         }
-        undoStack.add(this.copy());
-        maximumCap -= expenseToEdit.getAmount().numericalValue;
-        maximumCap += editedExpense.getAmount().numericalValue;
-        expenses.set(index, editedExpense);
-        sort();
     }
 
     public boolean isEmpty() {
@@ -155,65 +232,206 @@ public class ExpenseList {
     }
 
     /**
-     * Returns a total sum of this expense list;
+     * Returns the total of this expense list in cents.
+     * The total is kept up to date by every change, so it is not summed again.
      */
-    public double getSummary() {
-        double sum = 0;
-        for (Expense expense : expenses) {
-            sum += expense.getAmount().numericalValue;
+    public long getSummary() {
+        return totalCents;
+    }
+
+    /**
+     * Returns the total in cents after an expense of {@code removedCents} is replaced by one of {@code addedCents}.
+     * @throws CommandException if the total would be above the maximum cap.
+     */
+    private long checkedTotal(long removedCents, long addedCents) throws CommandException {
+        try {
+            long newTotalCents = Math.addExact(totalCents - removedCents, addedCents);
+            if (newTotalCents > MAXIMUM_CENTS) {
+                throw new CommandException(MAXIMUM_REACHED);
+            }
+            return newTotalCents;
+        } catch (ArithmeticException e) {
+            throw new CommandException(MAXIMUM_REACHED);
         }
-        return sum;
     }
 
     /**
      * CLears this expense list.
      */
     public void clearExpenseList() {
-        undoStack.add(this.copy());
-        this.expenses.removeAll(expenses);
-        this.maximumCap = 0;
+        remember(new Change(new ArrayList<>(expenses), List.of()));
+        this.expenses.clear();
+        this.totalCents = 0;
+    }
+
+    /**
+     * Replaces the contents of this list with those of {@code other}, keeping the observers of this list.
+     * The undo history is cleared as it no longer matches the contents of this list.
+     */
+    public void resetData(ExpenseList other) {
+        requireNonNull(other);
+        undoStack.clear();
+        redoStack.clear();
+        List<Expense> sorted = new ArrayList<>(other.expenses);
+        sorted.sort(currentComparator);
+        expenses.setAll(sorted);
+        totalCents = other.totalCents;
+    }
+
+    /**
+     * Returns the contents, order and undo history of this list as they are now, to be restored later.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(this);
     }
 
     /**
-     * Undo and resets the expense list to previous expense list stored in UndoStack.
-     * @throws CommandException if the UndoStack is empty
+     * Puts back the contents, order and undo history of this list from {@code snapshot}, keeping the observers of
+     * this list. The same expenses are put back, so the restored undo history still matches them.
+     */
+    public void restore(Snapshot snapshot) {
+        requireNonNull(snapshot);
+        currentComparator = snapshot.comparator;
+        if (!isSameExpenses(snapshot.expenses)) {
+            expenses.setAll(snapshot.expenses);
+        }
+        totalCents = snapshot.totalCents;
+        undoStack.clear();
+        undoStack.addAll(snapshot.undoStack);
+        redoStack.clear();
+        redoStack.addAll(snapshot.redoStack);
+    }
+
+    /**
+     * Returns true if this list holds the expenses in {@code other} themselves, in the same order.
+     */
+    private boolean isSameExpenses(List<Expense> other) {
+        if (other.size() != expenses.size()) {
+            return false;
+        }
+        for (int i = 0; i < other.size(); i++) {
+            if (other.get(i) != expenses.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Undoes the latest change that has not been undone.
+     * @throws CommandException if there is no change to undo
      */
     public void undo() throws CommandException {
         if (this.undoStack.isEmpty()) {
-            throw new CommandException("Nothing to undo!");
-        } else {
-            ExpenseListCopy toUndo = this.undoStack.pop();
-            this.expenses.removeAll(expenses);
-            this.expenses.addAll(toUndo.expenses);
-            this.currentComparator = toUndo.currentComparator;
-            this.maximumCap = toUndo.maximumCap;
-            sort();
+            throw new CommandException(MESSAGE_NOTHING_TO_UNDO);
+        }
+        Change toUndo = this.undoStack.pop();
+        replace(toUndo.added, toUndo.removed);
+        this.redoStack.push(toUndo);
+    }
+
+    /**
+     * Makes the latest undone change again.
+     * @throws CommandException if nothing has been undone since the last change
+     */
+    public void redo() throws CommandException {
+        if (this.redoStack.isEmpty()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_REDO);
         }
+        Change toRedo = this.redoStack.pop();
+        replace(toRedo.removed, toRedo.added);
+        this.undoStack.push(toRedo);
     }
 
     /**
-     * Returns a copy of this expense list.
+     * Remembers {@code change} so that it can be undone, forgetting the oldest change beyond the undo limit.
+     * A new change cannot be followed by a redo.
      */
-    private ExpenseListCopy copy() {
-        ExpenseListCopy copyExpenseList = new ExpenseListCopy(this.expenses, this.maximumCap, this.currentComparator);
-        return copyExpenseList;
+    private void remember(Change change) {
+        redoStack.clear();
+        if (undoLimit == 0) {
+            return;
+        }
+        if (undoStack.size() == undoLimit) {
+            undoStack.removeLast();
+        }
+        undoStack.push(change);
     }
 
     /**
-     * A helper class to help storing all the expenses after every actions done by user.
+     * Removes the expenses in {@code toRemove}, which are compared by identity, and adds those in {@code toAdd}.
+     * Several expenses are only added at once when a cleared list is restored, so they are sorted together
+     * and set in a single change.
      */
-    private class ExpenseListCopy {
-        private ArrayList<Expense> expenses = new ArrayList<>();
-        private double maximumCap;
-        private Comparator<? super Expense> currentComparator;
+    private void replace(List<Expense> toRemove, List<Expense> toAdd) {
+        if (toRemove.size() == 1) {
+            removeInstance(toRemove.get(0));
+        } else if (!toRemove.isEmpty()) {
+            Set<Expense> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+            removed.addAll(toRemove);
+            expenses.removeIf(removed::contains);
+        }
+        for (Expense expense : toRemove) {
+            totalCents -= expense.getAmount().cents;
+        }
+        for (Expense expense : toAdd) {
+            totalCents += expense.getAmount().cents;
+        }
+        if (toAdd.size() == 1) {
+            insertSorted(toAdd.get(0));
+        } else if (!toAdd.isEmpty()) {
+            List<Expense> merged = new ArrayList<>(expenses);
+            merged.addAll(toAdd);
+            merged.sort(currentComparator);
+            expenses.setAll(merged);
+        }
+    }
 
-        public ExpenseListCopy(List<Expense> expenses, double maximumCap,
-                               Comparator<? super Expense> currentComparator) {
-            for (Expense ep : expenses) {
-                this.expenses.add(ep.makeCopy());
+    /**
+     * Removes {@code expense} itself, rather than an expense equal to it, from this list.
+     * Only the expenses ordered the same as {@code expense} are searched, as the list is always sorted.
+     */
+    private void removeInstance(Expense expense) {
+        for (int i = lowerBound(expense); i < expenses.size()
+                && currentComparator.compare(expenses.get(i), expense) == 0; i++) {
+            if (expenses.get(i) == expense) {
+                expenses.remove(i);
+                return;
             }
-            this.maximumCap = maximumCap;
-            this.currentComparator = currentComparator;
+        }
+        assert false : "An expense being undone or redone should be in the list";
+    }
+
+    /**
+     * The contents, order and undo history of an expense list at one time.
+     * Changes are never modified once remembered, so the history is copied without copying the changes.
+     */
+    public static class Snapshot {
+        private final List<Expense> expenses;
+        private final Comparator<? super Expense> comparator;
+        private final long totalCents;
+        private final List<Change> undoStack;
+        private final List<Change> redoStack;
+
+        private Snapshot(ExpenseList expenseList) {
+            expenses = new ArrayList<>(expenseList.expenses);
+            comparator = expenseList.currentComparator;
+            totalCents = expenseList.totalCents;
+            undoStack = new ArrayList<>(expenseList.undoStack);
+            redoStack = new ArrayList<>(expenseList.redoStack);
+        }
+    }
+
+    /**
+     * A change made by the user, as the expenses it removed and the expenses it added.
+     */
+    private static class Change {
+        private final List<Expense> removed;
+        private final List<Expense> added;
+
+        Change(List<Expense> removed, List<Expense> added) {
+            this.removed = removed;
+            this.added = added;
         }
     }
 }
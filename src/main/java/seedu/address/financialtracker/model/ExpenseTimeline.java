@@ -0,0 +1,241 @@
+package seedu.address.financialtracker.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.financialtracker.model.expense.Expense;
+
+/**
+ * Spending of every country bucketed by day and by month, so that the spending between two dates can be found
+ * without going through every expense.
+ * <br>
+ * Days are keyed by their date packed as yyyymmdd and months by yyyymm, so buckets are kept in sorted maps in
+ * the order of time. Every bucket holds the cents of every type of expense in every currency paid in, which are
+ * converted to the home currency by {@link ExpenseTotals} when read.
+ * <br>
+ * The spending between two dates adds up the day buckets of the first and last months and the month buckets of
+ * the months in between, so a query finds its buckets in O(log n) and reads at most two months of days.
+ * Like the totals, the buckets are updated with every change to the expense lists.
+ */
+public class ExpenseTimeline {
+
+    private final Map<String, Series> countrySeries = new HashMap<>();
+    private final Series allCountries = new Series();
+
+    /**
+     * Returns a listener keeping this timeline up to date with the expense list of {@code country}.
+     */
+    public ListChangeListener<Expense> listenerFor(String country) {
+        requireNonNull(country);
+        return change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(expense -> remove(country, expense));
+                change.getAddedSubList().forEach(expense -> add(country, expense));
+            }
+        };
+    }
+
+    /**
+     * Counts {@code expense} in the spending of {@code country} on its date.
+     */
+    public synchronized void add(String country, Expense expense) {
+        countrySeries.computeIfAbsent(country, unused -> new Series()).add(expense);
+        allCountries.add(expense);
+    }
+
+    /**
+     * Stops counting {@code expense}, which was counted in the spending of {@code country}.
+     */
+    public synchronized void remove(String country, Expense expense) {
+        Series series = countrySeries.get(country);
+        assert series != null : "An expense has to be counted before it is removed";
+        series.remove(expense);
+        if (series.days.isEmpty()) {
+            countrySeries.remove(country);
+        }
+        allCountries.remove(expense);
+    }
+
+    /**
+     * Returns the cents of every currency paid in for every type of expense from {@code fromDay} to {@code toDay},
+     * both packed as yyyymmdd and included, in {@code country} or in every country if no country is given.
+     */
+    public synchronized Map<String, Map<String, Long>> getTypeSpending(Optional<String> country, int fromDay,
+                                                                      int toDay) {
+        Map<String, Map<String, Long>> typeSpending = new HashMap<>();
+        for (Bucket bucket : seriesOf(country).bucketsBetween(fromDay, toDay)) {
+            bucket.centsByTypeAndCurrency.forEach((type, centsByCurrency) ->
+                    addAll(typeSpending.computeIfAbsent(type, unused -> new HashMap<>()), centsByCurrency));
+        }
+        return typeSpending;
+    }
+
+    /**
+     * Returns the cents of every currency paid in on every day with expenses from {@code fromDay} to
+     * {@code toDay}, both packed as yyyymmdd and included, in every country.
+     */
+    public synchronized SortedMap<Integer, Map<String, Long>> getDailySpending(int fromDay, int toDay) {
+        return spendingOf(allCountries.days.subMap(fromDay, true, toDay, true));
+    }
+
+    /**
+     * Returns the cents of every currency paid in in every month with expenses from {@code fromMonth} to
+     * {@code toMonth}, both packed as yyyymm and included, in every country.
+     */
+    public synchronized SortedMap<Integer, Map<String, Long>> getMonthlySpending(int fromMonth, int toMonth) {
+        return spendingOf(allCountries.months.subMap(fromMonth, true, toMonth, true));
+    }
+
+    /**
+     * Returns the earliest day with expenses in any country, packed as yyyymmdd.
+     */
+    public synchronized OptionalInt getFirstDay() {
+        return allCountries.days.isEmpty() ? OptionalInt.empty() : OptionalInt.of(allCountries.days.firstKey());
+    }
+
+    /**
+     * Returns the latest day with expenses in any country, packed as yyyymmdd.
+     */
+    public synchronized OptionalInt getLastDay() {
+        return allCountries.days.isEmpty() ? OptionalInt.empty() : OptionalInt.of(allCountries.days.lastKey());
+    }
+
+    private Series seriesOf(Optional<String> country) {
+        return country.map(name -> countrySeries.getOrDefault(name, new Series())).orElse(allCountries);
+    }
+
+    private static SortedMap<Integer, Map<String, Long>> spendingOf(NavigableMap<Integer, Bucket> buckets) {
+        SortedMap<Integer, Map<String, Long>> spending = new TreeMap<>();
+        buckets.forEach((key, bucket) -> spending.put(key, bucket.getCentsByCurrency()));
+        return spending;
+    }
+
+    private static void addAll(Map<String, Long> centsByCurrency, Map<String, Long> more) {
+        more.forEach((currency, cents) -> centsByCurrency.merge(currency, cents, Math::addExact));
+    }
+
+    /**
+     * The spending of a country, or of every country, bucketed by day and by month.
+     */
+    private static class Series {
+        private final TreeMap<Integer, Bucket> days = new TreeMap<>();
+        private final TreeMap<Integer, Bucket> months = new TreeMap<>();
+
+        /**
+         * Counts {@code expense} in the buckets of its day and month.
+         */
+        void add(Expense expense) {
+            int day = expense.getDate().key;
+            days.computeIfAbsent(day, unused -> new Bucket()).add(expense);
+            months.computeIfAbsent(day / 100, unused -> new Bucket()).add(expense);
+        }
+
+        /**
+         * Stops counting {@code expense}, dropping the buckets it leaves empty.
+         */
+        void remove(Expense expense) {
+            int day = expense.getDate().key;
+            removeFrom(days, day, expense);
+            removeFrom(months, day / 100, expense);
+        }
+
+        /**
+         * Stops counting {@code expense} in the bucket of {@code key}, dropping the bucket if it is left empty.
+         */
+        private static void removeFrom(Map<Integer, Bucket> buckets, int key, Expense expense) {
+            Bucket bucket = buckets.get(key);
+            assert bucket != null : "An expense has to be counted before it is removed";
+            bucket.remove(expense);
+            if (bucket.count == 0) {
+                buckets.remove(key);
+            }
+        }
+
+        /**
+         * Returns buckets that together hold the spending from {@code fromDay} to {@code toDay}, both included.
+         * Months that are wholly in the range are read from their month bucket instead of their days.
+         */
+        List<Bucket> bucketsBetween(int fromDay, int toDay) {
+            List<Bucket> buckets = new ArrayList<>();
+            if (fromDay > toDay) {
+                return buckets;
+            }
+
+            int fromMonth = fromDay / 100;
+            int toMonth = toDay / 100;
+            if (fromMonth == toMonth) {
+                buckets.addAll(days.subMap(fromDay, true, toDay, true).values());
+                return buckets;
+            }
+
+            boolean isWholeFirstMonth = fromDay % 100 <= 1;
+            boolean isWholeLastMonth = toDay % 100 >= lengthOfMonth(toMonth);
+            if (!isWholeFirstMonth) {
+                buckets.addAll(days.subMap(fromDay, true, fromMonth * 100 + 99, true).values());
+            }
+            buckets.addAll(months.subMap(fromMonth, isWholeFirstMonth, toMonth, isWholeLastMonth).values());
+            if (!isWholeLastMonth) {
+                buckets.addAll(days.subMap(toMonth * 100, true, toDay, true).values());
+            }
+            return buckets;
+        }
+
+        private static int lengthOfMonth(int month) {
+            return YearMonth.of(month / 100, month % 100).lengthOfMonth();
+        }
+    }
+
+    /**
+     * The number of expenses on a day or in a month and their cents of every type in every currency paid in.
+     */
+    private static class Bucket {
+        private final Map<String, Map<String, Long>> centsByTypeAndCurrency = new HashMap<>();
+        private int count = 0;
+
+        /**
+         * Counts {@code expense} in this bucket.
+         */
+        void add(Expense expense) {
+            centsByTypeAndCurrency.computeIfAbsent(expense.getType().value, unused -> new HashMap<>())
+                    .merge(expense.getCurrency().value, expense.getAmount().cents, Math::addExact);
+            count++;
+        }
+
+        /**
+         * Stops counting {@code expense} in this bucket.
+         */
+        void remove(Expense expense) {
+            long amount = expense.getAmount().cents;
+            centsByTypeAndCurrency.computeIfPresent(expense.getType().value, (unused, centsByCurrency) -> {
+                String currency = expense.getCurrency().value;
+                centsByCurrency.computeIfPresent(currency, (unusedCurrency, cents) ->
+                        cents == amount ? null : cents - amount);
+                return centsByCurrency.isEmpty() ? null : centsByCurrency;
+            });
+            count--;
+        }
+
+        /**
+         * Returns the cents of every currency paid in, across all types.
+         */
+        Map<String, Long> getCentsByCurrency() {
+            Map<String, Long> centsByCurrency = new HashMap<>();
+            centsByTypeAndCurrency.values().forEach(cents -> addAll(centsByCurrency, cents));
+            return centsByCurrency;
+        }
+    }
+}
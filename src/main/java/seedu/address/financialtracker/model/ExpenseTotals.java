@@ -0,0 +1,252 @@
+package seedu.address.financialtracker.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.financialtracker.model.expense.Expense;
+
+/**
+ * Totals of the expenses of every country, per country, per type and per type within each country.
+ * The totals are updated with every change to the expense lists, so summaries read them instead of adding up
+ * every expense again. Only countries and types with at least one expense have a total.
+ * <br>
+ * Totals are kept in cents of every currency paid in, and are converted to cents of the home currency when read.
+ * A converted total is cached until one of its expenses changes, or other rates or another home currency are used.
+ * The totals may be read, for example by the achievements page, while a command changes them.
+ */
+public class ExpenseTotals {
+
+    private final Map<String, Tally> countryTotals = new HashMap<>();
+    private final Map<String, Tally> typeTotals = new HashMap<>();
+    private final Map<String, Map<String, Tally>> countryTypeTotals = new HashMap<>();
+    private final Map<String, Integer> currencyCounts = new HashMap<>();
+    private ExchangeRates rates;
+    private String homeCurrency;
+    private int conversion = 0;
+
+    public ExpenseTotals(ExchangeRates rates, String homeCurrency) {
+        setConversion(rates, homeCurrency);
+    }
+
+    /**
+     * Converts totals with {@code rates} to cents of {@code homeCurrency} from now on.
+     */
+    public synchronized void setConversion(ExchangeRates rates, String homeCurrency) {
+        requireNonNull(rates);
+        requireNonNull(homeCurrency);
+        if (rates != this.rates || !homeCurrency.equals(this.homeCurrency)) {
+            this.rates = rates;
+            this.homeCurrency = homeCurrency;
+            conversion++;
+        }
+    }
+
+    public synchronized String getHomeCurrency() {
+        return homeCurrency;
+    }
+
+    /**
+     * Returns a listener keeping these totals up to date with the expense list of {@code country}.
+     */
+    public ListChangeListener<Expense> listenerFor(String country) {
+        requireNonNull(country);
+        return change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(expense -> remove(country, expense));
+                change.getAddedSubList().forEach(expense -> add(country, expense));
+            }
+        };
+    }
+
+    /**
+     * Counts {@code expense} in the totals of {@code country}.
+     */
+    public synchronized void add(String country, Expense expense) {
+        long cents = expense.getAmount().cents;
+        String type = expense.getType().value;
+        String currency = expense.getCurrency().value;
+        countryTotals.computeIfAbsent(country, unused -> new Tally()).add(currency, cents);
+        typeTotals.computeIfAbsent(type, unused -> new Tally()).add(currency, cents);
+        countryTypeTotals.computeIfAbsent(country, unused -> new HashMap<>())
+                .computeIfAbsent(type, unused -> new Tally()).add(currency, cents);
+        currencyCounts.merge(currency, 1, Integer::sum);
+    }
+
+    /**
+     * Stops counting {@code expense}, which was counted in the totals of {@code country}.
+     */
+    public synchronized void remove(String country, Expense expense) {
+        long cents = expense.getAmount().cents;
+        String type = expense.getType().value;
+        String currency = expense.getCurrency().value;
+        removeFrom(countryTotals, country, currency, cents);
+        removeFrom(typeTotals, type, currency, cents);
+        Map<String, Tally> typeTotalsOfCountry = countryTypeTotals.get(country);
+        assert typeTotalsOfCountry != null : "An expense has to be counted before it is removed";
+        removeFrom(typeTotalsOfCountry, type, currency, cents);
+        if (typeTotalsOfCountry.isEmpty()) {
+            countryTypeTotals.remove(country);
+        }
+        currencyCounts.computeIfPresent(currency, (unused, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Takes {@code cents} of {@code currency} from the total of {@code key}, dropping the total once it has no
+     * expenses left.
+     */
+    private static void removeFrom(Map<String, Tally> totals, String key, String currency, long cents) {
+        Tally tally = totals.get(key);
+        assert tally != null : "An expense has to be counted before it is removed";
+        tally.remove(currency, cents);
+        if (tally.count == 0) {
+            totals.remove(key);
+        }
+    }
+
+    /**
+     * Returns the total in cents of the home currency of every country with expenses.
+     */
+    public synchronized Map<String, Long> getCountryTotals() {
+        return convert(countryTotals);
+    }
+
+    /**
+     * Returns the total in cents of the home currency of every type of expense, across all countries.
+     */
+    public synchronized Map<String, Long> getTypeTotals() {
+        return convert(typeTotals);
+    }
+
+    /**
+     * Returns the total in cents of the home currency of every type of expense in {@code country}.
+     */
+    public synchronized Map<String, Long> getTypeTotals(String country) {
+        return convert(countryTypeTotals.getOrDefault(country, Map.of()));
+    }
+
+    /**
+     * Returns the total in cents of the home currency of the expenses in {@code country}.
+     */
+    public synchronized long getCountryTotal(String country) {
+        Tally tally = countryTotals.get(country);
+        return tally == null ? 0 : tally.getConvertedCents(this);
+    }
+
+    /**
+     * Returns the total in cents of the home currency of the expenses of {@code type} in {@code country}.
+     */
+    public synchronized long getTypeTotal(String country, String type) {
+        Tally tally = countryTypeTotals.getOrDefault(country, Map.of()).get(type);
+        return tally == null ? 0 : tally.getConvertedCents(this);
+    }
+
+    /**
+     * Returns the total in cents of the home currency of all expenses.
+     */
+    public synchronized long getTotal() {
+        long total = 0;
+        for (Tally tally : countryTotals.values()) {
+            total = Math.addExact(total, tally.getConvertedCents(this));
+        }
+        return total;
+    }
+
+    /**
+     * Returns the currencies that have been paid in but cannot be converted to the home currency.
+     * Expenses in these currencies are left out of every total.
+     */
+    public synchronized SortedSet<String> getCurrenciesWithoutRate() {
+        return currencyCounts.keySet().stream()
+                .filter(currency -> !canConvert(currency))
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * Returns {@code centsByCurrency}, holding cents of every currency paid in, in cents of the home currency.
+     * Cents of currencies that cannot be converted are left out.
+     */
+    synchronized long toHomeCurrency(Map<String, Long> centsByCurrency) {
+        long sum = 0;
+        for (Map.Entry<String, Long> entry : centsByCurrency.entrySet()) {
+            if (canConvert(entry.getKey())) {
+                sum = Math.addExact(sum, rates.convert(entry.getValue(), entry.getKey(), homeCurrency));
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Returns a function converting cents of {@code currency} to cents of the current home currency with the
+     * current rates, if they can be converted. The function keeps converting the same way after the rates or
+     * home currency change, so it can be applied to many amounts without holding the lock of these totals.
+     */
+    synchronized Optional<LongUnaryOperator> converterFor(String currency) {
+        if (!canConvert(currency)) {
+            return Optional.empty();
+        }
+        ExchangeRates rates = this.rates;
+        String homeCurrency = this.homeCurrency;
+        return Optional.of(cents -> rates.convert(cents, currency, homeCurrency));
+    }
+
+    private boolean canConvert(String currency) {
+        return currency.equals(homeCurrency) || rates.hasRate(currency) && rates.hasRate(homeCurrency);
+    }
+
+    private Map<String, Long> convert(Map<String, Tally> totals) {
+        Map<String, Long> cents = new HashMap<>();
+        totals.forEach((key, tally) -> cents.put(key, tally.getConvertedCents(this)));
+        return cents;
+    }
+
+    /**
+     * The number of expenses counted under a key and their total in cents of every currency they were paid in.
+     */
+    private static class Tally {
+        private final Map<String, Long> centsByCurrency = new HashMap<>();
+        private int count = 0;
+        private long convertedCents;
+        private int convertedWith = 0;
+
+        /**
+         * Counts an expense of {@code amount} cents of {@code currency}.
+         */
+        void add(String currency, long amount) {
+            centsByCurrency.merge(currency, amount, Math::addExact);
+            count++;
+            convertedWith = 0;
+        }
+
+        /**
+         * Stops counting an expense of {@code amount} cents of {@code currency}.
+         */
+        void remove(String currency, long amount) {
+            centsByCurrency.computeIfPresent(currency, (unused, cents) -> cents == amount ? null : cents - amount);
+            count--;
+            convertedWith = 0;
+        }
+
+        /**
+         * Returns the total in cents of the home currency of {@code totals}, converting it again only if
+         * the expenses or the conversion changed since it was last converted.
+         */
+        long getConvertedCents(ExpenseTotals totals) {
+            if (convertedWith != totals.conversion) {
+                convertedCents = totals.toHomeCurrency(centsByCurrency);
+                convertedWith = totals.conversion;
+            }
+            return convertedCents;
+        }
+    }
+}
@@ -2,45 +2,162 @@ package seedu.address.financialtracker.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
-import java.util.Locale;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableMap;
 import seedu.address.financialtracker.model.expense.Country;
+import seedu.address.financialtracker.model.expense.Currency;
 import seedu.address.financialtracker.model.expense.Expense;
 import seedu.address.logic.commands.exceptions.CommandException;
 
 /**
  * Encapsulates expense lists into financial tracker and allow accessing expense list accordingly by indicating
  * which country that the user wanna access.
+ * The expense list of a country is only created once it is used, so that only the handful of countries a user
+ * travels to take up memory and are visited by summaries and storage.
+ * Summaries are given in the home currency, converted with the exchange rates the tracker was given.
  */
 public class FinancialTracker {
 
+    public static final String DEFAULT_HOME_CURRENCY = "SGD";
+
     private String currentCountry;
+    private Currency homeCurrency = new Currency(DEFAULT_HOME_CURRENCY);
+    private ExchangeRates exchangeRates = new ExchangeRates(Map.of());
     private final ObservableMap<String, ExpenseList> expenseListMap = FXCollections.observableHashMap();
     private final ObservableMap<String, ExpenseList> internalUnmodifiableExpenseListMap =
             FXCollections.unmodifiableObservableMap(expenseListMap);
+    private final ExpenseTotals totals = new ExpenseTotals(exchangeRates, homeCurrency.value);
+    private final ExpenseTimeline timeline = new ExpenseTimeline();
+    private final ExpenseColumns columns = new ExpenseColumns();
+    private final BudgetTracker budgets = new BudgetTracker(totals);
 
     public FinancialTracker() {
-        String[] locales = Locale.getISOCountries();
-        for (String countryCode : locales) {
-            Locale obj = new Locale("", countryCode);
-            expenseListMap.put(obj.getDisplayCountry(), new ExpenseList(obj.getDisplayCountry()));
+        setCurrentCountry("Singapore"); //Singapore as default
+    }
+
+    /**
+     * Returns the expense list of {@code country}, creating it if it has not been used before.
+     * @param country a country in {@link Country#COUNTRY_NAMES}.
+     */
+    private ExpenseList getExpenseList(String country) {
+        assert Country.isKnownCountry(country) : "Expense lists are only kept for known countries";
+        ExpenseList expenseList = expenseListMap.get(country);
+        if (expenseList == null) {
+            expenseList = new ExpenseList(country);
+            expenseList.asUnmodifiableObservableList().addListener(totals.listenerFor(country));
+            expenseList.asUnmodifiableObservableList().addListener(timeline.listenerFor(country));
+            expenseList.asUnmodifiableObservableList().addListener(columns.listenerFor(country));
+            // budgets are only marked here, and checked once the whole change is counted in the totals
+            expenseList.asUnmodifiableObservableList().addListener(budgets.listenerFor(country));
+            expenseListMap.put(country, expenseList);
         }
-        currentCountry = "Singapore"; //Singapore as default
+        return expenseList;
+    }
+
+    /**
+     * Returns the expense list of the current country.
+     */
+    public ExpenseList getCurrentExpenseList() {
+        return expenseListMap.get(currentCountry);
     }
 
     public String getCurrentCountry() {
         return currentCountry;
     }
 
+    public Currency getHomeCurrency() {
+        return homeCurrency;
+    }
+
+    /**
+     * Gives summaries in {@code homeCurrency} from now on.
+     */
+    public void setHomeCurrency(Currency homeCurrency) {
+        this.homeCurrency = requireNonNull(homeCurrency);
+        totals.setConversion(exchangeRates, homeCurrency.value);
+        budgets.checkAll();
+    }
+
+    /**
+     * Converts summaries with {@code exchangeRates} from now on.
+     */
+    public void setExchangeRates(ExchangeRates exchangeRates) {
+        this.exchangeRates = requireNonNull(exchangeRates);
+        totals.setConversion(exchangeRates, homeCurrency.value);
+        budgets.checkAll();
+    }
+
+    /**
+     * Sets {@code budget}, replacing the budget for the same type of expense in the same country.
+     * @throws CommandException if the budget is not for a known country.
+     */
+    public void setBudget(Budget budget) throws CommandException {
+        if (!Country.isKnownCountry(budget.getCountry())) {
+            throw new CommandException(Country.MESSAGE_CONSTRAINTS);
+        }
+        budgets.setBudget(budget);
+    }
+
+    /**
+     * Replaces every budget with {@code newBudgets}, without giving alerts for them.
+     */
+    public void setBudgets(List<Budget> newBudgets) {
+        budgets.resetData(newBudgets);
+    }
+
+    /**
+     * Removes the budget for {@code type} of expense in {@code country}, or for every type if {@code type} is
+     * null. Returns true if there was such a budget.
+     */
+    public boolean removeBudget(String country, String type) {
+        return budgets.removeBudget(country, type);
+    }
+
+    public List<Budget> getBudgets() {
+        return budgets.getBudgets();
+    }
+
+    /**
+     * Returns how much is left of every budget of the current country, one budget per line.
+     */
+    public String getBudgetStatus() {
+        return budgets.getStatus(currentCountry);
+    }
+
+    /**
+     * Returns the alerts of budgets that became mostly or wholly used since the alerts were last taken.
+     */
+    public List<String> takeBudgetAlerts() {
+        return budgets.takeAlerts();
+    }
+
+    /**
+     * Returns the currencies of expenses that cannot be converted to the home currency, and so are left out of
+     * summaries.
+     */
+    public SortedSet<String> getCurrenciesWithoutRate() {
+        return totals.getCurrenciesWithoutRate();
+    }
+
     /**
      * Sets the comparator method in an expense list.
      * @param comparator comparator types specified in string.
      */
     public void setComparator(String comparator) {
-        expenseListMap.get(currentCountry).setComparator(comparator);
+        getCurrentExpenseList().setComparator(comparator);
     }
 
     /**
@@ -48,41 +165,53 @@ public class FinancialTracker {
      * @param country the country to change
      */
     public void setCurrentCountry(String country) {
-        if (expenseListMap.containsKey(country)) {
+        if (Country.isKnownCountry(country)) {
             currentCountry = country;
         } else {
             currentCountry = "Singapore";
         }
-
+        getExpenseList(currentCountry);
     }
 
     /**
      * Adds an expense into the expense list associated with current country key.
      */
     public void addExpense(Expense expense) throws CommandException {
-        assert expenseListMap.get(currentCountry) != null;
         expense.setCountry(new Country(currentCountry));
-        expenseListMap.get(currentCountry).addExpense(expense, true);
+        getCurrentExpenseList().addExpense(expense, true);
     }
 
     /**
      * Adds an expense into the expense list associated with another country key.
      * Used by storage
+     * @throws CommandException if {@code country} is not a known country.
      */
     public void addExpense(Expense expense, Country country) throws CommandException {
-        expenseListMap.get(country.value).addExpense(expense, false);
+        if (!Country.isKnownCountry(country.value)) {
+            throw new CommandException(Country.MESSAGE_CONSTRAINTS);
+        }
+        getExpenseList(country.value).addExpense(expense, false);
+    }
+
+    /**
+     * Adds {@code expenses} into the expense list associated with current country key, as a single change.
+     */
+    public void addExpenses(List<Expense> expenses) throws CommandException {
+        for (Expense expense : expenses) {
+            expense.setCountry(new Country(currentCountry));
+        }
+        getCurrentExpenseList().addExpenses(expenses);
     }
 
     /**
      * Deletes an expense from the expense list associated with current coountry key.
      */
     public void deleteExpense(int index) {
-        assert expenseListMap.get(currentCountry) != null;
-        expenseListMap.get(currentCountry).deleteExpense(index);
+        getCurrentExpenseList().deleteExpense(index);
     }
 
     /**
-     * Returns an underlying Map.
+     * Returns an underlying Map, holding the expense lists of the countries that have been used.
      */
     public ObservableMap<String, ExpenseList> getInternalUnmodifiableExpenseListMap() {
         return internalUnmodifiableExpenseListMap;
@@ -94,37 +223,200 @@ public class FinancialTracker {
     public void setExpense(int index, Expense expenseToEdit, Expense editedExpense) throws CommandException {
         requireNonNull(editedExpense);
         editedExpense.setCountry(new Country(currentCountry));
-        expenseListMap.get(currentCountry).setExpense(index, expenseToEdit, editedExpense);
+        getCurrentExpenseList().setExpense(index, expenseToEdit, editedExpense);
+    }
+
+    /**
+     * Returns the total in cents of the home currency of every expense list that is not empty, and their sum
+     * under "Total", in a {@code HashMap} form.
+     */
+    public HashMap<String, Long> getSummaryMap() {
+        HashMap<String, Long> summaryMap = new HashMap<>(totals.getCountryTotals());
+        summaryMap.put("Total", totals.getTotal());
+        return summaryMap;
+    }
+
+    /**
+     * Returns the total in cents of the home currency of every type of expense across all countries,
+     * in a {@code HashMap} form.
+     */
+    public HashMap<String, Long> getTypeSummaryMap() {
+        return new HashMap<>(totals.getTypeTotals());
+    }
+
+    /**
+     * Returns the total in cents of the home currency of every type of expense in {@code country},
+     * in a {@code HashMap} form.
+     */
+    public HashMap<String, Long> getTypeSummaryMap(String country) {
+        return new HashMap<>(totals.getTypeTotals(country));
+    }
+
+    /**
+     * Returns the total in cents of the home currency of every type of expense from {@code fromDay} to
+     * {@code toDay}, both packed as yyyymmdd and included, in {@code country} or in every country if no country
+     * is given.
+     */
+    public HashMap<String, Long> getTypeSummaryMap(Optional<String> country, int fromDay, int toDay) {
+        HashMap<String, Long> summaryMap = new HashMap<>();
+        timeline.getTypeSpending(country, fromDay, toDay).forEach((type, centsByCurrency) ->
+                summaryMap.put(type, totals.toHomeCurrency(centsByCurrency)));
+        return summaryMap;
+    }
+
+    /**
+     * Returns the total in cents of the home currency of every day with expenses from {@code fromDay} to
+     * {@code toDay}, both packed as yyyymmdd and included, across all countries.
+     */
+    public SortedMap<Integer, Long> getDailyTotals(int fromDay, int toDay) {
+        return toHomeCurrency(timeline.getDailySpending(fromDay, toDay));
+    }
+
+    /**
+     * Returns the total in cents of the home currency of every month with expenses from {@code fromMonth} to
+     * {@code toMonth}, both packed as yyyymm and included, across all countries.
+     */
+    public SortedMap<Integer, Long> getMonthlyTotals(int fromMonth, int toMonth) {
+        return toHomeCurrency(timeline.getMonthlySpending(fromMonth, toMonth));
+    }
+
+    /**
+     * Returns the earliest day with expenses, packed as yyyymmdd.
+     */
+    public OptionalInt getFirstDay() {
+        return timeline.getFirstDay();
+    }
+
+    /**
+     * Returns the latest day with expenses, packed as yyyymmdd.
+     */
+    public OptionalInt getLastDay() {
+        return timeline.getLastDay();
+    }
+
+    /**
+     * Returns the {@code limit} groups of {@code dimension} with the highest totals from {@code fromDay} to
+     * {@code toDay}, both packed as yyyymmdd and included, and their totals in cents of the home currency,
+     * highest first.
+     */
+    public List<Map.Entry<String, Long>> getTopTotals(ExpenseColumns.Dimension dimension, int fromDay, int toDay,
+                                                      int limit) {
+        return columns.sumBy(dimension, fromDay, toDay).entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), totals.toHomeCurrency(entry.getValue())))
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the amounts in cents of the home currency that {@code percentiles} percent of the expenses from
+     * {@code fromDay} to {@code toDay}, both packed as yyyymmdd and included, are at most, using the nearest rank.
+     * Returns an empty list if there are no such expenses.
+     */
+    public List<Long> getAmountPercentiles(int fromDay, int toDay, int... percentiles) {
+        long[] amounts = columns.getSortedAmounts(fromDay, toDay, totals::converterFor);
+        if (amounts.length == 0) {
+            return List.of();
+        }
+        return IntStream.of(percentiles)
+                .mapToObj(percentile -> amounts[Math.max(0,
+                        (int) Math.ceil(percentile / 100.0 * amounts.length) - 1)])
+                .collect(Collectors.toList());
+    }
+
+    private SortedMap<Integer, Long> toHomeCurrency(SortedMap<Integer, Map<String, Long>> spending) {
+        SortedMap<Integer, Long> converted = new TreeMap<>();
+        spending.forEach((key, centsByCurrency) -> converted.put(key, totals.toHomeCurrency(centsByCurrency)));
+        return converted;
     }
 
     /**
-     * Returns statistics of all the expense lists in a {@code HashMap} form.
+     * Replaces the expenses and budgets of every country and the home currency with those in {@code newData}.
+     * Expense lists already shown to the user are updated in place.
      */
-    public HashMap<String, Double> getSummaryMap() {
-        HashMap<String, Double> summaryMap = new HashMap<>();
-        double total = 0;
-        for (String key : internalUnmodifiableExpenseListMap.keySet()) {
-            if (!internalUnmodifiableExpenseListMap.get(key).isEmpty()) {
-                double summary = internalUnmodifiableExpenseListMap.get(key).getSummary();
-                summaryMap.put(key, summary);
-                total += summary;
+    public void resetData(FinancialTracker newData) {
+        requireNonNull(newData);
+        setHomeCurrency(newData.homeCurrency);
+        for (String key : new ArrayList<>(expenseListMap.keySet())) {
+            ExpenseList expenseList = expenseListMap.get(key);
+            if (!expenseList.isEmpty() && !newData.expenseListMap.containsKey(key)) {
+                expenseList.resetData(new ExpenseList(key));
             }
         }
-        summaryMap.put("Total", total);
-        return summaryMap;
+        for (String key : newData.expenseListMap.keySet()) {
+            ExpenseList newExpenseList = newData.expenseListMap.get(key);
+            if (!newExpenseList.isEmpty() || expenseListMap.containsKey(key)) {
+                getExpenseList(key).resetData(newExpenseList);
+            }
+        }
+        budgets.resetData(newData.getBudgets());
+    }
+
+    /**
+     * Returns the expenses, undo history, budgets, current country and currencies of this tracker as they are now,
+     * to be restored if a script fails.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(this);
+    }
+
+    /**
+     * Puts back everything in {@code snapshot}. Unlike {@link #resetData}, the undo history of every country and
+     * the alerts already given by budgets are kept as they were when the snapshot was taken.
+     * Expense lists created since then are emptied, and lists that did not change are left untouched.
+     */
+    public void restore(Snapshot snapshot) {
+        requireNonNull(snapshot);
+        homeCurrency = snapshot.homeCurrency;
+        exchangeRates = snapshot.exchangeRates;
+        totals.setConversion(exchangeRates, homeCurrency.value);
+        for (String key : new ArrayList<>(expenseListMap.keySet())) {
+            ExpenseList.Snapshot savedList = snapshot.expenseLists.get(key);
+            expenseListMap.get(key).restore(savedList != null ? savedList : new ExpenseList(key).snapshot());
+        }
+        setCurrentCountry(snapshot.currentCountry);
+        budgets.restore(snapshot.budgets);
     }
 
     /**
      * Undo previous user action.
      */
     public void undo() throws CommandException {
-        expenseListMap.get(currentCountry).undo();
+        getCurrentExpenseList().undo();
+    }
+
+    /**
+     * Redo the latest undone user action.
+     */
+    public void redo() throws CommandException {
+        getCurrentExpenseList().redo();
     }
 
     /**
      * Clears the expense list associated with current country.
      */
     public void clearExpenseList() {
-        expenseListMap.get(currentCountry).clearExpenseList();
+        getCurrentExpenseList().clearExpenseList();
+    }
+
+    /**
+     * Everything a command can change in a financial tracker, at one time.
+     */
+    public static class Snapshot {
+        private final String currentCountry;
+        private final Currency homeCurrency;
+        private final ExchangeRates exchangeRates;
+        private final Map<String, ExpenseList.Snapshot> expenseLists = new HashMap<>();
+        private final BudgetTracker.Snapshot budgets;
+
+        private Snapshot(FinancialTracker financialTracker) {
+            currentCountry = financialTracker.currentCountry;
+            homeCurrency = financialTracker.homeCurrency;
+            exchangeRates = financialTracker.exchangeRates;
+            financialTracker.expenseListMap.forEach((country, expenseList) ->
+                    expenseLists.put(country, expenseList.snapshot()));
+            budgets = financialTracker.budgets.snapshot();
+        }
     }
 }
@@ -1,14 +1,26 @@
 package seedu.address.financialtracker.model;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.SortedMap;
+import java.util.SortedSet;
 
 import javafx.collections.ObservableList;
-import javafx.collections.ObservableMap;
 import javafx.scene.chart.PieChart;
 import javafx.scene.chart.XYChart;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.util.StatisticsUtil;
+import seedu.address.financialtracker.model.expense.Amount;
+import seedu.address.financialtracker.model.expense.Currency;
+import seedu.address.financialtracker.model.expense.Date;
 import seedu.address.financialtracker.model.expense.Expense;
+import seedu.address.financialtracker.storage.ExchangeRatesStorage;
 import seedu.address.financialtracker.ui.CountriesDropdown;
 import seedu.address.logic.commands.exceptions.CommandException;
 
@@ -17,16 +29,22 @@ import seedu.address.logic.commands.exceptions.CommandException;
  */
 public class Model {
 
+    public static final String MESSAGE_CANNOT_READ_RATES = "Could not read the exchange rates in %1$s: %2$s";
+
+    /** Longest span of expenses, in days, that the spending over time is charted per day rather than per month. */
+    public static final int MAXIMUM_DAYS_CHARTED = 62;
+
     // UI dependencies
     private CountriesDropdown countriesDropdown;
 
+    // where exchange rates are read from when they are reloaded
+    private ExchangeRatesStorage exchangeRatesStorage;
+
     //financial tracker components
     private FinancialTracker financialTracker;
-    private ObservableMap<String, ExpenseList> internalUnmodifiableExpenseListMap;
 
     public Model() {
         this.financialTracker = new FinancialTracker();
-        internalUnmodifiableExpenseListMap = this.financialTracker.getInternalUnmodifiableExpenseListMap();
     }
 
     /**
@@ -34,7 +52,13 @@ public class Model {
      */
     public Model(FinancialTracker financialTracker) {
         this.financialTracker = financialTracker;
-        internalUnmodifiableExpenseListMap = this.financialTracker.getInternalUnmodifiableExpenseListMap();
+    }
+
+    /**
+     * Replaces all expenses in the financial tracker with those in {@code newData}.
+     */
+    public void resetData(FinancialTracker newData) {
+        this.financialTracker.resetData(newData);
     }
 
     /**
@@ -44,6 +68,13 @@ public class Model {
         this.financialTracker.addExpense(expense);
     }
 
+    /**
+     * Adds {@code expenses} into the financial tracker at once, to be undone together.
+     */
+    public void addExpenses(List<Expense> expenses) throws CommandException {
+        this.financialTracker.addExpenses(expenses);
+    }
+
     /**
      * Deletes an expense from the financial tracker.
      */
@@ -73,8 +104,7 @@ public class Model {
      * Returns an expense list from the underlying Map of financial tracker.
      */
     public ObservableList<Expense> getExpenseList() {
-        return internalUnmodifiableExpenseListMap
-                .get(financialTracker.getCurrentCountry()).asUnmodifiableObservableList();
+        return financialTracker.getCurrentExpenseList().asUnmodifiableObservableList();
     }
 
     /**
@@ -91,10 +121,83 @@ public class Model {
         return financialTracker;
     }
 
-    public HashMap<String, Double> getSummaryMap() {
+    public HashMap<String, Long> getSummaryMap() {
         return this.financialTracker.getSummaryMap();
     }
 
+    public HashMap<String, Long> getTypeSummaryMap() {
+        return this.financialTracker.getTypeSummaryMap();
+    }
+
+    public HashMap<String, Long> getTypeSummaryMap(String country) {
+        return this.financialTracker.getTypeSummaryMap(country);
+    }
+
+    public HashMap<String, Long> getTypeSummaryMap(Optional<String> country, int fromDay, int toDay) {
+        return this.financialTracker.getTypeSummaryMap(country, fromDay, toDay);
+    }
+
+    public List<Map.Entry<String, Long>> getTopTotals(ExpenseColumns.Dimension dimension, int fromDay, int toDay,
+                                                      int limit) {
+        return this.financialTracker.getTopTotals(dimension, fromDay, toDay, limit);
+    }
+
+    public List<Long> getAmountPercentiles(int fromDay, int toDay, int... percentiles) {
+        return this.financialTracker.getAmountPercentiles(fromDay, toDay, percentiles);
+    }
+
+    public void setBudget(Budget budget) throws CommandException {
+        this.financialTracker.setBudget(budget);
+    }
+
+    public boolean removeBudget(String country, String type) {
+        return this.financialTracker.removeBudget(country, type);
+    }
+
+    public List<Budget> getBudgets() {
+        return this.financialTracker.getBudgets();
+    }
+
+    public String getBudgetStatus() {
+        return this.financialTracker.getBudgetStatus();
+    }
+
+    public List<String> takeBudgetAlerts() {
+        return this.financialTracker.takeBudgetAlerts();
+    }
+
+    public Currency getHomeCurrency() {
+        return this.financialTracker.getHomeCurrency();
+    }
+
+    public void setHomeCurrency(Currency homeCurrency) {
+        this.financialTracker.setHomeCurrency(homeCurrency);
+    }
+
+    public void setExchangeRates(ExchangeRates exchangeRates) {
+        this.financialTracker.setExchangeRates(exchangeRates);
+    }
+
+    public SortedSet<String> getCurrenciesWithoutRate() {
+        return this.financialTracker.getCurrenciesWithoutRate();
+    }
+
+    /**
+     * Reads the exchange rates again, so that changes made to the exchange rates file are used.
+     * @throws CommandException if the exchange rates file cannot be read.
+     */
+    public void reloadExchangeRates() throws CommandException {
+        if (exchangeRatesStorage == null) {
+            return;
+        }
+        try {
+            setExchangeRates(exchangeRatesStorage.readExchangeRates());
+        } catch (DataConversionException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_RATES,
+                    exchangeRatesStorage.getExchangeRatesFilePath(), e.getMessage()), e);
+        }
+    }
+
     public void clearExpenseList() {
         this.financialTracker.clearExpenseList();
     }
@@ -106,6 +209,13 @@ public class Model {
         this.financialTracker.undo();
     }
 
+    /**
+     * Redo the latest undone user action.
+     */
+    public void redo() throws CommandException {
+        this.financialTracker.redo();
+    }
+
     /**
      * Introduces Ui dependencies using model.
      * Purpose is to modify the countries dropdown menu based on user input.
@@ -115,23 +225,65 @@ public class Model {
         this.countriesDropdown = countriesDropdown;
     }
 
+    /**
+     * Introduces the storage that exchange rates are reloaded from.
+     */
+    public void addDependencies(ExchangeRatesStorage exchangeRatesStorage) {
+        this.exchangeRatesStorage = exchangeRatesStorage;
+    }
+
     /**
      * Updates countries drop down menu from user input {@Code SwitchCommand}.
      */
     public void updateDropDownMenu(String country) throws CommandException {
-        countriesDropdown.handleUpdateFromUserInput(country);
+        setCountry(country);
+        if (countriesDropdown != null) {
+            countriesDropdown.handleUpdateFromUserInput(country);
+        }
     }
 
     //=========== Statistics =================================================================================
 
     public ObservableList<PieChart.Data> getFinancialPieChartData() {
-        double total = getSummaryMap().get("Total");
-        return StatisticsUtil.getFinancialPieChartData(getSummaryMap(), entry -> !entry.getKey().equals("Total"),
-            entry -> new PieChart.Data(entry.getKey(), entry.getValue() / total));
+        HashMap<String, Long> summaryMap = getSummaryMap();
+        long total = summaryMap.get("Total");
+        return StatisticsUtil.getFinancialPieChartData(summaryMap, entry -> !entry.getKey().equals("Total"),
+            entry -> new PieChart.Data(entry.getKey(), (double) entry.getValue() / total));
     }
 
     public XYChart.Series<String, Number> getFinancialBarChartData() {
         return StatisticsUtil.getFinancialBarChartData(getSummaryMap(), entry -> !entry.getKey().equals("Total"),
-            entry -> new XYChart.Data<String, Number>(entry.getKey(), entry.getValue()));
+            entry -> new XYChart.Data<String, Number>(entry.getKey(), Amount.toUnits(entry.getValue())));
+    }
+
+    /**
+     * Returns the spending across all countries over time, per day if the expenses span at most
+     * {@link #MAXIMUM_DAYS_CHARTED} days and per month otherwise.
+     */
+    public XYChart.Series<String, Number> getSpendingOverTimeChartData() {
+        XYChart.Series<String, Number> series = new XYChart.Series<>();
+        OptionalInt firstDay = financialTracker.getFirstDay();
+        OptionalInt lastDay = financialTracker.getLastDay();
+        if (firstDay.isEmpty() || lastDay.isEmpty()) {
+            return series;
+        }
+
+        long daysSpanned = ChronoUnit.DAYS.between(toLocalDate(firstDay.getAsInt()), toLocalDate(lastDay.getAsInt()));
+        if (daysSpanned < MAXIMUM_DAYS_CHARTED) {
+            SortedMap<Integer, Long> dailyTotals = financialTracker.getDailyTotals(firstDay.getAsInt(),
+                    lastDay.getAsInt());
+            dailyTotals.forEach((day, cents) ->
+                    series.getData().add(new XYChart.Data<>(Date.formatKey(day), Amount.toUnits(cents))));
+        } else {
+            SortedMap<Integer, Long> monthlyTotals = financialTracker.getMonthlyTotals(firstDay.getAsInt() / 100,
+                    lastDay.getAsInt() / 100);
+            monthlyTotals.forEach((month, cents) -> series.getData().add(new XYChart.Data<>(
+                    String.format("%02d/%04d", month % 100, month / 100), Amount.toUnits(cents))));
+        }
+        return series;
+    }
+
+    private static LocalDate toLocalDate(int day) {
+        return LocalDate.of(day / 10000, day / 100 % 100, day % 100);
     }
 }
@@ -2,8 +2,11 @@ package seedu.address.financialtracker.model.expense;
 
 import static java.util.Objects.requireNonNull;
 
+import java.math.BigDecimal;
+
 /**
  * An expense amount.
+ * The amount is kept as an exact number of cents, so that totals of many expenses do not drift.
  */
 public class Amount {
 
@@ -11,13 +14,61 @@ public class Amount {
             "Amount should only contain positive numbers with maximum two decimals\n"
             + "Please don't overspend :) Your total expenses are capped at 1 trillion. Fair enough right?";
     public static final String VALIDATION_REGEX = "^[0-9]+(\\.[0-9]{1,2})?$";
+    public static final int CENTS_PER_UNIT = 100;
     public final String value;
-    public final double numericalValue;
+    public final long cents;
 
     public Amount(String amount) {
         requireNonNull(amount);
+        this.cents = parseCents(amount);
         this.value = amountFormat(amount);
-        this.numericalValue = Double.parseDouble(amount);
+    }
+
+    /**
+     * Returns the number of cents in {@code amount}, read digit by digit.
+     * The whole units may be left out, as in the formatted value ".50" of fifty cents.
+     * @throws IllegalArgumentException if {@code amount} has no digits, is not a number with at most two decimals,
+     *     or has too many cents to count.
+     */
+    public static long parseCents(String amount) {
+        int dotIndex = amount.indexOf('.');
+        int unitsEnd = dotIndex == -1 ? amount.length() : dotIndex;
+        int decimals = amount.length() - unitsEnd - 1;
+        if (amount.isEmpty() || dotIndex != -1 && (decimals < 1 || decimals > 2)) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+
+        try {
+            long result = 0;
+            for (int i = 0; i < amount.length(); i++) {
+                if (i != unitsEnd) {
+                    result = Math.addExact(Math.multiplyExact(result, 10), toDigit(amount.charAt(i)));
+                }
+            }
+            for (int missingDecimals = dotIndex == -1 ? 2 : 2 - decimals; missingDecimals > 0; missingDecimals--) {
+                result = Math.multiplyExact(result, 10);
+            }
+            return result;
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS, e);
+        }
+    }
+
+    /**
+     * Returns the value of the decimal digit {@code character}.
+     */
+    private static int toDigit(char character) {
+        if (character < '0' || character > '9') {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+        return character - '0';
+    }
+
+    /**
+     * Returns {@code cents} in whole units, exactly, for display in charts.
+     */
+    public static BigDecimal toUnits(long cents) {
+        return BigDecimal.valueOf(cents, 2);
     }
 
     /**
@@ -42,7 +93,15 @@ public class Amount {
      * Returns true if a given string is a valid amount.
      */
     public static boolean isValidAmount(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (!test.matches(VALIDATION_REGEX)) {
+            return false;
+        }
+        try {
+            parseCents(test);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
     }
 
     @Override
@@ -2,6 +2,13 @@ package seedu.address.financialtracker.model.expense;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
 /**
  * An expense associated country.
  */
@@ -15,6 +22,22 @@ public class Country {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+
+    /**
+     * Names of every country that expenses can be recorded in, in alphabetical order.
+     * The names are looked up once, as every expense list, the dropdown menu and the parser need them.
+     */
+    public static final List<String> COUNTRY_NAMES;
+    private static final Map<String, String> COUNTRY_CODES;
+    static {
+        Map<String, String> countryCodes = new HashMap<>();
+        for (String countryCode : Locale.getISOCountries()) {
+            countryCodes.putIfAbsent(new Locale("", countryCode).getDisplayCountry(), countryCode);
+        }
+        COUNTRY_CODES = Map.copyOf(countryCodes);
+        COUNTRY_NAMES = COUNTRY_CODES.keySet().stream().sorted().collect(Collectors.toUnmodifiableList());
+    }
+
     public final String value;
 
     public Country(String country) {
@@ -29,6 +52,20 @@ public class Country {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if {@code test} is the name of a country in {@link #COUNTRY_NAMES}.
+     */
+    public static boolean isKnownCountry(String test) {
+        return COUNTRY_CODES.containsKey(test);
+    }
+
+    /**
+     * Returns the ISO 3166 code of the country named {@code countryName}, if it is a known country.
+     */
+    public static Optional<String> getCountryCode(String countryName) {
+        return Optional.ofNullable(COUNTRY_CODES.get(countryName));
+    }
+
 
     @Override
     public String toString() {
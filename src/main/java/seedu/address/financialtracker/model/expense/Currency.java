@@ -0,0 +1,79 @@
+package seedu.address.financialtracker.model.expense;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+
+import seedu.address.commons.util.AppUtil;
+
+/**
+ * Currency an expense was paid in, as an ISO 4217 code such as SGD.
+ */
+public class Currency {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Currency should be a three letter ISO 4217 code, e.g. SGD, JPY or USD";
+    public static final String VALIDATION_REGEX = "[A-Za-z]{3}";
+
+    /** Currency used for countries without a currency of their own, such as Antarctica. */
+    public static final String DEFAULT_CURRENCY = "USD";
+
+    public final String value;
+
+    public Currency(String currency) {
+        requireNonNull(currency);
+        AppUtil.checkArgument(isValidCurrency(currency), MESSAGE_CONSTRAINTS);
+        this.value = currency.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns true if a given string is the code of a currency known to Java.
+     */
+    public static boolean isValidCurrency(String test) {
+        if (!test.matches(VALIDATION_REGEX)) {
+            return false;
+        }
+        try {
+            java.util.Currency.getInstance(test.toUpperCase(Locale.ROOT));
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the currency used in {@code country}.
+     */
+    public static Currency of(Country country) {
+        requireNonNull(country);
+        String currencyCode = Country.getCountryCode(country.value).map(Currency::getLocalCurrencyCode)
+                .orElse(DEFAULT_CURRENCY);
+        return new Currency(currencyCode);
+    }
+
+    private static String getLocalCurrencyCode(String countryCode) {
+        try {
+            java.util.Currency currency = java.util.Currency.getInstance(new Locale("", countryCode));
+            return currency == null ? DEFAULT_CURRENCY : currency.getCurrencyCode();
+        } catch (IllegalArgumentException e) {
+            return DEFAULT_CURRENCY;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Currency // instanceof handles nulls
+                && value.equals(((Currency) other).value)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+}
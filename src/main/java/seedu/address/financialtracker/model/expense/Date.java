@@ -23,6 +23,9 @@ public class Date {
     private static final SimpleDateFormat sdfDate = new SimpleDateFormat("ddMMyyyy");
     public final String value;
     public final String storageDate;
+
+    /** The date packed as yyyymmdd, so that dates compare in the order of their keys. */
+    public final int key;
     private java.util.Date valueToCompare;
 
     public Date(String date) {
@@ -35,6 +38,15 @@ public class Date {
         }
         this.storageDate = date;
         this.value = formatDate(date);
+        this.key = Integer.parseInt(date.substring(4)) * 10000 + Integer.parseInt(date.substring(2, 4)) * 100
+                + Integer.parseInt(date.substring(0, 2));
+    }
+
+    /**
+     * Returns the date packed as {@code key} in the dd/MM/yyyy format.
+     */
+    public static String formatKey(int key) {
+        return String.format("%02d/%02d/%04d", key % 100, key / 100 % 100, key / 10000);
     }
 
     /**
@@ -2,8 +2,11 @@ package seedu.address.financialtracker.model.expense;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Objects;
+
 /**
  * An expense.
+ * An expense is in the currency of its country unless it was given a currency of its own.
  */
 public class Expense {
 
@@ -13,29 +16,35 @@ public class Expense {
     private Description desc;
     private Country country;
     private Type type;
+    private Currency currency;
 
     /**
      * Instantiates an expense object. Can only be used when the UI is working properly.
      */
     public Expense(Date date, Time time, Amount amount, Description desc, Type type) {
-        this.date = date;
-        this.time = time;
-        this.amount = amount;
-        this.desc = desc;
-        this.type = type;
-        this.country = null;
+        this(date, time, amount, desc, type, null, null);
     }
 
     /**
      * Another constructor used to directly construct with the country field.
      */
     public Expense(Date date, Time time, Amount amount, Description desc, Type type, Country country) {
+        this(date, time, amount, desc, type, country, null);
+    }
+
+    /**
+     * Constructs an expense paid in {@code currency}, or in the currency of {@code country} if it is null.
+     * Either may be null until the financial tracker sets the country.
+     */
+    public Expense(Date date, Time time, Amount amount, Description desc, Type type, Country country,
+                   Currency currency) {
         this.date = date;
         this.time = time;
         this.amount = amount;
         this.desc = desc;
         this.type = type;
         this.country = country;
+        this.currency = currency == null && country != null ? Currency.of(country) : currency;
     }
 
     public Date getDate() {
@@ -62,12 +71,23 @@ public class Expense {
         return type;
     }
 
+    /**
+     * Returns the currency of this expense, which is only null while it has neither a currency nor a country.
+     */
+    public Currency getCurrency() {
+        return currency;
+    }
+
     /**
      * Allows financial tracker to set this country field to non-null value.
+     * An expense without a currency of its own takes the currency of the country.
      */
     public void setCountry(Country country) {
         requireNonNull(country);
         this.country = country;
+        if (currency == null) {
+            currency = Currency.of(country);
+        }
     }
 
     /**
@@ -80,7 +100,8 @@ public class Expense {
         Date dateCopy = new Date(this.date.storageDate);
         Time timeCopy = new Time(this.time.storageTime);
         Country countryCopy = new Country(this.country.value);
-        return new Expense(dateCopy, timeCopy, amountCopy, descriptionCopy, typeCopy, countryCopy);
+        Currency currencyCopy = new Currency(this.currency.value);
+        return new Expense(dateCopy, timeCopy, amountCopy, descriptionCopy, typeCopy, countryCopy, currencyCopy);
     }
 
     /**
@@ -98,12 +119,13 @@ public class Expense {
         }
 
         Expense otherExpense = (Expense) other;
-        return new Double(otherExpense.amount.numericalValue).equals(this.amount.numericalValue)
+        return otherExpense.amount.cents == this.amount.cents
                 && otherExpense.date.getDateToCompare().equals(this.date.getDateToCompare())
                 && otherExpense.time.valueToCompare == this.time.valueToCompare
                 && otherExpense.desc.value.equals(this.desc.value)
                 && otherExpense.type.value.equals(this.type.value)
                 && (otherExpense.country == this.country //short circuit if null
-                || otherExpense.country.value.equals(this.country.value));
+                || otherExpense.country.value.equals(this.country.value))
+                && Objects.equals(otherExpense.currency, this.currency);
     }
 }
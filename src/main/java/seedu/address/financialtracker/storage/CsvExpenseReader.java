@@ -0,0 +1,455 @@
+package seedu.address.financialtracker.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.financialtracker.model.expense.Amount;
+import seedu.address.financialtracker.model.expense.Currency;
+import seedu.address.financialtracker.model.expense.Date;
+import seedu.address.financialtracker.model.expense.Description;
+import seedu.address.financialtracker.model.expense.Expense;
+import seedu.address.financialtracker.model.expense.Time;
+import seedu.address.financialtracker.model.expense.Type;
+
+/**
+ * Reads expenses from a CSV file, such as a statement exported from a bank.
+ * <br>
+ * The first line of the file names its columns. Each field of an expense is read from the column named after it,
+ * unless it is mapped to another column by name or by its number, counting from 1. Only the date, amount and
+ * description have to be given; the time, type and currency have defaults.
+ * <br>
+ * Money spent is either positive, as on a credit card statement, or negative, as on a bank account statement.
+ * Rows with the other sign are credits, such as refunds or salary, which are not expenses; they are skipped and
+ * counted.
+ * <br>
+ * The file is read a line at a time, so only the expenses read and the first few rejected rows are held in memory.
+ * Rows that are already among the existing expenses, by date, time, amount and description, are skipped, so that
+ * a statement can be imported again after more expenses were added to it.
+ */
+public class CsvExpenseReader {
+
+    public static final int MAXIMUM_REJECTS_KEPT = 10;
+    public static final String DEFAULT_TIME = "0000";
+    public static final String DEFAULT_TYPE = "OTHERS";
+
+    public static final String MESSAGE_EMPTY_FILE = "The file has no header line naming its columns";
+    public static final String MESSAGE_MISSING_COLUMN = "The file has no column %1$s for the %2$s";
+    public static final String MESSAGE_REJECTED_ROW = "Line %1$d: %2$s";
+    public static final String MESSAGE_MISSING_FIELD = "no %1$s";
+    public static final String MESSAGE_INVALID_FIELD = "invalid %1$s '%2$s'";
+    public static final String MESSAGE_UNCLOSED_QUOTE = "a quote is not closed";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    /** Dates as dd/MM/yyyy, dd-MM-yyyy or dd.MM.yyyy, with days and months of one digit allowed, or as ddMMyyyy. */
+    private static final Pattern DATE_PATTERN =
+            Pattern.compile("(\\d{1,2})[/.-](\\d{1,2})[/.-](\\d{4})|(\\d{2})(\\d{2})(\\d{4})");
+    /** Times as HHmm or HH:mm, with hours of one digit allowed. */
+    private static final Pattern TIME_PATTERN = Pattern.compile("(\\d{1,2}):?(\\d{2})");
+    /** Amounts with at most two decimals, thousands separated by commas or not, and an optional sign. */
+    private static final Pattern AMOUNT_PATTERN =
+            Pattern.compile("([-+]?)(\\d{1,3}(?:,\\d{3})+|\\d+)(\\.\\d{1,2})?");
+    private static final Pattern DIGITS_PATTERN = Pattern.compile("\\d+");
+
+    private static final Logger logger = LogsCenter.getLogger(CsvExpenseReader.class);
+
+    /**
+     * A field of an expense read from a column of the file.
+     */
+    public enum Field {
+        DATE("date", true), TIME("time", false), AMOUNT("amount", true), DESCRIPTION("description", true),
+        TYPE("type", false), CURRENCY("currency", false);
+
+        private final String defaultColumn;
+        private final boolean isRequired;
+
+        Field(String defaultColumn, boolean isRequired) {
+            this.defaultColumn = defaultColumn;
+            this.isRequired = isRequired;
+        }
+
+        @Override
+        public String toString() {
+            return defaultColumn;
+        }
+    }
+
+    /**
+     * The sign of the amounts of money spent. Amounts of the other sign are credits.
+     */
+    public enum SpendingSign {
+        POSITIVE("+"), NEGATIVE("-");
+
+        private final String symbol;
+
+        SpendingSign(String symbol) {
+            this.symbol = symbol;
+        }
+
+        /**
+         * Returns the sign written as {@code symbol}, either + or -.
+         */
+        public static Optional<SpendingSign> fromSymbol(String symbol) {
+            for (SpendingSign sign : values()) {
+                if (sign.symbol.equals(symbol)) {
+                    return Optional.of(sign);
+                }
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public String toString() {
+            return symbol;
+        }
+    }
+
+    private final Path filePath;
+    private final Map<Field, String> columns;
+    private final SpendingSign spendingSign;
+    private final Map<String, Optional<Currency>> currencies = new HashMap<>();
+
+    /**
+     * Creates a reader of {@code filePath} reading the fields in {@code columns} from the columns they are mapped to,
+     * and every other field from the column named after it, with money spent written as positive amounts.
+     */
+    public CsvExpenseReader(Path filePath, Map<Field, String> columns) {
+        this(filePath, columns, SpendingSign.POSITIVE);
+    }
+
+    /**
+     * Creates a reader of {@code filePath} reading the fields in {@code columns} from the columns they are mapped to,
+     * and every other field from the column named after it, with money spent written with {@code spendingSign}.
+     */
+    public CsvExpenseReader(Path filePath, Map<Field, String> columns, SpendingSign spendingSign) {
+        requireNonNull(filePath);
+        requireNonNull(columns);
+        requireNonNull(spendingSign);
+        this.filePath = filePath;
+        this.columns = Map.copyOf(columns);
+        this.spendingSign = spendingSign;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Reads the expenses in the file, skipping those already among {@code existingExpenses}.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalValueException if the file has no header or lacks a column that is needed.
+     */
+    public Result read(Collection<Expense> existingExpenses) throws IOException, IllegalValueException {
+        Map<ExpenseKey, Integer> existingCounts = new HashMap<>();
+        for (Expense expense : existingExpenses) {
+            existingCounts.merge(new ExpenseKey(expense), 1, Integer::sum);
+        }
+
+        logger.info(() -> "Importing expenses from " + filePath);
+        Result result = new Result();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null || header.isBlank()) {
+                throw new IllegalValueException(MESSAGE_EMPTY_FILE);
+            }
+            if (header.startsWith(BYTE_ORDER_MARK)) {
+                header = header.substring(BYTE_ORDER_MARK.length());
+            }
+            Map<Field, Integer> indexes = findColumns(splitLine(header));
+
+            int lineNumber = 1;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    Optional<Expense> expenseIfSpent = toExpense(splitLine(line), indexes);
+                    if (expenseIfSpent.isEmpty()) {
+                        result.creditCount++;
+                        continue;
+                    }
+                    Expense expense = expenseIfSpent.get();
+                    ExpenseKey key = new ExpenseKey(expense);
+                    if (existingCounts.containsKey(key)) {
+                        existingCounts.computeIfPresent(key, (unused, count) -> count == 1 ? null : count - 1);
+                        result.duplicateCount++;
+                    } else {
+                        result.expenses.add(expense);
+                    }
+                } catch (IllegalValueException e) {
+                    result.reject(String.format(MESSAGE_REJECTED_ROW, lineNumber, e.getMessage()));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index of the column of every field found in {@code header}.
+     * Optional fields that are not mapped to a column and have no column named after them are left out.
+     *
+     * @throws IllegalValueException if a field that is needed or mapped to a column has no such column.
+     */
+    private Map<Field, Integer> findColumns(List<String> header) throws IllegalValueException {
+        Map<String, Integer> indexesByName = new HashMap<>();
+        for (int i = header.size() - 1; i >= 0; i--) {
+            indexesByName.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        Map<Field, Integer> indexes = new EnumMap<>(Field.class);
+        for (Field field : Field.values()) {
+            String column = columns.getOrDefault(field, field.defaultColumn).trim();
+            Integer index = DIGITS_PATTERN.matcher(column).matches()
+                    ? Integer.valueOf(Integer.parseInt(column) - 1)
+                    : indexesByName.get(column.toLowerCase(Locale.ROOT));
+            if (index != null && index >= 0 && index < header.size()) {
+                indexes.put(field, index);
+            } else if (field.isRequired || columns.containsKey(field)) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_COLUMN, column, field));
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Returns the expense in the fields of a row, or an empty {@code Optional} if the row is a credit.
+     *
+     * @throws IllegalValueException if a field that is needed is missing or a field is invalid.
+     */
+    private Optional<Expense> toExpense(List<String> fields, Map<Field, Integer> indexes)
+            throws IllegalValueException {
+        Date date = parseDate(getField(fields, indexes, Field.DATE).get());
+        Time time = parseTime(getField(fields, indexes, Field.TIME).orElse(DEFAULT_TIME));
+        String amountValue = getField(fields, indexes, Field.AMOUNT).get();
+        Amount amount = parseAmount(amountValue);
+        boolean isNegative = amountValue.startsWith("-");
+        if (amount.cents != 0 && isNegative != (spendingSign == SpendingSign.NEGATIVE)) {
+            return Optional.empty();
+        }
+
+        String description = getField(fields, indexes, Field.DESCRIPTION).get();
+        if (!Description.isValidDescription(description)) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_FIELD, Field.DESCRIPTION, description));
+        }
+        String type = getField(fields, indexes, Field.TYPE).orElse(DEFAULT_TYPE);
+        if (!Type.isValidType(type)) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_FIELD, Field.TYPE, type));
+        }
+        Currency currency = null;
+        Optional<String> currencyCode = getField(fields, indexes, Field.CURRENCY);
+        if (currencyCode.isPresent()) {
+            currency = currencies.computeIfAbsent(currencyCode.get().toUpperCase(Locale.ROOT), code ->
+                    Currency.isValidCurrency(code) ? Optional.of(new Currency(code)) : Optional.empty())
+                    .orElseThrow(() -> new IllegalValueException(
+                            String.format(MESSAGE_INVALID_FIELD, Field.CURRENCY, currencyCode.get())));
+        }
+        return Optional.of(new Expense(date, time, amount, new Description(description), new Type(type), null,
+                currency));
+    }
+
+    /**
+     * Returns the trimmed value of {@code field} in a row, or an empty {@code Optional} if it is blank or has no
+     * column.
+     *
+     * @throws IllegalValueException if a field that is needed is blank or missing from the row.
+     */
+    private static Optional<String> getField(List<String> fields, Map<Field, Integer> indexes, Field field)
+            throws IllegalValueException {
+        Integer index = indexes.get(field);
+        String value = index == null || index >= fields.size() ? "" : fields.get(index).trim();
+        if (value.isEmpty() && field.isRequired) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, field));
+        }
+        return value.isEmpty() ? Optional.empty() : Optional.of(value);
+    }
+
+    /**
+     * Returns the date written in {@code value}.
+     *
+     * @throws IllegalValueException if {@code value} is not a valid date.
+     */
+    private static Date parseDate(String value) throws IllegalValueException {
+        Matcher matcher = DATE_PATTERN.matcher(value);
+        if (matcher.matches()) {
+            int group = matcher.group(1) != null ? 1 : 4;
+            String date = String.format("%02d%02d%s", Integer.parseInt(matcher.group(group)),
+                    Integer.parseInt(matcher.group(group + 1)), matcher.group(group + 2));
+            if (Date.isValidDate(date)) {
+                return new Date(date);
+            }
+        }
+        throw new IllegalValueException(String.format(MESSAGE_INVALID_FIELD, Field.DATE, value));
+    }
+
+    /**
+     * Returns the time written in {@code value}.
+     *
+     * @throws IllegalValueException if {@code value} is not a valid time.
+     */
+    private static Time parseTime(String value) throws IllegalValueException {
+        Matcher matcher = TIME_PATTERN.matcher(value);
+        if (matcher.matches()) {
+            String time = String.format("%02d%s", Integer.parseInt(matcher.group(1)), matcher.group(2));
+            if (Time.isValidTime(time)) {
+                return new Time(time);
+            }
+        }
+        throw new IllegalValueException(String.format(MESSAGE_INVALID_FIELD, Field.TIME, value));
+    }
+
+    /**
+     * Returns the amount written in {@code value}, without its sign.
+     *
+     * @throws IllegalValueException if {@code value} is not a valid amount.
+     */
+    private static Amount parseAmount(String value) throws IllegalValueException {
+        Matcher matcher = AMOUNT_PATTERN.matcher(value);
+        if (matcher.matches()) {
+            String amount = matcher.group(2).replace(",", "") + (matcher.group(3) == null ? "" : matcher.group(3));
+            try {
+                return new Amount(amount);
+            } catch (IllegalArgumentException e) {
+                // too many cents to count, rejected below
+            }
+        }
+        throw new IllegalValueException(String.format(MESSAGE_INVALID_FIELD, Field.AMOUNT, value));
+    }
+
+    /**
+     * Returns the fields of a line, separated by commas. Fields may be quoted to hold commas, and a quote is
+     * written in a quoted field as two quotes.
+     *
+     * @throws IllegalValueException if a quoted field is not closed on the same line.
+     */
+    static List<String> splitLine(String line) throws IllegalValueException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char character = line.charAt(i);
+            if (isQuoted) {
+                if (character != QUOTE) {
+                    field.append(character);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (character == QUOTE) {
+                isQuoted = true;
+            } else if (character == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(character);
+            }
+        }
+        if (isQuoted) {
+            throw new IllegalValueException(MESSAGE_UNCLOSED_QUOTE);
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * The expenses read from a file, and the number of rows skipped as duplicates or credits or rejected as invalid.
+     * Only the first {@link #MAXIMUM_REJECTS_KEPT} rejected rows are kept, to be reported to the user.
+     */
+    public static class Result {
+        private final List<Expense> expenses = new ArrayList<>();
+        private final List<String> rejectedRows = new ArrayList<>();
+        private int duplicateCount = 0;
+        private int creditCount = 0;
+        private int rejectedCount = 0;
+
+        /**
+         * Counts a rejected row, keeping {@code reason} if few rows have been rejected so far.
+         */
+        private void reject(String reason) {
+            if (rejectedCount < MAXIMUM_REJECTS_KEPT) {
+                rejectedRows.add(reason);
+            }
+            rejectedCount++;
+        }
+
+        public List<Expense> getExpenses() {
+            return expenses;
+        }
+
+        public int getDuplicateCount() {
+            return duplicateCount;
+        }
+
+        public int getCreditCount() {
+            return creditCount;
+        }
+
+        public int getRejectedCount() {
+            return rejectedCount;
+        }
+
+        /**
+         * Returns the line numbers of the first rejected rows and why they were rejected.
+         */
+        public List<String> getRejectedRows() {
+            return rejectedRows;
+        }
+    }
+
+    /**
+     * The date, time, amount and description of an expense, which tell a row already imported apart from a new one.
+     */
+    private static class ExpenseKey {
+        private final int date;
+        private final int time;
+        private final long cents;
+        private final String description;
+
+        ExpenseKey(Expense expense) {
+            this.date = expense.getDate().key;
+            this.time = expense.getTime().valueToCompare;
+            this.cents = expense.getAmount().cents;
+            this.description = expense.getDescription().value;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof ExpenseKey)) {
+                return false;
+            }
+            ExpenseKey otherKey = (ExpenseKey) other;
+            return date == otherKey.date && time == otherKey.time && cents == otherKey.cents
+                    && description.equals(otherKey.description);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = 31 * date + time;
+            hash = 31 * hash + Long.hashCode(cents);
+            return 31 * hash + description.hashCode();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.financialtracker.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.financialtracker.model.ExchangeRates;
+import seedu.address.financialtracker.model.expense.Currency;
+
+/**
+ * Reads exchange rates from a file on the hard disk, or from the rates bundled with the app if there is no such file.
+ * No rates are ever fetched from the network.
+ * <br>
+ * Each line of the file holds a currency code and the value of one unit of it in a base currency common to the
+ * whole file, separated by a comma. Blank lines and lines starting with '#' are ignored.
+ */
+public class ExchangeRatesStorage {
+
+    public static final String BUNDLED_RATES = "/financialtracker/exchangerates.csv";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d of the exchange rates (%2$s) is invalid";
+
+    private static final String COMMENT_PREFIX = "#";
+    private static final Logger logger = LogsCenter.getLogger(ExchangeRatesStorage.class);
+
+    private final Path filePath;
+
+    public ExchangeRatesStorage(Path filePath) {
+        this.filePath = requireNonNull(filePath);
+    }
+
+    public Path getExchangeRatesFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Reads the rates in the file, or the bundled rates if the file does not exist.
+     *
+     * @throws DataConversionException if the file cannot be read or is not in the correct format.
+     */
+    public ExchangeRates readExchangeRates() throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            return readBundledExchangeRates();
+        }
+        try {
+            logger.info(() -> "Reading exchange rates from " + filePath);
+            return parse(Files.readAllLines(filePath, StandardCharsets.UTF_8));
+        } catch (IOException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads the rates bundled with the app.
+     */
+    public static ExchangeRates readBundledExchangeRates() {
+        try (InputStream stream = ExchangeRatesStorage.class.getResourceAsStream(BUNDLED_RATES)) {
+            assert stream != null : "The exchange rates have to be bundled with the app";
+            BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+            return parse(reader.lines().collect(Collectors.toList()));
+        } catch (IOException | IllegalValueException e) {
+            throw new AssertionError("The bundled exchange rates should be readable", e);
+        }
+    }
+
+    /**
+     * Returns the table of rates in {@code lines}.
+     *
+     * @throws IllegalValueException if a line does not hold a currency code and a positive rate.
+     */
+    static ExchangeRates parse(List<String> lines) throws IllegalValueException {
+        Map<String, BigDecimal> rates = new HashMap<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            String[] fields = line.split(",");
+            if (fields.length != 2 || !Currency.isValidCurrency(fields[0].trim())) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_LINE, i + 1, line));
+            }
+            try {
+                BigDecimal rate = new BigDecimal(fields[1].trim());
+                if (rate.signum() <= 0) {
+                    throw new IllegalValueException(String.format(MESSAGE_INVALID_LINE, i + 1, line));
+                }
+                rates.put(new Currency(fields[0].trim()).value, rate);
+            } catch (NumberFormatException e) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_LINE, i + 1, line), e);
+            }
+        }
+        return new ExchangeRates(rates);
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.financialtracker.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.financialtracker.model.Budget;
+import seedu.address.financialtracker.model.expense.Amount;
+import seedu.address.financialtracker.model.expense.Country;
+import seedu.address.financialtracker.model.expense.Currency;
+import seedu.address.financialtracker.model.expense.Type;
+
+/**
+ * Jackson-friendly version of {@link Budget}.
+ */
+public class JsonAdaptedBudget {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Budget's %s field is missing!";
+
+    private final String country;
+    private final String type;
+    private final String amount;
+    private final String currency;
+
+    /**
+     * Constructs a {@code JsonAdaptedBudget} with the given budget details.
+     * A budget without a type is for every type of expense.
+     */
+    @JsonCreator
+    public JsonAdaptedBudget(@JsonProperty("country") String country, @JsonProperty("type") String type,
+                             @JsonProperty("amount") String amount, @JsonProperty("currency") String currency) {
+        this.country = country;
+        this.type = type;
+        this.amount = amount;
+        this.currency = currency;
+    }
+
+    /**
+     * Converts a given {@code Budget} into this class for Jackson use.
+     */
+    public JsonAdaptedBudget(Budget source) {
+        country = source.getCountry();
+        type = source.getType().orElse(null);
+        amount = source.getAmount().value;
+        currency = source.getCurrency().value;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted budget object into the model's {@code Budget} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted budget.
+     */
+    public Budget toModelType() throws IllegalValueException {
+        if (country == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "country"));
+        }
+        if (!Country.isKnownCountry(country)) {
+            throw new IllegalValueException(Country.MESSAGE_CONSTRAINTS);
+        }
+
+        if (type != null && !Type.isValidType(type)) {
+            throw new IllegalValueException(Type.MESSAGE_CONSTRAINTS);
+        }
+        final String modelType = type == null ? null : new Type(type).value;
+
+        if (amount == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "amount"));
+        }
+        if (!Amount.isValidAmount(amount)) {
+            throw new IllegalValueException(Amount.MESSAGE_CONSTRAINTS);
+        }
+        final Amount modelAmount = new Amount(amount);
+
+        if (currency == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "currency"));
+        }
+        if (!Currency.isValidCurrency(currency)) {
+            throw new IllegalValueException(Currency.MESSAGE_CONSTRAINTS);
+        }
+        final Currency modelCurrency = new Currency(currency);
+
+        return new Budget(country, modelType, modelAmount, modelCurrency);
+    }
+}
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.financialtracker.model.expense.Amount;
 import seedu.address.financialtracker.model.expense.Country;
+import seedu.address.financialtracker.model.expense.Currency;
 import seedu.address.financialtracker.model.expense.Date;
 import seedu.address.financialtracker.model.expense.Description;
 import seedu.address.financialtracker.model.expense.Expense;
@@ -25,20 +26,24 @@ public class JsonAdaptedExpense {
     private final String description;
     private final String type;
     private final String country;
+    private final String currency;
 
     /**
      * Constructs a {@code JsonAdaptedExpense} with the given person details.
+     * Expenses saved before currencies existed have none, and are in the currency of their country.
      */
     @JsonCreator
     public JsonAdaptedExpense(@JsonProperty("date") String date, @JsonProperty("time") String time,
                              @JsonProperty("amount") String amount, @JsonProperty("description") String description,
-                             @JsonProperty("type") String type, @JsonProperty("country") String country) {
+                             @JsonProperty("type") String type, @JsonProperty("country") String country,
+                             @JsonProperty("currency") String currency) {
         this.date = date;
         this.time = time;
         this.amount = amount;
         this.description = description;
         this.type = type;
         this.country = country;
+        this.currency = currency;
     }
 
     /**
@@ -51,6 +56,7 @@ public class JsonAdaptedExpense {
         description = source.getDescription().value;
         type = source.getType().value;
         country = source.getCountry().value;
+        currency = source.getCurrency().value;
     }
 
     /**
@@ -107,7 +113,13 @@ public class JsonAdaptedExpense {
         }
         final Country modelCountry = new Country(country);
 
-        return new Expense(modelDate, modelTime, modelAmount, modelDescription, modelType, modelCountry);
+        if (currency != null && !Currency.isValidCurrency(currency)) {
+            throw new IllegalValueException(Currency.MESSAGE_CONSTRAINTS);
+        }
+        final Currency modelCurrency = currency == null ? null : new Currency(currency);
+
+        return new Expense(modelDate, modelTime, modelAmount, modelDescription, modelType, modelCountry,
+                modelCurrency);
     }
 
 }
@@ -54,7 +54,7 @@ public class JsonFinancialTrackerStorage implements FinancialTrackerStorage {
         try {
             return Optional.of(jsonFinancialTracker.get().toModelType());
         } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            logger.info(() -> "Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
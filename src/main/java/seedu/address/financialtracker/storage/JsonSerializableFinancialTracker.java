@@ -10,8 +10,10 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 
 import javafx.collections.ObservableMap;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.financialtracker.model.Budget;
 import seedu.address.financialtracker.model.ExpenseList;
 import seedu.address.financialtracker.model.FinancialTracker;
+import seedu.address.financialtracker.model.expense.Currency;
 import seedu.address.financialtracker.model.expense.Expense;
 import seedu.address.logic.commands.exceptions.CommandException;
 
@@ -24,13 +26,23 @@ public class JsonSerializableFinancialTracker {
     public static final String MESSAGE_DUPLICATE_PERSON = "Expenses list contains duplicate expense(s).";
 
     private final List<JsonAdaptedExpense> expenses = new ArrayList<>();
+    private final String homeCurrency;
+    private final List<JsonAdaptedBudget> budgets = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given expenses.
+     * Constructs a {@code JsonSerializableAddressBook} with the given expenses, home currency and budgets.
+     * Files saved before home currencies existed have none, and use the default one. Files saved before budgets
+     * existed have none.
      */
     @JsonCreator
-    public JsonSerializableFinancialTracker(@JsonProperty("expenses") List<JsonAdaptedExpense> expenses) {
+    public JsonSerializableFinancialTracker(@JsonProperty("expenses") List<JsonAdaptedExpense> expenses,
+                                            @JsonProperty("homeCurrency") String homeCurrency,
+                                            @JsonProperty("budgets") List<JsonAdaptedBudget> budgets) {
         this.expenses.addAll(expenses);
+        this.homeCurrency = homeCurrency;
+        if (budgets != null) {
+            this.budgets.addAll(budgets);
+        }
     }
 
     /**
@@ -39,6 +51,8 @@ public class JsonSerializableFinancialTracker {
      * @param source future changes to this will not affect the created {@code JsonSerializablFinancialTracker}.
      */
     public JsonSerializableFinancialTracker(FinancialTracker source) {
+        homeCurrency = source.getHomeCurrency().value;
+        budgets.addAll(source.getBudgets().stream().map(JsonAdaptedBudget::new).collect(Collectors.toList()));
         ObservableMap<String, ExpenseList> sourceMap = source.getInternalUnmodifiableExpenseListMap();
         for (String key : sourceMap.keySet()) {
             if (!sourceMap.get(key).isEmpty()) {
@@ -55,6 +69,12 @@ public class JsonSerializableFinancialTracker {
      */
     public FinancialTracker toModelType() throws IllegalValueException {
         FinancialTracker financialTracker = new FinancialTracker();
+        if (homeCurrency != null) {
+            if (!Currency.isValidCurrency(homeCurrency)) {
+                throw new IllegalValueException(Currency.MESSAGE_CONSTRAINTS);
+            }
+            financialTracker.setHomeCurrency(new Currency(homeCurrency));
+        }
         for (JsonAdaptedExpense jsonAdaptedExpense : expenses) {
             Expense expense = jsonAdaptedExpense.toModelType();
             try {
@@ -63,6 +83,11 @@ public class JsonSerializableFinancialTracker {
                 throw new IllegalValueException("File corrupted");
             }
         }
+        List<Budget> modelBudgets = new ArrayList<>();
+        for (JsonAdaptedBudget jsonAdaptedBudget : budgets) {
+            modelBudgets.add(jsonAdaptedBudget.toModelType());
+        }
+        financialTracker.setBudgets(modelBudgets);
         return financialTracker;
     }
 
@@ -2,9 +2,7 @@ package seedu.address.financialtracker.ui;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Locale;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
@@ -16,6 +14,11 @@ import javafx.scene.control.ComboBox;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.financialtracker.logic.FinancialTrackerLogic;
+import seedu.address.financialtracker.logic.commands.SwitchCommand;
+import seedu.address.financialtracker.model.expense.Country;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.ui.CommandExecutionService;
+import seedu.address.ui.PageType;
 import seedu.address.ui.UiPart;
 
 /**
@@ -24,18 +27,9 @@ import seedu.address.ui.UiPart;
 public class CountriesDropdown extends UiPart<Region> {
 
     private static final String FXML = "CountriesDropdown.fxml";
-    private static final ObservableList<String> options = FXCollections.observableArrayList();
-    private static final HashSet<String> checker = new HashSet<>();
-    static {
-        String[] locales = Locale.getISOCountries();
-        for (String countryCode : locales) {
-            Locale obj = new Locale("", countryCode);
-            options.add(obj.getDisplayCountry());
-            checker.add(obj.getDisplayCountry());
-        }
-        Collections.sort(options);
-    }
-    private static String field = "Singapore";
+    private static final ObservableList<String> options =
+            FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(Country.COUNTRY_NAMES));
+    private static volatile String field = "Singapore";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
     private final FinancialTrackerLogic financialTrackerLogic;
@@ -44,39 +38,55 @@ public class CountriesDropdown extends UiPart<Region> {
     @FXML
     private ComboBox<String> countriesDropdown;
 
-    public CountriesDropdown(FinancialTrackerLogic financialTrackerLogic, ExpensePanel expensePanel) {
+    /**
+     * Creates a dropdown menu switching the country of {@code financialTrackerLogic}.
+     * A country picked from the menu is switched to by a {@code SwitchCommand}, queued behind the commands
+     * already entered on the page, whose outcome goes to {@code resultHandler} or {@code failureHandler}.
+     */
+    public CountriesDropdown(FinancialTrackerLogic financialTrackerLogic, ExpensePanel expensePanel,
+                             Consumer<CommandResult> resultHandler, Consumer<Exception> failureHandler) {
         super(FXML);
         this.financialTrackerLogic = financialTrackerLogic;
         financialTrackerLogic.addDependencies(this);
         this.expensePanel = expensePanel;
         // set the combo box
         countriesDropdown.setItems(options);
-        countriesDropdown.getSelectionModel().select(189); // Select Singapore as default
-        logger.info("Financial_Tracker Selection Menu switched to: " + countriesDropdown.getValue());
+        // the page may be created again after switching countries, so start at the country being shown
+        field = financialTrackerLogic.getCountry();
+        countriesDropdown.getSelectionModel().select(options.indexOf(field));
+        logger.info(() -> "Financial_Tracker Selection Menu switched to: " + countriesDropdown.getValue());
 
         countriesDropdown.setOnAction(new EventHandler<ActionEvent>() {
             @Override
             public void handle(ActionEvent event) {
-                field = countriesDropdown.getValue();
-                financialTrackerLogic.setCountry(field);
-                expensePanel.update();
-                logger.info("Financial_Tracker Selection Menu switched to: " + countriesDropdown.getValue());
+                String country = countriesDropdown.getValue();
+                // selecting the country a switch command has already switched to needs no further switch
+                if (country == null || country.equals(field)) {
+                    return;
+                }
+                CommandExecutionService.getInstance().submit(PageType.FINANCIAL_TRACKER,
+                        financialTrackerLogic::execute, SwitchCommand.COMMAND_WORD + " " + country,
+                        resultHandler, failureHandler);
             }
         });
     }
 
     /**
      * Handles update from user input.
+     * Called by the command that switched the country of the model, so the panel starts copying the new expense
+     * list in the same order as the other commands of the page change it. Only the dropdown is updated on the
+     * JavaFX application thread.
      * @param country from user input
      */
     public void handleUpdateFromUserInput(String country) {
         requireNonNull(country);
         assert options.indexOf(country) != -1 : "User input country can't be invalid! check your parser?";
-        countriesDropdown.getSelectionModel().select(options.indexOf(country));
         field = country;
-        financialTrackerLogic.setCountry(field);
         expensePanel.update();
-        logger.info("Financial_Tracker Selection Menu switched to: " + countriesDropdown.getValue());
+        CommandExecutionService.runOnFxThread(() -> {
+            countriesDropdown.getSelectionModel().select(options.indexOf(country));
+            logger.info(() -> "Financial_Tracker Selection Menu switched to: " + countriesDropdown.getValue());
+        });
     }
 
     /**
@@ -84,7 +94,7 @@ public class CountriesDropdown extends UiPart<Region> {
      * Main purpose is to avoid errors as expense list uses specific country string as key.
      */
     public static boolean isValidDropdownCountry(String country) {
-        return checker.contains(country);
+        return Country.isKnownCountry(country);
     }
 
 }
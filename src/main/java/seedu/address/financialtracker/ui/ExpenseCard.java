@@ -40,7 +40,7 @@ public class ExpenseCard extends UiPart<Region> {
         country.setText(expense.getCountry().value);
         date.setText("Date: " + expense.getDate().value);
         time.setText("Time: " + expense.getTime().value);
-        amount.setText("Amount: " + expense.getAmount().value);
+        amount.setText("Amount: " + expense.getCurrency() + " " + expense.getAmount().value);
         desc.setText("Details: " + expense.getDescription().value);
         type.setText("Type of expenditure: " + expense.getType().value);
     }
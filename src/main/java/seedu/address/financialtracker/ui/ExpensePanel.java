@@ -9,6 +9,7 @@ import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.financialtracker.logic.FinancialTrackerLogic;
 import seedu.address.financialtracker.model.expense.Expense;
+import seedu.address.ui.FxThreadList;
 import seedu.address.ui.UiPart;
 
 /**
@@ -22,21 +23,23 @@ public class ExpensePanel extends UiPart<Region> {
     private ListView<Expense> expenseListView;
 
     private final FinancialTrackerLogic financialTrackerLogic;
+    private final FxThreadList<Expense> expenses;
 
     public ExpensePanel(FinancialTrackerLogic financialTrackerLogic) {
         super(FXML);
         this.financialTrackerLogic = financialTrackerLogic;
-        expenseListView.setItems(financialTrackerLogic.getExpenseList());
+        this.expenses = new FxThreadList<>(financialTrackerLogic.getExpenseList());
+        expenseListView.setItems(expenses.getList());
         expenseListView.setCellFactory(listView -> new ExpenseListViewCell());
     }
 
 
     /**
      * Performs ListView update whenever the {@code CountriesDropdown } changed country.
+     * Must be called by the command that switched the country, not on the JavaFX application thread.
      */
     public void update() {
-        expenseListView.setItems(financialTrackerLogic.getExpenseList());
-        expenseListView.setCellFactory(listView -> new ExpenseListViewCell());
+        expenses.setSource(financialTrackerLogic.getExpenseList());
     }
 
     /**
@@ -35,6 +35,12 @@ public class FinancialTrackerHelpWindow extends UiPart<Stage> {
     private static final String SWITCH_MESSAGE = "switch Japan";
     private static final String CLEAR_MESSAGE = "clear";
     private static final String UNDO_MESSAGE = "undo";
+    private static final String REDO_MESSAGE = "redo";
+    private static final String CURRENCY_MESSAGE = "currency SGD";
+    private static final String RANGE_MESSAGE = "range from/ to/ country/";
+    private static final String STATS_MESSAGE = "stats";
+    private static final String BUDGET_MESSAGE = "budget a/ t/ country/";
+    private static final String IMPORT_MESSAGE = "import ";
     private static final Logger logger = LogsCenter.getLogger(FinancialTrackerHelpWindow.class);
     private static final String FXML = "FinancialTrackerHelpWindow.fxml";
 
@@ -75,6 +81,24 @@ public class FinancialTrackerHelpWindow extends UiPart<Stage> {
     @FXML
     private Button undoCommand;
 
+    @FXML
+    private Button redoCommand;
+
+    @FXML
+    private Button currencyCommand;
+
+    @FXML
+    private Button rangeCommand;
+
+    @FXML
+    private Button statsCommand;
+
+    @FXML
+    private Button budgetCommand;
+
+    @FXML
+    private Button importCommand;
+
     @FXML
     private Label helpMessage;
 
@@ -288,4 +312,70 @@ public class FinancialTrackerHelpWindow extends UiPart<Stage> {
         url.putString(UNDO_MESSAGE);
         clipboard.setContent(url);
     }
+
+    /**
+     * Copies the redo command template to the clipboard.
+     */
+    @FXML
+    private void copyRedo() {
+        final Clipboard clipboard = Clipboard.getSystemClipboard();
+        final ClipboardContent url = new ClipboardContent();
+        url.putString(REDO_MESSAGE);
+        clipboard.setContent(url);
+    }
+
+    /**
+     * Copies the currency command template to the clipboard.
+     */
+    @FXML
+    private void copyCurrency() {
+        final Clipboard clipboard = Clipboard.getSystemClipboard();
+        final ClipboardContent url = new ClipboardContent();
+        url.putString(CURRENCY_MESSAGE);
+        clipboard.setContent(url);
+    }
+
+    /**
+     * Copies the range command template to the clipboard.
+     */
+    @FXML
+    private void copyRange() {
+        final Clipboard clipboard = Clipboard.getSystemClipboard();
+        final ClipboardContent url = new ClipboardContent();
+        url.putString(RANGE_MESSAGE);
+        clipboard.setContent(url);
+    }
+
+    /**
+     * Copies the stats command template to the clipboard.
+     */
+    @FXML
+    private void copyStats() {
+        final Clipboard clipboard = Clipboard.getSystemClipboard();
+        final ClipboardContent url = new ClipboardContent();
+        url.putString(STATS_MESSAGE);
+        clipboard.setContent(url);
+    }
+
+    /**
+     * Copies the budget command template to the clipboard.
+     */
+    @FXML
+    private void copyBudget() {
+        final Clipboard clipboard = Clipboard.getSystemClipboard();
+        final ClipboardContent url = new ClipboardContent();
+        url.putString(BUDGET_MESSAGE);
+        clipboard.setContent(url);
+    }
+
+    /**
+     * Copies the import command template to the clipboard.
+     */
+    @FXML
+    private void copyImport() {
+        final Clipboard clipboard = Clipboard.getSystemClipboard();
+        final ClipboardContent url = new ClipboardContent();
+        url.putString(IMPORT_MESSAGE);
+        clipboard.setContent(url);
+    }
 }
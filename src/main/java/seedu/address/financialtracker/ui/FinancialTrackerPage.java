@@ -4,17 +4,16 @@ import java.util.logging.Logger;
 
 import javafx.fxml.FXML;
 import javafx.scene.Parent;
+import javafx.scene.control.Label;
 import javafx.scene.control.MenuItem;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
-import seedu.address.address.logic.AddressBookLogic;
+import seedu.address.commons.core.Lazy;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.financialtracker.logic.FinancialTrackerLogic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.ui.CodeWindow;
 import seedu.address.ui.CommandBox;
 import seedu.address.ui.Page;
@@ -33,12 +32,13 @@ public class FinancialTrackerPage extends UiPart<VBox> implements Page {
 
     // Independent Ui parts residing in this Ui container
     private final Logger logger = LogsCenter.getLogger(getClass());
-    private FinancialTrackerHelpWindow helpWindow;
+    private final Lazy<FinancialTrackerHelpWindow> helpWindow = new Lazy<>(FinancialTrackerHelpWindow::new);
     private ResultDisplay resultDisplay;
     private ExpensePanel expensePanel;
     private FinancialTrackerLogic financialTrackerLogic;
     private CountriesDropdown countriesDropdown;
-    private CodeWindow codeWindow;
+    private final Label budgetStatus = new Label();
+    private final Lazy<CodeWindow> codeWindow = new Lazy<>(CodeWindow::new);
 
     @FXML
     private VBox financialTrackerPane;
@@ -55,11 +55,12 @@ public class FinancialTrackerPage extends UiPart<VBox> implements Page {
     @FXML
     private StackPane resultDisplayPlaceholder;
 
+    @FXML
+    private StackPane statusbarPlaceholder;
+
     public FinancialTrackerPage(FinancialTrackerLogic logic) {
         super(FXML);
-        this.codeWindow = new CodeWindow();
         this.financialTrackerLogic = logic;
-        this.helpWindow = new FinancialTrackerHelpWindow();
         fillInnerParts();
     }
 
@@ -73,8 +74,10 @@ public class FinancialTrackerPage extends UiPart<VBox> implements Page {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
-        countriesDropdown = new CountriesDropdown(financialTrackerLogic, expensePanel);
+        CommandBox commandBox = new CommandBox(pageType, financialTrackerLogic::execute, this::handleResult,
+                this::handleFailure);
+        countriesDropdown = new CountriesDropdown(financialTrackerLogic, expensePanel, this::handleResult,
+                this::handleFailure);
         // ------------- defining HBox layout --------------
         HBox hBox = new HBox();
         hBox.getChildren().addAll(commandBox.getRoot(), countriesDropdown.getRoot());
@@ -82,44 +85,55 @@ public class FinancialTrackerPage extends UiPart<VBox> implements Page {
         HBox.setHgrow(commandBox.getRoot(), Priority.ALWAYS);
         // ------------- defining HBox layout --------------
         commandBoxPlaceholder.getChildren().add(hBox);
+
+        statusbarPlaceholder.getChildren().add(budgetStatus);
+        updateBudgetStatus();
+    }
+
+    /**
+     * Shows how much is left of the budgets of the current country, hiding the status if it has none.
+     */
+    private void updateBudgetStatus() {
+        String status = financialTrackerLogic.getBudgetStatus();
+        budgetStatus.setText(status);
+        budgetStatus.setVisible(!status.isEmpty());
+        budgetStatus.setManaged(!status.isEmpty());
     }
 
     /**
-     * Executes the command and returns the result.
-     *
-     * @see AddressBookLogic#execute(String)
+     * Shows the result of a command executed by {@link FinancialTrackerLogic#execute(String)}.
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = financialTrackerLogic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
-
-            if (commandResult.isExit()) {
-                handleExit();
-            }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+    private void handleResult(CommandResult commandResult) {
+        logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+        updateBudgetStatus();
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
+
+        if (commandResult.isExit()) {
+            handleExit();
         }
     }
 
+    /**
+     * Shows why a command could not be executed.
+     */
+    private void handleFailure(Exception e) {
+        logger.info(() -> "Invalid command: " + e.getMessage());
+        resultDisplay.setFeedbackToUser(e.getMessage());
+    }
+
     /**
      * Opens the help window or focuses on it if it's already opened.
      */
     @FXML
     public void handleHelp() {
-        if (!helpWindow.isShowing()) {
-            helpWindow.show();
+        if (!helpWindow.get().isShowing()) {
+            helpWindow.get().show();
         } else {
-            helpWindow.focus();
+            helpWindow.get().focus();
         }
     }
 
@@ -128,18 +142,18 @@ public class FinancialTrackerPage extends UiPart<VBox> implements Page {
      */
     @FXML
     public void handleCode() {
-        if (!codeWindow.isShowing()) {
-            codeWindow.show();
+        if (!codeWindow.get().isShowing()) {
+            codeWindow.get().show();
         } else {
-            codeWindow.focus();
+            codeWindow.get().focus();
         }
     }
 
     @Override
     public void closeResources() {
         // implemented auto close, thus these 2 lines is not needed
-        // helpWindow.hide();
-        // codeWindow.hide();
+        // helpWindow.ifCreated(FinancialTrackerHelpWindow::hide);
+        // codeWindow.ifCreated(CodeWindow::hide);
     }
 
     /**
@@ -8,6 +8,7 @@ import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.chart.BarChart;
 import javafx.scene.chart.CategoryAxis;
+import javafx.scene.chart.LineChart;
 import javafx.scene.chart.NumberAxis;
 import javafx.scene.chart.PieChart;
 import javafx.scene.chart.XYChart;
@@ -24,6 +25,8 @@ import seedu.address.ui.UiPart;
 public class FinancialTrackerSummaryWindow extends UiPart<Stage> {
 
     private static final String FXML = "FinancialTrackerSummaryWindow.fxml";
+    private static final String TITLE = "Your Financial Summary in %1$s";
+    private static final String AMOUNT_LABEL = "Amount (%1$s)";
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     @FXML
@@ -41,17 +44,28 @@ public class FinancialTrackerSummaryWindow extends UiPart<Stage> {
     @FXML
     private NumberAxis yAxis;
 
+    @FXML
+    private LineChart<String, Number> timeChart;
+
+    @FXML
+    private NumberAxis timeAmountAxis;
+
     /**
      * Creates a new HelpWindow.
      *
      * @param root Stage to use as the root of the HelpWindow.
      */
     private FinancialTrackerSummaryWindow(Stage root, ObservableList<PieChart.Data> pieChartData,
-                                          ArrayList<XYChart.Series> seriesArray) {
+                                          ArrayList<XYChart.Series> seriesArray,
+                                          XYChart.Series<String, Number> timeSeries, String homeCurrency) {
         super(FXML, root);
+        this.title.setText(String.format(TITLE, homeCurrency));
+        this.yAxis.setLabel(String.format(AMOUNT_LABEL, homeCurrency));
         this.pieChart.setData(pieChartData);
         this.pieChart.setLabelLineLength(10);
         this.barChart.getData().addAll(seriesArray);
+        this.timeAmountAxis.setLabel(String.format(AMOUNT_LABEL, homeCurrency));
+        this.timeChart.getData().add(timeSeries);
 
         // Adapted from pohlinwei
         getRoot().focusedProperty().addListener(((observable, oldValue, newValue) -> {
@@ -75,8 +89,9 @@ public class FinancialTrackerSummaryWindow extends UiPart<Stage> {
      * Creates a new HelpWindow.
      */
     public FinancialTrackerSummaryWindow(ObservableList<PieChart.Data> pieChartData,
-                                         ArrayList<XYChart.Series> seriesArray) {
-        this(new Stage(), pieChartData, seriesArray);
+                                         ArrayList<XYChart.Series> seriesArray,
+                                         XYChart.Series<String, Number> timeSeries, String homeCurrency) {
+        this(new Stage(), pieChartData, seriesArray, timeSeries, homeCurrency);
     }
 
     /**
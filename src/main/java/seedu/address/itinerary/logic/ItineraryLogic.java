@@ -4,7 +4,9 @@ import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 
@@ -20,6 +22,7 @@ import seedu.address.itinerary.model.event.Event;
 import seedu.address.itinerary.model.util.ItineraryStatistics;
 import seedu.address.itinerary.storage.ItineraryStorage;
 import seedu.address.itinerary.storage.JsonItineraryStorage;
+import seedu.address.logic.ScriptRunner;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -47,15 +50,15 @@ public class ItineraryLogic {
             Optional<ReadOnlyItinerary> itineraryOptional = itineraryStorage.readItinerary();
 
             itineraryOptional.ifPresentOrElse(ItinerarySampleDataUtil::doNothing, () ->
-                    System.out.println("Starting without a json file!"));
+                    logger.info("Data file not found. Will be starting with a sample Itinerary"));
 
             itinerary.updateItinerary(itineraryOptional.orElse(ItinerarySampleDataUtil.getSampleItinerary()));
 
         } catch (DataConversionException e) {
-            System.out.println("Data file not in the correct format. Will be starting with an empty Itinerary");
+            logger.warning("Data file not in the correct format. Will be starting with an empty Itinerary");
             // todo: what to do about data? JUST OVERWRITE
         } catch (IOException e) {
-            System.out.println("Problem while reading from the file. Will be starting with an empty Itinerary");
+            logger.warning("Problem while reading from the file. Will be starting with an empty Itinerary");
             // todo: what to do about data? JUST OVERWRITE
         }
 
@@ -70,12 +73,17 @@ public class ItineraryLogic {
      * @throws ParseException when the input and output is invalid and does not pass the parse test.
      */
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
         model.addAction(commandText);
-        Command command = itineraryParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        if (ScriptRunner.isRunCommand(commandText)) {
+            Supplier<ScriptRunner.Rollback> transaction = () -> beginTransaction(model);
+            commandResult = ScriptRunner.run(commandText, model, itineraryParser::parseCommand, transaction);
+        } else {
+            Command<Model> command = itineraryParser.parseCommand(commandText);
+            commandResult = command.execute(model);
+        }
 
         try {
             itineraryStorage.saveItinerary(model.getItinerary());
@@ -86,6 +94,16 @@ public class ItineraryLogic {
         return commandResult;
     }
 
+    /**
+     * Takes a copy of the events of {@code model}, to be restored if a script fails.
+     * The events are copied too, as commands such as done change them in place.
+     */
+    static ScriptRunner.Rollback beginTransaction(Model model) {
+        Itinerary snapshot = new Itinerary(model.getItinerary().getEventList().stream().map(Event::copy)
+                .collect(Collectors.toList()));
+        return () -> model.setItinerary(snapshot);
+    }
+
     /**
      * Returns an observe only expense list with current country specified in financial tracker.
      */
@@ -6,6 +6,7 @@ import seedu.address.itinerary.ui.HelpCommandWindow;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.ui.CommandExecutionService;
 
 /**
  * Opens up a window with the commands available for itinerary.
@@ -17,13 +18,16 @@ public class HelpCommand extends Command<Model> {
 
     public static final String MESSAGE_SUCCESS = "Currently viewing the itinerary help window. (ﾉ◕ヮ◕)ﾉ*:･ﾟ✧";
 
-    private HelpCommandWindow helpWindow = new HelpCommandWindow();
+    private HelpCommandWindow helpWindow;
 
     /**
      * Opens the help window or focuses on it if it's already opened.
      */
     @FXML
     public void handleHelp() {
+        if (helpWindow == null) {
+            helpWindow = new HelpCommandWindow();
+        }
         if (!helpWindow.isShowing()) {
             helpWindow.show();
         } else {
@@ -33,7 +37,7 @@ public class HelpCommand extends Command<Model> {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        handleHelp();
+        CommandExecutionService.runOnFxThread(this::handleHelp);
         return new CommandResult(MESSAGE_SUCCESS, false, false);
     }
 }
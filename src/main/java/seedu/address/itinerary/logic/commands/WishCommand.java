@@ -6,6 +6,7 @@ import seedu.address.itinerary.ui.WishWindow;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.ui.CommandExecutionService;
 
 // The wish command will be implemented in v2.0.
 /**
@@ -15,13 +16,16 @@ public class WishCommand extends Command<Model> {
     public static final String COMMAND_WORD = "wish";
     public static final String MESSAGE_SUCCESS = "TravEzy is currently doing wonders!";
 
-    private WishWindow wishWindow = new WishWindow();
+    private WishWindow wishWindow;
 
     /**
      * Opens the help window or focuses on it if it's already opened.
      */
     @FXML
     public void handleSuggest() {
+        if (wishWindow == null) {
+            wishWindow = new WishWindow();
+        }
         if (!wishWindow.isShowing()) {
             wishWindow.show();
         } else {
@@ -31,7 +35,7 @@ public class WishCommand extends Command<Model> {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        handleSuggest();
+        CommandExecutionService.runOnFxThread(this::handleSuggest);
         return new CommandResult(MESSAGE_SUCCESS, false, false);
     }
 }
@@ -15,6 +15,7 @@ import seedu.address.itinerary.logic.commands.HistoryCommand;
 import seedu.address.itinerary.logic.commands.ListCommand;
 import seedu.address.itinerary.logic.commands.SearchCommand;
 import seedu.address.itinerary.logic.commands.SortCommand;
+import seedu.address.itinerary.model.Model;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.GoToCommand;
@@ -38,7 +39,7 @@ public class ItineraryParser {
      * @return the command based on the user input
      * @throws ParseException if the user input does not conform the expected format
      */
-    public Command parseCommand(String userInput) throws ParseException {
+    public Command<Model> parseCommand(String userInput) throws ParseException {
         final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
         if (!matcher.matches()) {
             throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
@@ -58,10 +59,10 @@ public class ItineraryParser {
             return new HelpCommand();
 
         case GoToCommand.COMMAND_WORD:
-            return new GoToParser().parse(arguments);
+            return new GoToParser<Model>().parse(arguments);
 
         case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
+            return new ExitCommand<>();
 
         case AddEventCommand.COMMAND_WORD:
             return new AddEventCommandParser().parse(arguments);
@@ -3,15 +3,13 @@ package seedu.address.itinerary.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
-import java.util.function.Function;
 import java.util.function.Predicate;
 
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import javafx.scene.chart.XYChart;
 import seedu.address.commons.util.CollectionUtil;
-import seedu.address.commons.util.MonthData;
-import seedu.address.commons.util.StatisticsUtil;
+import seedu.address.commons.util.MonthHistogram;
 import seedu.address.itinerary.model.event.Event;
 import seedu.address.itinerary.model.exceptions.ItineraryException;
 
@@ -23,11 +21,14 @@ public class Model {
     private Itinerary itinerary;
     private final FilteredList<Event> filteredEvents;
     private final SortedList<Event> sortedEvents;
+    private final MonthHistogram<Event> monthHistogram;
 
     public Model() {
         this.itinerary = new Itinerary();
         filteredEvents = new FilteredList<>(this.itinerary.getEventList());
         sortedEvents = new SortedList<>(filteredEvents);
+        monthHistogram = new MonthHistogram<>(filteredEvents,
+            event -> MonthHistogram.pack(event.getDate().getYear(), event.getDate().getMonth()));
     }
 
     public void addEvent(Event event) {
@@ -114,8 +115,7 @@ public class Model {
     }
 
     public XYChart.Series<String, Number> getItineraryBarChart() {
-        Function<Event, MonthData> toMonthDataFunction = event -> new MonthData(0, event.getMonthAndYear());
-        return StatisticsUtil.getMonthDataSeries(filteredEvents, toMonthDataFunction);
+        return monthHistogram.toSeries();
     }
 
     @Override
@@ -27,6 +27,14 @@ public class Date {
         return oldDate;
     }
 
+    public int getMonth() {
+        return Integer.parseInt(oldDate.substring(2, 4));
+    }
+
+    public int getYear() {
+        return Integer.parseInt(oldDate.substring(4));
+    }
+
     /**
      * Returns true if a given string is a valid date.
      */
@@ -165,6 +165,15 @@ public class Event {
         isDone = true;
     }
 
+    /**
+     * Returns a copy of this event, so that marking either of them done or tagging it does not change the other.
+     */
+    public Event copy() {
+        Event copy = new Event(title, date, location, desc, time, tag);
+        copy.isDone = isDone;
+        return copy;
+    }
+
     /**
      * Check whether two events have similar attribute value.
      * @param otherEvent another event in comparison to the current event.
@@ -16,15 +16,16 @@ import javafx.scene.layout.Priority;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
+import seedu.address.commons.core.Lazy;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.itinerary.logic.ItineraryLogic;
 import seedu.address.itinerary.logic.parser.ItineraryParser;
+import seedu.address.itinerary.model.event.Event;
 import seedu.address.itinerary.storage.ItineraryStorage;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.ui.CodeWindow;
 import seedu.address.ui.CommandBox;
+import seedu.address.ui.FxThreadList;
 import seedu.address.ui.Page;
 import seedu.address.ui.PageManager;
 import seedu.address.ui.PageType;
@@ -46,15 +47,17 @@ public class ItineraryPage extends UiPart<VBox> implements Page {
 
     private ResultDisplay resultDisplay;
 
+    private FxThreadList<Event> events;
+
     private EventPanel eventPanel;
 
     private ItineraryParser itineraryParser;
 
     private TagDropdown tagDropdown;
 
-    private HelpCommandWindow helpWindow;
+    private final Lazy<HelpCommandWindow> helpWindow = new Lazy<>(HelpCommandWindow::new);
 
-    private CodeWindow codeWindow;
+    private final Lazy<CodeWindow> codeWindow = new Lazy<>(CodeWindow::new);
 
     private ItineraryStorage itineraryStorage;
 
@@ -80,8 +83,7 @@ public class ItineraryPage extends UiPart<VBox> implements Page {
     @FXML
     private StackPane resultDisplayPlaceholder;
 
-    @FXML
-    private ClearCommandWindow clearCommandWindow;
+    private final Lazy<ClearCommandWindow> clearCommandWindow;
 
     private String[] possibleSuggestions = {
         // For basic command
@@ -106,11 +108,8 @@ public class ItineraryPage extends UiPart<VBox> implements Page {
 
         setAccelerators();
 
-        this.helpWindow = new HelpCommandWindow();
-        this.codeWindow = new CodeWindow();
-
         fillInnerParts();
-        this.clearCommandWindow = new ClearCommandWindow(itineraryLogic);
+        this.clearCommandWindow = new Lazy<>(() -> new ClearCommandWindow(itineraryLogic));
     }
 
     /**
@@ -118,14 +117,15 @@ public class ItineraryPage extends UiPart<VBox> implements Page {
      */
     private void fillInnerParts() {
 
-        eventPanel = new EventPanel(itineraryLogic.getSortedEventList());
+        events = new FxThreadList<>(itineraryLogic.getSortedEventList());
+        eventPanel = new EventPanel(events.getList());
         eventPlaceHolder.getChildren().add(eventPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand, itineraryLogic.getActionList(),
-                possibleSuggestions);
+        CommandBox commandBox = new CommandBox(pageType, itineraryLogic::execute, this::handleResult,
+                this::handleFailure, itineraryLogic.getActionList(), possibleSuggestions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         tagDropdown = new TagDropdown();
@@ -146,10 +146,10 @@ public class ItineraryPage extends UiPart<VBox> implements Page {
      */
     @FXML
     public void handleCode() {
-        if (!codeWindow.isShowing()) {
-            codeWindow.show();
+        if (!codeWindow.get().isShowing()) {
+            codeWindow.get().show();
         } else {
-            codeWindow.focus();
+            codeWindow.get().focus();
         }
     }
 
@@ -158,10 +158,10 @@ public class ItineraryPage extends UiPart<VBox> implements Page {
      */
     @FXML
     public void handleHelp() {
-        if (!helpWindow.isShowing()) {
-            helpWindow.show();
+        if (!helpWindow.get().isShowing()) {
+            helpWindow.get().show();
         } else {
-            helpWindow.focus();
+            helpWindow.get().focus();
         }
     }
 
@@ -170,18 +170,18 @@ public class ItineraryPage extends UiPart<VBox> implements Page {
      */
     @FXML
     public void handleClear() {
-        if (!clearCommandWindow.isShowing()) {
-            clearCommandWindow.show();
+        if (!clearCommandWindow.get().isShowing()) {
+            clearCommandWindow.get().show();
         } else {
-            clearCommandWindow.focus();
+            clearCommandWindow.get().focus();
         }
     }
 
     @Override
     public void closeResources() {
-        clearCommandWindow.hide();
-        helpWindow.hide();
-        codeWindow.hide();
+        clearCommandWindow.ifCreated(ClearCommandWindow::hide);
+        helpWindow.ifCreated(HelpCommandWindow::hide);
+        codeWindow.ifCreated(CodeWindow::hide);
     }
 
     /**
@@ -199,37 +199,33 @@ public class ItineraryPage extends UiPart<VBox> implements Page {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Shows the result of a command.
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-
-            //update tagging dropDown menu
-            tagDropdown.updateDropdownText();
-            CommandResult commandResult = itineraryLogic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+    private void handleResult(CommandResult commandResult) {
+        logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
+        if (commandResult.isExit()) {
+            handleExit();
+        }
 
-            if (commandResult.isShowClear()) {
-                handleClear();
-            }
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.isShowClear()) {
+            handleClear();
         }
     }
 
+    /**
+     * Shows why a command could not be executed.
+     */
+    private void handleFailure(Exception e) {
+        logger.info(() -> "Invalid command: " + e.getMessage());
+        resultDisplay.setFeedbackToUser(e.getMessage());
+    }
+
     private void setAccelerators() {
         setAccelerator(helpMenuItem, KeyCombination.valueOf("F1"));
     }
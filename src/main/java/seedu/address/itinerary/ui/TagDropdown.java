@@ -15,7 +15,7 @@ public class TagDropdown extends UiPart<Region> {
 
     private static final String FXML = "ItineraryTagWindow.fxml";
 
-    private static String field = null;
+    private static volatile String field = null;
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -37,6 +37,8 @@ public class TagDropdown extends UiPart<Region> {
         options.add("Priority: Low");
         options.add("Priority: None");
         tagWindow.setItems(options);
+        // commands are parsed off the JavaFX application thread, so the selection is recorded as it changes
+        tagWindow.valueProperty().addListener((unused1, unused2, newValue) -> field = newValue);
         tagWindow.getSelectionModel().select(4); // Select Singapore as default
     }
 
@@ -0,0 +1,58 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Groups the changes made by several commands on the current thread, so that observers which only show the
+ * model can catch up once at the end instead of after every change.<br>
+ * Observers that later commands read through, such as indexes and sorted views, must still follow every change.
+ * Only observers that nothing reads back, such as the copies of lists shown by the UI, should wait for the end.
+ */
+public class ChangeBatch {
+
+    private static final ThreadLocal<Map<Object, Runnable>> endActions = new ThreadLocal<>();
+
+    /**
+     * Starts a batch on the current thread.
+     */
+    public static void begin() {
+        assert endActions.get() == null : "Batches cannot be nested";
+        endActions.set(new LinkedHashMap<>());
+    }
+
+    /**
+     * Ends the batch on the current thread, running the action given for every observer that asked for one.
+     */
+    public static void end() {
+        Map<Object, Runnable> actions = endActions.get();
+        endActions.remove();
+        if (actions != null) {
+            actions.values().forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * Returns true if a batch is open on the current thread.
+     */
+    public static boolean isOpen() {
+        return endActions.get() != null;
+    }
+
+    /**
+     * Runs {@code action} once when the batch on the current thread ends, or at once if there is no batch.
+     * Only the first action given for {@code observer} in a batch is kept.
+     */
+    public static void runAtEnd(Object observer, Runnable action) {
+        requireNonNull(observer);
+        requireNonNull(action);
+        Map<Object, Runnable> actions = endActions.get();
+        if (actions == null) {
+            action.run();
+        } else {
+            actions.putIfAbsent(observer, action);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.logic;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Lets a long-running command report its progress and notice when it has been asked to stop.<br>
+ * Progress goes to the listener registered for the thread running the command, if any, so commands that are
+ * run synchronously (e.g. in headless mode or in tests) can call these methods without any set up.
+ * A command that checks {@link #isCancelRequested()} decides itself where it can safely stop, so the thread
+ * running it is never interrupted.
+ */
+public class CommandProgress {
+
+    private static final ThreadLocal<Listener> listener = new ThreadLocal<>();
+    private static final ThreadLocal<BooleanSupplier> cancelRequest = new ThreadLocal<>();
+
+    /**
+     * Receives the progress of the command running on the current thread.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void update(long workDone, long totalWork);
+    }
+
+    /**
+     * Sends the progress of commands run on the current thread to {@code progressListener}.
+     */
+    public static void setListener(Listener progressListener) {
+        listener.set(progressListener);
+    }
+
+    /**
+     * Stops sending progress of commands run on the current thread anywhere.
+     */
+    public static void clearListener() {
+        listener.remove();
+    }
+
+    /**
+     * Reports that {@code workDone} out of {@code totalWork} units of the current command are done.
+     */
+    public static void report(long workDone, long totalWork) {
+        Listener progressListener = listener.get();
+        if (progressListener != null) {
+            progressListener.update(workDone, totalWork);
+        }
+    }
+
+    /**
+     * Lets commands run on the current thread ask {@code isCancelRequested} whether they should stop.
+     */
+    public static void setCancelRequest(BooleanSupplier isCancelRequested) {
+        cancelRequest.set(isCancelRequested);
+    }
+
+    /**
+     * Stops commands run on the current thread from being asked to stop.
+     */
+    public static void clearCancelRequest() {
+        cancelRequest.remove();
+    }
+
+    /**
+     * Returns true if the command running on the current thread has been asked to stop.
+     */
+    public static boolean isCancelRequested() {
+        BooleanSupplier isCancelRequested = cancelRequest.get();
+        return isCancelRequested != null && isCancelRequested.getAsBoolean();
+    }
+}
@@ -10,6 +10,7 @@ import seedu.address.address.logic.AddressBookLogic;
 import seedu.address.address.logic.AddressBookLogicManager;
 import seedu.address.calendar.logic.CalendarLogic;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.Lazy;
 import seedu.address.diaryfeature.logic.DiaryBookLogic;
 import seedu.address.financialtracker.logic.FinancialTrackerLogic;
 import seedu.address.itinerary.logic.ItineraryLogic;
@@ -19,16 +20,18 @@ import seedu.address.storage.Storage;
 
 /**
  * The main AddressBookLogicManager of the app.
+ * The calendar, diary, financial tracker and itinerary logic are only loaded from their files when first requested.
  */
 public class LogicManager implements Logic {
 
     private AddressBookLogic addressBookLogic;
     private AchievementsLogic achievementsLogic;
     private UserPrefsModel userPrefsModel;
-    private DiaryBookLogic diaryLogic;
-    private CalendarLogic calendarLogic;
-    private FinancialTrackerLogic financialTrackerLogic;
-    private ItineraryLogic itineraryLogic;
+    private final Lazy<DiaryBookLogic> diaryLogic = new Lazy<>(() ->
+            new DiaryBookLogic(() -> getCalendarLogic().getTripFinder()));
+    private final Lazy<CalendarLogic> calendarLogic = new Lazy<>(CalendarLogic::new);
+    private final Lazy<FinancialTrackerLogic> financialTrackerLogic = new Lazy<>(FinancialTrackerLogic::new);
+    private final Lazy<ItineraryLogic> itineraryLogic = new Lazy<>(ItineraryLogic::new);
     private MainLogic mainLogic;
     private Storage storage;
 
@@ -41,17 +44,13 @@ public class LogicManager implements Logic {
             @Override
             public StatisticsModel get() {
                 return new StatisticsModelManager(addressBookLogic.getStatistics(),
-                        calendarLogic.getStatistics(),
-                        diaryLogic.getStatistics(),
-                        financialTrackerLogic.getStatistics(),
-                        itineraryLogic.getStatistics());
+                        getCalendarLogic().getStatistics(),
+                        getDiaryLogic().getStatistics(),
+                        getFinancialTrackerLogic().getStatistics(),
+                        getItineraryLogic().getStatistics());
             }
         });
         this.mainLogic = new MainLogicManager(userPrefsModel, storage);
-        this.diaryLogic = new DiaryBookLogic();
-        this.calendarLogic = new CalendarLogic();
-        this.financialTrackerLogic = new FinancialTrackerLogic();
-        this.itineraryLogic = new ItineraryLogic();
         this.storage = storage;
     }
 
@@ -71,21 +70,21 @@ public class LogicManager implements Logic {
 
     @Override
     public DiaryBookLogic getDiaryLogic() {
-        return diaryLogic;
+        return diaryLogic.get();
     }
 
     @Override
     public CalendarLogic getCalendarLogic() {
-        return calendarLogic;
+        return calendarLogic.get();
     }
 
     public FinancialTrackerLogic getFinancialTrackerLogic() {
-        return this.financialTrackerLogic;
+        return this.financialTrackerLogic.get();
     }
 
     @Override
     public ItineraryLogic getItineraryLogic() {
-        return this.itineraryLogic;
+        return this.itineraryLogic.get();
     }
 
     @Override
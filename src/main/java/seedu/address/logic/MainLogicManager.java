@@ -33,7 +33,7 @@ public class MainLogicManager implements MainLogic {
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
         Command<UserPrefsModel> command = mainParser.parseCommand(commandText);
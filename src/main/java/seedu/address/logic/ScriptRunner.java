@@ -0,0 +1,199 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.GoToCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs a file of commands against a single module as one transaction.
+ *
+ * Every line of the script is parsed before any of them is executed, so a typo leaves the module untouched.
+ * If a command fails while executing, the module is rolled back to the state it was in before the script
+ * started. The caller saves the module once after the whole script has run.
+ * Progress is reported after every command. A script asked to stop does so before its next command and is rolled
+ * back like a failed one.
+ * The commands run in a {@link ChangeBatch}, so the lists shown by the UI are updated once, after the whole script
+ * or its rollback, rather than after every command.
+ */
+public class ScriptRunner {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs every command in a file on this page. Nothing is changed if any of them fails.\n"
+            + "Blank lines and lines starting with '#' are ignored.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/expenses.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s";
+    public static final String MESSAGE_INVALID_PATH = "Please give the path of a script to run.\n" + MESSAGE_USAGE;
+    public static final String MESSAGE_CANNOT_READ = "Could not read script %1$s: %2$s";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d (%2$s) is invalid: %3$s";
+    public static final String MESSAGE_NOT_ALLOWED = "'%1$s' cannot be used inside a script";
+    public static final String MESSAGE_FAILED_LINE = "Line %1$d (%2$s) failed: %3$s\nNo changes were made.";
+    public static final String MESSAGE_CANCELLED = "Cancelled before line %1$d (%2$s).\nNo changes were made.";
+    public static final String MESSAGE_ROLLBACK_FAILED = "Line %1$d (%2$s) failed and the changes made before it "
+            + "could not be undone: %3$s";
+
+    private static final String COMMENT_PREFIX = "#";
+
+    private static final Logger logger = LogsCenter.getLogger(ScriptRunner.class);
+
+    /**
+     * Parses a single line of a script into a command of the module.
+     */
+    @FunctionalInterface
+    public interface ScriptParser<T> {
+        Command<T> parse(String commandText) throws CommandException, ParseException;
+    }
+
+    /**
+     * Restores a module to the state it was in when the {@code Rollback} was created.
+     */
+    @FunctionalInterface
+    public interface Rollback {
+        void rollback() throws DataConversionException;
+    }
+
+    /**
+     * Returns true if {@code commandText} asks for a script to be run.
+     */
+    public static boolean isRunCommand(String commandText) {
+        return getCommandWord(commandText).equalsIgnoreCase(COMMAND_WORD);
+    }
+
+    /**
+     * Runs the script named by {@code commandText} on {@code model}.
+     *
+     * @param commandText the full "run FILE_PATH" input given by the user
+     * @param model the model every command of the script is executed on
+     * @param parser parses each line of the script
+     * @param beginTransaction takes a snapshot of {@code model}, returning how to restore it
+     * @throws ParseException if the script cannot be read or any of its lines is invalid
+     * @throws CommandException if any of the commands fails, after the model has been rolled back
+     */
+    public static <T> CommandResult run(String commandText, T model, ScriptParser<T> parser,
+                                        Supplier<Rollback> beginTransaction)
+            throws CommandException, ParseException {
+        requireNonNull(model);
+        Path scriptPath = parseScriptPath(commandText);
+        List<String> lines = readScript(scriptPath);
+
+        List<Command<T>> commands = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            commands.add(parseLine(parser, i + 1, line));
+            lineNumbers.add(i + 1);
+        }
+
+        logger.info(() -> "Running " + commands.size() + " command(s) from " + scriptPath);
+        Rollback rollback = beginTransaction.get();
+        ChangeBatch.begin();
+        try {
+            for (int i = 0; i < commands.size(); i++) {
+                int lineNumber = lineNumbers.get(i);
+                String line = lines.get(lineNumber - 1).trim();
+                if (CommandProgress.isCancelRequested()) {
+                    rollBack(rollback, lineNumber, line);
+                    throw new CommandException(String.format(MESSAGE_CANCELLED, lineNumber, line));
+                }
+                try {
+                    commands.get(i).execute(model);
+                    CommandProgress.report(i + 1, commands.size());
+                } catch (CommandException | RuntimeException e) {
+                    rollBack(rollback, lineNumber, line);
+                    throw new CommandException(
+                            String.format(MESSAGE_FAILED_LINE, lineNumber, line, e.getMessage()), e);
+                }
+            }
+        } finally {
+            ChangeBatch.end();
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size(), scriptPath));
+    }
+
+    /**
+     * Undoes the commands run before {@code line}, which is about to be reported as failed or cancelled.
+     */
+    private static void rollBack(Rollback rollback, int lineNumber, String line) throws CommandException {
+        try {
+            rollback.rollback();
+        } catch (DataConversionException dce) {
+            throw new CommandException(String.format(MESSAGE_ROLLBACK_FAILED, lineNumber, line, dce.getMessage()),
+                    dce);
+        }
+    }
+
+    /**
+     * Parses a single line of the script, rejecting commands that leave the page or start another script.
+     */
+    private static <T> Command<T> parseLine(ScriptParser<T> parser, int lineNumber, String line)
+            throws ParseException {
+        String commandWord = getCommandWord(line);
+        if (commandWord.equalsIgnoreCase(COMMAND_WORD) || commandWord.equalsIgnoreCase(GoToCommand.COMMAND_WORD)
+                || commandWord.equalsIgnoreCase(ExitCommand.COMMAND_WORD)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_LINE, lineNumber, line,
+                    String.format(MESSAGE_NOT_ALLOWED, commandWord)));
+        }
+
+        try {
+            return parser.parse(line);
+        } catch (CommandException | ParseException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_LINE, lineNumber, line, e.getMessage()), e);
+        } catch (RuntimeException e) {
+            // a parser that fails unexpectedly still points at the line that made it fail
+            logger.log(Level.WARNING, "Unexpected error parsing script line " + lineNumber, e);
+            throw new ParseException(String.format(MESSAGE_INVALID_LINE, lineNumber, line, e), e);
+        }
+    }
+
+    /**
+     * Returns the path of the script given after the command word.
+     */
+    private static Path parseScriptPath(String commandText) throws ParseException {
+        String[] split = commandText.trim().split("\\s+", 2);
+        if (split.length < 2 || !FileUtil.isValidPath(split[1].trim())) {
+            throw new ParseException(MESSAGE_INVALID_PATH);
+        }
+        return Paths.get(split[1].trim());
+    }
+
+    /**
+     * Reads every line of the script at {@code scriptPath}.
+     */
+    private static List<String> readScript(Path scriptPath) throws ParseException {
+        try {
+            return Files.readAllLines(scriptPath, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ, scriptPath, ioe), ioe);
+        }
+    }
+
+    private static String getCommandWord(String commandText) {
+        return commandText.trim().split("\\s+", 2)[0];
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import seedu.address.ui.CommandExecutionService;
 import seedu.address.ui.PageManager;
 import seedu.address.ui.PageType;
 
@@ -22,9 +23,13 @@ public class GoToCommand<T> extends Command<T> {
         this.pageType = pageType;
     }
 
+    public PageType getPageType() {
+        return pageType;
+    }
+
     @Override
     public CommandResult execute(T model) {
-        PageManager.getPage(pageType);
+        CommandExecutionService.runOnFxThread(() -> PageManager.getPage(pageType));
         String respondMessage = String.format(MESSAGE_CHANGE_SUCCESS, pageType.toString().toLowerCase());
         return new CommandResult(respondMessage, false, false, true);
     }
@@ -6,19 +6,19 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.ui.PageType;
 
 /**
- * A parser to parse user input and create a GoToCommand object.
+ * A parser to parse user input and create a GoToCommand object for the model of type {@code T}.
  */
-public class GoToParser implements Parser<GoToCommand> {
+public class GoToParser<T> implements Parser<GoToCommand<T>> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the GoToCommand
      * and returns an GoToCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public GoToCommand parse(String args) throws ParseException {
+    public GoToCommand<T> parse(String args) throws ParseException {
         try {
             PageType pageType = ParserUtil.parsePageType(args);
-            return new GoToCommand(pageType);
+            return new GoToCommand<>(pageType);
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, GoToCommand.MESSAGE_USAGE), pe);
@@ -10,6 +10,7 @@ import seedu.address.logic.commands.GoToCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.UserPrefsModel;
 
 /**
  * Parser to parse commands entered on the main page.
@@ -37,7 +38,7 @@ public class MainParser {
         final String arguments = matcher.group("arguments");
         switch (commandWord) {
         case GoToCommand.COMMAND_WORD:
-            return new GoToParser().parse(arguments);
+            return new GoToParser<UserPrefsModel>().parse(arguments);
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
         case ExitCommand.COMMAND_WORD:
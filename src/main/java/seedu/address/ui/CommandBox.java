@@ -2,12 +2,14 @@ package seedu.address.ui;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.controlsfx.control.textfield.AutoCompletionBinding;
 import org.controlsfx.control.textfield.TextFields;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
@@ -20,6 +22,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * <br>
+ * A command box given a {@code PageType} runs its commands through the {@link CommandExecutionService}, showing
+ * their progress while they run. Pressing Escape asks a running script to stop; other commands always complete.
  */
 public class CommandBox extends UiPart<Region> {
 
@@ -29,10 +34,17 @@ public class CommandBox extends UiPart<Region> {
     private final CommandExecutor commandExecutor;
     private final List<String> history;
     private ListElementPointer historySnapshot;
+    private PageType pageType;
+    private Consumer<CommandResult> resultHandler;
+    private Consumer<Exception> failureHandler;
+    private CommandExecutionService.CommandTask runningCommand;
 
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private ProgressBar commandProgressBar;
+
     public CommandBox(CommandExecutor commandExecutor) {
         super(FXML);
         this.commandExecutor = commandExecutor;
@@ -66,6 +78,36 @@ public class CommandBox extends UiPart<Region> {
         this(commandExecutor, history, new String[0]);
     }
 
+    /**
+     * Creates a command box whose commands run off the JavaFX application thread.
+     * @param pageType is the page the commands belong to. Commands of the same page run one at a time.
+     * @param commandExecutor executes the input on a worker thread, without touching the UI.
+     * @param resultHandler shows the result of a command, on the JavaFX application thread.
+     * @param failureHandler shows why a command failed, on the JavaFX application thread.
+     */
+    public CommandBox(PageType pageType, CommandExecutor commandExecutor, Consumer<CommandResult> resultHandler,
+                      Consumer<Exception> failureHandler) {
+        this(commandExecutor);
+        setAsynchronous(pageType, resultHandler, failureHandler);
+    }
+
+    /**
+     * Creates a command box whose commands run off the JavaFX application thread, with auto-complete and history.
+     * @see #CommandBox(PageType, CommandExecutor, Consumer, Consumer)
+     */
+    public CommandBox(PageType pageType, CommandExecutor commandExecutor, Consumer<CommandResult> resultHandler,
+                      Consumer<Exception> failureHandler, List<String> history, String[] possibleSuggestions) {
+        this(commandExecutor, history, possibleSuggestions);
+        setAsynchronous(pageType, resultHandler, failureHandler);
+    }
+
+    private void setAsynchronous(PageType pageType, Consumer<CommandResult> resultHandler,
+                                 Consumer<Exception> failureHandler) {
+        this.pageType = pageType;
+        this.resultHandler = resultHandler;
+        this.failureHandler = failureHandler;
+    }
+
     /**
      * Handles the key press event, {@code keyEvent}.
      */
@@ -83,6 +125,12 @@ public class CommandBox extends UiPart<Region> {
             keyEvent.consume();
             navigateToNextInput();
             break;
+        case ESCAPE:
+            if (runningCommand != null && runningCommand.isCancellable()) {
+                keyEvent.consume();
+                runningCommand.requestCancel();
+            }
+            break;
         default:
             // let JavaFx handle the keypress
         }
@@ -128,6 +176,11 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
+        if (pageType != null) {
+            submitCommand(commandTextField.getText());
+            return;
+        }
+
         try {
             commandExecutor.execute(commandTextField.getText());
             initHistory();
@@ -139,6 +192,52 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Runs {@code commandText} on a worker thread, showing its progress until it completes.
+     */
+    private void submitCommand(String commandText) {
+        CommandExecutionService.CommandTask command = CommandExecutionService.getInstance().submit(pageType,
+                commandExecutor, commandText, commandResult -> handleCommandSucceeded(commandText, commandResult),
+                this::handleCommandFailed);
+        runningCommand = command;
+        commandProgressBar.progressProperty().bind(command.progressProperty());
+        commandProgressBar.setVisible(true);
+    }
+
+    /**
+     * Clears the text field, unless the user has started typing the next command, and shows the result.
+     */
+    private void handleCommandSucceeded(String commandText, CommandResult commandResult) {
+        completeCommand();
+        historySnapshot.next();
+        if (commandTextField.getText().equals(commandText)) {
+            commandTextField.setText("");
+        }
+        resultHandler.accept(commandResult);
+    }
+
+    /**
+     * Indicates that the command failed and shows why.
+     */
+    private void handleCommandFailed(Exception e) {
+        completeCommand();
+        setStyleToIndicateCommandFailure();
+        failureHandler.accept(e);
+    }
+
+    /**
+     * Hides the progress bar once the last command entered has completed.
+     */
+    private void completeCommand() {
+        initHistory();
+        if (runningCommand != null && !runningCommand.isDone()) {
+            return;
+        }
+        commandProgressBar.progressProperty().unbind();
+        commandProgressBar.setVisible(false);
+        runningCommand = null;
+    }
+
     /**
      * Initializes the history snapshot.
      */
@@ -0,0 +1,206 @@
+package seedu.address.ui;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.concurrent.Task;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandProgress;
+import seedu.address.logic.ScriptRunner;
+import seedu.address.logic.commands.CommandResult;
+
+/**
+ * Runs commands away from the JavaFX application thread, so that parsing, sorting and saving do not freeze the UI.
+ * <br>
+ * Commands of the same page run one at a time, in the order they were entered, while commands of different pages
+ * may run at the same time. The outcome of a command is always handed back on the JavaFX application thread.
+ * Other pages read a page's model the same way, after the commands already waiting for that page.
+ * Only scripts can be asked to stop, as they are the only commands that check for it and can undo their changes.
+ * Virtual threads are used when the Java runtime provides them.
+ */
+public class CommandExecutionService {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandExecutionService.class);
+    private static CommandExecutionService instance;
+
+    private final Executor threads;
+    private final Map<PageType, Executor> pageExecutors = new EnumMap<>(PageType.class);
+
+    private CommandExecutionService(Executor threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Returns the service shared by all pages.
+     */
+    public static synchronized CommandExecutionService getInstance() {
+        if (instance == null) {
+            instance = new CommandExecutionService(createThreads());
+        }
+        return instance;
+    }
+
+    /**
+     * Runs {@code action} on the JavaFX application thread: immediately if called from it, later otherwise.
+     */
+    public static void runOnFxThread(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+        } else {
+            Platform.runLater(action);
+        }
+    }
+
+    /**
+     * Runs {@code commandText} with {@code commandExecutor} after every earlier command of {@code pageType}.
+     *
+     * @param onSuccess receives the result on the JavaFX application thread
+     * @param onFailure receives the reason the command failed or stopped, on the JavaFX application thread
+     * @return the running command, whose progress can be shown and which may be asked to stop
+     */
+    public CommandTask submit(PageType pageType, CommandBox.CommandExecutor commandExecutor,
+                                      String commandText, Consumer<CommandResult> onSuccess,
+                                      Consumer<Exception> onFailure) {
+        CommandTask task = new CommandTask(commandExecutor, commandText, onSuccess, onFailure);
+        getPageExecutor(pageType).execute(task);
+        return task;
+    }
+
+    /**
+     * Runs {@code reader} after every earlier command of {@code pageType}, so that it reads the page's model while
+     * no command is changing it, and hands what it read to {@code onResult} on the JavaFX application thread.
+     */
+    public <T> void read(PageType pageType, Supplier<T> reader, Consumer<T> onResult) {
+        getPageExecutor(pageType).execute(() -> {
+            T result = reader.get();
+            runOnFxThread(() -> onResult.accept(result));
+        });
+    }
+
+    private synchronized Executor getPageExecutor(PageType pageType) {
+        return pageExecutors.computeIfAbsent(pageType, unused -> new SerialExecutor(threads));
+    }
+
+    /**
+     * Returns an executor starting a virtual thread per command if the runtime supports it,
+     * or one reusing a pool of daemon threads otherwise.
+     */
+    private static Executor createThreads() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            logger.fine("Virtual threads are not available, using platform threads for commands");
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "command-worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * A command waiting to run or running on a worker thread.
+     */
+    public static class CommandTask extends Task<CommandResult> {
+        private final CommandBox.CommandExecutor commandExecutor;
+        private final String commandText;
+        private final Consumer<CommandResult> onSuccess;
+        private final Consumer<Exception> onFailure;
+        private final boolean isCancellable;
+        private volatile boolean isCancelRequested = false;
+
+        CommandTask(CommandBox.CommandExecutor commandExecutor, String commandText,
+                    Consumer<CommandResult> onSuccess, Consumer<Exception> onFailure) {
+            this.commandExecutor = commandExecutor;
+            this.commandText = commandText;
+            this.onSuccess = onSuccess;
+            this.onFailure = onFailure;
+            this.isCancellable = ScriptRunner.isRunCommand(commandText);
+        }
+
+        /**
+         * Returns true if the command stops when asked to, i.e. it is a script.
+         */
+        public boolean isCancellable() {
+            return isCancellable;
+        }
+
+        /**
+         * Asks the command to stop before running its next step. The command reports whether it stopped,
+         * as it may already be past its last step.
+         */
+        public void requestCancel() {
+            assert isCancellable : "Only scripts check whether they should stop";
+            isCancelRequested = true;
+        }
+
+        @Override
+        protected CommandResult call() throws Exception {
+            CommandProgress.setListener(this::updateProgress);
+            CommandProgress.setCancelRequest(() -> isCancelRequested);
+            try {
+                return commandExecutor.execute(commandText);
+            } finally {
+                CommandProgress.clearListener();
+                CommandProgress.clearCancelRequest();
+            }
+        }
+
+        @Override
+        protected void succeeded() {
+            onSuccess.accept(getValue());
+        }
+
+        @Override
+        protected void failed() {
+            Throwable cause = getException();
+            onFailure.accept(cause instanceof Exception ? (Exception) cause : new RuntimeException(cause));
+        }
+    }
+
+    /**
+     * Runs the tasks given to it one after another on {@code threads}.
+     */
+    private static class SerialExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private final Executor threads;
+        private Runnable active;
+
+        SerialExecutor(Executor threads) {
+            this.threads = threads;
+        }
+
+        @Override
+        public synchronized void execute(Runnable task) {
+            tasks.add(() -> {
+                try {
+                    task.run();
+                } finally {
+                    scheduleNext();
+                }
+            });
+            if (active == null) {
+                scheduleNext();
+            }
+        }
+
+        /**
+         * Starts the next waiting task, if any.
+         */
+        private synchronized void scheduleNext() {
+            active = tasks.poll();
+            if (active != null) {
+                threads.execute(active);
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+import seedu.address.logic.ChangeBatch;
+
+/**
+ * A copy of a model's {@code ObservableList} that is only ever changed on the JavaFX application thread.
+ * <br>
+ * Commands run on worker threads (see {@link CommandExecutionService}), so the lists they change cannot be
+ * shown by a {@code ListView} directly. Every change to the source list is recorded on the thread making it
+ * and replayed on the JavaFX application thread, where the copy can safely be observed.
+ * <br>
+ * While a {@link ChangeBatch} is open, such as while a script runs, changes are not recorded one by one. The whole
+ * source is copied once when the batch ends instead, so the copy changes only once.
+ * <br>
+ * The source only refers to this object weakly, so a page that is no longer cached stops receiving changes.
+ * The owner must keep a reference to this object for as long as the copy is shown.
+ */
+public class FxThreadList<T> {
+
+    private final ObservableList<T> items = FXCollections.observableArrayList();
+    private final ObservableList<T> unmodifiableItems = FXCollections.unmodifiableObservableList(items);
+    private final ListChangeListener<T> sourceListener = this::recordChange;
+    private final WeakListChangeListener<T> weakSourceListener = new WeakListChangeListener<>(sourceListener);
+    private final Queue<ListChange<T>> pendingChanges = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isReplayScheduled = new AtomicBoolean(false);
+
+    private ObservableList<T> source;
+
+    public FxThreadList(ObservableList<T> source) {
+        setSource(source);
+    }
+
+    /**
+     * Returns the copy, to be observed on the JavaFX application thread.
+     */
+    public ObservableList<T> getList() {
+        return unmodifiableItems;
+    }
+
+    /**
+     * Starts copying {@code newSource} instead of the current source.
+     * Must be called on the thread that changes the sources, so that no change is made while they are read.
+     */
+    public void setSource(ObservableList<T> newSource) {
+        requireNonNull(newSource);
+        if (source != null) {
+            source.removeListener(weakSourceListener);
+        }
+        source = newSource;
+        source.addListener(weakSourceListener);
+        enqueue(new ListChange<>(true, 0, 0, new ArrayList<>(newSource)));
+    }
+
+    /**
+     * Records every part of {@code change}, on the thread that changed the source.
+     */
+    private void recordChange(ListChangeListener.Change<? extends T> change) {
+        if (ChangeBatch.isOpen()) {
+            ChangeBatch.runAtEnd(this, () -> enqueue(new ListChange<>(true, 0, 0, new ArrayList<>(source))));
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                enqueue(new ListChange<>(true, 0, 0, new ArrayList<>(change.getList())));
+                return;
+            }
+            enqueue(new ListChange<>(false, change.getFrom(), change.getRemovedSize(),
+                    new ArrayList<>(change.getAddedSubList())));
+        }
+    }
+
+    /**
+     * Queues {@code listChange}, replaying it at once if this is the JavaFX application thread.
+     */
+    private void enqueue(ListChange<T> listChange) {
+        pendingChanges.add(listChange);
+        if (Platform.isFxApplicationThread()) {
+            replayChanges();
+        } else if (isReplayScheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::replayChanges);
+        }
+    }
+
+    /**
+     * Applies every queued change to the copy, skipping those made obsolete by a later full copy.
+     */
+    private void replayChanges() {
+        isReplayScheduled.set(false);
+        List<ListChange<T>> changes = new ArrayList<>();
+        ListChange<T> listChange;
+        while ((listChange = pendingChanges.poll()) != null) {
+            if (listChange.isFullCopy) {
+                changes.clear();
+            }
+            changes.add(listChange);
+        }
+        changes.forEach(change -> change.applyTo(items));
+    }
+
+    /**
+     * A single change of the source list, or the whole of it.
+     */
+    private static class ListChange<T> {
+        private final boolean isFullCopy;
+        private final int from;
+        private final int removedSize;
+        private final List<T> added;
+
+        ListChange(boolean isFullCopy, int from, int removedSize, List<T> added) {
+            this.isFullCopy = isFullCopy;
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = added;
+        }
+
+        /**
+         * Makes the same change to {@code items}.
+         */
+        void applyTo(ObservableList<T> items) {
+            if (isFullCopy) {
+                items.setAll(added);
+            } else if (removedSize == added.size()) {
+                for (int i = 0; i < removedSize; i++) {
+                    items.set(from + i, added.get(i));
+                }
+            } else {
+                items.remove(from, from + removedSize);
+                items.addAll(from, added);
+            }
+        }
+    }
+}
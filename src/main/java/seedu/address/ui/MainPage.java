@@ -15,6 +15,7 @@ import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import seedu.address.address.logic.AddressBookLogic;
+import seedu.address.commons.core.Lazy;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.MainLogic;
 import seedu.address.logic.commands.CommandResult;
@@ -37,9 +38,9 @@ public class MainPage extends UiPart<Region> implements Page {
     // Independent Ui parts residing in this Ui container
     private ResultDisplay resultDisplay;
 
-    private HelpWindow helpWindow;
+    private final Lazy<HelpWindow> helpWindow = new Lazy<>(HelpWindow::new);
 
-    private CodeWindow codeWindow;
+    private final Lazy<CodeWindow> codeWindow = new Lazy<>(CodeWindow::new);
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -63,8 +64,6 @@ public class MainPage extends UiPart<Region> implements Page {
         setAccelerators();
         fillInnerParts();
 
-        helpWindow = new HelpWindow();
-        codeWindow = new CodeWindow();
     }
 
     private void setAccelerators() {
@@ -127,10 +126,10 @@ public class MainPage extends UiPart<Region> implements Page {
      */
     @FXML
     public void handleCode() {
-        if (!codeWindow.isShowing()) {
-            codeWindow.show();
+        if (!codeWindow.get().isShowing()) {
+            codeWindow.get().show();
         } else {
-            codeWindow.focus();
+            codeWindow.get().focus();
         }
     }
 
@@ -139,17 +138,17 @@ public class MainPage extends UiPart<Region> implements Page {
      */
     @FXML
     public void handleHelp() {
-        if (!helpWindow.isShowing()) {
-            helpWindow.show();
+        if (!helpWindow.get().isShowing()) {
+            helpWindow.get().show();
         } else {
-            helpWindow.focus();
+            helpWindow.get().focus();
         }
     }
 
     @Override
     public void closeResources() {
-        helpWindow.hide();
-        codeWindow.hide();
+        helpWindow.ifCreated(HelpWindow::hide);
+        codeWindow.ifCreated(CodeWindow::hide);
     }
 
     /**
@@ -171,7 +170,7 @@ public class MainPage extends UiPart<Region> implements Page {
             CommandResult commandResult = mainLogic.execute(commandText);
             //check for right regex, if regex does not match, exception should be thrown
             assert commandText.matches("(\\s*)?+(goto+(\\s*).*$|help+(\\s*)?|exit+(\\s*)?)");
-            logger.info("Result: " + commandResult.getFeedbackToUser());
+            logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
             if (commandResult.isShowHelp()) {
@@ -184,7 +183,7 @@ public class MainPage extends UiPart<Region> implements Page {
             }
             return commandResult;
         } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
+            logger.info(() -> "Invalid command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
             throw e;
         }
@@ -18,8 +18,6 @@ import seedu.address.financialtracker.ui.FinancialTrackerPage;
 import seedu.address.itinerary.ui.ItineraryPage;
 import seedu.address.logic.Logic;
 
-//import seedu.address.address.ui.AddressBookPage;
-
 /**
  * The Main Window. Provides the basic application layout containing a menu bar
  * and space where other JavaFX elements can be placed.
@@ -33,14 +31,6 @@ public class MainWindow extends UiPart<Stage> {
     private Stage primaryStage;
     private Logic logic;
 
-    private FinancialTrackerPage financialTrackerPage;
-    private CalendarPage calendarPage;
-    private ItineraryPage itineraryPage;
-    private DiaryPage diaryPage;
-    private AchievementsPage achievementsPage;
-    private AddressBookPage addressBookPage;
-    private MainPage mainPage;
-
     @FXML
     private StackPane commandBoxPlaceholder;
 
@@ -69,19 +59,24 @@ public class MainWindow extends UiPart<Stage> {
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
 
-        calendarPage = new CalendarPage(logic.getCalendarLogic());
-        achievementsPage = new AchievementsPage(logic.getAchievementsLogic());
-        addressBookPage = new AddressBookPage(logic.getAddressBookLogic());
-        diaryPage = new DiaryPage(logic.getDiaryLogic());
-        financialTrackerPage = new FinancialTrackerPage(logic.getFinancialTrackerLogic());
-        itineraryPage = new ItineraryPage(logic.getItineraryLogic());
-        mainPage = new MainPage(logic.getMainLogic());
+        // pages are only created when they are first visited
+        PageManager.getInstance(primaryStage, commonScene, logic);
+        PageManager.registerPage(PageType.MAIN, this::createMainPage);
+        PageManager.registerPage(PageType.CALENDAR, () -> new CalendarPage(logic.getCalendarLogic()));
+        PageManager.registerPage(PageType.ITINERARY, () -> new ItineraryPage(logic.getItineraryLogic()));
+        PageManager.registerPage(PageType.FINANCIAL_TRACKER, () ->
+                new FinancialTrackerPage(logic.getFinancialTrackerLogic()));
+        PageManager.registerPage(PageType.DIARY, () -> new DiaryPage(logic.getDiaryLogic()));
+        PageManager.registerPage(PageType.ACHIEVEMENTS, () -> new AchievementsPage(logic.getAchievementsLogic()));
+        PageManager.registerPage(PageType.ADDRESS_BOOK, () -> new AddressBookPage(logic.getAddressBookLogic()));
+
+        PageManager.getPage(PageType.MAIN);
+    }
 
-        commonScene.setRoot(mainPage.getParent());
+    private MainPage createMainPage() {
+        MainPage mainPage = new MainPage(logic.getMainLogic());
         mainPage.setBackgroundImage();
-
-        PageManager.getInstance(primaryStage, commonScene, logic, calendarPage, itineraryPage,
-                financialTrackerPage, diaryPage, achievementsPage, addressBookPage, mainPage);
+        return mainPage;
     }
 
     public Stage getPrimaryStage() {
@@ -0,0 +1,77 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Creates pages the first time they are visited and keeps the most recently visited ones.
+ * When more than {@code capacity} pages have been created, the least recently visited page is closed and
+ * dropped. It is created again by its factory if it is visited later.
+ */
+class PageCache {
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Logger logger = LogsCenter.getLogger(PageCache.class);
+    private final Map<PageType, Supplier<? extends Page>> pageFactories = new EnumMap<>(PageType.class);
+    private final Map<PageType, Page> pages;
+
+    PageCache(int capacity) {
+        assert capacity > 0 : "At least the page being shown has to be kept";
+        this.pages = new LinkedHashMap<>(capacity + 1, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PageType, Page> eldest) {
+                if (size() <= capacity) {
+                    return false;
+                }
+                logger.fine(() -> "Dropping page " + eldest.getKey());
+                eldest.getValue().closeResources();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Registers {@code pageFactory} as the way to create the page of {@code pageType}.
+     */
+    void register(PageType pageType, Supplier<? extends Page> pageFactory) {
+        requireNonNull(pageType);
+        requireNonNull(pageFactory);
+        pageFactories.put(pageType, pageFactory);
+        pages.remove(pageType);
+    }
+
+    /**
+     * Returns the page of {@code pageType}, creating it if it is not cached.
+     * Returns an empty {@code Optional} if no factory is registered for {@code pageType}.
+     */
+    Optional<Page> get(PageType pageType) {
+        Page page = pages.get(pageType);
+        if (page != null) {
+            return Optional.of(page);
+        }
+
+        Supplier<? extends Page> pageFactory = pageFactories.get(pageType);
+        if (pageFactory == null) {
+            return Optional.empty();
+        }
+        logger.info(() -> "Creating page " + pageType);
+        page = pageFactory.get();
+        pages.put(pageType, page);
+        return Optional.of(page);
+    }
+
+    /**
+     * Returns true if the page of {@code pageType} has been created and not dropped since.
+     */
+    boolean isCached(PageType pageType) {
+        return pages.containsKey(pageType);
+    }
+}
@@ -1,9 +1,7 @@
 package seedu.address.ui;
 
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.Supplier;
 
 import javafx.animation.FadeTransition;
 import javafx.animation.PauseTransition;
@@ -18,47 +16,65 @@ import seedu.address.logic.Logic;
 /**
  * A singleton task that handles all UI for page navigation. It must be initialised using {@code getInstance} before
  * use.
+ * <br>
+ * Pages are registered as factories with {@code registerPage} and only created the first time they are visited.
+ * At most {@code MAX_CACHED_PAGES} pages are kept; the least recently visited page is dropped after that.
  */
 public class PageManager {
-    private static List<Page> pages;
+    public static final int MAX_CACHED_PAGES = 4;
+
+    private static PageCache pages;
+    private static Page currentPage;
     private static Scene commonScene;
     private static Stage primaryStage;
     private static Logic guiSettingsLogic;
     private static Optional<PageManager> pageManager = Optional.empty();
     // prevent multiple instances of pages
-    private PageManager(Stage primaryStage, Scene commonScene, Logic guiSettingsLogic, Page... pages) {
+    private PageManager(Stage primaryStage, Scene commonScene, Logic guiSettingsLogic) {
         this.primaryStage = primaryStage;
         this.commonScene = commonScene;
         this.guiSettingsLogic = guiSettingsLogic;
-        this.pages = Stream.of(pages)
-                .collect(Collectors.toList());
+        this.pages = new PageCache(MAX_CACHED_PAGES);
+        this.currentPage = null;
     }
 
-    public static PageManager getInstance(Stage primaryStage, Scene commonScene,
-                                          Logic guiSettingsLogic, Page... pages) {
-        pageManager = Optional.of(new PageManager(primaryStage, commonScene, guiSettingsLogic, pages));
+    public static PageManager getInstance(Stage primaryStage, Scene commonScene, Logic guiSettingsLogic) {
+        pageManager = Optional.of(new PageManager(primaryStage, commonScene, guiSettingsLogic));
         return pageManager.get();
     }
 
+    /**
+     * Registers {@code pageFactory} to create the page of {@code pageType} when it is first visited.
+     */
+    public static void registerPage(PageType pageType, Supplier<? extends Page> pageFactory) {
+        if (pageManager.isEmpty()) {
+            assert false : "Page manager has to be initialised before pages can be registered";
+        }
+        pages.register(pageType, pageFactory);
+    }
 
+    /**
+     * Shows the page of {@code pageType}, creating it if it has not been visited recently.
+     * Only the windows opened by the page being left are closed.
+     */
     public static void getPage(PageType pageType) {
         if (pageManager.isEmpty()) {
             assert false : "Page manager has to be initialised before other pages can be retrieved";
         }
-        pages.stream().forEach(p -> p.closeResources());
+        if (currentPage != null) {
+            currentPage.closeResources();
+        }
 
-        Optional<Parent> requestedPage = pages.stream()
-                .filter(p -> p.getPageType().equals(pageType))
-                .map(p -> p.getParent())
-                .findFirst();
+        Optional<Page> requestedPage = pages.get(pageType);
 
         if (requestedPage.isEmpty()) {
             assert false : "Every get page command should have a page class implemented for it";
         }
+        currentPage = requestedPage.get();
         //@@author bjhoohaha-reused
         //Credits to : Asfal, Genuine Coder
         //https://www.genuinecoder.com/javafx-scene-switch-change-animation/
-        Parent requestedRoot = requestedPage.get();
+        Parent requestedRoot = currentPage.getParent();
         //Fade out transition
         FadeTransition fadeOutTransition = new FadeTransition(Duration.millis(500), commonScene.getRoot());
         fadeOutTransition.setFromValue(1.0);
@@ -0,0 +1,77 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.ui.PageType;
+
+public class HeadlessAppTest {
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final HeadlessApp app = new HeadlessApp(new PrintStream(output), false);
+
+    @Test
+    public void isHeadless() {
+        assertTrue(HeadlessApp.isHeadless(new String[] {"--headless"}));
+        assertTrue(HeadlessApp.isHeadless(new String[] {"--config=config.json", "--headless", "script.txt"}));
+        assertFalse(HeadlessApp.isHeadless(new String[] {}));
+        assertFalse(HeadlessApp.isHeadless(new String[] {"headless"}));
+    }
+
+    @Test
+    public void run_mainPageCommands_writesFeedback() throws IOException {
+        int failed = app.run(new BufferedReader(new StringReader("help\n\nunknown\n")));
+        assertEquals(1, failed);
+        String[] lines = output.toString().split(System.lineSeparator());
+        assertEquals(HelpCommand.SHOWING_HELP_MESSAGE, lines[0]);
+        assertTrue(lines[1].startsWith(HeadlessApp.MESSAGE_ERROR));
+    }
+
+    @Test
+    public void run_exit_stopsReading() throws IOException {
+        assertEquals(0, app.run(new BufferedReader(new StringReader("exit\nunknown\n"))));
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator(), output.toString());
+    }
+
+    @Test
+    public void execute_gotoUnsupportedPage_staysOnCurrentPage() {
+        assertTrue(app.execute("goto achievements"));
+        assertEquals(PageType.MAIN, app.getCurrentPage());
+        assertEquals(HeadlessApp.MESSAGE_ERROR + String.format(HeadlessApp.MESSAGE_NOT_SUPPORTED,
+                PageType.ACHIEVEMENTS) + System.lineSeparator(), output.toString());
+    }
+
+    @Test
+    public void run_uncheckedExceptionInCommand_failsLineAndContinues() throws IOException {
+        app.setExecutor(PageType.MAIN, commandText -> {
+            if (commandText.equals("broken")) {
+                throw new NullPointerException();
+            }
+            return new CommandResult(commandText);
+        });
+        assertEquals(1, app.run(new BufferedReader(new StringReader("broken\nfine\n"))));
+        String[] lines = output.toString().split(System.lineSeparator());
+        assertEquals(HeadlessApp.MESSAGE_ERROR + String.format(HeadlessApp.MESSAGE_UNEXPECTED_ERROR,
+                new NullPointerException()), lines[0]);
+        assertEquals("fine", lines[1]);
+    }
+
+    @Test
+    public void execute_gotoInvalidPage_fails() {
+        assertTrue(app.execute("goto nowhere"));
+        assertEquals(PageType.MAIN, app.getCurrentPage());
+        assertTrue(output.toString().startsWith(HeadlessApp.MESSAGE_ERROR));
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.calendar.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.calendar.model.TestUtil.HOLIDAY_FIRST;
+import static seedu.address.calendar.model.TestUtil.HOLIDAY_SECOND;
+import static seedu.address.calendar.model.TestUtil.TRIP_OVERLAP_BEFORE;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.calendar.logic.commands.AddHolidayCommand;
+import seedu.address.calendar.logic.commands.DeleteHolidayCommand;
+import seedu.address.calendar.logic.commands.DeleteTripCommand;
+import seedu.address.calendar.model.Calendar;
+import seedu.address.calendar.model.event.Event;
+import seedu.address.logic.ScriptRunner;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+public class CalendarLogicTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void beginTransaction_scriptWithFailingLine_eventsRestored() throws Exception {
+        Calendar calendar = new Calendar();
+        calendar.addEvent(HOLIDAY_FIRST);
+        List<Event> events = calendar.getCalendar().getEventList();
+        Map<String, Command<Calendar>> commands = Map.of(
+                "add second", new AddHolidayCommand(HOLIDAY_SECOND),
+                "delete first", new DeleteHolidayCommand(HOLIDAY_FIRST),
+                "delete missing", new DeleteTripCommand(TRIP_OVERLAP_BEFORE));
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, List.of("add second", "delete first", "delete missing"));
+
+        assertThrows(CommandException.class, () -> ScriptRunner.run(ScriptRunner.COMMAND_WORD + " " + script,
+                calendar, commands::get, () -> CalendarLogic.beginTransaction(calendar)));
+        assertEquals(events, calendar.getCalendar().getEventList());
+    }
+}
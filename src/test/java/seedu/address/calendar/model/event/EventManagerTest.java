@@ -11,9 +11,11 @@ import seedu.address.calendar.model.date.Year;
 import seedu.address.calendar.model.event.exceptions.ClashException;
 import seedu.address.calendar.model.event.exceptions.DuplicateEventException;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -344,6 +346,27 @@ public class EventManagerTest {
         eventManager.add(tripNoIntersection);
     }
 
+    @Test
+    public void getTrips() {
+        EventManager eventManager = new EventManager();
+        eventManager.add(holidayThird);
+        eventManager.add(tripIntersectBetween);
+        eventManager.add(tripNoIntersection);
+        EventQuery may2069 = new EventQuery(Date.fromLocalDate(LocalDate.of(2069, 5, 1)),
+                Date.fromLocalDate(LocalDate.of(2069, 5, 31)));
+        EventQuery march2053 = new EventQuery(Date.fromLocalDate(LocalDate.of(2053, 3, 1)),
+                Date.fromLocalDate(LocalDate.of(2053, 3, 31)));
+
+        List<Event> expected = new ArrayList<>();
+        expected.add(tripIntersectBetween);
+        assertEquals(expected, eventManager.getTrips("intersect BETWEEN", may2069).collect(Collectors.toList()));
+        assertEquals(new ArrayList<>(), eventManager.getTrips("intersect between", march2053)
+                .collect(Collectors.toList()));
+        assertEquals(new ArrayList<>(), eventManager.getTrips(holidayThird.getNameStr(), may2069)
+                .collect(Collectors.toList()));
+        assertEquals(LocalDate.of(2069, 5, 14), tripIntersectBetween.getStart().toLocalDate());
+    }
+
     /**
      * Adds all events from {@code TestUtil} to the specified list.
      *
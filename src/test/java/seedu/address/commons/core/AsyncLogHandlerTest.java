@@ -0,0 +1,98 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void close_allRecordsWrittenInOrder() {
+        RecordingHandler target = new RecordingHandler(new CountDownLatch(0));
+        AsyncLogHandler handler = new AsyncLogHandler(16, Collections.singletonList(target));
+        for (int i = 0; i < 10; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.close();
+
+        assertEquals(10, target.records.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("message " + i, target.records.get(i).getMessage());
+        }
+        assertTrue(target.isClosed);
+    }
+
+    @Test
+    public void publish_belowLevel_notWritten() {
+        RecordingHandler target = new RecordingHandler(new CountDownLatch(0));
+        AsyncLogHandler handler = new AsyncLogHandler(16, Collections.singletonList(target));
+        handler.setLevel(Level.WARNING);
+        handler.publish(new LogRecord(Level.INFO, "ignored"));
+        handler.publish(new LogRecord(Level.SEVERE, "written"));
+        handler.close();
+
+        assertEquals(1, target.records.size());
+        assertEquals("written", target.records.get(0).getMessage());
+    }
+
+    @Test
+    public void publish_slowTarget_doesNotBlock() {
+        CountDownLatch slowDisk = new CountDownLatch(1);
+        RecordingHandler target = new RecordingHandler(slowDisk);
+        AsyncLogHandler handler = new AsyncLogHandler(4, Collections.singletonList(target));
+
+        // the writer thread is stuck on the first record it takes, so at most 4 more fit in the buffer
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        assertTrue(handler.getDroppedCount() >= 95);
+
+        slowDisk.countDown();
+        handler.close();
+        LogRecord lastRecord = target.records.get(target.records.size() - 1);
+        assertEquals(Level.WARNING, lastRecord.getLevel());
+        assertTrue(lastRecord.getMessage().contains("dropped"));
+        assertEquals(0, handler.getDroppedCount());
+    }
+
+    /**
+     * A handler that keeps every record given to it, waiting for {@code latch} before each one.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        private final CountDownLatch latch;
+        private boolean isClosed = false;
+
+        RecordingHandler(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.scene.chart.XYChart;
+
+public class MonthHistogramTest {
+
+    @Test
+    public void pack_unpack_sameMonth() {
+        int packed = MonthHistogram.pack(2019, 12);
+        assertEquals(2019, MonthHistogram.getYear(packed));
+        assertEquals(12, MonthHistogram.getMonth(packed));
+        assertEquals(MonthHistogram.pack(2020, 1), packed + 1);
+    }
+
+    @Test
+    public void counts_listChanges_keptUpToDate() {
+        // items are "yyyy-mm" strings
+        ObservableList<String> items = FXCollections.observableArrayList("2019-12", "2020-01", "2019-12");
+        FilteredList<String> filteredItems = new FilteredList<>(items);
+        MonthHistogram<String> histogram = new MonthHistogram<>(filteredItems, item -> MonthHistogram.pack(
+                Integer.parseInt(item.substring(0, 4)), Integer.parseInt(item.substring(5))));
+        assertEquals(Map.of(MonthHistogram.pack(2019, 12), 2, MonthHistogram.pack(2020, 1), 1),
+                histogram.getCounts());
+
+        items.add("2018-03");
+        items.remove("2020-01");
+        items.set(0, "2019-11");
+        assertEquals(List.of("03-2018", "11-2019", "12-2019"), labelsOf(histogram.toSeries()));
+        assertEquals(List.of(1, 1, 1), countsOf(histogram.toSeries()));
+
+        filteredItems.setPredicate(item -> item.startsWith("2019"));
+        assertEquals(List.of("11-2019", "12-2019"), labelsOf(histogram.toSeries()));
+        filteredItems.setPredicate(null);
+        assertEquals(1, histogram.getCount(MonthHistogram.pack(2018, 3)));
+        items.clear();
+        assertEquals(Map.of(), histogram.getCounts());
+    }
+
+    private static List<String> labelsOf(XYChart.Series<String, Number> series) {
+        return series.getData().stream().map(XYChart.Data::getXValue).collect(Collectors.toList());
+    }
+
+    private static List<Number> countsOf(XYChart.Series<String, Number> series) {
+        return series.getData().stream().map(XYChart.Data::getYValue).collect(Collectors.toList());
+    }
+}
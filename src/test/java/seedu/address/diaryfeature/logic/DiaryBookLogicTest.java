@@ -0,0 +1,50 @@
+package seedu.address.diaryfeature.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.diaryfeature.logic.parser.DiaryBookParser;
+import seedu.address.diaryfeature.model.DiaryModel;
+import seedu.address.diaryfeature.model.util.SampleDataUtil;
+import seedu.address.logic.ScriptRunner;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+public class DiaryBookLogicTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void beginTransaction_scriptWithFailingLine_entriesRestored() throws Exception {
+        DiaryModel model = new DiaryModel(SampleDataUtil.getSampleDiaryBook());
+        List<String> entries = describeEntries(model);
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, List.of("add t/Beach d/12/12/2019 1200 p/Bali m/Sunny", "private 1", "delete 2",
+                "delete 99"));
+
+        DiaryBookParser diaryBookParser = new DiaryBookParser();
+        ScriptRunner.ScriptParser<DiaryModel> parser = line -> DiaryBookLogic.parseScriptLine(diaryBookParser, line);
+        Supplier<ScriptRunner.Rollback> transaction = () -> DiaryBookLogic.beginTransaction(model);
+        assertThrows(CommandException.class, () -> ScriptRunner.run(ScriptRunner.COMMAND_WORD + " " + script, model,
+                parser, transaction));
+        assertEquals(entries, describeEntries(model));
+    }
+
+    /**
+     * Returns every entry of {@code model} and whether it is private, as private changes entries in place.
+     */
+    private static List<String> describeEntries(DiaryModel model) {
+        return model.getDiaryBook().getDiaryEntryList().stream()
+                .map(entry -> entry.getDateAsStringtoStore() + " " + entry.getTitle() + " " + entry.getPrivacy())
+                .collect(Collectors.toList());
+    }
+}
@@ -16,6 +16,10 @@ import seedu.address.diaryfeature.logic.parser.exceptions.DiaryEntryExceptions.D
 import seedu.address.diaryfeature.model.DiaryBook;
 import seedu.address.diaryfeature.model.DiaryModel;
 import seedu.address.diaryfeature.model.details.Details;
+import seedu.address.diaryfeature.model.details.MemoryCipher;
+import seedu.address.diaryfeature.model.details.Password;
+import seedu.address.diaryfeature.model.details.StoredDetails;
+import seedu.address.diaryfeature.model.details.Username;
 import seedu.address.diaryfeature.model.diaryEntry.DateFormatter;
 import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
 import seedu.address.diaryfeature.model.diaryEntry.Memory;
@@ -68,6 +72,17 @@ public class AddCommandTest {
         assertThrows(CommandException.class, () -> addCommand.execute(modelStub));
     }
 
+    @Test
+    public void execute_diaryLocked_throwsCommandException() {
+        DiaryBook diaryBook = new DiaryBook();
+        diaryBook.setDetails(new Details(new Username("username1"), new Password("password1")));
+        diaryBook.setMemoryCipher(new MemoryCipher(diaryBook.getMemoryCipher().get().getSalt()));
+        DiaryModel model = new DiaryModel(diaryBook);
+
+        assertThrows(CommandException.class, () -> new AddCommand(getSampleDiaryEntry()).execute(model));
+        assertEquals(0, model.getTotalDiaryEntries());
+    }
+
 
 
     /**
@@ -110,7 +125,7 @@ public class AddCommandTest {
         }
 
         @Override
-        public Optional<Details> getDetails() {
+        public Optional<StoredDetails> getDetails() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -138,7 +153,7 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
-        public void setinnerDetails(Optional<Details> input) {
+        public void setinnerDetails(Optional<StoredDetails> input) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -0,0 +1,78 @@
+package seedu.address.diaryfeature.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.diaryfeature.model.DiaryBook;
+import seedu.address.diaryfeature.model.DiaryModel;
+import seedu.address.diaryfeature.model.diaryEntry.DateFormatter;
+import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
+import seedu.address.diaryfeature.model.diaryEntry.Memory;
+import seedu.address.diaryfeature.model.diaryEntry.Place;
+import seedu.address.diaryfeature.model.diaryEntry.Title;
+import seedu.address.diaryfeature.storage.AttachmentDirectory;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+public class AttachCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Returns a model with one entry, which stores attachments in the test folder.
+     */
+    private DiaryModel model() throws Exception {
+        DiaryBook diaryBook = new DiaryBook();
+        diaryBook.addDiaryEntry(new DiaryEntry(new Title("Fuji"), DateFormatter.convertToDate("25/10/2019 1200"),
+                new Place("Japan"), new Memory("Sunrise at the summit")));
+        return new DiaryModel(diaryBook, () -> DiaryModel.NO_TRIPS,
+                new AttachmentDirectory(testFolder.resolve("diary.attachments")));
+    }
+
+    @Test
+    public void equals() {
+        AttachCommand command = new AttachCommand(Index.fromOneBased(1), Paths.get("fuji.jpg"));
+        assertTrue(command.equals(new AttachCommand(Index.fromOneBased(1), Paths.get("fuji.jpg"))));
+        assertFalse(command.equals(new AttachCommand(Index.fromOneBased(2), Paths.get("fuji.jpg"))));
+        assertFalse(command.equals(new AttachCommand(Index.fromOneBased(1), Paths.get("other.jpg"))));
+        assertFalse(command.equals(null));
+    }
+
+    @Test
+    public void execute_attachedTwice_attachedOnce() throws Exception {
+        DiaryModel model = model();
+        Path photo = Files.write(testFolder.resolve("fuji.jpg"), new byte[] {1, 2, 3});
+
+        assertEquals(String.format(AttachCommand.MESSAGE_ATTACH_SUCCESS, "fuji.jpg"),
+                new AttachCommand(Index.fromOneBased(1), photo).execute(model).getFeedbackToUser());
+        assertEquals(String.format(AttachCommand.MESSAGE_ALREADY_ATTACHED, "fuji.jpg"),
+                new AttachCommand(Index.fromOneBased(1), photo).execute(model).getFeedbackToUser());
+        DiaryEntry entry = model.getFilteredDiaryEntryList().get(0);
+        assertEquals(1, entry.getAttachments().size());
+        assertEquals("fuji.jpg", entry.getAttachments().get(0).getFileName());
+
+        new ExportCommand(Index.fromOneBased(1), testFolder.resolve("export")).execute(model);
+        assertEquals(3, Files.size(testFolder.resolve("export").resolve("fuji.jpg")));
+    }
+
+    @Test
+    public void execute_missingFileOrIndex_throwsCommandException() throws Exception {
+        DiaryModel model = model();
+        assertThrows(CommandException.class, () -> new AttachCommand(Index.fromOneBased(1),
+                testFolder.resolve("missing.jpg")).execute(model));
+        assertThrows(CommandException.class, () -> new AttachCommand(Index.fromOneBased(2),
+                testFolder.resolve("missing.jpg")).execute(model));
+        assertThrows(CommandException.class, () -> new ExportCommand(Index.fromOneBased(1),
+                testFolder.resolve("export")).execute(model));
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.diaryfeature.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.calendar.model.Calendar;
+import seedu.address.calendar.model.date.Date;
+import seedu.address.calendar.model.event.Event;
+import seedu.address.calendar.model.event.Name;
+import seedu.address.calendar.model.event.Trip;
+import seedu.address.diaryfeature.model.DiaryBook;
+import seedu.address.diaryfeature.model.DiaryModel;
+import seedu.address.diaryfeature.model.diaryEntry.DateFormatter;
+import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
+import seedu.address.diaryfeature.model.diaryEntry.Memory;
+import seedu.address.diaryfeature.model.diaryEntry.Place;
+import seedu.address.diaryfeature.model.diaryEntry.Title;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+public class TimelineCommandTest {
+
+    private static DiaryEntry entry(String title, String date) throws Exception {
+        return new DiaryEntry(new Title(title), DateFormatter.convertToDate(date), new Place("Place"),
+                new Memory("Memory"));
+    }
+
+    private static Trip trip(String name, LocalDate start, LocalDate end) {
+        return new Trip(new Name(name), Date.fromLocalDate(start), Date.fromLocalDate(end));
+    }
+
+    @Test
+    public void equals() throws Exception {
+        TimelineCommand tripCommand = new TimelineCommand("Japan");
+        TimelineCommand rangeCommand = new TimelineCommand(DateFormatter.convertToDate("01/12/2019 0000"),
+                DateFormatter.convertToDate("31/12/2019 2359"));
+
+        assertTrue(tripCommand.equals(new TimelineCommand("Japan")));
+        assertTrue(rangeCommand.equals(new TimelineCommand(DateFormatter.convertToDate("01/12/2019 0000"),
+                DateFormatter.convertToDate("31/12/2019 2359"))));
+        assertFalse(tripCommand.equals(new TimelineCommand("Korea")));
+        assertFalse(tripCommand.equals(rangeCommand));
+        assertFalse(tripCommand.equals(null));
+    }
+
+    @Test
+    public void execute_range_listedEarliestFirst() throws Exception {
+        DiaryBook diaryBook = new DiaryBook();
+        DiaryEntry late = entry("Late", "20/12/2019 1800");
+        DiaryEntry early = entry("Early", "02/12/2019 0900");
+        DiaryEntry outside = entry("Outside", "01/01/2020 0000");
+        DiaryEntry edge = entry("Edge", "31/12/2019 2359");
+        diaryBook.addDiaryEntry(late);
+        diaryBook.addDiaryEntry(outside);
+        diaryBook.addDiaryEntry(early);
+        diaryBook.addDiaryEntry(edge);
+        DiaryModel model = new DiaryModel(diaryBook);
+
+        new TimelineCommand(DateFormatter.convertToDate("01/12/2019 0000"),
+                DateFormatter.convertToDate("31/12/2019 2359")).execute(model);
+        assertEquals(List.of(early, late, edge), model.getFilteredDiaryEntryList());
+
+        diaryBook.deleteDiaryEntry(late);
+        assertEquals(List.of(early, edge), model.getDiaryEntriesBetween(
+                DateFormatter.convertToDate("01/12/2019 0000"), DateFormatter.convertToDate("31/12/2019 2359")));
+    }
+
+    @Test
+    public void execute_trip_entriesDuringTripsListedOnce() throws Exception {
+        DiaryBook diaryBook = new DiaryBook();
+        DiaryEntry before = entry("Before", "30/11/2019 2359");
+        DiaryEntry firstDay = entry("First day", "01/12/2019 0000");
+        DiaryEntry between = entry("Between", "08/12/2019 1200");
+        DiaryEntry lastDay = entry("Last day", "10/12/2019 2359");
+        DiaryEntry laterTrip = entry("Later trip", "25/12/2019 1000");
+        diaryBook.addDiaryEntry(laterTrip);
+        diaryBook.addDiaryEntry(lastDay);
+        diaryBook.addDiaryEntry(between);
+        diaryBook.addDiaryEntry(before);
+        diaryBook.addDiaryEntry(firstDay);
+        List<Event> trips = new ArrayList<>();
+        trips.add(trip("Japan", LocalDate.of(2019, 12, 24), LocalDate.of(2019, 12, 26)));
+        trips.add(trip("Japan", LocalDate.of(2019, 12, 5), LocalDate.of(2019, 12, 10)));
+        trips.add(trip("Japan", LocalDate.of(2019, 12, 1), LocalDate.of(2019, 12, 6)));
+        List<String> asked = new ArrayList<>();
+        DiaryModel model = new DiaryModel(diaryBook, () -> (name, startDate, endDate) -> {
+            asked.add(name + " " + startDate + " " + endDate);
+            return name.equals("Japan") ? trips : List.of();
+        });
+
+        new TimelineCommand("Japan").execute(model);
+        assertEquals(List.of(firstDay, between, lastDay, laterTrip), model.getFilteredDiaryEntryList());
+        assertEquals(List.of("Japan 2019-11-30 2019-12-25"), asked);
+
+        assertThrows(CommandException.class, () -> new TimelineCommand("Korea").execute(model));
+    }
+
+    @Test
+    public void execute_tripWithEntriesOutsideCalendarYears_searchesCalendarYears() throws Exception {
+        DiaryBook diaryBook = new DiaryBook();
+        DiaryEntry during = entry("During", "02/12/2019 1200");
+        diaryBook.addDiaryEntry(entry("Too early", "01/06/1975 1200"));
+        diaryBook.addDiaryEntry(during);
+        diaryBook.addDiaryEntry(entry("Too late", "01/06/2250 1200"));
+        Calendar calendar = new Calendar();
+        calendar.addEvent(trip("Japan", LocalDate.of(2019, 12, 1), LocalDate.of(2019, 12, 6)));
+        DiaryModel model = new DiaryModel(diaryBook, calendar::getTripFinder);
+
+        new TimelineCommand("Japan").execute(model);
+        assertEquals(List.of(during), model.getFilteredDiaryEntryList());
+
+        DiaryBook oldDiaryBook = new DiaryBook();
+        oldDiaryBook.addDiaryEntry(entry("Too early", "01/06/1975 1200"));
+        DiaryModel oldModel = new DiaryModel(oldDiaryBook, calendar::getTripFinder);
+        assertThrows(CommandException.class, () -> new TimelineCommand("Japan").execute(oldModel));
+    }
+}
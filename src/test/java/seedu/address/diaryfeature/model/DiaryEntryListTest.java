@@ -2,11 +2,17 @@ package seedu.address.diaryfeature.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.diaryfeature.logic.parser.exceptions.DiaryEntryExceptions.DateParseException;
 import seedu.address.diaryfeature.model.diaryEntry.DateFormatter;
 import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
@@ -83,6 +89,76 @@ public class DiaryEntryListTest {
         assertFalse(test.getPrivacy());
 
     }
+
+    @Test
+    public void test_diaryEntryList_copy_keeps_id() {
+        DiaryEntry test = getSampleDiaryEntry();
+        assertEquals(test.getId(), test.copy().getId());
+        assertNotEquals(test.getId(), getSampleDiaryEntry().getId());
+    }
+
+    @Test
+    public void test_diaryEntryList_delete_after_middle_delete() throws Exception {
+        DiaryEntryList tester = new DiaryEntryList();
+        DiaryEntry first = getSampleDiaryEntry();
+        DiaryEntry second = new DiaryEntry(new Title("Second"), DateFormatter.convertToDate(DATE_SAMPLE_AS_STRING),
+                new Place(PLACE_SAMPLE), new Memory(MEMORY_SAMPLE));
+        DiaryEntry third = new DiaryEntry(new Title("Third"), DateFormatter.convertToDate(DATE_SAMPLE_AS_STRING),
+                new Place(PLACE_SAMPLE), new Memory(MEMORY_SAMPLE));
+        tester.addDiaryEntry(first);
+        tester.addDiaryEntry(second);
+        tester.addDiaryEntry(third);
+        tester.deleteDiaryEntry(second.copy());
+        assertFalse(tester.contains(second));
+        tester.setDiaryEntryPrivate(third);
+        assertTrue(tester.asUnmodifiableObservableList().get(1).getPrivacy());
+        tester.deleteDiaryEntry(third);
+        assertEquals(List.of(first), tester.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void test_diaryEntryList_several_deletes_then_later_entry() throws Exception {
+        DiaryEntryList tester = new DiaryEntryList();
+        List<DiaryEntry> added = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            DiaryEntry entry = new DiaryEntry(new Title("Entry " + i),
+                    DateFormatter.convertToDate(DATE_SAMPLE_AS_STRING), new Place(PLACE_SAMPLE),
+                    new Memory(MEMORY_SAMPLE));
+            added.add(entry);
+            tester.addDiaryEntry(entry);
+        }
+        tester.deleteDiaryEntry(added.get(2));
+        tester.deleteDiaryEntry(added.get(0));
+        tester.deleteDiaryEntry(added.get(1).copy());
+        tester.setDiaryEntryPrivate(added.get(4));
+        assertTrue(tester.asUnmodifiableObservableList().get(1).getPrivacy());
+        assertNull(tester.deleteDiaryEntry(added.get(0)));
+        tester.deleteDiaryEntry(added.get(3));
+        assertEquals(List.of(added.get(4)), tester.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void test_diaryEntryList_contains_ignores_title_case() throws Exception {
+        DiaryEntryList tester = new DiaryEntryList();
+        tester.addDiaryEntry(getSampleDiaryEntry());
+        assertTrue(tester.contains(new DiaryEntry(new Title(TITLE_SAMPLE.toUpperCase()),
+                DateFormatter.convertToDate(DATE_SAMPLE_AS_STRING), new Place(PLACE_SAMPLE), new Memory("Other"))));
+    }
+
+    @Test
+    public void test_diaryEntryList_private_replaces_one_entry() {
+        DiaryEntryList tester = new DiaryEntryList();
+        DiaryEntry test = getSampleDiaryEntry();
+        tester.addDiaryEntry(test);
+        List<String> changes = new ArrayList<>();
+        tester.asUnmodifiableObservableList().addListener((ListChangeListener<DiaryEntry>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + ":" + change.wasReplaced());
+            }
+        });
+        tester.setDiaryEntryPrivate(test);
+        assertEquals(List.of("0:true"), changes);
+    }
 }
 
 
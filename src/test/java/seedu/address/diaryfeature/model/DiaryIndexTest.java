@@ -0,0 +1,104 @@
+package seedu.address.diaryfeature.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.diaryfeature.logic.predicates.DiaryParametersEnum;
+import seedu.address.diaryfeature.logic.predicates.FindPredicate;
+import seedu.address.diaryfeature.logic.predicates.FindSpecificPredicate;
+import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
+import seedu.address.diaryfeature.model.diaryEntry.Memory;
+import seedu.address.diaryfeature.model.diaryEntry.Place;
+import seedu.address.diaryfeature.model.diaryEntry.Title;
+import seedu.address.diaryfeature.model.util.SampleDataUtil;
+
+public class DiaryIndexTest {
+
+    @Test
+    public void find_sameEntriesAsPredicates() {
+        DiaryEntryList entries = new DiaryEntryList();
+        entries.loadData(SampleDataUtil.getSampleDiaryEntry());
+        for (String query : List.of("lola", "OWGIRL", "a, b", "temp 2", "/12/2019 14", "/", "2019", "aruba!", "x")) {
+            assertEquals(filter(entries, new FindPredicate(query)), entries.findDiaryEntries(query), query);
+            for (DiaryParametersEnum field : DiaryParametersEnum.values()) {
+                assertEquals(filter(entries, new FindSpecificPredicate(new String[]{field.name(), query})),
+                        entries.findDiaryEntries(field, query), field + " " + query);
+            }
+        }
+    }
+
+    @Test
+    public void find_afterChanges_keptUpToDate() {
+        DiaryEntryList entries = new DiaryEntryList();
+        entries.loadData(SampleDataUtil.getSampleDiaryEntry());
+        DiaryEntry kokomo = entries.asUnmodifiableObservableList().get(1);
+
+        entries.setDiaryEntryPrivate(kokomo);
+        assertTrue(entries.findDiaryEntries(DiaryParametersEnum.MEMORY, "bahama").isEmpty());
+        assertEquals(Set.of(kokomo), entries.findDiaryEntries(DiaryParametersEnum.MEMORY, "***"));
+        entries.setDiaryEntryUnPrivate(kokomo);
+        assertEquals(Set.of(kokomo), entries.findDiaryEntries("bahama"));
+
+        entries.deleteDiaryEntry(kokomo.copy());
+        assertTrue(entries.findDiaryEntries("bahama").isEmpty());
+        assertEquals(1, entries.findDiaryEntries("temp").size());
+
+        entries.setDiaryEntries(List.of(kokomo));
+        assertEquals(Set.of(kokomo), entries.findDiaryEntries("temp"));
+    }
+
+    @Test
+    public void search_typosTolerated() {
+        DiaryIndex index = new DiaryIndex();
+        DiaryEntry kyoto = entry("Temples", "Kyoto", "Golden pavilion at sunset");
+        DiaryEntry osaka = entry("Street food", "Osaka", "Takoyaki by the canal");
+        index.add(kyoto);
+        index.add(osaka);
+
+        assertEquals(List.of(kyoto), index.search("Kyotto", 10));
+        assertEquals(List.of(kyoto), index.search("templs", 10));
+        assertEquals(List.of(osaka), index.search("takoyakii cannal", 10));
+        // short words have to match exactly
+        assertTrue(index.search("fod", 10).isEmpty());
+        assertEquals(1, DiaryIndex.countEdits("kyoto", "kyotto", 2));
+        assertEquals(3, DiaryIndex.countEdits("kyoto", "osaka", 2));
+    }
+
+    @Test
+    public void search_rankedAndLimited() {
+        DiaryIndex index = new DiaryIndex();
+        DiaryEntry inMemory = entry("Day out", "Harbour", "We took a boat to the island and a boat back");
+        DiaryEntry inTitle = entry("Boat trip", "Harbour", "Windy but fun");
+        DiaryEntry inBoth = entry("Boat trip", "Bay", "The boat was late");
+        index.add(inMemory);
+        index.add(inTitle);
+        index.add(inBoth);
+        index.add(entry("Museum", "Old town", "Paintings"));
+
+        assertEquals(List.of(inBoth, inTitle, inMemory), index.search("boat", 10));
+        assertEquals(List.of(inBoth, inTitle), index.search("boat", 2));
+
+        index.remove(inBoth);
+        assertEquals(List.of(inTitle, inMemory), index.search("BOAT", 10));
+        index.remove(inTitle);
+        index.remove(inMemory);
+        assertTrue(index.search("boat", 10).isEmpty());
+        assertTrue(index.search("boats", 10).isEmpty());
+    }
+
+    private static DiaryEntry entry(String title, String place, String memory) {
+        return new DiaryEntry(new Title(title), LocalDateTime.now(), new Place(place), new Memory(memory));
+    }
+
+    private static Set<DiaryEntry> filter(DiaryEntryList entries, Predicate<DiaryEntry> predicate) {
+        return entries.asUnmodifiableObservableList().stream().filter(predicate).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.diaryfeature.model.details;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class MemoryCipherTest {
+    private static final Password PASSWORD = new Password("password123");
+
+    @Test
+    public void decrypt_sameKey_givesMemoryBack() {
+        MemoryCipher cipher = MemoryCipher.withNewSalt(PASSWORD);
+        String encrypted = cipher.encrypt("Sunrise at Mount Fuji");
+        assertNotEquals("Sunrise at Mount Fuji", encrypted);
+        // every memory has its own IV
+        assertNotEquals(encrypted, cipher.encrypt("Sunrise at Mount Fuji"));
+
+        MemoryCipher sameKey = new MemoryCipher(new Password("password123"), cipher.getSalt());
+        assertEquals("Sunrise at Mount Fuji", sameKey.decrypt(encrypted));
+    }
+
+    @Test
+    public void decrypt_locked_throwsIllegalStateExceptionUntilUnlocked() {
+        MemoryCipher cipher = MemoryCipher.withNewSalt(PASSWORD);
+        String encrypted = cipher.encrypt("Sunrise at Mount Fuji");
+
+        MemoryCipher locked = new MemoryCipher(cipher.getSalt());
+        assertTrue(locked.isLocked());
+        assertThrows(IllegalStateException.class, () -> locked.decrypt(encrypted));
+        assertThrows(IllegalStateException.class, () -> locked.encrypt("Sunrise at Mount Fuji"));
+
+        locked.unlock(new Password("password123"));
+        assertFalse(locked.isLocked());
+        assertEquals("Sunrise at Mount Fuji", locked.decrypt(encrypted));
+    }
+
+    @Test
+    public void decrypt_otherKeyOrChanged_throwsIllegalArgumentException() {
+        MemoryCipher cipher = MemoryCipher.withNewSalt(PASSWORD);
+        String encrypted = cipher.encrypt("Sunrise at Mount Fuji");
+
+        MemoryCipher otherSalt = MemoryCipher.withNewSalt(PASSWORD);
+        assertThrows(IllegalArgumentException.class, () -> otherSalt.decrypt(encrypted));
+        MemoryCipher otherPassword = new MemoryCipher(new Password("password456"), cipher.getSalt());
+        assertThrows(IllegalArgumentException.class, () -> otherPassword.decrypt(encrypted));
+
+        char[] changed = encrypted.toCharArray();
+        changed[changed.length / 2] = changed[changed.length / 2] == 'A' ? 'B' : 'A';
+        assertThrows(IllegalArgumentException.class, () -> cipher.decrypt(new String(changed)));
+        assertThrows(IllegalArgumentException.class, () -> cipher.decrypt("short"));
+    }
+}
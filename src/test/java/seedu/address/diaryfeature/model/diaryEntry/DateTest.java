@@ -1,7 +1,10 @@
 package seedu.address.diaryfeature.model.diaryEntry;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.time.LocalDateTime;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.diaryfeature.logic.parser.exceptions.DiaryEntryExceptions.DateParseException;
@@ -21,7 +24,18 @@ public class DateTest {
         assertThrows(DateParseException.class, () -> DateFormatter.convertToDate("1200 12/12/2019"));/// wrong format
     }
 
+    @Test
+    public void convertToDate_nonexistentDate_throwsDateParseException() {
+        assertThrows(DateParseException.class, () -> DateFormatter.convertToDate("31/02/2019 1200"));
+        assertThrows(DateParseException.class, () -> DateFormatter.convertToDate("12/13/2019 1200"));
+        assertThrows(DateParseException.class, () -> DateFormatter.convertToDate("12/12/2019 2460"));
+    }
 
-
-
+    @Test
+    public void convertToStringStore_parsedDate_roundTrips() throws Exception {
+        LocalDateTime date = DateFormatter.convertToDate("1/2/2019 0930");
+        assertEquals(LocalDateTime.of(2019, 2, 1, 9, 30), date);
+        assertEquals("01/02/2019 0930", DateFormatter.convertToStringStore(date));
+        assertEquals(date, DateFormatter.convertToDate(DateFormatter.convertToStringStore(date)));
+    }
 }
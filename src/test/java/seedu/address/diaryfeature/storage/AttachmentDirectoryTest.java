@@ -0,0 +1,68 @@
+package seedu.address.diaryfeature.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.diaryfeature.model.diaryEntry.Attachment;
+
+public class AttachmentDirectoryTest {
+    // SHA-256 of "fuji"
+    private static final String FUJI_HASH = "5304029bf0a8d4d05b490c375c481ac60c419647d5fc28d8fe2b620a5b6b2a3f";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void store_sameContent_storedOnce() throws Exception {
+        AttachmentDirectory directory = new AttachmentDirectory(testFolder.resolve("diary.attachments"));
+        Path photo = Files.write(testFolder.resolve("fuji.jpg"), new byte[] {1, 2, 3});
+        Path copy = Files.write(testFolder.resolve("copy.jpg"), new byte[] {1, 2, 3});
+        Path other = Files.write(testFolder.resolve("other.jpg"), new byte[] {3, 2, 1});
+
+        Attachment stored = directory.store(photo);
+        Attachment storedCopy = directory.store(copy);
+        assertEquals("fuji.jpg", stored.getFileName());
+        assertEquals(stored.getHash(), storedCopy.getHash());
+        assertNotEquals(stored.getHash(), directory.store(other).getHash());
+        assertArrayEquals(new byte[] {1, 2, 3}, Files.readAllBytes(directory.getPath(stored)));
+        try (Stream<Path> files = Files.walk(directory.getDirectory())) {
+            assertEquals(2, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    public void store_hashedWithSha256() throws Exception {
+        AttachmentDirectory directory = new AttachmentDirectory(testFolder.resolve("diary.attachments"));
+        Attachment stored = directory.store(Files.writeString(testFolder.resolve("fuji.txt"), "fuji"));
+        assertEquals(FUJI_HASH, stored.getHash());
+        assertEquals(directory.getDirectory().resolve("53").resolve(FUJI_HASH), directory.getPath(stored));
+    }
+
+    @Test
+    public void store_missingFile_throwsNoSuchFileException() {
+        AttachmentDirectory directory = new AttachmentDirectory(testFolder.resolve("diary.attachments"));
+        assertThrows(NoSuchFileException.class, () -> directory.store(testFolder.resolve("missing.jpg")));
+    }
+
+    @Test
+    public void export_copiesUnderFileName_neverOverwrites() throws Exception {
+        AttachmentDirectory directory = new AttachmentDirectory(testFolder.resolve("diary.attachments"));
+        Attachment stored = directory.store(Files.write(testFolder.resolve("fuji.jpg"), new byte[] {1, 2, 3}));
+
+        Path exported = directory.export(stored, testFolder.resolve("export"));
+        assertEquals(testFolder.resolve("export").resolve("fuji.jpg"), exported);
+        assertArrayEquals(new byte[] {1, 2, 3}, Files.readAllBytes(exported));
+        assertThrows(FileAlreadyExistsException.class, () -> directory.export(stored, testFolder.resolve("export")));
+    }
+}
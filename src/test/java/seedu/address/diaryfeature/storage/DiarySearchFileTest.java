@@ -0,0 +1,96 @@
+package seedu.address.diaryfeature.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.diaryfeature.model.MemoryPostings;
+import seedu.address.diaryfeature.model.details.MemoryCipher;
+import seedu.address.diaryfeature.model.details.Password;
+import seedu.address.diaryfeature.model.diaryEntry.MemoryBody;
+
+public class DiarySearchFileTest {
+    private static final byte[] JSON_HASH = DiarySearchFile.hash(new byte[] {1});
+    private static final MemoryCipher CIPHER = MemoryCipher.withNewSalt(new Password("password123"));
+
+    @TempDir
+    public Path testFolder;
+
+    private final MemoryBody lola = () -> "lola";
+    private final MemoryBody aruba = () -> "aruba";
+
+    @Test
+    public void read_written_postingsOfLiveMemories() throws Exception {
+        DiarySearchFile searchFile = new DiarySearchFile(testFolder.resolve("diary.1.search"));
+        searchFile.write(JSON_HASH, memories(0, "Her name was Lola, Lola", 300, "Aruba, Bahama"),
+                Optional.of(CIPHER));
+
+        MemoryPostings postings = searchFile.read(JSON_HASH, Optional.of(CIPHER), Map.of(0L, lola, 300L, aruba))
+                .get();
+        assertEquals(5, postings.getWordCount(lola));
+        assertEquals(2, postings.getWordCount(aruba));
+        assertEquals(-1, postings.getWordCount(() -> "other"));
+        assertTrue(postings.getWords().contains("bahama"));
+        assertEquals(Map.of(lola, 2), postings.getPostings("lola"));
+        assertEquals(Map.of(), postings.getPostings("copacabana"));
+        // the words are encrypted
+        assertFalse(Files.readString(searchFile.getFilePath(), StandardCharsets.ISO_8859_1)
+                .contains("bahama"));
+    }
+
+    @Test
+    public void read_otherJsonFileOrCipher_empty() throws Exception {
+        DiarySearchFile searchFile = new DiarySearchFile(testFolder.resolve("diary.1.search"));
+        searchFile.write(JSON_HASH, memories(0, "Her name was Lola", 300, "Aruba"), Optional.of(CIPHER));
+
+        Map<Long, MemoryBody> liveBodies = Map.of(0L, lola, 300L, aruba);
+        assertFalse(searchFile.read(DiarySearchFile.hash(new byte[] {2}), Optional.of(CIPHER), liveBodies)
+                .isPresent());
+        assertFalse(searchFile.read(JSON_HASH, Optional.of(MemoryCipher.withNewSalt(new Password("password123"))),
+                liveBodies).isPresent());
+        assertFalse(searchFile.read(JSON_HASH, Optional.empty(), liveBodies).isPresent());
+        assertFalse(new DiarySearchFile(testFolder.resolve("missing.search")).read(JSON_HASH, Optional.empty(),
+                liveBodies).isPresent());
+    }
+
+    @Test
+    public void append_tooManySegments_mergedWithoutDeletedMemories() throws Exception {
+        DiarySearchFile searchFile = new DiarySearchFile(testFolder.resolve("diary.1.search"));
+        searchFile.write(JSON_HASH, memories(0, "Her name was Lola", 300, "Aruba"), Optional.empty());
+        long segmentSize = Files.size(searchFile.getFilePath());
+        for (int i = 1; i <= DiarySearchFile.MAX_SEGMENTS; i++) {
+            searchFile.append(JSON_HASH, memories(300 + i, "Bahama " + i, 600 + i, "Bahama"), Optional.empty());
+            searchFile.mergeIfFragmented(Set.of(0L, 300L + i), Optional.empty());
+        }
+
+        // the last append made more than MAX_SEGMENTS segments, which were merged into one
+        assertTrue(Files.size(searchFile.getFilePath()) < segmentSize * DiarySearchFile.MAX_SEGMENTS);
+        MemoryBody last = () -> "last";
+        MemoryPostings postings = searchFile.read(JSON_HASH, Optional.empty(), Map.of(0L, lola,
+                300L + DiarySearchFile.MAX_SEGMENTS, last, 300L, aruba)).get();
+        assertEquals(Map.of(last, 1), postings.getPostings("bahama"));
+        assertEquals(Map.of(), postings.getPostings("aruba"));
+        assertEquals(4, postings.getWordCount(lola));
+    }
+
+    /**
+     * Returns two memories keyed by their offsets.
+     */
+    private static TreeMap<Long, String> memories(long firstOffset, String first, long secondOffset, String second) {
+        TreeMap<Long, String> memories = new TreeMap<>();
+        memories.put(firstOffset, first);
+        memories.put(secondOffset, second);
+        return memories;
+    }
+}
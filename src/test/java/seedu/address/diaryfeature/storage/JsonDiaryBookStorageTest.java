@@ -0,0 +1,245 @@
+package seedu.address.diaryfeature.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.diaryfeature.logic.parser.Encryptor;
+import seedu.address.diaryfeature.model.DiaryBook;
+import seedu.address.diaryfeature.model.details.Details;
+import seedu.address.diaryfeature.model.details.Password;
+import seedu.address.diaryfeature.model.details.Username;
+import seedu.address.diaryfeature.model.diaryEntry.Attachment;
+import seedu.address.diaryfeature.model.diaryEntry.DateFormatter;
+import seedu.address.diaryfeature.model.diaryEntry.DiaryEntry;
+import seedu.address.diaryfeature.model.diaryEntry.Memory;
+import seedu.address.diaryfeature.model.diaryEntry.Place;
+import seedu.address.diaryfeature.model.diaryEntry.Title;
+import seedu.address.diaryfeature.model.util.SampleDataUtil;
+
+public class JsonDiaryBookStorageTest {
+    private static final Details DETAILS = new Details(new Username(Encryptor.encrypt("username1")),
+            new Password(Encryptor.encrypt("password1")));
+
+    @TempDir
+    public Path testFolder;
+
+    @AfterEach
+    public void awaitSearchFiles() throws Exception {
+        JsonDiaryBookStorage.awaitSearchFiles();
+    }
+
+    @Test
+    public void saveAndRead_withDetails_memoriesEncrypted() throws Exception {
+        Path filePath = testFolder.resolve("diary.json");
+        JsonDiaryBookStorage storage = new JsonDiaryBookStorage(filePath);
+        DiaryBook original = new DiaryBook().loadData(SampleDataUtil.getSampleDiaryEntry());
+        original.setDetails(DETAILS);
+        original.setDiaryEntryPrivate(original.getDiaryEntryList().get(0));
+        storage.saveDiaryBook(original);
+
+        String saved = Files.readString(filePath);
+        String savedBodies = Files.readString(testFolder.resolve("diary.1.bodies"));
+        assertFalse(saved.contains("Aruba"));
+        assertFalse(saved.contains(DETAILS.getPassword().toString()));
+        assertFalse(savedBodies.contains(Encryptor.encrypt("Her name was Lola")));
+        assertFalse(savedBodies.contains("Aruba"));
+
+        // the memories stay encrypted until the diary is unlocked
+        DiaryBook read = storage.readDiaryBook().get();
+        assertEquals(original.getDiaryEntryList(), read.getDiaryEntryList());
+        DiaryEntry lola = read.getDiaryEntryList().get(0);
+        DiaryEntry aruba = read.getDiaryEntryList().get(1);
+        assertTrue(read.isLocked());
+        assertTrue(aruba.getMemory().isLocked());
+        assertFalse(aruba.getMemory().toString().contains("Aruba"));
+        assertEquals(0, read.findDiaryEntries("bahama").size());
+
+        // saving while locked keeps the memories as they were encrypted
+        storage.saveDiaryBook(read);
+        assertEquals(saved, Files.readString(filePath));
+        assertEquals(savedBodies, Files.readString(testFolder.resolve("diary.1.bodies")));
+
+        assertFalse(read.unlock(new Details(DETAILS.getUserName(), new Password(Encryptor.encrypt("password2")))));
+        assertTrue(read.isLocked());
+        assertTrue(read.unlock(DETAILS));
+        assertFalse(read.isLocked());
+        assertTrue(lola.getMemory().isStored());
+        assertEquals("*****", lola.getMemory().toString());
+        assertEquals("Her name was Lola, she was a showgirl", lola.getMemory().toSave());
+        assertEquals(1, read.findDiaryEntries("bahama").size());
+
+        storage.saveDiaryBook(read);
+        assertEquals(saved, Files.readString(filePath));
+        assertEquals(savedBodies, Files.readString(testFolder.resolve("diary.1.bodies")));
+    }
+
+    @Test
+    public void saveAndRead_withoutDetails_memoriesReadable() throws Exception {
+        Path filePath = testFolder.resolve("diary.json");
+        JsonDiaryBookStorage storage = new JsonDiaryBookStorage(filePath);
+        DiaryBook original = new DiaryBook().loadData(SampleDataUtil.getSampleDiaryEntry());
+        storage.saveDiaryBook(original);
+
+        DiaryBook read = storage.readDiaryBook().get();
+        assertEquals(original.getDiaryEntryList(), read.getDiaryEntryList());
+        assertTrue(read.getDiaryEntryList().get(1).getMemory().isStored());
+        assertEquals("Aruba, Bahama, come on pretty mama", read.getDiaryEntryList().get(1).getMemory().toString());
+    }
+
+    @Test
+    public void save_entryAdded_appendsOnlyItsMemory() throws Exception {
+        Path filePath = testFolder.resolve("diary.json");
+        Path bodyFilePath = testFolder.resolve("diary.1.bodies");
+        JsonDiaryBookStorage storage = new JsonDiaryBookStorage(filePath);
+        storage.saveDiaryBook(new DiaryBook().loadData(SampleDataUtil.getSampleDiaryEntry()));
+        byte[] savedBodies = Files.readAllBytes(bodyFilePath);
+
+        DiaryBook read = storage.readDiaryBook().get();
+        read.addDiaryEntry(entry("Fuji", "Sunrise at the summit"));
+        storage.saveDiaryBook(read);
+
+        byte[] appended = Encryptor.encrypt("Sunrise at the summit").getBytes(StandardCharsets.UTF_8);
+        byte[] bodies = Files.readAllBytes(bodyFilePath);
+        assertEquals(savedBodies.length + appended.length, bodies.length);
+        assertArrayEquals(savedBodies, Arrays.copyOf(bodies, savedBodies.length));
+        assertEquals("Sunrise at the summit", storage.readDiaryBook().get().getDiaryEntryList().get(2)
+                .getMemory().toString());
+    }
+
+    @Test
+    public void save_mostMemoriesDeleted_movesMemoriesToNewBodyFile() throws Exception {
+        Path filePath = testFolder.resolve("diary.json");
+        JsonDiaryBookStorage storage = new JsonDiaryBookStorage(filePath);
+        DiaryBook diaryBook = new DiaryBook();
+        String memory = "A".repeat(Memory.MEMORY_MAX_LENGTH);
+        int entryCount = (int) (JsonDiaryBookStorage.COMPACTION_MINIMUM_SIZE / memory.length()) + 1;
+        for (int i = 0; i < entryCount; i++) {
+            diaryBook.addDiaryEntry(entry("Entry " + i, memory));
+        }
+        storage.saveDiaryBook(diaryBook);
+        diaryBook = storage.readDiaryBook().get();
+
+        DiaryEntry kept = diaryBook.getDiaryEntryList().get(0);
+        for (DiaryEntry entry : List.copyOf(diaryBook.getDiaryEntryList())) {
+            if (entry != kept) {
+                diaryBook.deleteDiaryEntry(entry);
+            }
+        }
+        storage.saveDiaryBook(diaryBook);
+
+        assertFalse(Files.exists(testFolder.resolve("diary.1.bodies")));
+        assertEquals(Encryptor.encrypt(memory).getBytes(StandardCharsets.UTF_8).length,
+                Files.size(testFolder.resolve("diary.2.bodies")));
+        // the memory kept is read from the new body file
+        assertEquals(memory, kept.getMemory().toString());
+        assertEquals(memory, storage.readDiaryBook().get().getDiaryEntryList().get(0).getMemory().toString());
+    }
+
+    @Test
+    public void read_memoriesInJsonFile_readable() throws Exception {
+        Path filePath = testFolder.resolve("diary.json");
+        JsonUtil.saveJsonFile(new JsonSerializableDiaryBook(List.of(new JsonAdaptedDiaryEntry("Temp",
+                "25/10/2019 1200", "Copacabana", Encryptor.encrypt("Her name was Lola"), null, null, null,
+                "false", null)), new JsonAdaptedDetails(Optional.empty()), null, null), filePath);
+
+        JsonDiaryBookStorage storage = new JsonDiaryBookStorage(filePath);
+        DiaryBook read = storage.readDiaryBook().get();
+        assertEquals("Her name was Lola", read.getDiaryEntryList().get(0).getMemory().toString());
+
+        storage.saveDiaryBook(read);
+        assertFalse(Files.readString(filePath).contains("\"memory\""));
+        assertEquals("Her name was Lola", storage.readDiaryBook().get().getDiaryEntryList().get(0)
+                .getMemory().toString());
+    }
+
+    @Test
+    public void read_olderDiaryWithPassword_passwordNotSavedAgain() throws Exception {
+        Path filePath = testFolder.resolve("diary.json");
+        JsonUtil.saveJsonFile(new JsonSerializableDiaryBook(List.of(new JsonAdaptedDiaryEntry("Temp",
+                "25/10/2019 1200", "Copacabana", Encryptor.encrypt("Her name was Lola"), null, null, null,
+                "false", null)), new JsonAdaptedDetails(DETAILS.getUserName().toString(),
+                DETAILS.getPassword().toString(), null, null), null, null), filePath);
+
+        JsonDiaryBookStorage storage = new JsonDiaryBookStorage(filePath);
+        DiaryBook read = storage.readDiaryBook().get();
+        assertFalse(read.isLocked());
+        assertEquals("Her name was Lola", read.getDiaryEntryList().get(0).getMemory().toString());
+
+        storage.saveDiaryBook(read);
+        assertFalse(Files.readString(filePath).contains(DETAILS.getPassword().toString()));
+        DiaryBook readAgain = storage.readDiaryBook().get();
+        assertTrue(readAgain.isLocked());
+        assertTrue(readAgain.unlock(DETAILS));
+        assertEquals("Her name was Lola", readAgain.getDiaryEntryList().get(0).getMemory().toString());
+    }
+
+    @Test
+    public void read_searchFileSaved_memoriesSearchedWithoutReadingThem() throws Exception {
+        Path filePath = testFolder.resolve("diary.json");
+        JsonDiaryBookStorage storage = new JsonDiaryBookStorage(filePath);
+        DiaryBook original = new DiaryBook().loadData(SampleDataUtil.getSampleDiaryEntry());
+        original.setDetails(DETAILS);
+        storage.saveDiaryBook(original);
+        DiaryBook read = storage.readDiaryBook().get();
+        read.unlock(DETAILS);
+        read.addDiaryEntry(entry("Fuji", "Sunrise at the summit"));
+        storage.saveDiaryBook(read);
+        JsonDiaryBookStorage.awaitSearchFiles();
+        assertTrue(Files.exists(testFolder.resolve("diary.1.search")));
+
+        // the words of the encrypted memories are read from the search file once the diary is unlocked
+        DiaryBook searched = storage.readDiaryBook().get();
+        Files.delete(testFolder.resolve("diary.1.bodies"));
+        searched.unlock(DETAILS);
+        assertEquals(List.of(searched.getDiaryEntryList().get(1)), searched.searchDiaryEntries("bahama", 5));
+        assertEquals(List.of(searched.getDiaryEntryList().get(2)), searched.searchDiaryEntries("summit", 5));
+    }
+
+    @Test
+    public void read_jsonFileChangedAfterSearchFile_memoriesRead() throws Exception {
+        Path filePath = testFolder.resolve("diary.json");
+        JsonDiaryBookStorage storage = new JsonDiaryBookStorage(filePath);
+        storage.saveDiaryBook(new DiaryBook().loadData(SampleDataUtil.getSampleDiaryEntry()));
+        JsonDiaryBookStorage.awaitSearchFiles();
+        Files.writeString(filePath, Files.readString(filePath) + "\n");
+
+        DiaryBook read = storage.readDiaryBook().get();
+        Files.delete(testFolder.resolve("diary.1.bodies"));
+        assertEquals(List.of(), read.searchDiaryEntries("bahama", 5));
+    }
+
+    @Test
+    public void saveAndRead_attachments_keptByHash() throws Exception {
+        Path filePath = testFolder.resolve("diary.json");
+        JsonDiaryBookStorage storage = new JsonDiaryBookStorage(filePath);
+        DiaryBook diaryBook = new DiaryBook().loadData(SampleDataUtil.getSampleDiaryEntry());
+        Attachment photo = storage.getAttachmentDirectory().store(Files.write(testFolder.resolve("fuji.jpg"),
+                new byte[] {1, 2, 3}));
+        diaryBook.addAttachment(diaryBook.getDiaryEntryList().get(1), photo);
+        storage.saveDiaryBook(diaryBook);
+
+        DiaryBook read = storage.readDiaryBook().get();
+        assertEquals(List.of(), read.getDiaryEntryList().get(0).getAttachments());
+        assertEquals(List.of(photo), read.getDiaryEntryList().get(1).getAttachments());
+        assertEquals(testFolder.resolve("diary.attachments"), storage.getAttachmentDirectory().getDirectory());
+    }
+
+    private static DiaryEntry entry(String title, String memory) throws Exception {
+        return new DiaryEntry(new Title(title), DateFormatter.convertToDate("25/10/2019 1200"), new Place("Japan"),
+                new Memory(memory));
+    }
+}
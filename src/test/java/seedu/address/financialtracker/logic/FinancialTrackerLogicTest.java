@@ -0,0 +1,61 @@
+package seedu.address.financialtracker.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.financialtracker.logic.parser.FinancialTrackerParser;
+import seedu.address.financialtracker.model.Budget;
+import seedu.address.financialtracker.model.Model;
+import seedu.address.financialtracker.model.expense.Amount;
+import seedu.address.financialtracker.model.expense.Currency;
+import seedu.address.financialtracker.model.expense.Expense;
+import seedu.address.financialtracker.model.util.SampleDataUtil;
+import seedu.address.logic.ScriptRunner;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+public class FinancialTrackerLogicTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void beginTransaction_scriptWithFailingLine_expensesAndCountryRestored() throws Exception {
+        Model model = new Model(SampleDataUtil.getSampleData());
+        String country = model.getCountry();
+        List<Expense> expenses = new ArrayList<>(model.getExpenseList());
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, List.of("add a/4 d/breakfast t/Food date/27102016 time/1720", "delete 1",
+                "switch Japan", "delete 99"));
+
+        assertThrows(CommandException.class, () -> ScriptRunner.run(ScriptRunner.COMMAND_WORD + " " + script, model,
+                new FinancialTrackerParser()::parseCommand, () -> FinancialTrackerLogic.beginTransaction(model)));
+        assertEquals(country, model.getCountry());
+        assertEquals(expenses, model.getExpenseList());
+    }
+
+    @Test
+    public void beginTransaction_scriptWithFailingLine_undoHistoryAndBudgetAlertsKept() throws Exception {
+        Model model = new Model(SampleDataUtil.getSampleData());
+        FinancialTrackerParser parser = new FinancialTrackerParser();
+        List<Expense> expenses = new ArrayList<>(model.getExpenseList());
+        parser.parseCommand("add a/4 d/breakfast t/Food date/27102016 time/1720").execute(model);
+        model.setBudget(new Budget(model.getCountry(), null, new Amount("1"), new Currency("SGD")));
+        assertEquals(1, model.takeBudgetAlerts().size());
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, List.of("add a/5 d/lunch t/Food date/27102016 time/1230", "delete 99"));
+
+        assertThrows(CommandException.class, () -> ScriptRunner.run(ScriptRunner.COMMAND_WORD + " " + script, model,
+                parser::parseCommand, () -> FinancialTrackerLogic.beginTransaction(model)));
+        assertEquals(List.of(), model.takeBudgetAlerts());
+        model.undo();
+        assertEquals(expenses, model.getExpenseList());
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.financialtracker.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.financialtracker.model.Model;
+import seedu.address.financialtracker.model.expense.Amount;
+import seedu.address.financialtracker.model.expense.Country;
+import seedu.address.financialtracker.model.expense.Date;
+import seedu.address.financialtracker.model.expense.Description;
+import seedu.address.financialtracker.model.expense.Expense;
+import seedu.address.financialtracker.model.expense.Time;
+import seedu.address.financialtracker.model.expense.Type;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+class RedoCommandTest {
+
+    @Test
+    void execute_withoutModel() {
+        assertThrows(NullPointerException.class, () -> new RedoCommand().execute(null));
+    }
+
+    @Test
+    void execute_withModel() throws CommandException {
+        Model model = new Model();
+        Expense ep = new Expense(new Date("27102016"), new Time("1720"), new Amount("4"), new Description("breakfast"),
+                new Type("Food"), new Country("Singapore"));
+
+        // add an action, nothing to redo
+        new AddFinCommand(ep).execute(model);
+        assertThrows(CommandException.class, () -> new RedoCommand().execute(model));
+
+        // undo then redo once
+        new UndoCommand().execute(model);
+        new RedoCommand().execute(model);
+        assertEquals(1, model.getExpenseList().size());
+        //second redo throws exception
+        assertThrows(CommandException.class, () -> new RedoCommand().execute(model));
+    }
+
+}
@@ -17,8 +17,8 @@ class SummaryCommandTest {
     void execute_withModel() {
         Model model = new Model();
 
-        // should not have a window to initialize
-        assertThrows(ExceptionInInitializerError.class, () -> new SummaryCommand().execute(model));
+        // should not have a JavaFX toolkit to show the window with
+        assertThrows(IllegalStateException.class, () -> new SummaryCommand().execute(model));
     }
 
 }
@@ -3,17 +3,28 @@ package seedu.address.financialtracker.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.financialtracker.logic.commands.AddFinCommand;
+import seedu.address.financialtracker.logic.commands.BudgetCommand;
+import seedu.address.financialtracker.logic.commands.CurrencyCommand;
 import seedu.address.financialtracker.logic.commands.DeleteFinCommand;
+import seedu.address.financialtracker.logic.commands.ImportCommand;
+import seedu.address.financialtracker.logic.commands.RangeCommand;
+import seedu.address.financialtracker.logic.commands.StatsCommand;
 import seedu.address.financialtracker.model.expense.Amount;
+import seedu.address.financialtracker.model.expense.Currency;
 import seedu.address.financialtracker.model.expense.Date;
 import seedu.address.financialtracker.model.expense.Description;
 import seedu.address.financialtracker.model.expense.Expense;
 import seedu.address.financialtracker.model.expense.Time;
 import seedu.address.financialtracker.model.expense.Type;
+import seedu.address.financialtracker.storage.CsvExpenseReader;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 class FinancialTrackerParserTest {
@@ -33,5 +44,49 @@ class FinancialTrackerParserTest {
         String userInput2 = "delete 1";
         assertEquals(new DeleteFinCommand(Index.fromOneBased(1)),
                 new FinancialTrackerParser().parseCommand(userInput2));
+
+        Expense ep2 = new Expense(new Date("27102016"), new Time("1720"), new Amount("4"), new Description("breakfast"),
+                new Type("FOOD"), null, new Currency("USD"));
+        String userInput3 = "add a/4 d/breakfast t/Food date/27102016 time/1720 cur/usd";
+        assertEquals(new AddFinCommand(ep2), new FinancialTrackerParser().parseCommand(userInput3));
+
+        assertEquals(new CurrencyCommand(new Currency("JPY")),
+                new FinancialTrackerParser().parseCommand("currency JPY"));
+        assertThrows(ParseException.class, () -> new FinancialTrackerParser().parseCommand("currency"));
+        assertThrows(ParseException.class, () -> new FinancialTrackerParser().parseCommand("currency ABC"));
+
+        assertEquals(new RangeCommand(new Date("03032020"), new Date("17032020"), Optional.of("Japan")),
+                new FinancialTrackerParser().parseCommand("range from/03032020 to/17032020 country/japan"));
+        assertEquals(new RangeCommand(new Date("03032020"), new Date("03032020"), Optional.empty()),
+                new FinancialTrackerParser().parseCommand("range from/03032020 to/03032020"));
+        assertThrows(ParseException.class, () ->
+                new FinancialTrackerParser().parseCommand("range from/17032020 to/03032020"));
+        assertThrows(ParseException.class, () ->
+                new FinancialTrackerParser().parseCommand("range from/03032020 to/17032020 country/Atlantis"));
+
+        assertEquals(new BudgetCommand(), new FinancialTrackerParser().parseCommand("budget"));
+        assertEquals(new BudgetCommand(new Amount("500"), Optional.of("FOOD"), Optional.of("Japan"),
+                Optional.of(new Currency("JPY"))),
+                new FinancialTrackerParser().parseCommand("budget a/500 t/food country/japan cur/jpy"));
+        assertEquals(new BudgetCommand(new Amount("0"), Optional.empty(), Optional.empty(), Optional.empty()),
+                new FinancialTrackerParser().parseCommand("budget a/0"));
+        assertThrows(ParseException.class, () -> new FinancialTrackerParser().parseCommand("budget t/food"));
+
+        assertEquals(new StatsCommand(0, Integer.MAX_VALUE), new FinancialTrackerParser().parseCommand("stats"));
+        assertEquals(new StatsCommand(20200303, Integer.MAX_VALUE),
+                new FinancialTrackerParser().parseCommand("stats from/03032020"));
+        assertThrows(ParseException.class, () ->
+                new FinancialTrackerParser().parseCommand("stats from/17032020 to/03032020"));
+
+        assertEquals(new ImportCommand(Paths.get("data", "statement.csv"), Map.of(
+                CsvExpenseReader.Field.DATE, "Transaction Date", CsvExpenseReader.Field.AMOUNT, "4"),
+                CsvExpenseReader.SpendingSign.NEGATIVE),
+                new FinancialTrackerParser().parseCommand(
+                        "import data/statement.csv date/Transaction Date a/4 spent/-"));
+        assertEquals(new ImportCommand(Paths.get("statement.csv"), Map.of(), CsvExpenseReader.SpendingSign.POSITIVE),
+                new FinancialTrackerParser().parseCommand("import statement.csv"));
+        assertThrows(ParseException.class, () ->
+                new FinancialTrackerParser().parseCommand("import statement.csv spent/negative"));
+        assertThrows(ParseException.class, () -> new FinancialTrackerParser().parseCommand("import a/4"));
     }
 }
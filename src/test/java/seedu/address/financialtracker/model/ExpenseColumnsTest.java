@@ -0,0 +1,82 @@
+package seedu.address.financialtracker.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongUnaryOperator;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.financialtracker.model.expense.Amount;
+import seedu.address.financialtracker.model.expense.Currency;
+import seedu.address.financialtracker.model.expense.Date;
+import seedu.address.financialtracker.model.expense.Description;
+import seedu.address.financialtracker.model.expense.Expense;
+import seedu.address.financialtracker.model.expense.Time;
+import seedu.address.financialtracker.model.expense.Type;
+
+class ExpenseColumnsTest {
+
+    private static Expense expense(String date, String amount, String type, String currency) {
+        return new Expense(new Date(date), new Time("1200"), new Amount(amount), new Description("item"),
+                new Type(type), null, new Currency(currency));
+    }
+
+    @Test
+    void remove_fillsRowWithLastRow() {
+        ExpenseColumns columns = new ExpenseColumns();
+        Expense lunch = expense("01032020", "4", "Food", "SGD");
+        Expense taxi = expense("02032020", "12", "Transport", "SGD");
+        Expense ramen = expense("03032020", "800", "Food", "JPY");
+        columns.add("Singapore", lunch);
+        columns.add("Singapore", taxi);
+        columns.add("Japan", ramen);
+
+        columns.remove(lunch);
+        columns.remove(ramen);
+        assertEquals(1, columns.size());
+        assertEquals(Map.of("TRANSPORT", Map.of("SGD", 1200L)),
+                columns.sumBy(ExpenseColumns.Dimension.TYPE, 0, Integer.MAX_VALUE));
+        columns.add("Japan", ramen);
+        assertEquals(Map.of("Singapore", Map.of("SGD", 1200L), "Japan", Map.of("JPY", 80000L)),
+                columns.sumBy(ExpenseColumns.Dimension.COUNTRY, 0, Integer.MAX_VALUE));
+        assertEquals(Map.of("Japan", Map.of("JPY", 80000L)),
+                columns.sumBy(ExpenseColumns.Dimension.COUNTRY, 20200303, 20200303));
+    }
+
+    @Test
+    void sumBy_parallel_sameAsSequential() {
+        ExpenseColumns columns = new ExpenseColumns();
+        int count = ExpenseColumns.PARALLEL_THRESHOLD * 2 + 1;
+        String[] types = {"Food", "Transport", "Shopping"};
+        long[] expectedCents = new long[types.length];
+        for (int i = 0; i < count; i++) {
+            columns.add(i % 2 == 0 ? "Singapore" : "Japan",
+                    expense("0" + (i % 9 + 1) + "012020", String.valueOf(i % 100), types[i % 3], "SGD"));
+            expectedCents[i % 3] += i % 100 * 100L;
+        }
+        assertEquals(Map.of("FOOD", Map.of("SGD", expectedCents[0]), "TRANSPORT", Map.of("SGD", expectedCents[1]),
+                "SHOPPING", Map.of("SGD", expectedCents[2])),
+                columns.sumBy(ExpenseColumns.Dimension.TYPE, 0, Integer.MAX_VALUE));
+
+        long[] amounts = columns.getSortedAmounts(0, Integer.MAX_VALUE, currency -> Optional.of(cents -> cents));
+        assertEquals(count, amounts.length);
+        assertEquals(0, amounts[0]);
+        assertEquals(9900, amounts[count - 1]);
+    }
+
+    @Test
+    void getSortedAmounts_leavesOutUnconvertibleCurrencies() {
+        ExpenseColumns columns = new ExpenseColumns();
+        columns.add("Singapore", expense("01032020", "4", "Food", "SGD"));
+        columns.add("Singapore", expense("02032020", "12", "Transport", "SGD"));
+        columns.add("Japan", expense("03032020", "800", "Food", "JPY"));
+        columns.add("Thailand", expense("04032020", "100", "Food", "THB"));
+        LongUnaryOperator jpyToSgd = cents -> cents / 80;
+        assertArrayEquals(new long[] {400, 1000, 1200}, columns.getSortedAmounts(0, Integer.MAX_VALUE,
+            currency -> currency.equals("SGD") ? Optional.of(cents -> cents)
+                    : currency.equals("JPY") ? Optional.of(jpyToSgd) : Optional.empty()));
+    }
+}
@@ -1,10 +1,17 @@
 package seedu.address.financialtracker.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.financialtracker.model.expense.Amount;
 import seedu.address.financialtracker.model.expense.Country;
 import seedu.address.financialtracker.model.expense.Date;
@@ -50,4 +57,135 @@ class ExpenseListTest {
         assertTrue(expenses.contains(ep2));
         assertFalse(expenses.contains(ep3));
     }
+
+    @Test
+    void undoRedo_everyKindOfChange() throws CommandException {
+        ExpenseList expenses = new ExpenseList("Singapore");
+        Expense breakfast = new Expense(new Date("27102016"), new Time("1720"), new Amount("4"),
+                new Description("breakfast"), new Type("Food"), new Country("Singapore"));
+        Expense taxi = new Expense(new Date("28102016"), new Time("0900"), new Amount("12"),
+                new Description("taxi"), new Type("Transport"), new Country("Singapore"));
+        Expense lunch = new Expense(new Date("27102016"), new Time("1200"), new Amount("8"),
+                new Description("lunch"), new Type("Food"), new Country("Singapore"));
+        expenses.addExpense(breakfast, true);
+        expenses.addExpense(taxi, true);
+        expenses.setExpense(expenses.asUnmodifiableObservableList().indexOf(breakfast), breakfast, lunch);
+        expenses.deleteExpense(1);
+        expenses.clearExpenseList();
+        assertTrue(expenses.isEmpty());
+
+        expenses.undo(); // clear
+        assertEquals(List.of(lunch), expenses.asUnmodifiableObservableList());
+        expenses.undo(); // delete
+        expenses.undo(); // edit
+        assertEquals(List.of(taxi, breakfast), expenses.asUnmodifiableObservableList());
+        assertEquals(1600, expenses.getSummary());
+
+        expenses.redo(); // edit
+        assertEquals(List.of(taxi, lunch), expenses.asUnmodifiableObservableList());
+        expenses.redo(); // delete
+        expenses.redo(); // clear
+        assertTrue(expenses.isEmpty());
+        assertThrows(CommandException.class, expenses::redo);
+    }
+
+    @Test
+    void redo_afterNewChange_throwsCommandException() throws CommandException {
+        ExpenseList expenses = new ExpenseList("Singapore");
+        expenses.addExpense(new Expense(new Date("27102016"), new Time("1720"), new Amount("4"),
+                new Description("breakfast"), new Type("Food")), true);
+        expenses.undo();
+        expenses.addExpense(new Expense(new Date("28102016"), new Time("1720"), new Amount("4"),
+                new Description("dinner"), new Type("Food")), true);
+        assertThrows(CommandException.class, expenses::redo);
+    }
+
+    @Test
+    void addExpense_keepsLatestFirst() throws CommandException {
+        ExpenseList expenses = new ExpenseList("Singapore");
+        Expense breakfast = createExpense("27102016", "0800", "4");
+        Expense taxi = createExpense("28102016", "0900", "12");
+        Expense lunch = createExpense("27102016", "1200", "8");
+        expenses.addExpense(breakfast, true);
+        expenses.addExpense(taxi, true);
+        expenses.addExpense(lunch, true);
+        assertEquals(List.of(taxi, lunch, breakfast), expenses.asUnmodifiableObservableList());
+
+        expenses.setComparator("AMOUNT");
+        assertEquals(List.of(taxi, lunch, breakfast), expenses.asUnmodifiableObservableList());
+        Expense snack = createExpense("29102016", "1500", "6");
+        expenses.addExpense(snack, true);
+        assertEquals(List.of(taxi, lunch, snack, breakfast), expenses.asUnmodifiableObservableList());
+    }
+
+    @Test
+    void setExpense_movesEditedExpense() throws CommandException {
+        ExpenseList expenses = new ExpenseList("Singapore");
+        Expense breakfast = createExpense("27102016", "0800", "4");
+        Expense taxi = createExpense("28102016", "0900", "12");
+        expenses.addExpense(breakfast, true);
+        expenses.addExpense(taxi, true);
+        Expense lateBreakfast = createExpense("30102016", "0800", "4");
+        expenses.setExpense(1, breakfast, lateBreakfast);
+        assertEquals(List.of(lateBreakfast, taxi), expenses.asUnmodifiableObservableList());
+    }
+
+    @Test
+    void changes_notifyOnlyAffectedExpenses() throws CommandException {
+        ExpenseList expenses = new ExpenseList("Singapore");
+        Expense breakfast = createExpense("27102016", "0800", "4");
+        Expense taxi = createExpense("28102016", "0900", "12");
+        expenses.addExpense(breakfast, true);
+        expenses.addExpense(taxi, true);
+        List<String> changes = new ArrayList<>();
+        expenses.asUnmodifiableObservableList().addListener((ListChangeListener<Expense>) change -> {
+            while (change.next()) {
+                changes.add(change.wasPermutated() ? "permutated"
+                        : change.getFrom() + " -" + change.getRemovedSize() + " +" + change.getAddedSize());
+            }
+        });
+
+        expenses.addExpense(createExpense("27102016", "1200", "8"), true);
+        assertEquals(List.of("1 -0 +1"), changes);
+        changes.clear();
+        expenses.deleteExpense(3);
+        assertEquals(List.of("2 -1 +0"), changes);
+        changes.clear();
+        expenses.setComparator("AMOUNT");
+        assertEquals(List.of("permutated"), changes);
+    }
+
+    @Test
+    void undo_beyondLimit_throwsCommandException() throws CommandException {
+        ExpenseList expenses = new ExpenseList("Singapore", 2);
+        for (int i = 1; i <= 3; i++) {
+            expenses.addExpense(new Expense(new Date("27102016"), new Time("1720"), new Amount(String.valueOf(i)),
+                    new Description("snack"), new Type("Food")), true);
+        }
+        expenses.undo();
+        expenses.undo();
+        assertThrows(CommandException.class, expenses::undo);
+        assertEquals(1, expenses.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    void addExpenses_sortedTogetherAndUndoneTogether() throws CommandException {
+        ExpenseList expenses = new ExpenseList("Singapore");
+        Expense middle = createExpense("02012020", "1200", "2");
+        expenses.addExpense(middle, true);
+        Expense earliest = createExpense("01012020", "1200", "1");
+        Expense latest = createExpense("03012020", "1200", "3");
+        expenses.addExpenses(List.of(earliest, latest));
+        assertEquals(List.of(latest, middle, earliest), expenses.asUnmodifiableObservableList());
+        assertEquals(600, expenses.getSummary());
+
+        expenses.undo();
+        assertEquals(List.of(middle), expenses.asUnmodifiableObservableList());
+        assertEquals(200, expenses.getSummary());
+    }
+
+    private static Expense createExpense(String date, String time, String amount) {
+        return new Expense(new Date(date), new Time(time), new Amount(amount), new Description("snack"),
+                new Type("Food"));
+    }
 }
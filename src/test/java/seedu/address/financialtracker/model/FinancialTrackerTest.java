@@ -1,13 +1,30 @@
 package seedu.address.financialtracker.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
+import seedu.address.financialtracker.model.expense.Amount;
+import seedu.address.financialtracker.model.expense.Country;
+import seedu.address.financialtracker.model.expense.Currency;
+import seedu.address.financialtracker.model.expense.Date;
+import seedu.address.financialtracker.model.expense.Description;
+import seedu.address.financialtracker.model.expense.Expense;
+import seedu.address.financialtracker.model.expense.Time;
+import seedu.address.financialtracker.model.expense.Type;
+import seedu.address.logic.commands.exceptions.CommandException;
 
 class FinancialTrackerTest {
 
@@ -32,4 +49,187 @@ class FinancialTrackerTest {
                 new FinancialTracker().getInternalUnmodifiableExpenseListMap();
         assertEquals(expenseListMap1.get("Singapore").getSummary(), expenseListMap2.get("Singapore").getSummary());
     }
+
+    @Test
+    void getSummaryMap_homeCurrency() throws CommandException {
+        FinancialTracker ft = new FinancialTracker();
+        ft.addExpense(new Expense(new Date("28102016"), new Time("0900"), new Amount("12"),
+                new Description("taxi"), new Type("Transport")));
+        ft.addExpense(new Expense(new Date("28102016"), new Time("1200"), new Amount("10"),
+                new Description("souvenir"), new Type("Shopping"), null, new Currency("USD")));
+        assertEquals(Map.of("Singapore", 1200L, "Total", 1200L), ft.getSummaryMap());
+        assertEquals(Set.of("USD"), ft.getCurrenciesWithoutRate());
+
+        ft.setExchangeRates(new ExchangeRates(Map.of("SGD", new BigDecimal("0.75"), "USD", BigDecimal.ONE)));
+        assertEquals(Map.of("Singapore", 2533L, "Total", 2533L), ft.getSummaryMap());
+        ft.setHomeCurrency(new Currency("USD"));
+        assertEquals(Map.of("Singapore", 1900L, "Total", 1900L), ft.getSummaryMap());
+        assertEquals(Map.of("TRANSPORT", 900L, "SHOPPING", 1000L), ft.getTypeSummaryMap("Singapore"));
+        assertEquals(Set.of(), ft.getCurrenciesWithoutRate());
+    }
+
+    @Test
+    void getTypeSummaryMap_betweenDates() throws CommandException {
+        FinancialTracker ft = new FinancialTracker();
+        ft.addExpense(new Expense(new Date("30012020"), new Time("0900"), new Amount("1"),
+                new Description("bus"), new Type("Transport")));
+        ft.addExpense(new Expense(new Date("02022020"), new Time("0900"), new Amount("2"),
+                new Description("train"), new Type("Transport")));
+        ft.addExpense(new Expense(new Date("15032020"), new Time("1200"), new Amount("4"),
+                new Description("lunch"), new Type("Food")));
+        ft.setCurrentCountry("Japan");
+        ft.addExpense(new Expense(new Date("03032020"), new Time("1300"), new Amount("800"),
+                new Description("ramen"), new Type("Food"), null, new Currency("SGD")));
+        Expense lateDinner = new Expense(new Date("17032020"), new Time("2300"), new Amount("16"),
+                new Description("dinner"), new Type("Food"), null, new Currency("SGD"));
+        ft.addExpense(lateDinner);
+        ft.addExpense(new Expense(new Date("01042020"), new Time("1000"), new Amount("32"),
+                new Description("museum"), new Type("Others"), null, new Currency("SGD")));
+
+        assertEquals(Map.of("FOOD", 81600L), ft.getTypeSummaryMap(Optional.of("Japan"), 20200303, 20200317));
+        assertEquals(Map.of("FOOD", 81600L), ft.getTypeSummaryMap(Optional.of("Japan"), 20200301, 20200331));
+        assertEquals(Map.of("FOOD", 82000L, "TRANSPORT", 200L),
+                ft.getTypeSummaryMap(Optional.empty(), 20200201, 20200331));
+        assertEquals(Map.of("FOOD", 82000L, "TRANSPORT", 300L, "OTHERS", 3200L),
+                ft.getTypeSummaryMap(Optional.empty(), 20200115, 20200401));
+        assertEquals(Map.of("TRANSPORT", 300L), ft.getTypeSummaryMap(Optional.of("Singapore"), 20200130, 20200202));
+        assertEquals(Map.of(), ft.getTypeSummaryMap(Optional.of("France"), 20200101, 20201231));
+
+        ft.deleteExpense(ft.getCurrentExpenseList().asUnmodifiableObservableList().indexOf(lateDinner) + 1);
+        assertEquals(Map.of("FOOD", 80000L), ft.getTypeSummaryMap(Optional.of("Japan"), 20200303, 20200317));
+        assertEquals(Map.of(20200202, 200L, 20200303, 80000L, 20200315, 400L),
+                ft.getDailyTotals(20200201, 20200331));
+        assertEquals(Map.of(202001, 100L, 202002, 200L, 202003, 80400L, 202004, 3200L),
+                ft.getMonthlyTotals(202001, 202004));
+        assertEquals(20200130, ft.getFirstDay().getAsInt());
+        assertEquals(20200401, ft.getLastDay().getAsInt());
+    }
+
+    @Test
+    void getTopTotalsAndAmountPercentiles() throws CommandException {
+        FinancialTracker ft = new FinancialTracker();
+        ft.setExchangeRates(new ExchangeRates(Map.of("SGD", BigDecimal.ONE, "JPY", new BigDecimal("0.0125"))));
+        ft.addExpense(new Expense(new Date("01032020"), new Time("0900"), new Amount("2"),
+                new Description("bus"), new Type("Transport")));
+        ft.addExpense(new Expense(new Date("02032020"), new Time("1200"), new Amount("6"),
+                new Description("lunch"), new Type("Food")));
+        ft.addExpense(new Expense(new Date("03032020"), new Time("1200"), new Amount("30"),
+                new Description("shirt"), new Type("Shopping")));
+        ft.setCurrentCountry("Japan");
+        ft.addExpense(new Expense(new Date("04032020"), new Time("1300"), new Amount("800"),
+                new Description("ramen"), new Type("Food")));
+
+        assertEquals(List.of(Map.entry("SHOPPING", 3000L), Map.entry("FOOD", 1600L)),
+                ft.getTopTotals(ExpenseColumns.Dimension.TYPE, 0, Integer.MAX_VALUE, 2));
+        assertEquals(List.of(Map.entry("Singapore", 3800L), Map.entry("Japan", 1000L)),
+                ft.getTopTotals(ExpenseColumns.Dimension.COUNTRY, 0, Integer.MAX_VALUE, 3));
+        assertEquals(List.of(600L, 3000L, 200L), ft.getAmountPercentiles(0, Integer.MAX_VALUE, 50, 90, 0));
+        assertEquals(List.of(1000L, 3000L), ft.getAmountPercentiles(20200303, 20200304, 50, 100));
+        assertEquals(List.of(), ft.getAmountPercentiles(20200305, 20200331, 50));
+    }
+
+    @Test
+    void takeBudgetAlerts_onlyWhenThresholdCrossed() throws CommandException {
+        FinancialTracker ft = new FinancialTracker();
+        ft.setBudget(new Budget("Singapore", null, new Amount("100"), new Currency("SGD")));
+        ft.setBudget(new Budget("Singapore", "FOOD", new Amount("20"), new Currency("SGD")));
+        assertEquals(List.of(), ft.takeBudgetAlerts());
+
+        Expense dinner = new Expense(new Date("01032020"), new Time("1900"), new Amount("16"),
+                new Description("dinner"), new Type("Food"));
+        ft.addExpense(dinner);
+        assertEquals(List.of(String.format(BudgetTracker.MESSAGE_WARNING, 80, "FOOD in Singapore", "SGD",
+                "4.00", "20.00")), ft.takeBudgetAlerts());
+        ft.addExpense(new Expense(new Date("01032020"), new Time("0800"), new Amount("1"),
+                new Description("kopi"), new Type("Food")));
+        assertEquals(List.of(), ft.takeBudgetAlerts());
+
+        ft.setExpense(0, dinner, new Expense(new Date("01032020"), new Time("1900"), new Amount("85"),
+                new Description("dinner"), new Type("Food")));
+        assertEquals(List.of(
+                String.format(BudgetTracker.MESSAGE_WARNING, 86, "Singapore", "SGD", "14.00", "100.00"),
+                String.format(BudgetTracker.MESSAGE_EXCEEDED, "FOOD in Singapore", "SGD", "86.00", "20.00")),
+                ft.takeBudgetAlerts());
+        assertEquals("Singapore: SGD 14.00 of SGD 100.00 left\nFOOD in Singapore: SGD 66.00 over",
+                ft.getBudgetStatus());
+
+        ft.undo();
+        assertEquals(List.of(), ft.takeBudgetAlerts());
+        ft.redo();
+        assertEquals(List.of(
+                String.format(BudgetTracker.MESSAGE_WARNING, 86, "Singapore", "SGD", "14.00", "100.00"),
+                String.format(BudgetTracker.MESSAGE_EXCEEDED, "FOOD in Singapore", "SGD", "86.00", "20.00")),
+                ft.takeBudgetAlerts());
+
+        assertTrue(ft.removeBudget("Singapore", "FOOD"));
+        assertEquals(List.of(new Budget("Singapore", null, new Amount("100"), new Currency("SGD"))),
+                ft.getBudgets());
+    }
+
+    @Test
+    void getInternalUnmodifiableExpenseListMap_onlyCountriesUsed() {
+        FinancialTracker ft = new FinancialTracker();
+        assertEquals(Set.of("Singapore"), ft.getInternalUnmodifiableExpenseListMap().keySet());
+        ft.setCurrentCountry("Japan");
+        ft.setCurrentCountry("Hello");
+        assertEquals(Set.of("Singapore", "Japan"), ft.getInternalUnmodifiableExpenseListMap().keySet());
+    }
+
+    @Test
+    void addExpense_unknownCountry_throwsCommandException() {
+        FinancialTracker ft = new FinancialTracker();
+        assertThrows(CommandException.class, () -> ft.addExpense(new Expense(new Date("27102016"),
+                new Time("1720"), new Amount("4"), new Description("breakfast"), new Type("Food")),
+                new Country("Atlantis")));
+    }
+
+    @Test
+    void resetData() throws CommandException {
+        FinancialTracker ft = new FinancialTracker();
+        ObservableList<Expense> shownExpenses = ft.getInternalUnmodifiableExpenseListMap().get("Singapore")
+                .asUnmodifiableObservableList();
+        FinancialTracker snapshot = new FinancialTracker();
+        snapshot.addExpense(new Expense(new Date("27102016"), new Time("1720"), new Amount("4"),
+                new Description("breakfast"), new Type("Food")));
+
+        ft.addExpense(new Expense(new Date("28102016"), new Time("0900"), new Amount("12"),
+                new Description("taxi"), new Type("Transport")));
+        ft.setCurrentCountry("Japan");
+        ft.addExpense(new Expense(new Date("29102016"), new Time("1300"), new Amount("8"),
+                new Description("ramen"), new Type("Food")));
+
+        ft.resetData(snapshot);
+        assertEquals(1, shownExpenses.size());
+        assertEquals("breakfast", shownExpenses.get(0).getDescription().value);
+        assertTrue(ft.getInternalUnmodifiableExpenseListMap().get("Japan").isEmpty());
+        assertEquals(Map.of("Singapore", 400L, "Total", 400L), ft.getSummaryMap());
+    }
+
+    @Test
+    void getSummaryMap_afterEveryKindOfChange() throws CommandException {
+        FinancialTracker ft = new FinancialTracker();
+        ft.setExchangeRates(new ExchangeRates(Map.of("SGD", BigDecimal.ONE, "JPY", new BigDecimal("0.0125"))));
+        Expense taxi = new Expense(new Date("28102016"), new Time("0900"), new Amount("12"),
+                new Description("taxi"), new Type("Transport"));
+        ft.addExpense(taxi);
+        ft.addExpense(new Expense(new Date("28102016"), new Time("1200"), new Amount("4.50"),
+                new Description("lunch"), new Type("Food")));
+        ft.setCurrentCountry("Japan");
+        ft.addExpense(new Expense(new Date("29102016"), new Time("1300"), new Amount("800"),
+                new Description("ramen"), new Type("Food")));
+        assertEquals(Map.of("Singapore", 1650L, "Japan", 1000L, "Total", 2650L), ft.getSummaryMap());
+        assertEquals(Map.of("FOOD", 1450L, "TRANSPORT", 1200L), ft.getTypeSummaryMap());
+
+        ft.setCurrentCountry("Singapore");
+        ft.setExpense(1, taxi, new Expense(new Date("28102016"), new Time("0900"), new Amount("10"),
+                new Description("bus"), new Type("Transport")));
+        ft.deleteExpense(1);
+        assertEquals(Map.of("TRANSPORT", 1000L), ft.getTypeSummaryMap("Singapore"));
+        ft.undo();
+        ft.clearExpenseList();
+        assertEquals(Map.of("Japan", 1000L, "Total", 1000L), ft.getSummaryMap());
+        assertEquals(Map.of(), ft.getTypeSummaryMap("Singapore"));
+        ft.undo();
+        assertEquals(Map.of("FOOD", 450L, "TRANSPORT", 1000L), ft.getTypeSummaryMap("Singapore"));
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.financialtracker.model.expense;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -34,5 +35,24 @@ class AmountTest {
         assertTrue(Amount.isValidAmount("00000000000000000003.1"));
         assertTrue(Amount.isValidAmount("3.01")); // 2 decimals
         assertTrue(Amount.isValidAmount(String.valueOf(Integer.MAX_VALUE))); // HugeAmount
+        assertFalse(Amount.isValidAmount(String.valueOf(Long.MAX_VALUE))); // too many cents to count
+    }
+
+    @Test
+    public void constructor_validAmount_countsCents() {
+        assertEquals(310, new Amount("3.1").cents);
+        assertEquals(301, new Amount("3.01").cents);
+        assertEquals(300, new Amount("003").cents);
+        assertEquals(50, new Amount(new Amount("0.50").value).cents); // formatted value without whole units
+    }
+
+    @Test
+    public void cents_manyAmounts_sumExactly() {
+        long cents = new Amount("0.10").cents;
+        long total = 0;
+        for (int i = 0; i < 1_000_000; i++) {
+            total = Math.addExact(total, cents);
+        }
+        assertEquals("100000.00", Amount.toUnits(total).toPlainString());
     }
 }
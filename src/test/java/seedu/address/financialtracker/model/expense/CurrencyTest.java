@@ -0,0 +1,40 @@
+package seedu.address.financialtracker.model.expense;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class CurrencyTest {
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Currency(null));
+    }
+
+    @Test
+    public void constructor_invalidCurrency_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Currency("ABC"));
+    }
+
+    @Test
+    public void isValidCurrency() {
+        // invalid currency
+        assertFalse(Currency.isValidCurrency("")); // empty string
+        assertFalse(Currency.isValidCurrency("SG")); // too short
+        assertFalse(Currency.isValidCurrency("SGDD")); // too long
+        assertFalse(Currency.isValidCurrency("ABC")); // not an ISO 4217 code
+
+        // valid currency
+        assertTrue(Currency.isValidCurrency("SGD"));
+        assertTrue(Currency.isValidCurrency("jpy")); // lower case
+    }
+
+    @Test
+    public void of_country_returnsLocalCurrency() {
+        assertEquals(new Currency("SGD"), Currency.of(new Country("Singapore")));
+        assertEquals(new Currency("JPY"), Currency.of(new Country("Japan")));
+        assertEquals(new Currency(Currency.DEFAULT_CURRENCY), Currency.of(new Country("Atlantis")));
+    }
+}
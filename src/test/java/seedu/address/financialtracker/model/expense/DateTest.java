@@ -1,5 +1,6 @@
 package seedu.address.financialtracker.model.expense;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -36,4 +37,11 @@ class DateTest {
         assertTrue(Date.isValidDate("27102016"));
     }
 
+    @Test
+    public void key() {
+        assertEquals(20161027, new Date("27102016").key);
+        assertTrue(new Date("31122015").key < new Date("01012016").key);
+        assertEquals("27/10/2016", Date.formatKey(new Date("27102016").key));
+    }
+
 }
@@ -0,0 +1,142 @@
+package seedu.address.financialtracker.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.financialtracker.model.expense.Amount;
+import seedu.address.financialtracker.model.expense.Date;
+import seedu.address.financialtracker.model.expense.Description;
+import seedu.address.financialtracker.model.expense.Expense;
+import seedu.address.financialtracker.model.expense.Time;
+import seedu.address.financialtracker.model.expense.Type;
+
+class CsvExpenseReaderTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    void read_mappedColumns_readsEveryField() throws IOException, IllegalValueException {
+        Path file = testFolder.resolve("statement.csv");
+        Files.write(file, List.of("Posted,Details,Debit,Category,Currency",
+                "03/03/2020,\"Ramen, large\",\"1,250.5\",food,jpy",
+                "",
+                "4-3-2020,Train,12,,"));
+        CsvExpenseReader.Result result = new CsvExpenseReader(file, Map.of(
+                CsvExpenseReader.Field.DATE, "posted",
+                CsvExpenseReader.Field.DESCRIPTION, "2",
+                CsvExpenseReader.Field.AMOUNT, "Debit",
+                CsvExpenseReader.Field.TYPE, "Category")).read(List.of());
+
+        assertEquals(2, result.getExpenses().size());
+        Expense ramen = result.getExpenses().get(0);
+        assertEquals(20200303, ramen.getDate().key);
+        assertEquals("Ramen, large", ramen.getDescription().value);
+        assertEquals(125050, ramen.getAmount().cents);
+        assertEquals("FOOD", ramen.getType().value);
+        assertEquals("JPY", ramen.getCurrency().value);
+
+        Expense train = result.getExpenses().get(1);
+        assertEquals(20200304, train.getDate().key);
+        assertEquals(0, train.getTime().valueToCompare);
+        assertEquals(CsvExpenseReader.DEFAULT_TYPE, train.getType().value);
+        assertNull(train.getCurrency());
+    }
+
+    @Test
+    void read_existingExpenses_skipsEachOnce() throws IOException, IllegalValueException {
+        Path file = testFolder.resolve("statement.csv");
+        Files.write(file, List.of("date,time,amount,description",
+                "03032020,0830,4.50,coffee",
+                "03032020,08:30,4.5,coffee",
+                "03032020,0830,4.50,tea"));
+        Expense existing = new Expense(new Date("03032020"), new Time("0830"), new Amount("4.5"),
+                new Description("coffee"), new Type("Food"));
+        CsvExpenseReader.Result result = new CsvExpenseReader(file, Map.of()).read(List.of(existing));
+
+        assertEquals(1, result.getDuplicateCount());
+        assertEquals(2, result.getExpenses().size());
+        assertEquals("tea", result.getExpenses().get(1).getDescription().value);
+    }
+
+    @Test
+    void read_mixedSigns_skipsCredits() throws IOException, IllegalValueException {
+        Path file = testFolder.resolve("statement.csv");
+        Files.write(file, List.of("date,amount,description",
+                "03032020,-4.50,coffee",
+                "03032020,2500,salary",
+                "04032020,+12.00,refund",
+                "04032020,-1.20,bus",
+                "05032020,0,free sample"));
+
+        CsvExpenseReader.Result negative = new CsvExpenseReader(file, Map.of(),
+                CsvExpenseReader.SpendingSign.NEGATIVE).read(List.of());
+        assertEquals(2, negative.getCreditCount());
+        assertEquals(0, negative.getRejectedCount());
+        assertEquals(List.of("coffee", "bus", "free sample"), descriptionsOf(negative));
+        assertEquals(450, negative.getExpenses().get(0).getAmount().cents);
+
+        CsvExpenseReader.Result positive = new CsvExpenseReader(file, Map.of()).read(List.of());
+        assertEquals(2, positive.getCreditCount());
+        assertEquals(List.of("salary", "refund", "free sample"), descriptionsOf(positive));
+    }
+
+    @Test
+    void read_invalidRows_reportsFirstRejects() throws IOException, IllegalValueException {
+        Path file = testFolder.resolve("statement.csv");
+        List<String> lines = new ArrayList<>(List.of("date,amount,description",
+                "31022020,4,cake",
+                "01032020,four,cake",
+                "01032020,4,\"cake",
+                "01032020,4"));
+        for (int i = 0; i < CsvExpenseReader.MAXIMUM_REJECTS_KEPT; i++) {
+            lines.add("01032020,-,cake");
+        }
+        lines.add("01032020,4,cake");
+        Files.write(file, lines);
+        CsvExpenseReader.Result result = new CsvExpenseReader(file, Map.of()).read(List.of());
+
+        assertEquals(1, result.getExpenses().size());
+        assertEquals(CsvExpenseReader.MAXIMUM_REJECTS_KEPT + 4, result.getRejectedCount());
+        assertEquals(CsvExpenseReader.MAXIMUM_REJECTS_KEPT, result.getRejectedRows().size());
+        assertEquals(String.format(CsvExpenseReader.MESSAGE_REJECTED_ROW, 2,
+                String.format(CsvExpenseReader.MESSAGE_INVALID_FIELD, "date", "31022020")),
+                result.getRejectedRows().get(0));
+        assertEquals(String.format(CsvExpenseReader.MESSAGE_REJECTED_ROW, 5,
+                String.format(CsvExpenseReader.MESSAGE_MISSING_FIELD, "description")),
+                result.getRejectedRows().get(3));
+    }
+
+    @Test
+    void read_missingColumn_throwsIllegalValueException() throws IOException {
+        Path file = testFolder.resolve("statement.csv");
+        Files.write(file, List.of("date,amount"));
+        assertThrows(IllegalValueException.class, () -> new CsvExpenseReader(file, Map.of()).read(List.of()));
+        assertThrows(IllegalValueException.class, () ->
+                new CsvExpenseReader(file, Map.of(CsvExpenseReader.Field.DESCRIPTION, "3")).read(List.of()));
+
+        Files.write(file, List.of());
+        assertThrows(IllegalValueException.class, () -> new CsvExpenseReader(file, Map.of()).read(List.of()));
+    }
+
+    /**
+     * Returns the descriptions of the expenses read, in order.
+     */
+    private static List<String> descriptionsOf(CsvExpenseReader.Result result) {
+        return result.getExpenses().stream().map(expense -> expense.getDescription().value)
+                .collect(Collectors.toList());
+    }
+}
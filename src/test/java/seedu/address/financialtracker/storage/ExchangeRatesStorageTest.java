@@ -0,0 +1,55 @@
+package seedu.address.financialtracker.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.financialtracker.model.ExchangeRates;
+
+class ExchangeRatesStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    void readExchangeRates_missingFile_readsBundledRates() throws DataConversionException {
+        ExchangeRates rates = new ExchangeRatesStorage(testFolder.resolve("missing.csv")).readExchangeRates();
+        assertTrue(rates.hasRate("SGD"));
+        assertTrue(rates.hasRate("JPY"));
+    }
+
+    @Test
+    void readExchangeRates_userFile_readsUserRates() throws IOException, DataConversionException {
+        Path file = testFolder.resolve("rates.csv");
+        Files.write(file, List.of("# value of one unit in SGD", "", "SGD,1", "jpy, 0.0125"));
+        ExchangeRates rates = new ExchangeRatesStorage(file).readExchangeRates();
+        assertEquals(1000, rates.convert(80000, "JPY", "SGD"));
+        assertEquals(80000, rates.convert(1000, "SGD", "JPY"));
+        assertFalse(rates.hasRate("USD"));
+    }
+
+    @Test
+    void readExchangeRates_invalidFile_throwsDataConversionException() throws IOException {
+        Path file = testFolder.resolve("rates.csv");
+        Files.write(file, List.of("SGD,one"));
+        assertThrows(DataConversionException.class, () -> new ExchangeRatesStorage(file).readExchangeRates());
+    }
+
+    @Test
+    void parse_invalidLines_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> ExchangeRatesStorage.parse(List.of("SGD")));
+        assertThrows(IllegalValueException.class, () -> ExchangeRatesStorage.parse(List.of("ABC,1")));
+        assertThrows(IllegalValueException.class, () -> ExchangeRatesStorage.parse(List.of("SGD,0")));
+    }
+}
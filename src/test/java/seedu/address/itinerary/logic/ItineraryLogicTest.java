@@ -0,0 +1,46 @@
+package seedu.address.itinerary.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.itinerary.logic.parser.ItineraryParser;
+import seedu.address.itinerary.model.ItinerarySampleDataUtil;
+import seedu.address.itinerary.model.Model;
+import seedu.address.logic.ScriptRunner;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+public class ItineraryLogicTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void beginTransaction_scriptWithFailingLine_eventsRestored() throws Exception {
+        Model model = new Model();
+        model.setItinerary(ItinerarySampleDataUtil.getSampleItinerary());
+        List<String> events = describeEvents(model);
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, List.of("done 1", "delete 2", "delete 99"));
+
+        assertThrows(CommandException.class, () -> ScriptRunner.run(ScriptRunner.COMMAND_WORD + " " + script, model,
+                new ItineraryParser()::parseCommand, () -> ItineraryLogic.beginTransaction(model)));
+        assertEquals(events, describeEvents(model));
+    }
+
+    /**
+     * Returns the title of every event of {@code model} and whether it is done, as done changes events in place.
+     */
+    private static List<String> describeEvents(Model model) {
+        return model.getItinerary().getEventList().stream()
+                .map(event -> event.getTitle() + " " + event.getIsDone())
+                .collect(Collectors.toList());
+    }
+}
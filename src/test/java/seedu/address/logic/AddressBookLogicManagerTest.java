@@ -12,7 +12,9 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -95,6 +97,18 @@ public class AddressBookLogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_scriptWithFailingLine_addressBookRestored() throws Exception {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + COUNTRY_DESC_AMY, "delete 9"));
+        AddressBookModel expectedModel = new AddressBookModelManager(addressBookModel.getAddressBook(),
+                new UserPrefs());
+        assertCommandFailure(ScriptRunner.COMMAND_WORD + " " + script, CommandException.class,
+                String.format(ScriptRunner.MESSAGE_FAILED_LINE, 2, "delete 9",
+                        MESSAGE_INVALID_PERSON_DISPLAYED_INDEX), expectedModel);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBookLogic.getFilteredPersonList().remove(0));
@@ -0,0 +1,171 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.financialtracker.logic.parser.FinancialTrackerParser;
+import seedu.address.financialtracker.model.FinancialTracker;
+import seedu.address.financialtracker.model.Model;
+import seedu.address.financialtracker.model.expense.Expense;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class ScriptRunnerTest {
+
+    private static final String ADD_BREAKFAST = "add a/4 d/breakfast t/Food date/27102016 time/1720";
+    private static final String ADD_TAXI = "add a/12.50 d/taxi t/Transport date/28102016 time/0900";
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new Model(new FinancialTracker());
+    private final FinancialTrackerParser parser = new FinancialTrackerParser();
+    private int rollbacks = 0;
+
+    @Test
+    public void isRunCommand() {
+        assertTrue(ScriptRunner.isRunCommand("run script.txt"));
+        assertTrue(ScriptRunner.isRunCommand("  RUN script.txt"));
+        assertFalse(ScriptRunner.isRunCommand("runner script.txt"));
+        assertFalse(ScriptRunner.isRunCommand("add run"));
+    }
+
+    @Test
+    public void run_validScript_executesEveryCommand() throws Exception {
+        Path script = writeScript("# expenses for the trip", ADD_BREAKFAST, "", ADD_TAXI);
+        CommandResult result = run("run " + script);
+        assertEquals(String.format(ScriptRunner.MESSAGE_SUCCESS, 2, script), result.getFeedbackToUser());
+        assertEquals(2, model.getExpenseList().size());
+        assertEquals(0, rollbacks);
+    }
+
+    @Test
+    public void run_invalidLine_nothingExecuted() throws Exception {
+        Path script = writeScript(ADD_BREAKFAST, "add a/-1 d/broken");
+        assertThrows(ParseException.class, () -> run("run " + script));
+        assertTrue(model.getExpenseList().isEmpty());
+        assertEquals(0, rollbacks);
+    }
+
+    @Test
+    public void run_failingCommand_rolledBack() throws Exception {
+        Path script = writeScript(ADD_BREAKFAST, ADD_TAXI, "delete 5");
+        assertThrows(CommandException.class, () -> run("run " + script));
+        assertEquals(1, rollbacks);
+    }
+
+    @Test
+    public void run_progressListener_receivesEveryCommand() throws Exception {
+        Path script = writeScript(ADD_BREAKFAST, ADD_TAXI);
+        List<Long> progress = new ArrayList<>();
+        CommandProgress.setListener((workDone, totalWork) -> progress.add(workDone * 10 + totalWork));
+        try {
+            run("run " + script);
+        } finally {
+            CommandProgress.clearListener();
+        }
+        assertEquals(Arrays.asList(12L, 22L), progress);
+    }
+
+    @Test
+    public void run_changesInBatch_observerCatchesUpOnceAtEnd() throws Exception {
+        Path script = writeScript(ADD_BREAKFAST, ADD_TAXI);
+        AtomicInteger catchUps = new AtomicInteger();
+        Object observer = new Object();
+        model.getExpenseList().addListener((ListChangeListener<Expense>) change ->
+                ChangeBatch.runAtEnd(observer, catchUps::incrementAndGet));
+
+        run("run " + script);
+        assertEquals(1, catchUps.get());
+        assertFalse(ChangeBatch.isOpen());
+
+        assertThrows(CommandException.class, () -> run("run " + writeScript(ADD_BREAKFAST, "delete 5")));
+        assertEquals(2, catchUps.get());
+        assertFalse(ChangeBatch.isOpen());
+    }
+
+    @Test
+    public void run_cancelRequestedAfterFirstCommand_stopsAndRollsBack() throws Exception {
+        Path script = writeScript(ADD_BREAKFAST, ADD_TAXI);
+        AtomicBoolean isCancelRequested = new AtomicBoolean(false);
+        CommandProgress.setListener((workDone, totalWork) -> isCancelRequested.set(true));
+        CommandProgress.setCancelRequest(isCancelRequested::get);
+        try {
+            assertThrows(CommandException.class, String.format(ScriptRunner.MESSAGE_CANCELLED, 2, ADD_TAXI), () ->
+                    run("run " + script));
+        } finally {
+            CommandProgress.clearListener();
+            CommandProgress.clearCancelRequest();
+        }
+        assertEquals(1, model.getExpenseList().size());
+        assertEquals(1, rollbacks);
+    }
+
+    @Test
+    public void run_cancelRequestedAfterLastCommand_succeeds() throws Exception {
+        Path script = writeScript(ADD_BREAKFAST);
+        AtomicBoolean isCancelRequested = new AtomicBoolean(false);
+        CommandProgress.setListener((workDone, totalWork) -> isCancelRequested.set(true));
+        CommandProgress.setCancelRequest(isCancelRequested::get);
+        try {
+            assertEquals(String.format(ScriptRunner.MESSAGE_SUCCESS, 1, script),
+                    run("run " + script).getFeedbackToUser());
+        } finally {
+            CommandProgress.clearListener();
+            CommandProgress.clearCancelRequest();
+        }
+        assertEquals(0, rollbacks);
+    }
+
+    @Test
+    public void run_nestedCommands_throwsParseException() throws Exception {
+        assertThrows(ParseException.class, () -> run("run " + writeScript("run other.txt")));
+        assertThrows(ParseException.class, () -> run("run " + writeScript("goto diary")));
+        assertThrows(ParseException.class, () -> run("run " + writeScript("exit")));
+    }
+
+    @Test
+    public void run_parserThrowsUncheckedException_throwsParseExceptionWithLine() throws Exception {
+        Path script = writeScript(ADD_BREAKFAST, "broken");
+        assertThrows(ParseException.class, String.format(ScriptRunner.MESSAGE_INVALID_LINE, 2, "broken",
+                new NullPointerException()), () -> ScriptRunner.run("run " + script, model, commandText -> {
+                    if (commandText.equals("broken")) {
+                        throw new NullPointerException();
+                    }
+                    return parser.parseCommand(commandText);
+                }, () -> () -> rollbacks++));
+        assertTrue(model.getExpenseList().isEmpty());
+    }
+
+    @Test
+    public void run_missingFile_throwsParseException() {
+        assertThrows(ParseException.class, () -> run("run"));
+        assertThrows(ParseException.class, () -> run("run " + testFolder.resolve("missing.txt")));
+    }
+
+    private CommandResult run(String commandText) throws CommandException, ParseException {
+        return ScriptRunner.run(commandText, model, parser::parseCommand, () -> () -> rollbacks++);
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path script = testFolder.resolve("script" + lines.length + ".txt");
+        Files.write(script, Arrays.asList(lines));
+        return script;
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.scene.Parent;
+
+public class PageCacheTest {
+
+    private final Map<PageType, Integer> created = new EnumMap<>(PageType.class);
+    private PageCache pageCache;
+
+    @BeforeEach
+    public void setUp() {
+        pageCache = new PageCache(2);
+        for (PageType pageType : PageType.values()) {
+            pageCache.register(pageType, () -> {
+                created.merge(pageType, 1, Integer::sum);
+                return new PageStub(pageType);
+            });
+        }
+    }
+
+    @Test
+    public void get_notVisited_notCreated() {
+        assertFalse(pageCache.isCached(PageType.DIARY));
+        assertTrue(created.isEmpty());
+    }
+
+    @Test
+    public void get_visitedTwice_createdOnce() {
+        Page page = pageCache.get(PageType.DIARY).get();
+        assertSame(page, pageCache.get(PageType.DIARY).get());
+        assertEquals(1, created.get(PageType.DIARY));
+    }
+
+    @Test
+    public void get_overCapacity_leastRecentlyVisitedDropped() {
+        PageStub diary = (PageStub) pageCache.get(PageType.DIARY).get();
+        PageStub calendar = (PageStub) pageCache.get(PageType.CALENDAR).get();
+        pageCache.get(PageType.DIARY);
+        pageCache.get(PageType.ITINERARY);
+
+        assertTrue(pageCache.isCached(PageType.DIARY));
+        assertFalse(pageCache.isCached(PageType.CALENDAR));
+        assertTrue(calendar.isClosed);
+        assertFalse(diary.isClosed);
+
+        // a dropped page is created again when it is visited
+        pageCache.get(PageType.CALENDAR);
+        assertEquals(2, created.get(PageType.CALENDAR));
+    }
+
+    @Test
+    public void get_notRegistered_returnsEmpty() {
+        PageCache emptyCache = new PageCache(1);
+        assertTrue(emptyCache.get(PageType.MAIN).isEmpty());
+    }
+
+    /**
+     * A page without any UI, recording whether it was closed.
+     */
+    private static class PageStub implements Page {
+        private final PageType pageType;
+        private boolean isClosed = false;
+
+        PageStub(PageType pageType) {
+            this.pageType = pageType;
+        }
+
+        @Override
+        public PageType getPageType() {
+            return pageType;
+        }
+
+        @Override
+        public void closeResources() {
+            isClosed = true;
+        }
+
+        @Override
+        public Parent getParent() {
+            return null;
+        }
+    }
+}